@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.assetmanagement"
@@ -33,6 +34,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-mail")
 
     // Database
     runtimeOnly("org.postgresql:postgresql")
@@ -42,6 +44,9 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
 
+    // Local Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // API Documentation
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.4")
 
@@ -55,9 +60,20 @@ dependencies {
     // Test
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+    testImplementation("org.springframework.boot:spring-boot-testcontainers")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:postgresql")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+// 마이크로벤치마크 (src/jmh/java, 실행: gradle jmh)
+jmh {
+    zip64.set(true)
+    includeTests.set(false)
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
+    // 통합 테스트 대상 DB가 바뀌면 다시 실행 (IntegrationTestSupport)
+    inputs.property("itDatasourceUrl", System.getenv("IT_DATASOURCE_URL") ?: "")
 }
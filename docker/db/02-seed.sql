@@ -13,7 +13,9 @@ INSERT INTO menu (menu_name, menu_code, menu_url, menu_icon, menu_order, menu_de
     ('라이센스 관리', 'LICENSE',            NULL,                   'KeyOutlined',       2, 0, true),
     ('사용자 관리',  'MEMBER',             '/members',             'TeamOutlined',      3, 0, true),
     ('부서 관리',    'DEPT',               '/departments',         'ApartmentOutlined', 4, 0, true),
-    ('메뉴 관리',    'MENU',               '/menus',               'SettingOutlined',   5, 0, true);
+    ('메뉴 관리',    'MENU',               '/menus',               'SettingOutlined',   5, 0, true),
+    ('권한 관리',    'ROLE',               '/roles',               'SafetyOutlined',    6, 0, true),
+    ('공통코드 관리', 'COMMON_CODE',        '/common-codes',        'ProfileOutlined',   7, 0, true);
 
 -- 자산 관리 하위 메뉴
 INSERT INTO menu (parent_menu_id, menu_name, menu_code, menu_url, menu_order, menu_depth, is_active) VALUES
@@ -23,7 +25,8 @@ INSERT INTO menu (parent_menu_id, menu_name, menu_code, menu_url, menu_order, me
 -- 라이센스 관리 하위 메뉴
 INSERT INTO menu (parent_menu_id, menu_name, menu_code, menu_url, menu_order, menu_depth, is_active) VALUES
     ((SELECT menu_id FROM menu WHERE menu_code = 'LICENSE'), '라이센스 목록', 'LICENSE_LIST',       '/licenses',             1, 1, true),
-    ((SELECT menu_id FROM menu WHERE menu_code = 'LICENSE'), '라이센스 배정', 'LICENSE_ASSIGNMENT', '/license-assignments',  2, 1, true);
+    ((SELECT menu_id FROM menu WHERE menu_code = 'LICENSE'), '라이센스 배정', 'LICENSE_ASSIGNMENT', '/license-assignments',  2, 1, true),
+    ((SELECT menu_id FROM menu WHERE menu_code = 'LICENSE'), '소프트웨어 관리', 'SOFTWARE',         '/softwares',            3, 1, true);
 
 -- ── 3. 관리자 계정 ──
 -- 비밀번호: admin1234 (BCrypt encoded)
@@ -7,6 +7,7 @@
 -- ============================================================
 
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+CREATE EXTENSION IF NOT EXISTS pg_trgm;		-- 키워드 부분일치 검색 (trigram GIN 인덱스)
 
 -- ============================================================
 -- 1. 메뉴 관리 (트리 구조)
@@ -106,7 +107,8 @@ COMMENT ON COLUMN dept.parent_dept_id IS '상위 부서 ID (NULL이면 최상위
 COMMENT ON COLUMN dept.dept_path IS 'Materialized Path (예: /1/3/7/)';
 
 CREATE INDEX idx_dept_parent ON dept(parent_dept_id);
-CREATE INDEX idx_dept_path ON dept(dept_path);
+-- 하위 트리 조회 (dept_path LIKE '/1/3/%'): 로케일과 무관하게 접두어 범위 검색이 가능하도록 pattern_ops 사용
+CREATE INDEX idx_dept_path ON dept(dept_path text_pattern_ops);
 CREATE INDEX idx_dept_deleted ON dept(is_deleted);
 
 -- ============================================================
@@ -153,6 +155,10 @@ CREATE INDEX idx_member_dept ON member(dept_id);
 CREATE INDEX idx_member_status ON member(employment_status);
 CREATE INDEX idx_member_login ON member(login_id);
 CREATE INDEX idx_member_deleted ON member(is_deleted);
+CREATE INDEX idx_member_reg_date_id ON member(reg_date DESC, member_id DESC)
+	WHERE is_deleted = false;
+CREATE INDEX idx_member_name_trgm ON member USING GIN (lower(member_name) gin_trgm_ops);
+CREATE INDEX idx_member_login_trgm ON member USING GIN (lower(login_id) gin_trgm_ops);
 
 -- ============================================================
 -- 6. 비밀번호 이력 (INSERT-ONLY, 최근 3개 재사용 방지)
@@ -161,6 +167,7 @@ CREATE TABLE password_history (
 	history_id		BIGSERIAL		PRIMARY KEY,
 	member_id		BIGINT			NOT NULL REFERENCES member(member_id),
 	password		VARCHAR(255)	NOT NULL,
+	reg_id			BIGINT,
 	reg_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
@@ -252,6 +259,38 @@ CREATE INDEX idx_asset_category ON asset(category_id);
 CREATE INDEX idx_asset_status ON asset(asset_status);
 CREATE INDEX idx_asset_deleted ON asset(is_deleted);
 CREATE INDEX idx_asset_specs ON asset USING GIN (specs);
+CREATE INDEX idx_asset_reg_date_id ON asset(reg_date DESC, asset_id DESC)
+	WHERE is_deleted = false;
+CREATE INDEX idx_asset_name_trgm ON asset USING GIN (lower(asset_name) gin_trgm_ops);
+CREATE INDEX idx_asset_serial_trgm ON asset USING GIN (lower(serial_number) gin_trgm_ops);
+CREATE INDEX idx_asset_model_trgm ON asset USING GIN (lower(model_name) gin_trgm_ops);
+
+-- specs 값의 앞부분 숫자 추출 (예: "16GB" → 16, 숫자로 시작하지 않으면 NULL). 스펙 범위 검색/표현식 인덱스용
+CREATE OR REPLACE FUNCTION fn_spec_numeric(p_specs JSONB, p_key TEXT)
+RETURNS NUMERIC
+LANGUAGE SQL IMMUTABLE PARALLEL SAFE
+AS $$
+	SELECT substring(p_specs ->> p_key FROM '^\s*(-?[0-9]+(?:\.[0-9]+)?)')::NUMERIC
+$$;
+
+-- 자주 쓰는 범위 검색 키 표현식 인덱스 (키 추가 시 동일 형식으로 생성)
+CREATE INDEX idx_asset_spec_ram ON asset (fn_spec_numeric(specs, 'ram'))
+	WHERE is_deleted = false;
+CREATE INDEX idx_asset_spec_cpu_cores ON asset (fn_spec_numeric(specs, 'cpu_cores'))
+	WHERE is_deleted = false;
+
+-- ============================================================
+-- 9-1. 자산 유형/상태별 수량 집계 (대시보드 요약용, 트리거로 유지)
+-- ============================================================
+CREATE TABLE asset_category_status_count (
+	category_id		BIGINT			NOT NULL REFERENCES asset_category(category_id),
+	asset_status	VARCHAR(20)		NOT NULL,
+	asset_count		BIGINT			NOT NULL DEFAULT 0,
+	upd_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (category_id, asset_status)
+);
+
+COMMENT ON TABLE asset_category_status_count IS '자산 유형/상태별 수량 (삭제되지 않은 자산 기준, trg_asset_status_count_* 트리거로 유지)';
 
 -- ============================================================
 -- 10. 자산 배정 관리
@@ -281,27 +320,36 @@ CREATE INDEX idx_asset_assign_member ON asset_assignment(member_id);
 CREATE INDEX idx_asset_assign_status ON asset_assignment(assignment_status);
 CREATE UNIQUE INDEX uk_asset_assign_active ON asset_assignment(asset_id)
 	WHERE assignment_status = 'ASSIGNED' AND is_deleted = false;
+CREATE INDEX idx_asset_assign_reg_date_id ON asset_assignment(reg_date DESC, assignment_id DESC)
+	WHERE is_deleted = false;
 
 -- ============================================================
 -- 11. 자산 배정 이력 (감사 로그, INSERT-ONLY)
+--     action_date 월 단위 범위 파티션 (asset_history_pYYYYMM)
+--     파티션은 fn_create_history_partitions()로 미리 생성 (history-partition 배치)
 -- ============================================================
 CREATE TABLE asset_history (
-	history_id		BIGSERIAL		PRIMARY KEY,
+	history_id		BIGSERIAL,
 	asset_id		BIGINT			NOT NULL REFERENCES asset(asset_id),
 	member_id		BIGINT			NOT NULL REFERENCES member(member_id),
 	action_type		VARCHAR(20)		NOT NULL,
 	action_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
 	remarks			TEXT,
 	reg_id			BIGINT,
-	reg_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP
-);
+	reg_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (history_id, action_date)
+) PARTITION BY RANGE (action_date);
 
-COMMENT ON TABLE asset_history IS '자산 배정 이력 (감사 로그, INSERT-ONLY)';
+COMMENT ON TABLE asset_history IS '자산 배정 이력 (감사 로그, INSERT-ONLY, 월별 파티션)';
 COMMENT ON COLUMN asset_history.action_type IS 'ASSIGN=배정, RETURN=반납, TRANSFER=이관';
 
-CREATE INDEX idx_asset_history_asset ON asset_history(asset_id);
-CREATE INDEX idx_asset_history_member ON asset_history(member_id);
-CREATE INDEX idx_asset_history_date ON asset_history(action_date);
+-- 미리 생성된 월 파티션 범위를 벗어난 행 보관 (정상 운영 시 비어 있어야 함)
+CREATE TABLE asset_history_default PARTITION OF asset_history DEFAULT;
+
+-- 파티션별 로컬 인덱스 (대상별 최신순 조회) + 기간 조회용 BRIN
+CREATE INDEX idx_asset_history_asset ON asset_history(asset_id, action_date DESC, history_id DESC);
+CREATE INDEX idx_asset_history_member ON asset_history(member_id, action_date DESC, history_id DESC);
+CREATE INDEX idx_asset_history_date ON asset_history USING brin(action_date);
 
 -- ============================================================
 -- 12. 소프트웨어 관리
@@ -321,6 +369,8 @@ CREATE TABLE software (
 
 COMMENT ON TABLE software IS '소프트웨어 관리 (라이센스의 상위 개념)';
 
+CREATE INDEX idx_software_name_trgm ON software USING GIN (lower(software_name) gin_trgm_ops);
+
 -- ============================================================
 -- 13. 라이센스 관리
 -- ============================================================
@@ -354,6 +404,8 @@ COMMENT ON COLUMN license.install_guide IS '설치 가이드 (향후 이메일 
 CREATE INDEX idx_license_software ON license(software_id);
 CREATE INDEX idx_license_type ON license(license_type);
 CREATE INDEX idx_license_deleted ON license(is_deleted);
+CREATE INDEX idx_license_reg_date_id ON license(reg_date DESC, license_id DESC)
+	WHERE is_deleted = false;
 
 -- ============================================================
 -- 14. 라이센스 키 관리
@@ -376,6 +428,9 @@ COMMENT ON COLUMN license_key.key_status IS 'AVAILABLE/IN_USE/EXPIRED/REVOKED';
 
 CREATE INDEX idx_license_key_license ON license_key(license_id);
 CREATE INDEX idx_license_key_status ON license_key(key_status);
+-- 구독 만료 배치: 라이센스별 키셋 청크 조회
+CREATE INDEX idx_license_key_license_active ON license_key(license_id, key_id)
+	WHERE key_status IN ('AVAILABLE', 'IN_USE') AND is_deleted = false;
 
 -- ============================================================
 -- 15. 라이센스 배정 관리
@@ -407,12 +462,17 @@ CREATE INDEX idx_license_assign_key ON license_assignment(key_id);
 CREATE INDEX idx_license_assign_status ON license_assignment(assignment_status);
 CREATE UNIQUE INDEX uk_license_assign_active ON license_assignment(license_id, member_id)
 	WHERE assignment_status = 'ASSIGNED' AND is_deleted = false;
+CREATE INDEX idx_license_assign_reg_date_id ON license_assignment(reg_date DESC, assignment_id DESC)
+	WHERE is_deleted = false;
+-- 구독 만료 배치: 라이센스별 키셋 청크 조회
+CREATE INDEX idx_license_assign_active_license ON license_assignment(license_id, assignment_id)
+	WHERE assignment_status = 'ASSIGNED' AND is_deleted = false;
 
 -- ============================================================
 -- 16. 라이센스 배정 이력 (감사 로그, INSERT-ONLY)
 -- ============================================================
 CREATE TABLE license_history (
-	history_id			BIGSERIAL		PRIMARY KEY,
+	history_id			BIGSERIAL,
 	license_id			BIGINT			NOT NULL REFERENCES license(license_id),
 	key_id				BIGINT			REFERENCES license_key(key_id),
 	member_id			BIGINT			NOT NULL REFERENCES member(member_id),
@@ -421,15 +481,70 @@ CREATE TABLE license_history (
 	assignment_reason	TEXT,
 	remarks				TEXT,
 	reg_id				BIGINT,
+	reg_date			TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (history_id, action_date)
+) PARTITION BY RANGE (action_date);
+
+COMMENT ON TABLE license_history IS '라이센스 배정 이력 (사람 중심, INSERT-ONLY, 월별 파티션)';
+COMMENT ON COLUMN license_history.action_type IS 'ASSIGN/RETURN/CHANGE/EXPIRE';
+
+CREATE TABLE license_history_default PARTITION OF license_history DEFAULT;
+
+CREATE INDEX idx_license_history_license ON license_history(license_id, action_date DESC, history_id DESC);
+CREATE INDEX idx_license_history_member ON license_history(member_id, action_date DESC, history_id DESC);
+CREATE INDEX idx_license_history_date ON license_history USING brin(action_date);
+
+-- ============================================================
+-- 함수: 이력 테이블 월별 파티션 생성
+--     p_from이 속한 월부터 현재 월 + p_months_ahead 월까지 없는 파티션만 생성, 생성 수 반환
+--     DEFAULT 파티션에 해당 월 행이 있으면 생성이 실패하므로 미리(기본 3개월) 생성해 둔다
+-- ============================================================
+CREATE OR REPLACE FUNCTION fn_create_history_partitions(p_from DATE, p_months_ahead INT)
+RETURNS INT AS $$
+DECLARE
+	v_month		DATE := date_trunc('month', p_from)::date;
+	v_last		DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => p_months_ahead))::date;
+	v_table		TEXT;
+	v_partition	TEXT;
+	v_created	INT := 0;
+BEGIN
+	WHILE v_month <= v_last LOOP
+		FOREACH v_table IN ARRAY ARRAY['asset_history', 'license_history'] LOOP
+			v_partition := v_table || '_p' || to_char(v_month, 'YYYYMM');
+			IF to_regclass(v_partition) IS NULL THEN
+				EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+					v_partition, v_table, v_month, (v_month + INTERVAL '1 month')::date);
+				v_created := v_created + 1;
+			END IF;
+		END LOOP;
+		v_month := (v_month + INTERVAL '1 month')::date;
+	END LOOP;
+	RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT fn_create_history_partitions(CURRENT_DATE, 3);
+
+-- ============================================================
+-- 16-1. 라이센스 수량 보정 이력 (INSERT-ONLY, 정합성 보정 배치 결과)
+-- ============================================================
+CREATE TABLE license_qty_correction (
+	correction_id		BIGSERIAL		PRIMARY KEY,
+	run_key				VARCHAR(50)		NOT NULL,
+	license_id			BIGINT			NOT NULL REFERENCES license(license_id),
+	total_qty			INT				NOT NULL,
+	recorded_used_qty	INT				NOT NULL,
+	actual_used_qty		INT				NOT NULL,
+	correction_status	VARCHAR(20)		NOT NULL,
 	reg_date			TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
-COMMENT ON TABLE license_history IS '라이센스 배정 이력 (사람 중심, INSERT-ONLY)';
-COMMENT ON COLUMN license_history.action_type IS 'ASSIGN/RETURN/CHANGE/EXPIRE';
+COMMENT ON TABLE license_qty_correction IS '라이센스 used_qty 불일치 보정 이력';
+COMMENT ON COLUMN license_qty_correction.run_key IS '배치 실행 키 (기준일)';
+COMMENT ON COLUMN license_qty_correction.correction_status IS 'CORRECTED/OVER_ALLOCATED (실제 배정 수가 total_qty 초과, 보정하지 않음)';
 
-CREATE INDEX idx_license_history_license ON license_history(license_id);
-CREATE INDEX idx_license_history_member ON license_history(member_id);
-CREATE INDEX idx_license_history_date ON license_history(action_date);
+CREATE INDEX idx_license_qty_correction_license ON license_qty_correction(license_id);
+CREATE INDEX idx_license_qty_correction_date ON license_qty_correction(reg_date);
 
 -- ============================================================
 -- 17. 공통 코드 테이블
@@ -497,6 +612,80 @@ INSERT INTO common_code (group_code, code, code_name, code_order) VALUES
 	('LICENSE_ACTION',		'CHANGE',		'변경',		3),
 	('LICENSE_ACTION',		'EXPIRE',		'만료',		4);
 
+-- ============================================================
+-- 18. 배치 체크포인트
+--     청크 커밋마다 마지막 처리 ID를 기록하여 중단 후 재실행 시 이어서 처리
+-- ============================================================
+CREATE TABLE batch_checkpoint (
+	job_name		VARCHAR(100)	NOT NULL,
+	run_key			VARCHAR(50)		NOT NULL,
+	step_name		VARCHAR(100)	NOT NULL,
+	status			VARCHAR(20)		NOT NULL DEFAULT 'RUNNING',
+	last_id			BIGINT			NOT NULL DEFAULT 0,
+	processed_count	BIGINT			NOT NULL DEFAULT 0,
+	reg_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	upd_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (job_name, run_key, step_name)
+);
+
+COMMENT ON TABLE batch_checkpoint IS '배치 단계별 진행 위치';
+COMMENT ON COLUMN batch_checkpoint.run_key IS '실행 단위 키 (기준일 등)';
+COMMENT ON COLUMN batch_checkpoint.status IS 'RUNNING/COMPLETED/FAILED';
+COMMENT ON COLUMN batch_checkpoint.last_id IS '마지막으로 커밋된 청크의 최대 키';
+
+-- ============================================================
+-- 19. 메일 발송 대기열/이력 (outbox)
+--     업무 트랜잭션에서 PENDING으로 적재하고 발송기가 선점(SENDING) 후 발송
+-- ============================================================
+CREATE TABLE email_log (
+	email_id			BIGSERIAL		PRIMARY KEY,
+	notification_type	VARCHAR(50)		NOT NULL,
+	member_id			BIGINT			REFERENCES member(member_id),
+	recipient			VARCHAR(255)	NOT NULL,
+	subject				VARCHAR(500)	NOT NULL,
+	body				TEXT			NOT NULL,
+	status				VARCHAR(20)		NOT NULL DEFAULT 'PENDING',
+	attempt_count		INT				NOT NULL DEFAULT 0,
+	next_attempt_at		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	locked_until		TIMESTAMP,
+	last_error			VARCHAR(1000),
+	sent_at				TIMESTAMP,
+	reg_date			TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	upd_date			TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+	CONSTRAINT chk_email_log_status CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED'))
+);
+
+COMMENT ON TABLE email_log IS '메일 발송 대기열/이력';
+COMMENT ON COLUMN email_log.notification_type IS 'LICENSE_ASSIGNED/LICENSE_EXPIRY_NOTICE/LICENSE_EXPIRED/ASSET_ASSIGNED/LICENSE_QTY_MISMATCH';
+COMMENT ON COLUMN email_log.status IS 'PENDING/SENDING/SENT/FAILED';
+COMMENT ON COLUMN email_log.next_attempt_at IS '다음 발송 시각 (재시도 백오프 반영)';
+COMMENT ON COLUMN email_log.locked_until IS '발송 선점 기한 (경과 시 다른 노드가 재선점)';
+
+-- 발송 대상 선점용 (완료 건은 제외)
+CREATE INDEX idx_email_log_pending ON email_log(next_attempt_at) WHERE status = 'PENDING';
+CREATE INDEX idx_email_log_sending ON email_log(locked_until) WHERE status = 'SENDING';
+CREATE INDEX idx_email_log_member ON email_log(member_id, reg_date DESC);
+
+-- ============================================================
+-- 20. 도메인 이벤트 outbox
+--     배정/회수/만료/퇴사 등 업무 트랜잭션에서 이벤트를 함께 INSERT 하고,
+--     릴레이가 event_id 순서로 Redis Stream에 발행한 뒤 삭제
+-- ============================================================
+CREATE TABLE domain_event_outbox (
+	event_id		BIGSERIAL		PRIMARY KEY,
+	event_type		VARCHAR(50)		NOT NULL,
+	aggregate_type	VARCHAR(30)		NOT NULL,
+	aggregate_id	BIGINT			NOT NULL,
+	payload			JSONB			NOT NULL,
+	reg_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE domain_event_outbox IS '도메인 이벤트 발행 대기열 (발행 후 삭제)';
+COMMENT ON COLUMN domain_event_outbox.event_type IS 'ASSET_ASSIGNED/ASSET_RETURNED/ASSET_TRANSFERRED/LICENSE_ASSIGNED/LICENSE_RETURNED/LICENSE_EXPIRED/MEMBER_RESIGNED';
+COMMENT ON COLUMN domain_event_outbox.aggregate_type IS 'ASSET/LICENSE/MEMBER';
+COMMENT ON COLUMN domain_event_outbox.reg_date IS '이벤트 발생 시각';
+
 -- ============================================================
 -- 초기 권한 데이터
 -- ============================================================
@@ -507,11 +696,14 @@ INSERT INTO role (role_name, role_code, description) VALUES
 
 -- ============================================================
 -- 트리거: 라이센스 배정 시 used_qty 자동 증가
+--     애플리케이션이 조건부 UPDATE로 수량을 먼저 예약한 트랜잭션은
+--     app.license_qty_managed = 'on' 으로 설정하여 이중 증가를 방지
 -- ============================================================
 CREATE OR REPLACE FUNCTION fn_license_assign_increment()
 RETURNS TRIGGER AS $$
 BEGIN
-	IF NEW.assignment_status = 'ASSIGNED' THEN
+	IF NEW.assignment_status = 'ASSIGNED'
+		AND COALESCE(current_setting('app.license_qty_managed', true), 'off') <> 'on' THEN
 		UPDATE	license
 		SET		used_qty = used_qty + 1,
 				upd_date = CURRENT_TIMESTAMP
@@ -528,12 +720,15 @@ CREATE TRIGGER trg_license_assign_insert
 
 -- ============================================================
 -- 트리거: 라이센스 회수/만료 시 used_qty 자동 감소
+--     구독 만료 배치처럼 청크 단위로 used_qty를 한 번에 차감하는 트랜잭션은
+--     app.license_qty_managed = 'on' 으로 설정하여 행 단위 감소를 생략
 -- ============================================================
 CREATE OR REPLACE FUNCTION fn_license_assign_decrement()
 RETURNS TRIGGER AS $$
 BEGIN
 	IF OLD.assignment_status = 'ASSIGNED'
-		AND NEW.assignment_status IN ('RETURNED', 'EXPIRED') THEN
+		AND NEW.assignment_status IN ('RETURNED', 'EXPIRED')
+		AND COALESCE(current_setting('app.license_qty_managed', true), 'off') <> 'on' THEN
 		UPDATE	license
 		SET		used_qty = GREATEST(used_qty - 1, 0),
 				upd_date = CURRENT_TIMESTAMP
@@ -548,6 +743,83 @@ CREATE TRIGGER trg_license_assign_update
 	FOR EACH ROW
 	EXECUTE FUNCTION fn_license_assign_decrement();
 
+-- ============================================================
+-- 트리거: 자산 등록/상태 변경/유형 변경/삭제 시 유형·상태별 수량 반영
+--     문장 단위(transition table)로 증감을 집계하여 일괄 등록도 문장당 1회 반영
+--     (category_id, asset_status) 순서로 갱신하여 동시 갱신 간 교착 방지
+--     같은 유형의 상태 변경은 동일 (category_id, asset_status) 행을 커밋까지 잠그므로 유형 단위로 직렬화됨 (핫 로우)
+-- ============================================================
+CREATE OR REPLACE FUNCTION fn_asset_status_count()
+RETURNS TRIGGER AS $$
+BEGIN
+	IF TG_OP = 'INSERT' THEN
+		INSERT INTO asset_category_status_count (category_id, asset_status, asset_count)
+		SELECT	category_id, asset_status, COUNT(*)
+		FROM	new_rows
+		WHERE	is_deleted = false
+		GROUP BY category_id, asset_status
+		ORDER BY category_id, asset_status
+		ON CONFLICT (category_id, asset_status) DO UPDATE
+		SET		asset_count = asset_category_status_count.asset_count + EXCLUDED.asset_count,
+				upd_date = CURRENT_TIMESTAMP;
+	ELSIF TG_OP = 'UPDATE' THEN
+		INSERT INTO asset_category_status_count (category_id, asset_status, asset_count)
+		SELECT	category_id, asset_status, SUM(delta)
+		FROM	(
+			SELECT category_id, asset_status, 1 AS delta FROM new_rows WHERE is_deleted = false
+			UNION ALL
+			SELECT category_id, asset_status, -1 AS delta FROM old_rows WHERE is_deleted = false
+		) d
+		GROUP BY category_id, asset_status
+		HAVING	SUM(delta) <> 0
+		ORDER BY category_id, asset_status
+		ON CONFLICT (category_id, asset_status) DO UPDATE
+		SET		asset_count = asset_category_status_count.asset_count + EXCLUDED.asset_count,
+				upd_date = CURRENT_TIMESTAMP;
+	ELSIF TG_OP = 'DELETE' THEN
+		UPDATE	asset_category_status_count c
+		SET		asset_count = c.asset_count - d.cnt,
+				upd_date = CURRENT_TIMESTAMP
+		FROM	(
+			SELECT	category_id, asset_status, COUNT(*) AS cnt
+			FROM	old_rows
+			WHERE	is_deleted = false
+			GROUP BY category_id, asset_status
+		) d
+		WHERE	c.category_id = d.category_id
+			AND	c.asset_status = d.asset_status;
+	END IF;
+	RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_asset_status_count_insert
+	AFTER INSERT ON asset
+	REFERENCING NEW TABLE AS new_rows
+	FOR EACH STATEMENT
+	EXECUTE FUNCTION fn_asset_status_count();
+
+CREATE TRIGGER trg_asset_status_count_update
+	AFTER UPDATE ON asset
+	REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+	FOR EACH STATEMENT
+	EXECUTE FUNCTION fn_asset_status_count();
+
+CREATE TRIGGER trg_asset_status_count_delete
+	AFTER DELETE ON asset
+	REFERENCING OLD TABLE AS old_rows
+	FOR EACH STATEMENT
+	EXECUTE FUNCTION fn_asset_status_count();
+
+-- 초기 적재 (기존 자산 데이터가 있는 DB에 적용하는 경우)
+INSERT INTO asset_category_status_count (category_id, asset_status, asset_count)
+SELECT	category_id, asset_status, COUNT(*)
+FROM	asset
+WHERE	is_deleted = false
+GROUP BY category_id, asset_status
+ON CONFLICT (category_id, asset_status) DO UPDATE
+SET		asset_count = EXCLUDED.asset_count;
+
 -- ============================================================
 -- 뷰: 라이센스 수량 정합성 검증
 -- ============================================================
@@ -0,0 +1,136 @@
+-- ============================================================
+-- 기존 DB 이관: asset_history / license_history 월별 범위 파티션 전환
+--     ddl_v1.3.sql 로 새로 생성한 DB에는 적용하지 않는다.
+--     이력은 INSERT-ONLY 이므로 서비스 중지(또는 배정 API 차단) 후 1회 실행한다.
+-- ============================================================
+BEGIN;
+
+-- 1. 기존 테이블 보관 (history_id 시퀀스는 새 테이블로 소유권 이전)
+ALTER TABLE asset_history RENAME TO asset_history_legacy;
+ALTER TABLE license_history RENAME TO license_history_legacy;
+ALTER TABLE asset_history_legacy RENAME CONSTRAINT asset_history_pkey TO asset_history_legacy_pkey;
+ALTER TABLE license_history_legacy RENAME CONSTRAINT license_history_pkey TO license_history_legacy_pkey;
+ALTER INDEX idx_asset_history_asset RENAME TO idx_asset_history_legacy_asset;
+ALTER INDEX idx_asset_history_member RENAME TO idx_asset_history_legacy_member;
+ALTER INDEX idx_asset_history_date RENAME TO idx_asset_history_legacy_date;
+ALTER INDEX idx_license_history_license RENAME TO idx_license_history_legacy_license;
+ALTER INDEX idx_license_history_member RENAME TO idx_license_history_legacy_member;
+ALTER INDEX idx_license_history_date RENAME TO idx_license_history_legacy_date;
+
+-- 2. 파티션 테이블 생성
+CREATE TABLE asset_history (
+	history_id		BIGINT			NOT NULL DEFAULT nextval('asset_history_history_id_seq'),
+	asset_id		BIGINT			NOT NULL REFERENCES asset(asset_id),
+	member_id		BIGINT			NOT NULL REFERENCES member(member_id),
+	action_type		VARCHAR(20)		NOT NULL,
+	action_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	remarks			TEXT,
+	reg_id			BIGINT,
+	reg_date		TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (history_id, action_date)
+) PARTITION BY RANGE (action_date);
+ALTER SEQUENCE asset_history_history_id_seq OWNED BY asset_history.history_id;
+
+COMMENT ON TABLE asset_history IS '자산 배정 이력 (감사 로그, INSERT-ONLY, 월별 파티션)';
+COMMENT ON COLUMN asset_history.action_type IS 'ASSIGN=배정, RETURN=반납, TRANSFER=이관';
+CREATE TABLE asset_history_default PARTITION OF asset_history DEFAULT;
+
+CREATE TABLE license_history (
+	history_id			BIGINT			NOT NULL DEFAULT nextval('license_history_history_id_seq'),
+	license_id			BIGINT			NOT NULL REFERENCES license(license_id),
+	key_id				BIGINT			REFERENCES license_key(key_id),
+	member_id			BIGINT			NOT NULL REFERENCES member(member_id),
+	action_type			VARCHAR(20)		NOT NULL,
+	action_date			TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	assignment_reason	TEXT,
+	remarks				TEXT,
+	reg_id				BIGINT,
+	reg_date			TIMESTAMP		NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (history_id, action_date)
+) PARTITION BY RANGE (action_date);
+ALTER SEQUENCE license_history_history_id_seq OWNED BY license_history.history_id;
+
+COMMENT ON TABLE license_history IS '라이센스 배정 이력 (사람 중심, INSERT-ONLY, 월별 파티션)';
+COMMENT ON COLUMN license_history.action_type IS 'ASSIGN/RETURN/CHANGE/EXPIRE';
+CREATE TABLE license_history_default PARTITION OF license_history DEFAULT;
+
+-- 3. 파티션 생성 함수 (ddl_v1.3.sql 과 동일)
+CREATE OR REPLACE FUNCTION fn_create_history_partitions(p_from DATE, p_months_ahead INT)
+RETURNS INT AS $$
+DECLARE
+	v_month		DATE := date_trunc('month', p_from)::date;
+	v_last		DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => p_months_ahead))::date;
+	v_table		TEXT;
+	v_partition	TEXT;
+	v_created	INT := 0;
+BEGIN
+	WHILE v_month <= v_last LOOP
+		FOREACH v_table IN ARRAY ARRAY['asset_history', 'license_history'] LOOP
+			v_partition := v_table || '_p' || to_char(v_month, 'YYYYMM');
+			IF to_regclass(v_partition) IS NULL THEN
+				EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+					v_partition, v_table, v_month, (v_month + INTERVAL '1 month')::date);
+				v_created := v_created + 1;
+			END IF;
+		END LOOP;
+		v_month := (v_month + INTERVAL '1 month')::date;
+	END LOOP;
+	RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 4. 가장 오래된 이력 월부터 현재 월 + 3개월까지 파티션 생성
+SELECT fn_create_history_partitions(
+	LEAST(
+		COALESCE((SELECT MIN(action_date) FROM asset_history_legacy), CURRENT_TIMESTAMP),
+		COALESCE((SELECT MIN(action_date) FROM license_history_legacy), CURRENT_TIMESTAMP)
+	)::date,
+	3);
+
+-- 5. 데이터 이관 (인덱스는 적재 후 생성)
+INSERT INTO asset_history
+SELECT history_id, asset_id, member_id, action_type, action_date, remarks, reg_id, reg_date
+FROM asset_history_legacy;
+
+INSERT INTO license_history
+SELECT history_id, license_id, key_id, member_id, action_type, action_date, assignment_reason, remarks, reg_id, reg_date
+FROM license_history_legacy;
+
+CREATE INDEX idx_asset_history_asset ON asset_history(asset_id, action_date DESC, history_id DESC);
+CREATE INDEX idx_asset_history_member ON asset_history(member_id, action_date DESC, history_id DESC);
+CREATE INDEX idx_asset_history_date ON asset_history USING brin(action_date);
+CREATE INDEX idx_license_history_license ON license_history(license_id, action_date DESC, history_id DESC);
+CREATE INDEX idx_license_history_member ON license_history(member_id, action_date DESC, history_id DESC);
+CREATE INDEX idx_license_history_date ON license_history USING brin(action_date);
+
+-- 6. 건수 확인 후 기존 테이블 삭제
+DO $$
+BEGIN
+	IF (SELECT COUNT(*) FROM asset_history) <> (SELECT COUNT(*) FROM asset_history_legacy)
+		OR (SELECT COUNT(*) FROM license_history) <> (SELECT COUNT(*) FROM license_history_legacy) THEN
+		RAISE EXCEPTION '이력 이관 건수 불일치';
+	END IF;
+END;
+$$;
+
+DROP TABLE asset_history_legacy;
+DROP TABLE license_history_legacy;
+
+COMMIT;
+
+ANALYZE asset_history;
+ANALYZE license_history;
+
+-- ============================================================
+-- 파티션 프루닝 확인 (실행 계획에 해당 월 파티션만 나타나야 함)
+-- ============================================================
+-- EXPLAIN (COSTS OFF)
+-- SELECT * FROM asset_history
+-- WHERE action_date >= date_trunc('month', CURRENT_DATE) AND action_date < CURRENT_DATE + 1;
+--   → Scan on asset_history_pYYYYMM (현재 월) 만 포함, asset_history_default 미포함
+--
+-- EXPLAIN (COSTS OFF)
+-- SELECT * FROM license_history
+-- WHERE license_id = 1 AND action_date >= CURRENT_DATE - INTERVAL '7 days'
+-- ORDER BY action_date DESC;
+--   → 최근 1~2개 월 파티션의 idx_license_history_license 계열 인덱스만 사용
@@ -0,0 +1,36 @@
+-- ============================================================
+-- 기존 DB 이관: 메뉴 권한 검증 대상 메뉴 추가 (system-policy.md 2.4)
+--     권한 관리(ROLE), 공통코드 관리(COMMON_CODE), 소프트웨어 관리(SOFTWARE) 메뉴를 등록하고
+--     시스템관리자(ROLE_ADMIN) 역할에 CRUD 권한을 부여한다.
+--     이미 등록된 메뉴/권한은 건너뛰므로 여러 번 실행해도 된다.
+-- ============================================================
+BEGIN;
+
+-- 1. 메뉴 등록
+INSERT INTO menu (menu_name, menu_code, menu_url, menu_icon, menu_order, menu_depth, is_active)
+SELECT v.menu_name, v.menu_code, v.menu_url, v.menu_icon, v.menu_order, 0, true
+FROM (VALUES
+	('권한 관리',		'ROLE',			'/roles',			'SafetyOutlined',	6),
+	('공통코드 관리',	'COMMON_CODE',	'/common-codes',	'ProfileOutlined',	7)
+) AS v(menu_name, menu_code, menu_url, menu_icon, menu_order)
+WHERE NOT EXISTS (SELECT 1 FROM menu m WHERE m.menu_code = v.menu_code);
+
+INSERT INTO menu (parent_menu_id, menu_name, menu_code, menu_url, menu_order, menu_depth, is_active)
+SELECT p.menu_id, '소프트웨어 관리', 'SOFTWARE', '/softwares', 3, 1, true
+FROM menu p
+WHERE p.menu_code = 'LICENSE'
+	AND NOT EXISTS (SELECT 1 FROM menu m WHERE m.menu_code = 'SOFTWARE');
+
+-- 2. 시스템관리자 역할에 CRUD 권한 부여
+INSERT INTO role_menu (role_id, menu_id, can_read, can_create, can_update, can_delete)
+SELECT r.role_id, m.menu_id, true, true, true, true
+FROM role r
+CROSS JOIN menu m
+WHERE r.role_code = 'ROLE_ADMIN'
+	AND m.menu_code IN ('ROLE', 'COMMON_CODE', 'SOFTWARE')
+	AND m.is_deleted = false
+ON CONFLICT (role_id, menu_id) DO NOTHING;
+
+COMMIT;
+
+-- 메뉴 코드 → menu_id 매핑은 노드별로 최초 권한 확인 시 적재되므로 적용 후 애플리케이션을 재시작한다.
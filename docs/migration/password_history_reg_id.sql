@@ -0,0 +1,7 @@
+-- ============================================================
+-- 기존 DB 이관: password_history.reg_id 추가
+--     PasswordHistory 엔티티(BaseHistoryEntity)는 reg_id를 매핑하지만 테이블에 컬럼이 없어
+--     ddl-auto: validate 기동 및 비밀번호 변경 이력 INSERT가 실패한다.
+--     여러 번 실행해도 된다.
+-- ============================================================
+ALTER TABLE password_history ADD COLUMN IF NOT EXISTS reg_id BIGINT;
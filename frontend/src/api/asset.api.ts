@@ -1,5 +1,11 @@
 import client from './client';
-import type { ApiResponse, PageResponse, PageRequest } from '@/types/api.types';
+import type {
+  ApiResponse,
+  PageResponse,
+  PageRequest,
+  CursorPage,
+  HistoryCursorRequest,
+} from '@/types/api.types';
 import type {
   AssetResponse,
   AssetRequest,
@@ -33,9 +39,11 @@ export const assetApi = {
   delete: (id: number) =>
     client.delete<ApiResponse<null>>(`/assets/${id}`).then((r) => r.data),
 
-  getHistory: (assetId: number) =>
+  getHistory: (assetId: number, params: HistoryCursorRequest) =>
     client
-      .get<ApiResponse<AssetHistoryResponse[]>>(`/assets/${assetId}/history`)
+      .get<ApiResponse<CursorPage<AssetHistoryResponse>>>(`/assets/${assetId}/history`, {
+        params,
+      })
       .then((r) => r.data.data),
 
   getCategories: () =>
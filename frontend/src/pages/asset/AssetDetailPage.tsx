@@ -1,16 +1,21 @@
-import React from 'react';
-import { Button, Card, Descriptions, Space, Spin, Table, Tag } from 'antd';
+import React, { useState } from 'react';
+import { Button, Card, DatePicker, Descriptions, Space, Spin, Table, Tag } from 'antd';
 import { ArrowLeftOutlined } from '@ant-design/icons';
 import { useParams, useNavigate } from 'react-router-dom';
-import { useQuery } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery } from '@tanstack/react-query';
+import type { Dayjs } from 'dayjs';
 import type { ColumnsType } from 'antd/es/table';
 import { assetApi } from '@/api/asset.api';
 import { STATUS_COLOR, STATUS_LABEL, ACTION_TYPE_LABEL } from '@/utils/constants';
 import type { AssetHistoryResponse } from '@/types/asset.types';
 
+const HISTORY_PAGE_SIZE = 20;
+const DATE_TIME_FORMAT = 'YYYY-MM-DDTHH:mm:ss';
+
 const AssetDetailPage: React.FC = () => {
   const { id } = useParams<{ id: string }>();
   const navigate = useNavigate();
+  const [period, setPeriod] = useState<[Dayjs, Dayjs] | null>(null);
 
   const { data: asset, isLoading } = useQuery({
     queryKey: ['assets', id],
@@ -18,12 +23,27 @@ const AssetDetailPage: React.FC = () => {
     enabled: !!id,
   });
 
-  const { data: history = [] } = useQuery({
-    queryKey: ['assets', id, 'history'],
-    queryFn: () => assetApi.getHistory(Number(id)),
+  // 기간은 [from, to) 이므로 종료일 다음 날 0시를 to로 보낸다
+  const from = period?.[0].startOf('day').format(DATE_TIME_FORMAT);
+  const to = period?.[1].add(1, 'day').startOf('day').format(DATE_TIME_FORMAT);
+
+  const {
+    data: historyPages,
+    fetchNextPage,
+    hasNextPage,
+    isFetching: isHistoryFetching,
+    isFetchingNextPage,
+  } = useInfiniteQuery({
+    queryKey: ['assets', id, 'history', from, to],
+    queryFn: ({ pageParam }) =>
+      assetApi.getHistory(Number(id), { from, to, cursor: pageParam, size: HISTORY_PAGE_SIZE }),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => (lastPage.hasNext ? lastPage.nextCursor : undefined),
     enabled: !!id,
   });
 
+  const history = historyPages?.pages.flatMap((page) => page.content) ?? [];
+
   if (isLoading) {
     return <Spin style={{ display: 'flex', justifyContent: 'center', marginTop: 100 }} />;
   }
@@ -83,14 +103,30 @@ const AssetDetailPage: React.FC = () => {
         </Descriptions>
       </Card>
 
-      <Card title="배정 이력">
+      <Card
+        title="배정 이력"
+        extra={
+          <DatePicker.RangePicker
+            value={period}
+            onChange={(dates) => setPeriod(dates?.[0] && dates[1] ? [dates[0], dates[1]] : null)}
+          />
+        }
+      >
         <Table<AssetHistoryResponse>
           columns={historyColumns}
           dataSource={history}
           rowKey="historyId"
+          loading={isHistoryFetching && !isFetchingNextPage}
           pagination={false}
           size="small"
         />
+        {hasNextPage && (
+          <div style={{ textAlign: 'center', marginTop: 12 }}>
+            <Button loading={isFetchingNextPage} onClick={() => fetchNextPage()}>
+              더 보기
+            </Button>
+          </div>
+        )}
       </Card>
     </Space>
   );
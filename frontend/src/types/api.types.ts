@@ -16,6 +16,23 @@ export interface PageResponse<T> {
   size: number;
 }
 
+/** 커서 페이징 응답 */
+export interface CursorPage<T> {
+  content: T[];
+  size: number;
+  hasNext: boolean;
+  nextCursor?: string;
+  totalElements?: number;
+}
+
+/** 이력 조회 요청 파라미터 (기간 [from, to) + 커서) */
+export interface HistoryCursorRequest {
+  from?: string;
+  to?: string;
+  cursor?: string;
+  size?: number;
+}
+
 /** 페이징 요청 파라미터 */
 export interface PageRequest {
   page?: number;
@@ -0,0 +1,84 @@
+package com.assetmanagement.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 검증 비용 (스레드 1 / 8 / 32)
+ *
+ * verifyOnce     : 미리 생성한 파서로 1회 검증 (JwtTokenProvider.verify, 현재 필터 경로)
+ * parseTwice     : 검증 + claims 조회마다 파서를 생성하여 서명을 2회 검증 (이전 필터 경로)
+ *
+ * 실행: gradle jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class JwtVerifyBenchmark {
+
+    private static final String SECRET = "ThisIsAVeryLongSecretKeyForJwtTokenGenerationAtLeast256BitsRequired!!";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        jwtTokenProvider = new JwtTokenProvider(null, null);
+        setField("secret", SECRET);
+        setField("accessTokenValidity", 3_600_000L);
+        jwtTokenProvider.init();
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtTokenProvider.createAccessToken("admin", 1L, "ROLE_ADMIN");
+    }
+
+    @Benchmark
+    public Claims verifyOnce() {
+        return jwtTokenProvider.verify(token).claims();
+    }
+
+    @Benchmark
+    public Claims parseTwice() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+
+    @Threads(1)
+    public static class OneThread extends JwtVerifyBenchmark {
+    }
+
+    @Threads(8)
+    public static class EightThreads extends JwtVerifyBenchmark {
+    }
+
+    @Threads(32)
+    public static class ThirtyTwoThreads extends JwtVerifyBenchmark {
+    }
+}
@@ -0,0 +1,112 @@
+package com.assetmanagement.global.security;
+
+import com.assetmanagement.role.entity.RoleMenu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 권한 확인 1회 비용 (system-policy.md 2.4)
+ *
+ * effectiveSet   : 캐시된 사용자 유효 비트셋 확인 (MenuPermissionCache 적중 시 경로)
+ * unionPerCheck  : 확인마다 역할 비트셋을 OR 하여 확인
+ * scanRoleMenus  : 확인마다 member_role x role_menu 행을 순회 (DB 조회 비용 제외)
+ *
+ * 실행: gradle jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MenuPermissionBenchmark {
+
+    private static final int ROLES = 3;
+    private static final int MENUS_PER_ROLE = 20;
+    private static final MenuPermission[] PERMISSIONS = MenuPermission.values();
+
+    private List<RoleMenu> roleMenus;
+    private MenuPermissionSet[] roleSets;
+    private MenuPermissionSet effective;
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roleMenus = new ArrayList<>();
+        roleSets = new MenuPermissionSet[ROLES];
+        MenuPermissionSet merged = MenuPermissionSet.EMPTY;
+        for (int role = 0; role < ROLES; role++) {
+            List<RoleMenu> menus = new ArrayList<>();
+            for (int i = 0; i < MENUS_PER_ROLE; i++) {
+                long menuId = role * MENUS_PER_ROLE + i + 1;
+                menus.add(RoleMenu.builder()
+                    .roleId((long) role + 1)
+                    .menuId(menuId)
+                    .canRead(true)
+                    .canCreate(i % 2 == 0)
+                    .canUpdate(i % 3 == 0)
+                    .canDelete(i % 5 == 0)
+                    .build());
+            }
+            roleMenus.addAll(menus);
+            roleSets[role] = MenuPermissionSet.of(menus);
+            merged = merged.union(roleSets[role]);
+        }
+        effective = merged;
+    }
+
+    @Benchmark
+    public boolean effectiveSet() {
+        int n = sequence++;
+        return effective.has(menuId(n), PERMISSIONS[n & 3]);
+    }
+
+    @Benchmark
+    public boolean unionPerCheck() {
+        int n = sequence++;
+        MenuPermissionSet merged = MenuPermissionSet.EMPTY;
+        for (MenuPermissionSet roleSet : roleSets) {
+            merged = merged.union(roleSet);
+        }
+        return merged.has(menuId(n), PERMISSIONS[n & 3]);
+    }
+
+    @Benchmark
+    public boolean scanRoleMenus() {
+        int n = sequence++;
+        long menuId = menuId(n);
+        MenuPermission permission = PERMISSIONS[n & 3];
+        for (RoleMenu rm : roleMenus) {
+            if (rm.getMenuId() == menuId && granted(rm, permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long menuId(int n) {
+        return (n % (ROLES * MENUS_PER_ROLE + 4)) + 1;   // 매핑되지 않은 메뉴 포함
+    }
+
+    private static boolean granted(RoleMenu rm, MenuPermission permission) {
+        return switch (permission) {
+            case READ -> rm.getCanRead();
+            case CREATE -> rm.getCanCreate();
+            case UPDATE -> rm.getCanUpdate();
+            case DELETE -> rm.getCanDelete();
+        };
+    }
+}
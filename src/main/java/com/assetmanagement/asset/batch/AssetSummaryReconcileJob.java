@@ -0,0 +1,66 @@
+package com.assetmanagement.asset.batch;
+
+import com.assetmanagement.asset.repository.AssetSummaryJdbcRepository;
+import com.assetmanagement.asset.repository.AssetSummaryJdbcRepository.Drift;
+import com.assetmanagement.global.batch.BatchJobRunner;
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 자산 유형/상태별 수량 보정 배치
+ *
+ * 트리거 비활성화 상태의 데이터 보정, 수동 SQL 등으로 생긴 차이를 실제 자산 건수 기준으로 맞춘다.
+ * 차이가 발견되면 WARN 로그를 남기고 app.batch.drift (태그 job)에 보정 건수를 누적한다.
+ */
+@Slf4j
+@Component
+public class AssetSummaryReconcileJob {
+
+    private static final String JOB_NAME = "asset-summary-reconcile";
+
+    private final AssetSummaryJdbcRepository assetSummaryJdbcRepository;
+    private final BatchJobRunner batchJobRunner;
+    private final TwoTierCache twoTierCache;
+    private final Counter driftCounter;
+
+    public AssetSummaryReconcileJob(
+            AssetSummaryJdbcRepository assetSummaryJdbcRepository,
+            BatchJobRunner batchJobRunner,
+            TwoTierCache twoTierCache,
+            MeterRegistry meterRegistry) {
+        this.assetSummaryJdbcRepository = assetSummaryJdbcRepository;
+        this.batchJobRunner = batchJobRunner;
+        this.twoTierCache = twoTierCache;
+        this.driftCounter = Counter.builder("app.batch.drift")
+            .tag("job", JOB_NAME)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${batch.asset-summary-reconcile.cron:0 30 2 * * *}")
+    public void run() {
+        batchJobRunner.runExclusive(JOB_NAME, this::reconcile);
+    }
+
+    private void reconcile() {
+        List<Drift> drifts = assetSummaryJdbcRepository.reconcile();
+        if (drifts.isEmpty()) {
+            return;
+        }
+
+        long total = 0;
+        for (Drift drift : drifts) {
+            log.warn("[batch] 자산 수량 보정 categoryId={}, status={}, stored={}, actual={}",
+                drift.categoryId(), drift.assetStatus(), drift.storedCount(), drift.actualCount());
+            total += Math.abs(drift.diff());
+        }
+        driftCounter.increment(total);
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
+    }
+}
@@ -6,6 +6,11 @@ import com.assetmanagement.asset.dto.AssetReturnRequest;
 import com.assetmanagement.asset.dto.AssetTransferRequest;
 import com.assetmanagement.asset.service.AssetAssignmentService;
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import com.assetmanagement.member.dto.MemberAssignmentDetailResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,14 +33,24 @@ public class AssetAssignmentController {
 
     @Operation(summary = "배정 목록 조회 (페이징)")
     @GetMapping
+    @RequiresMenuPermission(menu = MenuCode.ASSET_ASSIGNMENT, value = MenuPermission.READ)
     public ApiResponse<Page<AssetAssignmentResponse>> getAssignments(
             @PageableDefault(size = 20, sort = "regDate", direction = Sort.Direction.DESC)
             Pageable pageable) {
         return ApiResponse.ok(assetAssignmentService.getAssignments(pageable));
     }
 
+    @Operation(summary = "배정 목록 조회 (커서 페이징)")
+    @GetMapping("/cursor")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_ASSIGNMENT, value = MenuPermission.READ)
+    public ApiResponse<CursorPage<AssetAssignmentResponse>> getAssignmentsByCursor(
+            CursorRequest cursorRequest) {
+        return ApiResponse.ok(assetAssignmentService.getAssignmentsByCursor(cursorRequest));
+    }
+
     @Operation(summary = "사용자별 배정 상세보기")
     @GetMapping("/members/{memberId}")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_ASSIGNMENT, value = MenuPermission.READ)
     public ApiResponse<MemberAssignmentDetailResponse> getMemberAssignmentDetail(
             @PathVariable Long memberId) {
         return ApiResponse.ok(assetAssignmentService.getMemberAssignmentDetail(memberId));
@@ -43,6 +58,7 @@ public class AssetAssignmentController {
 
     @Operation(summary = "자산 배정")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.ASSET_ASSIGNMENT, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<AssetAssignmentResponse> assignAsset(
             @Valid @RequestBody AssetAssignmentRequest request) {
@@ -52,6 +68,7 @@ public class AssetAssignmentController {
 
     @Operation(summary = "자산 반납")
     @PutMapping("/{id}/return")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_ASSIGNMENT, value = MenuPermission.UPDATE)
     public ApiResponse<Void> returnAsset(
             @PathVariable Long id,
             @RequestBody AssetReturnRequest request) {
@@ -62,6 +79,7 @@ public class AssetAssignmentController {
 
     @Operation(summary = "자산 이관 (다른 사용자로)")
     @PutMapping("/{id}/transfer")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_ASSIGNMENT, value = MenuPermission.UPDATE)
     public ApiResponse<Void> transferAsset(
             @PathVariable Long id,
             @Valid @RequestBody AssetTransferRequest request) {
@@ -1,8 +1,17 @@
 package com.assetmanagement.asset.controller;
 
 import com.assetmanagement.asset.dto.*;
+import com.assetmanagement.asset.service.AssetImportService;
 import com.assetmanagement.asset.service.AssetService;
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.dto.HistoryCursorRequest;
+import com.assetmanagement.global.exception.BusinessException;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -12,8 +21,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Tag(name = "자산 현황", description = "자산 CRUD API")
@@ -23,9 +36,11 @@ import java.util.List;
 public class AssetController {
 
     private final AssetService assetService;
+    private final AssetImportService assetImportService;
 
     @Operation(summary = "자산 목록 조회 (페이징, 검색)")
     @GetMapping
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.READ)
     public ApiResponse<Page<AssetResponse>> getAssets(
             AssetSearchCondition condition,
             @PageableDefault(size = 20, sort = "regDate", direction = Sort.Direction.DESC)
@@ -33,14 +48,33 @@ public class AssetController {
         return ApiResponse.ok(assetService.getAssets(condition, pageable));
     }
 
+    @Operation(summary = "자산 목록 조회 (커서 페이징, 검색)")
+    @GetMapping("/cursor")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.READ)
+    public ApiResponse<CursorPage<AssetResponse>> getAssetsByCursor(
+            AssetSearchCondition condition, CursorRequest cursorRequest) {
+        return ApiResponse.ok(assetService.getAssetsByCursor(condition, cursorRequest));
+    }
+
+    @Operation(summary = "자산 키워드 검색 (유사도 순위)")
+    @GetMapping("/search")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.READ)
+    public ApiResponse<List<AssetResponse>> searchAssets(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer limit) {
+        return ApiResponse.ok(assetService.searchAssets(keyword, limit));
+    }
+
     @Operation(summary = "자산 상세 조회")
     @GetMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.READ)
     public ApiResponse<AssetResponse> getAsset(@PathVariable Long id) {
         return ApiResponse.ok(assetService.getAsset(id));
     }
 
     @Operation(summary = "자산 등록")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<AssetResponse> createAsset(@Valid @RequestBody AssetRequest request) {
         // TODO: SecurityContext에서 현재 사용자 ID 추출
@@ -48,8 +82,23 @@ public class AssetController {
         return ApiResponse.ok(assetService.createAsset(request, regId));
     }
 
+    @Operation(summary = "자산 일괄 등록 (CSV)")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.CREATE)
+    public ApiResponse<AssetImportResponse> importAssets(@RequestPart("file") MultipartFile file) throws IOException {
+        String filename = file.getOriginalFilename();
+        if (filename == null || !filename.toLowerCase().endsWith(".csv")) {
+            throw new BusinessException(ErrorCode.COMMON_002, "CSV 파일만 업로드할 수 있습니다.");
+        }
+        Long regId = 1L;
+        try (InputStream inputStream = file.getInputStream()) {
+            return ApiResponse.ok(assetImportService.importCsv(inputStream, regId));
+        }
+    }
+
     @Operation(summary = "자산 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.UPDATE)
     public ApiResponse<AssetResponse> updateAsset(
             @PathVariable Long id,
             @Valid @RequestBody AssetRequest request) {
@@ -59,6 +108,7 @@ public class AssetController {
 
     @Operation(summary = "자산 삭제 (소프트 삭제)")
     @DeleteMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.DELETE)
     public ApiResponse<Void> deleteAsset(@PathVariable Long id) {
         Long updId = 1L;
         assetService.deleteAsset(id, updId);
@@ -71,10 +121,12 @@ public class AssetController {
         return ApiResponse.ok(assetService.getAssetSummary());
     }
 
-    @Operation(summary = "자산 배정 이력 조회")
+    @Operation(summary = "자산 배정 이력 조회 (기간 + 커서 페이징)")
     @GetMapping("/{id}/history")
-    public ApiResponse<List<AssetHistoryResponse>> getAssetHistory(@PathVariable Long id) {
-        return ApiResponse.ok(assetService.getAssetHistory(id));
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.READ)
+    public ApiResponse<CursorPage<AssetHistoryResponse>> getAssetHistory(
+            @PathVariable Long id, HistoryCursorRequest request) {
+        return ApiResponse.ok(assetService.getAssetHistory(id, request));
     }
 
     @Operation(summary = "자산 카테고리 목록")
@@ -85,6 +137,7 @@ public class AssetController {
 
     @Operation(summary = "자산 카테고리 등록")
     @PostMapping("/categories")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<AssetCategoryResponse> createCategory(
             @Valid @RequestBody AssetCategoryRequest request) {
@@ -94,6 +147,7 @@ public class AssetController {
 
     @Operation(summary = "자산 카테고리 수정")
     @PutMapping("/categories/{categoryId}")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.UPDATE)
     public ApiResponse<AssetCategoryResponse> updateCategory(
             @PathVariable Long categoryId,
             @Valid @RequestBody AssetCategoryRequest request) {
@@ -103,6 +157,7 @@ public class AssetController {
 
     @Operation(summary = "자산 카테고리 삭제")
     @DeleteMapping("/categories/{categoryId}")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.DELETE)
     public ApiResponse<Void> deleteCategory(@PathVariable Long categoryId) {
         Long updId = 1L;
         assetService.deleteCategory(categoryId, updId);
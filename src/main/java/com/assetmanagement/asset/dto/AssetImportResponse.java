@@ -0,0 +1,26 @@
+package com.assetmanagement.asset.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AssetImportResponse {
+
+    private int totalRows;
+    private int successCount;
+    private int failureCount;
+    // 행별 오류 (최대 MAX_ERRORS건, 초과 시 errorsTruncated = true)
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Getter
+    @Builder
+    public static class RowError {
+        private long rowNumber;
+        private String serialNumber;
+        private String message;
+    }
+}
@@ -3,6 +3,9 @@ package com.assetmanagement.asset.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 @Getter
 @Setter
 public class AssetSearchCondition {
@@ -10,4 +13,11 @@ public class AssetSearchCondition {
     private String keyword;
     private Long categoryId;
     private String assetStatus;
+
+    // specs(JSONB) 조건
+    private String specContains;    // 포함 조건 JSON 객체 (예: {"cpu":"M2"})
+    private List<String> specKeys;  // 모두 존재해야 하는 키
+    private String specRangeKey;    // 숫자 범위 조건 키 (값의 앞부분 숫자 기준, 예: "16GB" → 16)
+    private BigDecimal specMin;
+    private BigDecimal specMax;
 }
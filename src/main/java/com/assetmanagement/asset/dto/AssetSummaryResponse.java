@@ -2,8 +2,10 @@ package com.assetmanagement.asset.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class AssetSummaryResponse {
 
@@ -71,6 +71,7 @@ public class Asset extends BaseEntity {
     @Column(name = "remarks", columnDefinition = "TEXT")
     private String remarks;
 
+    // IN_USE 전이 허용 상태를 바꾸면 AssetRepository.markInUse()의 WHERE 절도 함께 수정
     private static final Map<String, Set<String>> VALID_TRANSITIONS = Map.of(
         "AVAILABLE", Set.of("IN_USE", "REPAIR", "DISPOSED", "LOST"),
         "IN_USE",    Set.of("AVAILABLE", "REPAIR", "LOST"),
@@ -0,0 +1,46 @@
+package com.assetmanagement.asset.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 자산 유형/상태별 수량 (읽기 전용)
+ *
+ * asset 테이블 트리거(trg_asset_status_count_*)가 유지하며 애플리케이션에서는 조회만 한다.
+ * 누락/중복 반영은 AssetSummaryReconcileJob이 주기적으로 보정한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@IdClass(AssetCategoryStatusCount.Key.class)
+@Table(name = "asset_category_status_count")
+public class AssetCategoryStatusCount {
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Id
+    @Column(name = "asset_status", length = 20)
+    private String assetStatus;
+
+    @Column(name = "asset_count", nullable = false)
+    private Long assetCount;
+
+    @Column(name = "upd_date", nullable = false)
+    private LocalDateTime updDate;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long categoryId;
+        private String assetStatus;
+    }
+}
@@ -1,6 +1,10 @@
 package com.assetmanagement.asset.repository;
 
 import com.assetmanagement.asset.entity.AssetAssignment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
@@ -10,6 +14,11 @@ import java.util.Optional;
 public interface AssetAssignmentRepository extends JpaRepository<AssetAssignment, Long>,
         JpaSpecificationExecutor<AssetAssignment> {
 
+    // 목록 응답에서 참조하는 연관 엔티티를 fetch join (페이지당 조회 + count 쿼리만 실행)
+    @Override
+    @EntityGraph(attributePaths = {"asset", "asset.category", "member"})
+    Page<AssetAssignment> findAll(Specification<AssetAssignment> spec, Pageable pageable);
+
     Optional<AssetAssignment> findByAsset_AssetIdAndAssignmentStatusAndIsDeletedFalse(
             Long assetId, String assignmentStatus);
 
@@ -1,11 +1,67 @@
 package com.assetmanagement.asset.repository;
 
 import com.assetmanagement.asset.entity.AssetHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AssetHistoryRepository extends JpaRepository<AssetHistory, Long> {
 
-    List<AssetHistory> findByAssetIdOrderByActionDateDesc(Long assetId);
+    // 자산별 이력 키셋 조회: [from, to) 구간에서 (beforeDate, beforeId) 이전 행을 최신순으로
+    // idx_asset_history_asset (asset_id, action_date DESC, history_id DESC) 순서대로 읽고 LIMIT에서 중단.
+    // 키셋은 행 값 비교로 써야 인덱스 범위 조건이 되어 뒤쪽 페이지에서도 최근 이력을 다시 읽지 않는다
+    @Query("""
+        SELECT h
+        FROM AssetHistory h
+        WHERE h.assetId = :assetId
+            AND h.actionDate >= :from
+            AND h.actionDate < :to
+            AND (h.actionDate, h.historyId) < (:beforeDate, :beforeId)
+        ORDER BY h.actionDate DESC, h.historyId DESC
+        """)
+    List<AssetHistory> findSliceByAssetId(@Param("assetId") Long assetId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("beforeDate") LocalDateTime beforeDate,
+                                          @Param("beforeId") Long beforeId,
+                                          Pageable pageable);
+
+    // 내보내기용 스트림: 자산별 [from, to) 구간 이력을 발생 순으로 조회
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT h
+        FROM AssetHistory h
+        WHERE h.assetId = :assetId
+            AND h.actionDate >= :from
+            AND h.actionDate < :to
+        ORDER BY h.actionDate, h.historyId
+        """)
+    Stream<AssetHistory> streamByAssetIdForExport(@Param("assetId") Long assetId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    // 내보내기용 스트림: [from, to) 구간 이력을 history_id 순으로 조회
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT h
+        FROM AssetHistory h
+        WHERE h.actionDate >= :from
+            AND h.actionDate < :to
+        ORDER BY h.historyId
+        """)
+    Stream<AssetHistory> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,92 @@
+package com.assetmanagement.asset.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 자산 일괄 등록용 JDBC 배치 처리
+ * (JPA IDENTITY 전략은 INSERT 배치가 불가능하므로 시퀀스에서 ID를 미리 할당 후 batchUpdate)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record AssetRow(
+        Long categoryId,
+        String assetName,
+        String manufacturer,
+        String modelName,
+        String serialNumber,
+        LocalDate purchaseDate,
+        BigDecimal purchasePrice,
+        LocalDate warrantyStartDate,
+        LocalDate warrantyEndDate,
+        String memory,
+        String storage,
+        String remarks
+    ) {
+    }
+
+    public List<Long> nextAssetIds(int count) {
+        return jdbcTemplate.queryForList(
+            "SELECT nextval('asset_asset_id_seq') FROM generate_series(1, ?)",
+            Long.class, count);
+    }
+
+    public void insertAssets(List<Long> assetIds, List<AssetRow> rows, Long regId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO asset (
+                asset_id, category_id, asset_name, manufacturer, model_name, serial_number,
+                purchase_date, purchase_price, warranty_start_date, warranty_end_date,
+                asset_status, memory, storage, remarks, is_deleted,
+                reg_id, reg_date, upd_id, upd_date
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'AVAILABLE', ?, ?, ?, false, ?, ?, ?, ?)
+            """, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    AssetRow row = rows.get(i);
+                    ps.setLong(1, assetIds.get(i));
+                    ps.setLong(2, row.categoryId());
+                    ps.setString(3, row.assetName());
+                    ps.setString(4, row.manufacturer());
+                    ps.setString(5, row.modelName());
+                    ps.setString(6, row.serialNumber());
+                    ps.setDate(7, toDate(row.purchaseDate()));
+                    ps.setBigDecimal(8, row.purchasePrice());
+                    ps.setDate(9, toDate(row.warrantyStartDate()));
+                    ps.setDate(10, toDate(row.warrantyEndDate()));
+                    ps.setString(11, row.memory());
+                    ps.setString(12, row.storage());
+                    ps.setString(13, row.remarks());
+                    ps.setObject(14, regId, Types.BIGINT);
+                    ps.setTimestamp(15, now);
+                    ps.setObject(16, regId, Types.BIGINT);
+                    ps.setTimestamp(17, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            });
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
@@ -2,34 +2,104 @@ package com.assetmanagement.asset.repository;
 
 import com.assetmanagement.asset.dto.AssetSummaryResponse;
 import com.assetmanagement.asset.entity.Asset;
+import com.assetmanagement.global.dto.SearchHit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecificationExecutor<Asset> {
 
+    // 목록 응답에서 참조하는 연관 엔티티를 fetch join (페이지당 조회 + count 쿼리만 실행)
+    @Override
+    @EntityGraph(attributePaths = {"category"})
+    Page<Asset> findAll(Specification<Asset> spec, Pageable pageable);
+
     Optional<Asset> findByAssetIdAndIsDeletedFalse(Long assetId);
 
     boolean existsBySerialNumber(String serialNumber);
 
+    // 일괄 등록 중복 체크용 (삭제된 자산 포함, serial_number UNIQUE 제약과 동일 범위)
+    @Query("SELECT a.serialNumber FROM Asset a WHERE a.serialNumber IN :serialNumbers")
+    List<String> findExistingSerialNumbers(@Param("serialNumbers") Collection<String> serialNumbers);
+
+    // 트리거로 유지되는 유형/상태별 수량 테이블을 읽는다 (자산 건수와 무관하게 유형 수 x 상태 수 행만 조회)
     @Query("""
         SELECT (
             ac.categoryId, ac.categoryName, ac.categoryCode,
-            COUNT(a.assetId),
-            COUNT(CASE WHEN a.assetStatus = 'AVAILABLE' THEN 1 END),
-            COUNT(CASE WHEN a.assetStatus = 'IN_USE' THEN 1 END),
-            COUNT(CASE WHEN a.assetStatus = 'REPAIR' THEN 1 END),
-            COUNT(CASE WHEN a.assetStatus = 'DISPOSED' THEN 1 END),
-            COUNT(CASE WHEN a.assetStatus = 'LOST' THEN 1 END)
+            COALESCE(SUM(c.assetCount), 0L),
+            COALESCE(SUM(CASE WHEN c.assetStatus = 'AVAILABLE' THEN c.assetCount END), 0L),
+            COALESCE(SUM(CASE WHEN c.assetStatus = 'IN_USE' THEN c.assetCount END), 0L),
+            COALESCE(SUM(CASE WHEN c.assetStatus = 'REPAIR' THEN c.assetCount END), 0L),
+            COALESCE(SUM(CASE WHEN c.assetStatus = 'DISPOSED' THEN c.assetCount END), 0L),
+            COALESCE(SUM(CASE WHEN c.assetStatus = 'LOST' THEN c.assetCount END), 0L)
         )
         FROM AssetCategory ac
-        LEFT JOIN Asset a ON a.category = ac AND a.isDeleted = false
+        LEFT JOIN AssetCategoryStatusCount c ON c.categoryId = ac.categoryId
         WHERE ac.isDeleted = false
         GROUP BY ac.categoryId, ac.categoryName, ac.categoryCode, ac.categoryOrder
         ORDER BY ac.categoryOrder
         """)
     List<AssetSummaryResponse> getAssetSummary();
+
+    // 배정 선점: IN_USE로 변경 (0 반환 시 배정 불가 상태)
+    // 엔티티 상태 검증을 거치지 않으므로 허용 원천 상태를 WHERE에 명시한다.
+    // Asset.VALID_TRANSITIONS에서 IN_USE로 전이 가능한 상태(AVAILABLE)와 동일하게 유지 (AssetTest에서 검증)
+    @Modifying
+    @Query(value = """
+        UPDATE asset
+        SET asset_status = 'IN_USE',
+            upd_date = CURRENT_TIMESTAMP
+        WHERE asset_id = :assetId
+            AND asset_status IN ('AVAILABLE')
+            AND is_deleted = false
+        """, nativeQuery = true)
+    int markInUse(@Param("assetId") Long assetId);
+
+    // 내보내기용 스트림 (커서 기반 fetch, 호출 측 트랜잭션 안에서 소비 후 close 필요)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT a
+        FROM Asset a
+        JOIN FETCH a.category
+        WHERE a.isDeleted = false
+        ORDER BY a.assetId
+        """)
+    Stream<Asset> streamAllForExport();
+
+    // 키워드 순위 검색: pg_trgm GIN 인덱스(lower 표현식)로 후보를 찾고 word_similarity 점수 순 정렬
+    @Query(value = """
+        SELECT a.asset_id AS id,
+            GREATEST(
+                word_similarity(:keyword, lower(a.asset_name)),
+                word_similarity(:keyword, lower(COALESCE(a.serial_number, ''))),
+                word_similarity(:keyword, lower(COALESCE(a.model_name, '')))
+            ) AS score
+        FROM asset a
+        WHERE a.is_deleted = false
+            AND (lower(a.asset_name) LIKE :pattern
+                OR lower(a.serial_number) LIKE :pattern
+                OR lower(a.model_name) LIKE :pattern)
+        ORDER BY score DESC, a.asset_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<SearchHit> searchRanked(@Param("keyword") String keyword,
+                                 @Param("pattern") String pattern,
+                                 @Param("limit") int limit);
 }
@@ -2,16 +2,26 @@ package com.assetmanagement.asset.repository;
 
 import com.assetmanagement.asset.dto.AssetSearchCondition;
 import com.assetmanagement.asset.entity.Asset;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 public class AssetSpecification {
 
     public static Specification<Asset> search(AssetSearchCondition cond) {
         return Specification.where(notDeleted())
             .and(keywordContains(cond.getKeyword()))
             .and(categoryEquals(cond.getCategoryId()))
-            .and(statusEquals(cond.getAssetStatus()));
+            .and(statusEquals(cond.getAssetStatus()))
+            .and(specContains(cond.getSpecContains()))
+            .and(specKeysExist(cond.getSpecKeys()))
+            .and(specRange(cond.getSpecRangeKey(), cond.getSpecMin(), cond.getSpecMax()));
     }
 
     private static Specification<Asset> notDeleted() {
@@ -36,4 +46,31 @@ public class AssetSpecification {
         if (!StringUtils.hasText(assetStatus)) return null;
         return (root, query, cb) -> cb.equal(root.get("assetStatus"), assetStatus);
     }
+
+    // specs @> cast(? as jsonb) (idx_asset_specs GIN 인덱스 사용). 값마다 SQL이 달라지지 않도록 JSON은 바인드 파라미터로 전달
+    private static Specification<Asset> specContains(String json) {
+        if (!StringUtils.hasText(json)) return null;
+        return (root, query, cb) -> cb.isTrue(cb.function("jsonb_containment", Boolean.class,
+            root.get("specs"), ((HibernateCriteriaBuilder) cb).value(json)));
+    }
+
+    private static Specification<Asset> specKeysExist(List<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) return null;
+        return (root, query, cb) -> cb.and(keys.stream()
+            .map(key -> cb.isTrue(cb.function("jsonb_exists", Boolean.class, root.get("specs"), cb.literal(key))))
+            .toArray(Predicate[]::new));
+    }
+
+    // fn_spec_numeric(specs, 'key') 범위 조건. cb.literal(String)은 바인드 파라미터가 아닌 SQL 리터럴('ram')로 렌더링되어
+    // generic plan에서도 표현식 인덱스와 매칭된다 (키가 파라미터이면 인덱스 미사용, AssetSpecificationTest로 확인).
+    // 키는 AssetService에서 영문/숫자/밑줄만 허용하므로 리터럴로 렌더링해도 안전하다
+    private static Specification<Asset> specRange(String key, BigDecimal min, BigDecimal max) {
+        if (!StringUtils.hasText(key) || (min == null && max == null)) return null;
+        return (root, query, cb) -> {
+            Expression<BigDecimal> value = cb.function("fn_spec_numeric", BigDecimal.class, root.get("specs"), cb.literal(key));
+            if (min != null && max != null) return cb.between(value, min, max);
+            if (min != null) return cb.greaterThanOrEqualTo(value, min);
+            return cb.lessThanOrEqualTo(value, max);
+        };
+    }
 }
@@ -0,0 +1,72 @@
+package com.assetmanagement.asset.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 자산 유형/상태별 수량 테이블(asset_category_status_count) 보정
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetSummaryJdbcRepository {
+
+    /*
+     * 실제 수량과 저장된 수량의 차이(drift)를 구해 차이만큼 증감 upsert 한다 (문장 1회).
+     * 덮어쓰기가 아닌 증감이므로 보정 도중 커밋된 트리거 반영분을 지우지 않는다.
+     */
+    private static final String RECONCILE_SQL = """
+        WITH actual AS (
+            SELECT category_id, asset_status, COUNT(*) AS asset_count
+            FROM asset
+            WHERE is_deleted = false
+            GROUP BY category_id, asset_status
+        ),
+        drift AS (
+            SELECT COALESCE(a.category_id, c.category_id) AS category_id,
+                COALESCE(a.asset_status, c.asset_status) AS asset_status,
+                COALESCE(c.asset_count, 0) AS stored_count,
+                COALESCE(a.asset_count, 0) AS actual_count
+            FROM actual a
+            FULL OUTER JOIN asset_category_status_count c
+                ON c.category_id = a.category_id
+                AND c.asset_status = a.asset_status
+            WHERE COALESCE(a.asset_count, 0) <> COALESCE(c.asset_count, 0)
+        ),
+        applied AS (
+            INSERT INTO asset_category_status_count (category_id, asset_status, asset_count)
+            SELECT category_id, asset_status, actual_count - stored_count
+            FROM drift
+            ORDER BY category_id, asset_status
+            ON CONFLICT (category_id, asset_status) DO UPDATE
+            SET asset_count = asset_category_status_count.asset_count + EXCLUDED.asset_count,
+                upd_date = CURRENT_TIMESTAMP
+        )
+        SELECT category_id, asset_status, stored_count, actual_count
+        FROM drift
+        ORDER BY category_id, asset_status
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Drift(Long categoryId, String assetStatus, long storedCount, long actualCount) {
+
+        public long diff() {
+            return actualCount - storedCount;
+        }
+    }
+
+    /**
+     * 수량 보정 후 보정된 (유형, 상태) 목록 반환. 차이가 없으면 빈 목록
+     */
+    public List<Drift> reconcile() {
+        return jdbcTemplate.query(RECONCILE_SQL, (rs, rowNum) -> new Drift(
+            rs.getLong("category_id"),
+            rs.getString("asset_status"),
+            rs.getLong("stored_count"),
+            rs.getLong("actual_count")
+        ));
+    }
+}
@@ -7,24 +7,29 @@ import com.assetmanagement.asset.entity.AssetHistory;
 import com.assetmanagement.asset.repository.AssetAssignmentRepository;
 import com.assetmanagement.asset.repository.AssetHistoryRepository;
 import com.assetmanagement.asset.repository.AssetRepository;
+import com.assetmanagement.event.dto.DomainEvent;
+import com.assetmanagement.event.service.DomainEventOutbox;
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
-import com.assetmanagement.global.util.RedisLockUtil;
-import com.assetmanagement.license.entity.LicenseAssignment;
-import com.assetmanagement.license.repository.LicenseAssignmentRepository;
+import com.assetmanagement.global.util.CursorPagination;
 import com.assetmanagement.member.dto.MemberAssignmentDetailResponse;
 import com.assetmanagement.member.entity.Member;
 import com.assetmanagement.member.repository.MemberRepository;
+import com.assetmanagement.member.service.MemberAssignmentDetailService;
+import com.assetmanagement.notification.service.NotificationOutbox;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -35,12 +40,11 @@ public class AssetAssignmentService {
     private final AssetAssignmentRepository assetAssignmentRepository;
     private final AssetHistoryRepository assetHistoryRepository;
     private final MemberRepository memberRepository;
-    private final LicenseAssignmentRepository licenseAssignmentRepository;
-    private final RedisLockUtil redisLockUtil;
     private final AssetService assetService;
-
-    private static final int MAX_RETRY = 3;
-    private static final long RETRY_INTERVAL_MS = 100;
+    private final TwoTierCache twoTierCache;
+    private final MemberAssignmentDetailService memberAssignmentDetailService;
+    private final NotificationOutbox notificationOutbox;
+    private final DomainEventOutbox domainEventOutbox;
 
     public Page<AssetAssignmentResponse> getAssignments(Pageable pageable) {
         Specification<AssetAssignment> spec = (root, query, cb) ->
@@ -49,71 +53,68 @@ public class AssetAssignmentService {
             .map(AssetAssignmentResponse::from);
     }
 
-    public MemberAssignmentDetailResponse getMemberAssignmentDetail(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
-
-        List<AssetAssignment> assetAssignments =
-            assetAssignmentRepository.findByMember_MemberIdAndAssignmentStatusAndIsDeletedFalse(
-                memberId, "ASSIGNED");
-
-        List<LicenseAssignment> licenseAssignments =
-            licenseAssignmentRepository.findByMember_MemberIdAndAssignmentStatusAndIsDeletedFalse(
-                memberId, "ASSIGNED");
+    public CursorPage<AssetAssignmentResponse> getAssignmentsByCursor(CursorRequest request) {
+        Specification<AssetAssignment> spec = (root, query, cb) ->
+            cb.isFalse(root.get("isDeleted"));
+        return CursorPagination.fetch(assetAssignmentRepository, spec,
+            "assignmentId", AssetAssignment::getAssignmentId, request, AssetAssignmentResponse::from,
+            "asset", "asset.category", "member");
+    }
 
-        return buildMemberDetail(member, assetAssignments, licenseAssignments);
+    public MemberAssignmentDetailResponse getMemberAssignmentDetail(Long memberId) {
+        return memberAssignmentDetailService.getDetail(memberId);
     }
 
     @Transactional
     public AssetAssignmentResponse assignAsset(AssetAssignmentRequest request, Long regId) {
-        String lockKey = "asset:assign:" + request.getAssetId();
-
-        if (!tryAcquireLock(lockKey)) {
-            throw new BusinessException(ErrorCode.COMMON_001);
-        }
-
-        try {
+        // AVAILABLE → IN_USE 조건부 UPDATE로 자산 선점 (락 없이 원자적 처리)
+        if (assetRepository.markInUse(request.getAssetId()) == 0) {
             Asset asset = assetRepository.findByAssetIdAndIsDeletedFalse(request.getAssetId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
+            throw new BusinessException(ErrorCode.ASSET_001,
+                "AVAILABLE 상태인 자산만 배정할 수 있습니다. 현재 상태: " + asset.getAssetStatus());
+        }
 
-            // AVAILABLE 상태인지 확인
-            if (!"AVAILABLE".equals(asset.getAssetStatus())) {
-                throw new BusinessException(ErrorCode.ASSET_001,
-                    "AVAILABLE 상태인 자산만 배정할 수 있습니다. 현재 상태: " + asset.getAssetStatus());
-            }
+        Asset asset = assetRepository.findByAssetIdAndIsDeletedFalse(request.getAssetId())
+            .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
 
-            // 이미 배정된 자산인지 확인
-            assetAssignmentRepository
-                .findByAsset_AssetIdAndAssignmentStatusAndIsDeletedFalse(
-                    request.getAssetId(), "ASSIGNED")
-                .ifPresent(a -> { throw new BusinessException(ErrorCode.ASSET_002); });
+        // 이미 배정된 자산인지 확인
+        assetAssignmentRepository
+            .findByAsset_AssetIdAndAssignmentStatusAndIsDeletedFalse(
+                request.getAssetId(), "ASSIGNED")
+            .ifPresent(a -> { throw new BusinessException(ErrorCode.ASSET_002); });
 
-            Member member = memberRepository.findById(request.getMemberId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
+        Member member = memberRepository.findById(request.getMemberId())
+            .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
 
-            // 자산 상태 변경
-            asset.changeStatus("IN_USE");
+        // 배정 레코드 생성
+        AssetAssignment assignment = AssetAssignment.builder()
+            .asset(asset)
+            .member(member)
+            .assignedDate(request.getAssignedDate())
+            .remarks(request.getRemarks())
+            .build();
+        assignment.setRegId(regId);
+        assignment.setUpdId(regId);
 
-            // 배정 레코드 생성
-            AssetAssignment assignment = AssetAssignment.builder()
-                .asset(asset)
-                .member(member)
-                .assignedDate(request.getAssignedDate())
-                .remarks(request.getRemarks())
-                .build();
-            assignment.setRegId(regId);
-            assignment.setUpdId(regId);
+        try {
+            assetAssignmentRepository.saveAndFlush(assignment);
+        } catch (DataIntegrityViolationException e) {
+            // uk_asset_assign_active: 활성 배정 중복
+            throw new BusinessException(ErrorCode.ASSET_002);
+        }
 
-            assetAssignmentRepository.save(assignment);
+        // 이력 기록
+        saveHistory(asset.getAssetId(), member.getMemberId(), "ASSIGN",
+            request.getRemarks(), regId);
 
-            // 이력 기록
-            saveHistory(asset.getAssetId(), member.getMemberId(), "ASSIGN",
-                request.getRemarks(), regId);
+        // 배정 안내 메일 발송 대기열 적재
+        notificationOutbox.assetAssigned(member, asset, request.getAssignedDate());
 
-            return AssetAssignmentResponse.from(assignment);
-        } finally {
-            redisLockUtil.unlock(lockKey);
-        }
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
+        memberAssignmentDetailService.evict(member.getMemberId());
+
+        return AssetAssignmentResponse.from(assignment);
     }
 
     @Transactional
@@ -150,6 +151,9 @@ public class AssetAssignmentService {
         // 이력 기록
         saveHistory(assignment.getAsset().getAssetId(),
             assignment.getMember().getMemberId(), "RETURN", request.getRemarks(), updId);
+
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
+        memberAssignmentDetailService.evict(assignment.getMember().getMemberId());
     }
 
     @Transactional
@@ -189,6 +193,9 @@ public class AssetAssignmentService {
         // 이력 - 신규 사용자 배정
         saveHistory(asset.getAssetId(), newMember.getMemberId(),
             "ASSIGN", "이관: " + request.getRemarks(), updId);
+
+        memberAssignmentDetailService.evict(currentAssignment.getMember().getMemberId());
+        memberAssignmentDetailService.evict(newMember.getMemberId());
     }
 
     private void saveHistory(Long assetId, Long memberId, String actionType,
@@ -201,66 +208,6 @@ public class AssetAssignmentService {
             .build();
         history.setRegId(regId);
         assetHistoryRepository.save(history);
-    }
-
-    private boolean tryAcquireLock(String lockKey) {
-        for (int i = 0; i < MAX_RETRY; i++) {
-            if (redisLockUtil.tryLock(lockKey, Duration.ofSeconds(30))) {
-                return true;
-            }
-            try {
-                Thread.sleep(RETRY_INTERVAL_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
-        }
-        return false;
-    }
-
-    private MemberAssignmentDetailResponse buildMemberDetail(
-            Member member,
-            List<AssetAssignment> assetAssignments,
-            List<LicenseAssignment> licenseAssignments) {
-
-        MemberAssignmentDetailResponse.UserInfo userInfo =
-            MemberAssignmentDetailResponse.UserInfo.builder()
-                .memberId(member.getMemberId())
-                .memberName(member.getMemberName())
-                .loginId(member.getLoginId())
-                .deptId(member.getDeptId())
-                .hireDate(member.getHireDate())
-                .resignDate(member.getResignDate())
-                .build();
-
-        List<MemberAssignmentDetailResponse.AssetAssignmentItem> assetItems =
-            assetAssignments.stream()
-                .map(a -> MemberAssignmentDetailResponse.AssetAssignmentItem.builder()
-                    .assignmentId(a.getAssignmentId())
-                    .categoryName(a.getAsset().getCategory().getCategoryName())
-                    .assetName(a.getAsset().getAssetName())
-                    .manufacturer(a.getAsset().getManufacturer())
-                    .modelName(a.getAsset().getModelName())
-                    .assignedDate(a.getAssignedDate())
-                    .build())
-                .toList();
-
-        List<MemberAssignmentDetailResponse.LicenseAssignmentItem> licenseItems =
-            licenseAssignments.stream()
-                .map(la -> MemberAssignmentDetailResponse.LicenseAssignmentItem.builder()
-                    .assignmentId(la.getAssignmentId())
-                    .softwareName(la.getLicense().getSoftware().getSoftwareName())
-                    .licenseVersion(la.getLicense().getLicenseVersion())
-                    .licenseType(la.getLicense().getLicenseType())
-                    .assignedDate(la.getAssignedDate())
-                    .assignmentReason(la.getAssignmentReason())
-                    .build())
-                .toList();
-
-        return MemberAssignmentDetailResponse.builder()
-            .userInfo(userInfo)
-            .assetAssignments(assetItems)
-            .licenseAssignments(licenseItems)
-            .build();
+        domainEventOutbox.publish(DomainEvent.of(history));
     }
 }
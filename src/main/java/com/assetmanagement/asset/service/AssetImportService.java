@@ -0,0 +1,253 @@
+package com.assetmanagement.asset.service;
+
+import com.assetmanagement.asset.dto.AssetImportResponse;
+import com.assetmanagement.asset.entity.AssetCategory;
+import com.assetmanagement.asset.repository.AssetCategoryRepository;
+import com.assetmanagement.asset.repository.AssetJdbcRepository;
+import com.assetmanagement.asset.repository.AssetJdbcRepository.AssetRow;
+import com.assetmanagement.asset.repository.AssetRepository;
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
+import com.assetmanagement.global.exception.BusinessException;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.CsvReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 자산 일괄 등록 (CSV)
+ *
+ * 파일을 한 행씩 읽어 CHUNK_SIZE 단위로 처리하며, 청크마다 별도 트랜잭션으로 커밋한다.
+ * - 카테고리: 시작 시 category_code → category_id 맵을 한 번 조회
+ * - 시리얼번호 중복: 청크당 IN 쿼리 1회 (이전 청크는 이미 커밋되어 조회 대상에 포함됨)
+ * - INSERT: 시퀀스 ID 선할당 후 JDBC 배치
+ *
+ * 청크 단위 커밋이므로 트랜잭션을 클래스 레벨에 선언하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_ERRORS = 1000;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("category_code", "asset_name");
+
+    private final AssetRepository assetRepository;
+    private final AssetCategoryRepository assetCategoryRepository;
+    private final AssetJdbcRepository assetJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TwoTierCache twoTierCache;
+
+    private record ParsedRow(long rowNumber, AssetRow row) {
+    }
+
+    public AssetImportResponse importCsv(InputStream inputStream, Long regId) {
+        Map<String, Long> categoryIds = assetCategoryRepository
+            .findByIsDeletedFalseAndIsActiveTrueOrderByCategoryOrder().stream()
+            .collect(Collectors.toMap(AssetCategory::getCategoryCode, AssetCategory::getCategoryId));
+
+        ImportResult result = new ImportResult();
+
+        try (CsvReader reader = new CsvReader(
+                new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))) {
+
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new BusinessException(ErrorCode.COMMON_002, "빈 파일입니다.");
+            }
+            Map<String, Integer> columns = indexColumns(header);
+
+            List<ParsedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            long rowNumber = 1;
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                rowNumber++;
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;   // 빈 줄
+                }
+                result.totalRows++;
+
+                try {
+                    chunk.add(new ParsedRow(rowNumber, parseRow(record, columns, categoryIds)));
+                } catch (IllegalArgumentException e) {
+                    result.addError(rowNumber, value(record, columns, "serial_number"), e.getMessage());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(chunk, regId, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, regId, result);
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.COMMON_002, "파일을 읽을 수 없습니다.");
+        }
+
+        if (result.successCount > 0) {
+            twoTierCache.evict(CacheType.ASSET_SUMMARY);
+        }
+
+        return AssetImportResponse.builder()
+            .totalRows(result.totalRows)
+            .successCount(result.successCount)
+            .failureCount(result.totalRows - result.successCount)
+            .errors(result.errors)
+            .errorsTruncated(result.errorsTruncated)
+            .build();
+    }
+
+    private void processChunk(List<ParsedRow> chunk, Long regId, ImportResult result) {
+        List<ParsedRow> duplicates = new ArrayList<>();
+        try {
+            Integer inserted = transactionTemplate.execute(status -> {
+                Set<String> serials = chunk.stream()
+                    .map(p -> p.row().serialNumber())
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+                Set<String> existing = serials.isEmpty() ? Set.of()
+                    : new HashSet<>(assetRepository.findExistingSerialNumbers(serials));
+
+                List<AssetRow> rows = new ArrayList<>(chunk.size());
+                Set<String> seen = new HashSet<>();
+                for (ParsedRow parsed : chunk) {
+                    String serial = parsed.row().serialNumber();
+                    if (serial != null && (existing.contains(serial) || !seen.add(serial))) {
+                        duplicates.add(parsed);
+                        continue;
+                    }
+                    rows.add(parsed.row());
+                }
+
+                if (!rows.isEmpty()) {
+                    assetJdbcRepository.insertAssets(assetJdbcRepository.nextAssetIds(rows.size()), rows, regId);
+                }
+                return rows.size();
+            });
+            result.successCount += inserted != null ? inserted : 0;
+            for (ParsedRow parsed : duplicates) {
+                result.addError(parsed.rowNumber(), parsed.row().serialNumber(), ErrorCode.ASSET_004.getMessage());
+            }
+        } catch (RuntimeException e) {
+            // 청크 전체 롤백 (동시 등록으로 인한 UNIQUE 위반 등)
+            log.warn("Asset import chunk failed: rows {}-{}", chunk.get(0).rowNumber(),
+                chunk.get(chunk.size() - 1).rowNumber(), e);
+            for (ParsedRow parsed : chunk) {
+                result.addError(parsed.rowNumber(), parsed.row().serialNumber(), "청크 저장 실패로 등록되지 않았습니다.");
+            }
+        }
+    }
+
+    private Map<String, Integer> indexColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new BusinessException(ErrorCode.COMMON_002, "필수 컬럼이 없습니다: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private AssetRow parseRow(List<String> record, Map<String, Integer> columns, Map<String, Long> categoryIds) {
+        String categoryCode = value(record, columns, "category_code");
+        if (categoryCode == null) {
+            throw new IllegalArgumentException("자산 유형(category_code)은 필수입니다");
+        }
+        Long categoryId = categoryIds.get(categoryCode);
+        if (categoryId == null) {
+            throw new IllegalArgumentException("존재하지 않는 자산 유형입니다: " + categoryCode);
+        }
+
+        String assetName = value(record, columns, "asset_name");
+        if (assetName == null) {
+            throw new IllegalArgumentException("자산명은 필수입니다");
+        }
+
+        return new AssetRow(
+            categoryId,
+            maxLength(assetName, 100, "자산명"),
+            maxLength(value(record, columns, "manufacturer"), 100, "제조사"),
+            maxLength(value(record, columns, "model_name"), 100, "모델명"),
+            maxLength(value(record, columns, "serial_number"), 100, "시리얼번호"),
+            parseDate(value(record, columns, "purchase_date"), "구매일"),
+            parseDecimal(value(record, columns, "purchase_price"), "구매가격"),
+            parseDate(value(record, columns, "warranty_start_date"), "보증 시작일"),
+            parseDate(value(record, columns, "warranty_end_date"), "보증 종료일"),
+            maxLength(value(record, columns, "memory"), 50, "메모리"),
+            maxLength(value(record, columns, "storage"), 50, "저장장치"),
+            value(record, columns, "remarks")
+        );
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return StringUtils.hasText(value) ? value : null;
+    }
+
+    private static String maxLength(String value, int max, String label) {
+        if (value != null && value.length() > max) {
+            throw new IllegalArgumentException(label + "은(는) " + max + "자 이하여야 합니다");
+        }
+        return value;
+    }
+
+    private static LocalDate parseDate(String value, String label) {
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(label + " 형식이 올바르지 않습니다 (yyyy-MM-dd): " + value);
+        }
+    }
+
+    private static BigDecimal parseDecimal(String value, String label) {
+        try {
+            return value != null ? new BigDecimal(value.replace(",", "")) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + " 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static class ImportResult {
+
+        private int totalRows;
+        private int successCount;
+        private final List<AssetImportResponse.RowError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+
+        private void addError(long rowNumber, String serialNumber, String message) {
+            if (errors.size() >= MAX_ERRORS) {
+                errorsTruncated = true;
+                return;
+            }
+            errors.add(AssetImportResponse.RowError.builder()
+                .rowNumber(rowNumber)
+                .serialNumber(serialNumber)
+                .message(message)
+                .build());
+        }
+    }
+}
@@ -3,19 +3,33 @@ package com.assetmanagement.asset.service;
 import com.assetmanagement.asset.dto.*;
 import com.assetmanagement.asset.entity.Asset;
 import com.assetmanagement.asset.entity.AssetCategory;
+import com.assetmanagement.asset.entity.AssetHistory;
 import com.assetmanagement.asset.repository.AssetCategoryRepository;
 import com.assetmanagement.asset.repository.AssetHistoryRepository;
 import com.assetmanagement.asset.repository.AssetRepository;
 import com.assetmanagement.asset.repository.AssetSpecification;
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.dto.HistoryCursorRequest;
+import com.assetmanagement.global.dto.SearchHit;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.CursorPagination;
+import com.assetmanagement.global.util.SearchKeyword;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -25,12 +39,41 @@ public class AssetService {
     private final AssetRepository assetRepository;
     private final AssetCategoryRepository assetCategoryRepository;
     private final AssetHistoryRepository assetHistoryRepository;
+    private final TwoTierCache twoTierCache;
+    private final ObjectMapper objectMapper;
+
+    private static final Pattern SPEC_KEY_PATTERN = Pattern.compile("^[A-Za-z0-9_]{1,50}$");
 
     public Page<AssetResponse> getAssets(AssetSearchCondition condition, Pageable pageable) {
+        validateSpecCondition(condition);
         return assetRepository.findAll(AssetSpecification.search(condition), pageable)
             .map(AssetResponse::from);
     }
 
+    public CursorPage<AssetResponse> getAssetsByCursor(AssetSearchCondition condition, CursorRequest request) {
+        validateSpecCondition(condition);
+        return CursorPagination.fetch(assetRepository, AssetSpecification.search(condition),
+            "assetId", Asset::getAssetId, request, AssetResponse::from, "category");
+    }
+
+    /**
+     * 키워드 순위 검색 (pg_trgm 유사도 점수 순)
+     */
+    public List<AssetResponse> searchAssets(String keyword, Integer limit) {
+        if (!StringUtils.hasText(keyword)) {
+            throw new BusinessException(ErrorCode.COMMON_002);
+        }
+        List<SearchHit> hits = assetRepository.searchRanked(
+            SearchKeyword.normalize(keyword), SearchKeyword.containsPattern(keyword), SearchKeyword.limit(limit));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Asset> assets = assetRepository.findAllById(SearchKeyword.ids(hits));
+        return SearchKeyword.sortByHits(hits, assets, Asset::getAssetId).stream()
+            .map(AssetResponse::from)
+            .toList();
+    }
+
     public AssetResponse getAsset(Long assetId) {
         Asset asset = findAssetOrThrow(assetId);
         return AssetResponse.from(asset);
@@ -66,6 +109,7 @@ public class AssetService {
         asset.setRegId(regId);
         asset.setUpdId(regId);
 
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
         return AssetResponse.from(assetRepository.save(asset));
     }
 
@@ -103,6 +147,7 @@ public class AssetService {
             .build();
 
         updated.setUpdId(updId);
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
         return AssetResponse.from(assetRepository.save(updated));
     }
 
@@ -116,14 +161,20 @@ public class AssetService {
         }
 
         asset.softDelete(updId);
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
     }
 
-    public List<AssetHistoryResponse> getAssetHistory(Long assetId) {
+    /**
+     * 자산 배정 이력 (기간 + 커서, 최신순). 전체 이력은 /exports/asset-histories?assetId= 로 내보낸다.
+     */
+    public CursorPage<AssetHistoryResponse> getAssetHistory(Long assetId, HistoryCursorRequest request) {
         findAssetOrThrow(assetId);
-        return assetHistoryRepository.findByAssetIdOrderByActionDateDesc(assetId)
-            .stream()
-            .map(AssetHistoryResponse::from)
-            .toList();
+        request.validatePeriod();
+        CursorPagination.Key before = request.before();
+        List<AssetHistory> rows = assetHistoryRepository.findSliceByAssetId(assetId,
+            request.fromOrMin(), request.toOrMax(), before.time(), before.id(), request.limit());
+        return CursorPagination.toPage(rows, request.getSize(),
+            AssetHistory::getActionDate, AssetHistory::getHistoryId, AssetHistoryResponse::from);
     }
 
     public List<AssetCategoryResponse> getCategories() {
@@ -151,6 +202,7 @@ public class AssetService {
         category.setRegId(regId);
         category.setUpdId(regId);
 
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
         return AssetCategoryResponse.from(assetCategoryRepository.save(category));
     }
 
@@ -173,6 +225,7 @@ public class AssetService {
             .build();
 
         updated.setUpdId(updId);
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
         return AssetCategoryResponse.from(assetCategoryRepository.save(updated));
     }
 
@@ -186,10 +239,12 @@ public class AssetService {
         }
 
         category.softDelete(updId);
+        twoTierCache.evict(CacheType.ASSET_SUMMARY);
     }
 
     public List<AssetSummaryResponse> getAssetSummary() {
-        return assetRepository.getAssetSummary();
+        return twoTierCache.get(CacheType.ASSET_SUMMARY, new TypeReference<List<AssetSummaryResponse>>() {},
+            assetRepository::getAssetSummary);
     }
 
     private AssetCategory findCategoryOrThrow(Long categoryId) {
@@ -197,6 +252,31 @@ public class AssetService {
             .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
     }
 
+    // specs 조건 검증: 포함 조건은 JSON 객체, 키는 영문/숫자/밑줄만 허용
+    private void validateSpecCondition(AssetSearchCondition condition) {
+        if (StringUtils.hasText(condition.getSpecContains())) {
+            try {
+                if (!objectMapper.readTree(condition.getSpecContains()).isObject()) {
+                    throw new BusinessException(ErrorCode.ASSET_005);
+                }
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(ErrorCode.ASSET_005);
+            }
+        }
+        if (condition.getSpecKeys() != null
+                && !condition.getSpecKeys().stream().allMatch(this::isValidSpecKey)) {
+            throw new BusinessException(ErrorCode.ASSET_005);
+        }
+        if (StringUtils.hasText(condition.getSpecRangeKey())
+                && !isValidSpecKey(condition.getSpecRangeKey())) {
+            throw new BusinessException(ErrorCode.ASSET_005);
+        }
+    }
+
+    private boolean isValidSpecKey(String key) {
+        return key != null && SPEC_KEY_PATTERN.matcher(key).matches();
+    }
+
     private Asset findAssetOrThrow(Long assetId) {
         return assetRepository.findByAssetIdAndIsDeletedFalse(assetId)
             .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
@@ -6,13 +6,12 @@ import com.assetmanagement.auth.dto.MeResponse;
 import com.assetmanagement.auth.dto.TokenRefreshRequest;
 import com.assetmanagement.auth.service.AuthService;
 import com.assetmanagement.global.dto.ApiResponse;
-import io.jsonwebtoken.Claims;
-import com.assetmanagement.global.security.JwtTokenProvider;
+import com.assetmanagement.global.security.MemberPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "인증", description = "로그인/로그아웃/토큰 갱신 API")
@@ -22,7 +21,6 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     @Operation(summary = "로그인")
     @PostMapping("/login")
@@ -32,13 +30,8 @@ public class AuthController {
 
     @Operation(summary = "로그아웃")
     @PostMapping("/logout")
-    public ApiResponse<Void> logout(HttpServletRequest request) {
-        String token = jwtTokenProvider.resolveToken(request);
-        if (token != null) {
-            Claims claims = jwtTokenProvider.parseClaims(token);
-            Long memberId = claims.get("memberId", Long.class);
-            authService.logout(memberId);
-        }
+    public ApiResponse<Void> logout(@AuthenticationPrincipal MemberPrincipal principal) {
+        authService.logout(principal.getMemberId());
         return ApiResponse.ok(null, "로그아웃되었습니다.");
     }
 
@@ -50,10 +43,8 @@ public class AuthController {
 
     @Operation(summary = "내 정보 조회")
     @GetMapping("/me")
-    public ApiResponse<MeResponse> getMe(HttpServletRequest request) {
-        String token = jwtTokenProvider.resolveToken(request);
-        Claims claims = jwtTokenProvider.parseClaims(token);
-        Long memberId = claims.get("memberId", Long.class);
-        return ApiResponse.ok(authService.getMe(memberId));
+    public ApiResponse<MeResponse> getMe(@AuthenticationPrincipal MemberPrincipal principal) {
+        // 필터에서 검증된 principal 사용 (토큰 재파싱 없음)
+        return ApiResponse.ok(authService.getMe(principal.getMemberId()));
     }
 }
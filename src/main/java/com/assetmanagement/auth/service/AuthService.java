@@ -7,6 +7,9 @@ import com.assetmanagement.auth.dto.TokenRefreshRequest;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
 import com.assetmanagement.global.security.JwtTokenProvider;
+import com.assetmanagement.global.security.MemberAuthStateCache;
+import com.assetmanagement.global.security.RefreshTokenStore;
+import com.assetmanagement.global.security.VerifiedToken;
 import com.assetmanagement.member.entity.Member;
 import com.assetmanagement.member.entity.MemberRole;
 import com.assetmanagement.member.repository.MemberRepository;
@@ -15,15 +18,11 @@ import com.assetmanagement.role.entity.Role;
 import com.assetmanagement.role.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,15 +33,14 @@ public class AuthService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberAuthStateCache memberAuthStateCache;
 
     @Value("${jwt.access-token-validity}")
     private long accessTokenValidity;
 
-    @Value("${jwt.refresh-token-validity}")
-    private long refreshTokenValidity;
-
-    @Transactional
+    // 실패 횟수 증가/계정 잠금은 예외를 던진 뒤에도 커밋되어야 함
+    @Transactional(noRollbackFor = BusinessException.class)
     public LoginResponse login(LoginRequest request) {
         Member member = memberRepository.findByLoginIdAndIsDeletedFalse(request.getLoginId())
             .orElseThrow(() -> new BusinessException(ErrorCode.AUTH_001));
@@ -55,6 +53,9 @@ public class AuthService {
         // 비밀번호 검증
         if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
             member.incrementLoginFailCount();
+            if (member.getIsLocked()) {
+                memberAuthStateCache.evict(member.getMemberId());
+            }
             throw new BusinessException(ErrorCode.AUTH_001);
         }
 
@@ -70,8 +71,7 @@ public class AuthService {
         String refreshToken = jwtTokenProvider.createRefreshToken(member.getLoginId());
 
         // Refresh Token을 Redis에 저장
-        String redisKey = "refresh:member:" + member.getMemberId() + ":" + refreshToken.substring(refreshToken.length() - 8);
-        redisTemplate.opsForValue().set(redisKey, refreshToken, Duration.ofMillis(refreshTokenValidity));
+        refreshTokenStore.save(member.getMemberId(), refreshToken);
 
         return LoginResponse.builder()
             .accessToken(accessToken)
@@ -82,10 +82,7 @@ public class AuthService {
 
     public void logout(Long memberId) {
         // Redis에서 해당 사용자의 모든 refresh token 삭제
-        Set<String> keys = redisTemplate.keys("refresh:member:" + memberId + ":*");
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-        }
+        refreshTokenStore.revokeAll(memberId);
     }
 
     @Transactional(readOnly = true)
@@ -93,14 +90,20 @@ public class AuthService {
         String refreshToken = request.getRefreshToken();
 
         // Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(refreshToken);
+        if (!verifiedToken.isValid()) {
             throw new BusinessException(ErrorCode.AUTH_002);
         }
 
-        String loginId = jwtTokenProvider.parseClaims(refreshToken).getSubject();
+        String loginId = verifiedToken.claims().getSubject();
         Member member = memberRepository.findByLoginIdAndIsDeletedFalse(loginId)
             .orElseThrow(() -> new BusinessException(ErrorCode.AUTH_001));
 
+        // 로그아웃/퇴사로 폐기된 토큰인지 확인
+        if (!refreshTokenStore.exists(member.getMemberId(), refreshToken)) {
+            throw new BusinessException(ErrorCode.AUTH_002);
+        }
+
         String roles = getRoleCodesString(member.getMemberId());
 
         // 새 Access Token 발급
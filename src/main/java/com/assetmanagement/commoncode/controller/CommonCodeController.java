@@ -5,6 +5,9 @@ import com.assetmanagement.commoncode.dto.CommonCodeRequest;
 import com.assetmanagement.commoncode.dto.CommonCodeResponse;
 import com.assetmanagement.commoncode.service.CommonCodeService;
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -36,6 +39,7 @@ public class CommonCodeController {
 
     @Operation(summary = "공통 코드 등록")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.COMMON_CODE, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<CommonCodeResponse> createCode(@Valid @RequestBody CommonCodeRequest request) {
         Long regId = 1L;
@@ -44,6 +48,7 @@ public class CommonCodeController {
 
     @Operation(summary = "공통 코드 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.COMMON_CODE, value = MenuPermission.UPDATE)
     public ApiResponse<CommonCodeResponse> updateCode(
             @PathVariable Long id,
             @Valid @RequestBody CommonCodeRequest request) {
@@ -53,6 +58,7 @@ public class CommonCodeController {
 
     @Operation(summary = "공통 코드 삭제")
     @DeleteMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.COMMON_CODE, value = MenuPermission.DELETE)
     public ApiResponse<Void> deleteCode(@PathVariable Long id) {
         Long updId = 1L;
         commonCodeService.deleteCode(id, updId);
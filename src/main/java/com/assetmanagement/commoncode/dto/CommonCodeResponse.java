@@ -3,9 +3,11 @@ package com.assetmanagement.commoncode.dto;
 import com.assetmanagement.commoncode.entity.CommonCode;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class CommonCodeResponse {
 
     private Long codeId;
@@ -5,8 +5,11 @@ import com.assetmanagement.commoncode.dto.CommonCodeRequest;
 import com.assetmanagement.commoncode.dto.CommonCodeResponse;
 import com.assetmanagement.commoncode.entity.CommonCode;
 import com.assetmanagement.commoncode.repository.CommonCodeRepository;
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,7 @@ import java.util.List;
 public class CommonCodeService {
 
     private final CommonCodeRepository commonCodeRepository;
+    private final TwoTierCache twoTierCache;
 
     public List<CodeGroupResponse> getCodeGroups() {
         List<String> groupCodes = commonCodeRepository.findDistinctGroupCodes();
@@ -30,11 +34,12 @@ public class CommonCodeService {
     }
 
     public List<CommonCodeResponse> getCodesByGroup(String groupCode) {
-        return commonCodeRepository
-            .findByGroupCodeAndIsDeletedFalseAndIsActiveTrueOrderByCodeOrderAsc(groupCode)
-            .stream()
-            .map(CommonCodeResponse::from)
-            .toList();
+        return twoTierCache.get(CacheType.COMMON_CODE, groupCode, new TypeReference<List<CommonCodeResponse>>() {},
+            () -> commonCodeRepository
+                .findByGroupCodeAndIsDeletedFalseAndIsActiveTrueOrderByCodeOrderAsc(groupCode)
+                .stream()
+                .map(CommonCodeResponse::from)
+                .toList());
     }
 
     @Transactional
@@ -56,6 +61,7 @@ public class CommonCodeService {
         code.setRegId(regId);
         code.setUpdId(regId);
 
+        twoTierCache.evict(CacheType.COMMON_CODE, request.getGroupCode());
         return CommonCodeResponse.from(commonCodeRepository.save(code));
     }
 
@@ -74,6 +80,7 @@ public class CommonCodeService {
             .build();
 
         updated.setUpdId(updId);
+        twoTierCache.evict(CacheType.COMMON_CODE, existing.getGroupCode());
         return CommonCodeResponse.from(commonCodeRepository.save(updated));
     }
 
@@ -82,6 +89,7 @@ public class CommonCodeService {
         CommonCode code = findCodeOrThrow(codeId);
         // 정책 1.4: 코드 삭제 불가, is_active = false로 비활성화만 가능
         code.deactivate(updId);
+        twoTierCache.evict(CacheType.COMMON_CODE, code.getGroupCode());
     }
 
     private CommonCode findCodeOrThrow(Long codeId) {
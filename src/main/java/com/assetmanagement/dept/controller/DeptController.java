@@ -1,10 +1,15 @@
 package com.assetmanagement.dept.controller;
 
 import com.assetmanagement.dept.dto.DeptMoveRequest;
+import com.assetmanagement.dept.dto.DeptReorgRequest;
 import com.assetmanagement.dept.dto.DeptRequest;
 import com.assetmanagement.dept.dto.DeptResponse;
+import com.assetmanagement.dept.dto.DeptRollupReport;
 import com.assetmanagement.dept.service.DeptService;
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -28,14 +33,23 @@ public class DeptController {
         return ApiResponse.ok(deptService.getDeptTree());
     }
 
+    @Operation(summary = "부서 롤업 리포트 (자산/라이센스 좌석/구매가 하위 트리 합계)")
+    @GetMapping("/report")
+    @RequiresMenuPermission(menu = MenuCode.DEPT, value = MenuPermission.READ)
+    public ApiResponse<DeptRollupReport> getRollupReport(@RequestParam(required = false) Long rootDeptId) {
+        return ApiResponse.ok(deptService.getRollupReport(rootDeptId));
+    }
+
     @Operation(summary = "부서 상세 조회")
     @GetMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.DEPT, value = MenuPermission.READ)
     public ApiResponse<DeptResponse> getDept(@PathVariable Long id) {
         return ApiResponse.ok(deptService.getDept(id));
     }
 
     @Operation(summary = "부서 등록")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.DEPT, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<DeptResponse> createDept(@Valid @RequestBody DeptRequest request) {
         Long regId = 1L;
@@ -44,6 +58,7 @@ public class DeptController {
 
     @Operation(summary = "부서 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.DEPT, value = MenuPermission.UPDATE)
     public ApiResponse<DeptResponse> updateDept(
             @PathVariable Long id,
             @Valid @RequestBody DeptRequest request) {
@@ -53,6 +68,7 @@ public class DeptController {
 
     @Operation(summary = "부서 삭제 (비활성화)")
     @DeleteMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.DEPT, value = MenuPermission.DELETE)
     public ApiResponse<Void> deleteDept(@PathVariable Long id) {
         Long updId = 1L;
         deptService.deleteDept(id, updId);
@@ -61,10 +77,19 @@ public class DeptController {
 
     @Operation(summary = "부서 이동 (트리 구조 변경)")
     @PutMapping("/{id}/move")
+    @RequiresMenuPermission(menu = MenuCode.DEPT, value = MenuPermission.UPDATE)
     public ApiResponse<DeptResponse> moveDept(
             @PathVariable Long id,
             @Valid @RequestBody DeptMoveRequest request) {
         Long updId = 1L;
         return ApiResponse.ok(deptService.moveDept(id, request, updId));
     }
+
+    @Operation(summary = "조직개편 일괄 이동 (단일 트랜잭션, 전체 성공 또는 전체 롤백)")
+    @PostMapping("/reorg")
+    @RequiresMenuPermission(menu = MenuCode.DEPT, value = MenuPermission.UPDATE)
+    public ApiResponse<List<DeptResponse>> reorgDepts(@Valid @RequestBody DeptReorgRequest request) {
+        Long updId = 1L;
+        return ApiResponse.ok(deptService.reorgDepts(request, updId));
+    }
 }
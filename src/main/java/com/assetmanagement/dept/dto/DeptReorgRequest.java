@@ -0,0 +1,31 @@
+package com.assetmanagement.dept.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class DeptReorgRequest {
+
+    @NotEmpty(message = "이동 대상은 1건 이상이어야 합니다")
+    @Size(max = 500, message = "일괄 이동은 최대 500건까지 가능합니다")
+    @Valid
+    private List<Move> moves;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Move {
+
+        @NotNull(message = "이동할 부서 ID는 필수입니다")
+        private Long deptId;
+
+        @NotNull(message = "이동할 상위 부서 ID는 필수입니다")
+        private Long newParentDeptId;
+    }
+}
@@ -3,12 +3,14 @@ package com.assetmanagement.dept.dto;
 import com.assetmanagement.dept.entity.Dept;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class DeptResponse {
 
     private Long deptId;
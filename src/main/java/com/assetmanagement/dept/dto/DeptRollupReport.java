@@ -0,0 +1,20 @@
+package com.assetmanagement.dept.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 부서 롤업 리포트 (snapshotAt 시점에 집계한 트리)
+ */
+@Getter
+@Builder
+@Jacksonized
+public class DeptRollupReport {
+
+    private LocalDateTime snapshotAt;
+    private List<DeptRollupResponse> depts;
+}
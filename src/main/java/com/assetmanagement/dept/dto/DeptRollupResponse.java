@@ -0,0 +1,67 @@
+package com.assetmanagement.dept.dto;
+
+import com.assetmanagement.dept.repository.DeptReportJdbcRepository.Metric;
+import com.assetmanagement.dept.repository.DeptReportJdbcRepository.RollupRow;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부서 롤업 현황 (own: 직속 소속 기준, total: 하위 부서 포함 합계)
+ */
+@Getter
+@Builder
+@Jacksonized
+public class DeptRollupResponse {
+
+    private Long deptId;
+    private Long parentDeptId;
+    private String deptName;
+    private String deptCode;
+    private Integer deptDepth;
+    private String deptPath;
+    private Stat own;
+    private Stat total;
+    @Builder.Default
+    private List<DeptRollupResponse> children = new ArrayList<>();
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class Stat {
+
+        private long memberCount;
+        private long assetCount;
+        private BigDecimal assetPurchaseAmount;   // 배정 중인 자산 구매가 합계
+        private long licenseSeatCount;
+        private BigDecimal licenseSeatAmount;     // 배정 좌석 단가(구매가 / 총 수량) 합계
+
+        static Stat from(Metric metric) {
+            return Stat.builder()
+                .memberCount(metric.memberCount())
+                .assetCount(metric.assetCount())
+                .assetPurchaseAmount(metric.assetAmount())
+                .licenseSeatCount(metric.seatCount())
+                .licenseSeatAmount(metric.seatAmount())
+                .build();
+        }
+    }
+
+    public static DeptRollupResponse from(RollupRow row) {
+        return DeptRollupResponse.builder()
+            .deptId(row.deptId())
+            .parentDeptId(row.parentDeptId())
+            .deptName(row.deptName())
+            .deptCode(row.deptCode())
+            .deptDepth(row.deptDepth())
+            .deptPath(row.deptPath())
+            .own(Stat.from(row.own()))
+            .total(Stat.from(row.total()))
+            .children(new ArrayList<>())
+            .build();
+    }
+}
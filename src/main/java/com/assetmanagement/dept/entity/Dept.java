@@ -44,15 +44,4 @@ public class Dept extends BaseEntity {
     public void updatePath(String deptPath) {
         this.deptPath = deptPath;
     }
-
-    public void updateDepthAndPath(int depth, String path) {
-        this.deptDepth = depth;
-        this.deptPath = path;
-    }
-
-    public void move(Long newParentDeptId, int newDepth, String newPath) {
-        this.parentDeptId = newParentDeptId;
-        this.deptDepth = newDepth;
-        this.deptPath = newPath;
-    }
 }
@@ -0,0 +1,134 @@
+package com.assetmanagement.dept.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 부서 롤업 현황 조회 전용 (읽기 모델)
+ *
+ * 부서별 직속 집계(소속 인원, 배정 자산, 라이센스 좌석)를 구한 뒤 dept_path의 상위 부서 ID로 펼쳐
+ * 하위 트리 합계를 문장 1회로 계산한다. 부서당 상위 부서는 최대 6개(depth 0~5)이므로
+ * 펼친 행 수는 부서 수 x 6 이하이며, 부서 간 LIKE 조인(부서 수 제곱 비교)을 하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeptReportJdbcRepository {
+
+    private static final String ROLLUP_SQL = """
+        WITH member_stat AS (
+            SELECT dept_id, COUNT(*) AS member_count
+            FROM member
+            WHERE is_deleted = false
+                AND employment_status <> 'RESIGNED'
+                AND dept_id IS NOT NULL
+            GROUP BY dept_id
+        ),
+        asset_stat AS (
+            SELECT m.dept_id, COUNT(*) AS asset_count, COALESCE(SUM(a.purchase_price), 0) AS asset_amount
+            FROM asset_assignment aa
+            JOIN asset a
+                ON a.asset_id = aa.asset_id
+            JOIN member m
+                ON m.member_id = aa.member_id
+            WHERE aa.assignment_status = 'ASSIGNED'
+                AND aa.is_deleted = false
+                AND m.dept_id IS NOT NULL
+            GROUP BY m.dept_id
+        ),
+        seat_stat AS (
+            SELECT m.dept_id, COUNT(*) AS seat_count,
+                COALESCE(SUM(l.purchase_price / NULLIF(l.total_qty, 0)), 0) AS seat_amount
+            FROM license_assignment la
+            JOIN license l
+                ON l.license_id = la.license_id
+            JOIN member m
+                ON m.member_id = la.member_id
+            WHERE la.assignment_status = 'ASSIGNED'
+                AND la.is_deleted = false
+                AND m.dept_id IS NOT NULL
+            GROUP BY m.dept_id
+        ),
+        own AS (
+            SELECT d.dept_id, d.dept_path,
+                COALESCE(ms.member_count, 0) AS member_count,
+                COALESCE(ast.asset_count, 0) AS asset_count,
+                COALESCE(ast.asset_amount, 0) AS asset_amount,
+                COALESCE(ss.seat_count, 0) AS seat_count,
+                COALESCE(ss.seat_amount, 0) AS seat_amount
+            FROM dept d
+            LEFT JOIN member_stat ms
+                ON ms.dept_id = d.dept_id
+            LEFT JOIN asset_stat ast
+                ON ast.dept_id = d.dept_id
+            LEFT JOIN seat_stat ss
+                ON ss.dept_id = d.dept_id
+            WHERE d.is_deleted = false
+        ),
+        subtree AS (
+            SELECT anc.dept_id::bigint AS dept_id,
+                SUM(o.member_count) AS member_count,
+                SUM(o.asset_count) AS asset_count,
+                SUM(o.asset_amount) AS asset_amount,
+                SUM(o.seat_count) AS seat_count,
+                SUM(o.seat_amount) AS seat_amount
+            FROM own o
+            CROSS JOIN LATERAL unnest(string_to_array(btrim(o.dept_path, '/'), '/')) AS anc(dept_id)
+            GROUP BY anc.dept_id
+        )
+        SELECT d.dept_id, d.parent_dept_id, d.dept_name, d.dept_code, d.dept_depth, d.dept_path,
+            o.member_count, o.asset_count, o.asset_amount, o.seat_count, o.seat_amount,
+            COALESCE(s.member_count, 0) AS total_member_count,
+            COALESCE(s.asset_count, 0) AS total_asset_count,
+            COALESCE(s.asset_amount, 0) AS total_asset_amount,
+            COALESCE(s.seat_count, 0) AS total_seat_count,
+            COALESCE(s.seat_amount, 0) AS total_seat_amount
+        FROM dept d
+        JOIN own o
+            ON o.dept_id = d.dept_id
+        LEFT JOIN subtree s
+            ON s.dept_id = d.dept_id
+        ORDER BY d.dept_depth, d.dept_order, d.dept_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Metric(long memberCount, long assetCount, BigDecimal assetAmount,
+                         long seatCount, BigDecimal seatAmount) {
+    }
+
+    public record RollupRow(Long deptId, Long parentDeptId, String deptName, String deptCode,
+                            int deptDepth, String deptPath, Metric own, Metric total) {
+    }
+
+    /**
+     * 삭제되지 않은 전체 부서의 직속/하위 트리 합계 (depth, dept_order 순)
+     */
+    public List<RollupRow> findRollup() {
+        return jdbcTemplate.query(ROLLUP_SQL, (rs, rowNum) -> new RollupRow(
+            rs.getLong("dept_id"),
+            rs.getObject("parent_dept_id", Long.class),
+            rs.getString("dept_name"),
+            rs.getString("dept_code"),
+            rs.getInt("dept_depth"),
+            rs.getString("dept_path"),
+            new Metric(
+                rs.getLong("member_count"),
+                rs.getLong("asset_count"),
+                rs.getBigDecimal("asset_amount"),
+                rs.getLong("seat_count"),
+                rs.getBigDecimal("seat_amount")
+            ),
+            new Metric(
+                rs.getLong("total_member_count"),
+                rs.getLong("total_asset_count"),
+                rs.getBigDecimal("total_asset_amount"),
+                rs.getLong("total_seat_count"),
+                rs.getBigDecimal("total_seat_amount")
+            )
+        ));
+    }
+}
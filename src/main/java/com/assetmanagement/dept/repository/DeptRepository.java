@@ -2,6 +2,9 @@ package com.assetmanagement.dept.repository;
 
 import com.assetmanagement.dept.entity.Dept;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,5 +17,35 @@ public interface DeptRepository extends JpaRepository<Dept, Long> {
 
     boolean existsByParentDeptIdAndIsDeletedFalse(Long parentDeptId);
 
-    List<Dept> findByDeptPathStartingWithAndIsDeletedFalse(String pathPrefix);
+    // 하위 트리(자신 포함)의 최대 깊이. 이동 후 깊이 제한(chk_dept_depth) 검증용
+    @Query(value = """
+        SELECT MAX(dept_depth)
+        FROM dept
+        WHERE dept_path LIKE :pathPrefix || '%'
+            AND is_deleted = false
+        """, nativeQuery = true)
+    Integer findMaxDepthInSubtree(@Param("pathPrefix") String pathPrefix);
+
+    /*
+     * 하위 트리 이동 (문장 1회). 경로는 접두어(oldPath) 길이만큼 잘라 newPath를 붙이므로
+     * 같은 문자열이 경로 중간에 다시 나타나도 치환되지 않는다.
+     * 벌크 UPDATE 이후 영속성 컨텍스트를 비워 이동 전 경로가 남지 않게 한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        UPDATE dept
+        SET parent_dept_id = CASE WHEN dept_id = :deptId THEN :newParentDeptId ELSE parent_dept_id END,
+            dept_path = :newPath || substr(dept_path, length(:oldPath) + 1),
+            dept_depth = dept_depth + :depthDiff,
+            upd_id = :updId,
+            upd_date = CURRENT_TIMESTAMP
+        WHERE dept_path LIKE :oldPath || '%'
+            AND is_deleted = false
+        """, nativeQuery = true)
+    int moveSubtree(@Param("deptId") Long deptId,
+                    @Param("newParentDeptId") Long newParentDeptId,
+                    @Param("oldPath") String oldPath,
+                    @Param("newPath") String newPath,
+                    @Param("depthDiff") int depthDiff,
+                    @Param("updId") Long updId);
 }
@@ -1,17 +1,28 @@
 package com.assetmanagement.dept.service;
 
 import com.assetmanagement.dept.dto.DeptMoveRequest;
+import com.assetmanagement.dept.dto.DeptReorgRequest;
 import com.assetmanagement.dept.dto.DeptRequest;
 import com.assetmanagement.dept.dto.DeptResponse;
+import com.assetmanagement.dept.dto.DeptRollupReport;
+import com.assetmanagement.dept.dto.DeptRollupResponse;
 import com.assetmanagement.dept.entity.Dept;
+import com.assetmanagement.dept.repository.DeptReportJdbcRepository;
 import com.assetmanagement.dept.repository.DeptRepository;
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.RedisLockUtil;
+import com.assetmanagement.global.util.RedisLockUtil.RedisLock;
 import com.assetmanagement.member.repository.MemberRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -22,10 +33,22 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class DeptService {
 
+    private static final String REORG_LOCK_KEY = "dept:reorg:lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final int MAX_RETRY = 3;
+    private static final long RETRY_INTERVAL_MS = 100;
+
     private final DeptRepository deptRepository;
+    private final DeptReportJdbcRepository deptReportJdbcRepository;
     private final MemberRepository memberRepository;
+    private final TwoTierCache twoTierCache;
+    private final RedisLockUtil redisLockUtil;
 
     public List<DeptResponse> getDeptTree() {
+        return twoTierCache.get(CacheType.DEPT_TREE, new TypeReference<List<DeptResponse>>() {}, this::buildDeptTree);
+    }
+
+    private List<DeptResponse> buildDeptTree() {
         List<Dept> allDepts = deptRepository.findByIsDeletedFalseOrderByDeptOrderAsc();
 
         Map<Long, DeptResponse> map = new LinkedHashMap<>();
@@ -47,6 +70,63 @@ public class DeptService {
         return roots;
     }
 
+    /**
+     * 부서 롤업 리포트 (소속 인원, 배정 자산 수/구매가, 라이센스 좌석 수/금액의 직속·하위 트리 합계)
+     *
+     * 전체 트리를 문장 1회로 집계하여 스냅샷 단위로 캐시하며(TTL 5분), 배정 변경은 TTL 이내에 반영된다.
+     * 부서 구조 변경 시에는 즉시 무효화한다. rootDeptId 지정 시 스냅샷에서 해당 부서의 하위 트리만 반환한다.
+     */
+    public DeptRollupReport getRollupReport(Long rootDeptId) {
+        DeptRollupReport report = twoTierCache.get(CacheType.DEPT_REPORT, new TypeReference<DeptRollupReport>() {},
+            this::buildRollupReport);
+        if (rootDeptId == null) {
+            return report;
+        }
+        DeptRollupResponse root = findNode(report.getDepts(), rootDeptId);
+        if (root == null) {
+            throw new BusinessException(ErrorCode.COMMON_003);
+        }
+        return DeptRollupReport.builder()
+            .snapshotAt(report.getSnapshotAt())
+            .depts(List.of(root))
+            .build();
+    }
+
+    private DeptRollupReport buildRollupReport() {
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        Map<Long, DeptRollupResponse> map = new LinkedHashMap<>();
+        for (DeptReportJdbcRepository.RollupRow row : deptReportJdbcRepository.findRollup()) {
+            map.put(row.deptId(), DeptRollupResponse.from(row));
+        }
+
+        List<DeptRollupResponse> roots = new ArrayList<>();
+        for (DeptRollupResponse response : map.values()) {
+            DeptRollupResponse parent = response.getParentDeptId() != null ? map.get(response.getParentDeptId()) : null;
+            if (parent != null) {
+                parent.getChildren().add(response);
+            } else if (response.getParentDeptId() == null) {
+                roots.add(response);
+            }
+        }
+        return DeptRollupReport.builder()
+            .snapshotAt(snapshotAt)
+            .depts(roots)
+            .build();
+    }
+
+    private DeptRollupResponse findNode(List<DeptRollupResponse> nodes, Long deptId) {
+        for (DeptRollupResponse node : nodes) {
+            if (node.getDeptId().equals(deptId)) {
+                return node;
+            }
+            DeptRollupResponse found = findNode(node.getChildren(), deptId);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
     public DeptResponse getDept(Long deptId) {
         return DeptResponse.from(findDeptOrThrow(deptId));
     }
@@ -85,6 +165,7 @@ public class DeptService {
             saved.updatePath("/" + saved.getDeptId() + "/");
         }
 
+        evictDeptCaches();
         return DeptResponse.from(saved);
     }
 
@@ -104,6 +185,7 @@ public class DeptService {
             .build();
 
         updated.setUpdId(updId);
+        evictDeptCaches();
         return DeptResponse.from(deptRepository.save(updated));
     }
 
@@ -122,35 +204,74 @@ public class DeptService {
         }
 
         dept.softDelete(updId);
+        evictDeptCaches();
     }
 
     @Transactional
     public DeptResponse moveDept(Long deptId, DeptMoveRequest request, Long updId) {
-        Dept dept = findDeptOrThrow(deptId);
-        Dept newParent = findDeptOrThrow(request.getNewParentDeptId());
+        lockReorg();
+        moveSubtree(deptId, request.getNewParentDeptId(), updId);
+        evictDeptCaches();
+        return DeptResponse.from(findDeptOrThrow(deptId));
+    }
 
-        int newDepth = newParent.getDeptDepth() + 1;
-        if (newDepth > 5) {
-            throw new BusinessException(ErrorCode.DEPT_003);
+    /**
+     * 조직개편 일괄 이동: 요청 순서대로 이동하며, 1건이라도 실패하면 전체 롤백한다.
+     * 각 이동은 앞선 이동이 반영된 트리를 기준으로 검증한다.
+     */
+    @Transactional
+    public List<DeptResponse> reorgDepts(DeptReorgRequest request, Long updId) {
+        lockReorg();
+        for (DeptReorgRequest.Move move : request.getMoves()) {
+            moveSubtree(move.getDeptId(), move.getNewParentDeptId(), updId);
         }
+        evictDeptCaches();
+        return request.getMoves().stream()
+            .map(move -> DeptResponse.from(findDeptOrThrow(move.getDeptId())))
+            .toList();
+    }
 
-        String oldPath = dept.getDeptPath();
-        String newPath = newParent.getDeptPath() + dept.getDeptId() + "/";
+    /*
+     * 트리 구조 변경은 노드 간 순서에 의존하므로(순환/깊이 검증) 전역 락으로 직렬화한다.
+     * 커밋(또는 롤백) 이후 해제하여 다음 이동이 커밋 전 경로를 읽지 않도록 한다.
+     */
+    private void lockReorg() {
+        RedisLock lock = redisLockUtil.tryLock(REORG_LOCK_KEY, LOCK_TTL, MAX_RETRY, RETRY_INTERVAL_MS);
+        if (lock == null) {
+            throw new BusinessException(ErrorCode.COMMON_001);
+        }
+        redisLockUtil.unlockAfterCompletion(lock);
+    }
 
-        dept.move(request.getNewParentDeptId(), newDepth, newPath);
-        dept.setUpdId(updId);
+    /*
+     * 하위 트리 이동: 검증 후 경로/깊이를 UPDATE 1회로 일괄 변경한다.
+     * 깊이 제한은 이동 대상이 아닌 하위 트리의 가장 깊은 부서 기준으로 검증한다.
+     */
+    private void moveSubtree(Long deptId, Long newParentDeptId, Long updId) {
+        Dept dept = findDeptOrThrow(deptId);
+        Dept newParent = findDeptOrThrow(newParentDeptId);
 
-        // 하위 부서의 depth, path 자동 재계산
-        List<Dept> children = deptRepository.findByDeptPathStartingWithAndIsDeletedFalse(oldPath);
-        for (Dept child : children) {
-            if (child.getDeptId().equals(deptId)) continue;
-            String childNewPath = child.getDeptPath().replace(oldPath, newPath);
-            int depthDiff = newDepth - dept.getDeptDepth();
-            child.updateDepthAndPath(child.getDeptDepth() + depthDiff, childNewPath);
-            child.setUpdId(updId);
+        String oldPath = dept.getDeptPath();
+        if (newParent.getDeptPath().startsWith(oldPath)) {
+            throw new BusinessException(ErrorCode.DEPT_004, ErrorCode.DEPT_004.getMessage() + " (deptId=" + deptId + ")");
+        }
+        if (newParentDeptId.equals(dept.getParentDeptId())) {
+            return;
         }
 
-        return DeptResponse.from(dept);
+        int depthDiff = newParent.getDeptDepth() + 1 - dept.getDeptDepth();
+        int maxDepth = deptRepository.findMaxDepthInSubtree(oldPath);
+        if (maxDepth + depthDiff > 5) {
+            throw new BusinessException(ErrorCode.DEPT_003, ErrorCode.DEPT_003.getMessage() + " (deptId=" + deptId + ")");
+        }
+
+        String newPath = newParent.getDeptPath() + deptId + "/";
+        deptRepository.moveSubtree(deptId, newParentDeptId, oldPath, newPath, depthDiff, updId);
+    }
+
+    private void evictDeptCaches() {
+        twoTierCache.evict(CacheType.DEPT_TREE);
+        twoTierCache.evict(CacheType.DEPT_REPORT);
     }
 
     private Dept findDeptOrThrow(Long deptId) {
@@ -0,0 +1,57 @@
+package com.assetmanagement.event.dto;
+
+import com.assetmanagement.asset.entity.AssetHistory;
+import com.assetmanagement.license.entity.LicenseHistory;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 도메인 이벤트 (outbox 적재 단위)
+ *
+ * payload 키는 문장 단위 SQL에서 적재하는 jsonb_build_object(...)와 동일하게 유지한다.
+ */
+public record DomainEvent(DomainEventType type, Long aggregateId, Map<String, Object> payload) {
+
+    public static DomainEvent of(AssetHistory history) {
+        return asset(history.getActionType(), history.getAssetId(), history.getMemberId(),
+            history.getRemarks(), history.getRegId());
+    }
+
+    public static DomainEvent of(LicenseHistory history) {
+        return license(history.getActionType(), history.getLicenseId(), history.getKeyId(),
+            history.getMemberId(), history.getAssignmentReason(), history.getRemarks(), history.getRegId());
+    }
+
+    public static DomainEvent asset(String actionType, Long assetId, Long memberId, String remarks, Long actorId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("assetId", assetId);
+        payload.put("memberId", memberId);
+        payload.put("actionType", actionType);
+        payload.put("remarks", remarks);
+        payload.put("actorId", actorId);
+        return new DomainEvent(DomainEventType.ofAssetAction(actionType), assetId, payload);
+    }
+
+    public static DomainEvent license(String actionType, Long licenseId, Long keyId, Long memberId,
+                                      String assignmentReason, String remarks, Long actorId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("licenseId", licenseId);
+        payload.put("keyId", keyId);
+        payload.put("memberId", memberId);
+        payload.put("actionType", actionType);
+        payload.put("assignmentReason", assignmentReason);
+        payload.put("remarks", remarks);
+        payload.put("actorId", actorId);
+        return new DomainEvent(DomainEventType.ofLicenseAction(actionType), licenseId, payload);
+    }
+
+    public static DomainEvent memberResigned(Long memberId, LocalDate resignDate, Long actorId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("memberId", memberId);
+        payload.put("resignDate", resignDate.toString());
+        payload.put("actorId", actorId);
+        return new DomainEvent(DomainEventType.MEMBER_RESIGNED, memberId, payload);
+    }
+}
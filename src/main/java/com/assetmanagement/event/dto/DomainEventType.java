@@ -0,0 +1,46 @@
+package com.assetmanagement.event.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트 유형 (aggregateType: 이벤트 대상 ID의 종류)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DomainEventType {
+
+    ASSET_ASSIGNED("ASSET"),
+    ASSET_RETURNED("ASSET"),
+    ASSET_TRANSFERRED("ASSET"),
+    LICENSE_ASSIGNED("LICENSE"),
+    LICENSE_RETURNED("LICENSE"),
+    LICENSE_EXPIRED("LICENSE"),
+    MEMBER_RESIGNED("MEMBER");
+
+    private final String aggregateType;
+
+    /**
+     * asset_history.action_type → 이벤트 유형
+     */
+    public static DomainEventType ofAssetAction(String actionType) {
+        return switch (actionType) {
+            case "ASSIGN" -> ASSET_ASSIGNED;
+            case "RETURN" -> ASSET_RETURNED;
+            case "TRANSFER" -> ASSET_TRANSFERRED;
+            default -> throw new IllegalArgumentException("지원하지 않는 자산 이력 유형: " + actionType);
+        };
+    }
+
+    /**
+     * license_history.action_type → 이벤트 유형
+     */
+    public static DomainEventType ofLicenseAction(String actionType) {
+        return switch (actionType) {
+            case "ASSIGN" -> LICENSE_ASSIGNED;
+            case "RETURN" -> LICENSE_RETURNED;
+            case "EXPIRE" -> LICENSE_EXPIRED;
+            default -> throw new IllegalArgumentException("지원하지 않는 라이센스 이력 유형: " + actionType);
+        };
+    }
+}
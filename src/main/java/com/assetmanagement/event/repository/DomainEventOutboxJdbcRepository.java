@@ -0,0 +1,67 @@
+package com.assetmanagement.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 도메인 이벤트 outbox (domain_event_outbox)
+ *
+ * 적재는 업무 트랜잭션 안에서 INSERT 하고, 릴레이가 event_id 순서로 읽어 발행한 뒤 삭제한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DomainEventOutboxJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record EventRow(String eventType, String aggregateType, Long aggregateId, String payload) {
+    }
+
+    public record OutboxEvent(long eventId, String eventType, String aggregateType, long aggregateId,
+                              String payload, LocalDateTime regDate) {
+    }
+
+    public void insertAll(List<EventRow> rows) {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO domain_event_outbox (event_type, aggregate_type, aggregate_id, payload)
+            VALUES (?, ?, ?, ?::jsonb)
+            """, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.eventType());
+                ps.setString(2, row.aggregateType());
+                ps.setLong(3, row.aggregateId());
+                ps.setString(4, row.payload());
+            });
+    }
+
+    /**
+     * 발행 대기 이벤트를 event_id 순서로 최대 limit건 조회
+     */
+    public List<OutboxEvent> findBatch(int limit) {
+        return jdbcTemplate.query("""
+            SELECT event_id, event_type, aggregate_type, aggregate_id, payload::text AS payload, reg_date
+            FROM domain_event_outbox
+            ORDER BY event_id
+            LIMIT ?
+            """, (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("event_id"),
+                rs.getString("event_type"),
+                rs.getString("aggregate_type"),
+                rs.getLong("aggregate_id"),
+                rs.getString("payload"),
+                rs.getTimestamp("reg_date").toLocalDateTime()
+            ), limit);
+    }
+
+    public void deleteAll(List<Long> eventIds) {
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("DELETE FROM domain_event_outbox WHERE event_id = ANY(?)");
+            ps.setArray(1, con.createArrayOf("bigint", eventIds.toArray()));
+            return ps;
+        });
+    }
+}
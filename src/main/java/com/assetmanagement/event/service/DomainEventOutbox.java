@@ -0,0 +1,47 @@
+package com.assetmanagement.event.service;
+
+import com.assetmanagement.event.dto.DomainEvent;
+import com.assetmanagement.event.repository.DomainEventOutboxJdbcRepository;
+import com.assetmanagement.event.repository.DomainEventOutboxJdbcRepository.EventRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 적재 (transactional outbox)
+ *
+ * 업무 트랜잭션 안에서 이력 기록과 함께 호출하여 이벤트가 업무 데이터와 같이 커밋/롤백되도록 한다.
+ * 발행은 DomainEventRelay가 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+
+    private final DomainEventOutboxJdbcRepository domainEventOutboxJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    public void publishAll(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        domainEventOutboxJdbcRepository.insertAll(events.stream()
+            .map(event -> new EventRow(event.type().name(), event.type().getAggregateType(),
+                event.aggregateId(), toJson(event)))
+            .toList());
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.payload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도메인 이벤트 직렬화 실패: " + event.type(), e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.assetmanagement.event.service;
+
+import com.assetmanagement.event.repository.DomainEventOutboxJdbcRepository;
+import com.assetmanagement.event.repository.DomainEventOutboxJdbcRepository.OutboxEvent;
+import com.assetmanagement.global.util.RedisLockUtil;
+import com.assetmanagement.global.util.RedisLockUtil.RedisLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도메인 이벤트 릴레이 (domain_event_outbox → Redis Stream)
+ *
+ * Redis 락(event:relay:lock)을 획득한 1개 노드만 event_id 순서로 batch-size건씩 XADD(파이프라인) 후 outbox에서 삭제한다.
+ * XADD 이후 삭제 전에 장애가 나면 다음 주기에 다시 발행하므로 전달 보장은 at-least-once이며,
+ * 소비자는 eventId로 중복을 제거해야 한다.
+ * 스트림 길이는 max-length 근사치로 유지하며, 설정된 소비자 그룹은 기동 시 스트림 처음(0)부터 읽도록 생성한다.
+ */
+@Slf4j
+@Component
+public class DomainEventRelay {
+
+    private static final String LOCK_KEY = "event:relay:lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final DomainEventOutboxJdbcRepository domainEventOutboxJdbcRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLockUtil redisLockUtil;
+    private final MeterRegistry meterRegistry;
+    private final byte[] streamKey;
+    private final long maxLength;
+    private final int batchSize;
+    private final List<String> consumerGroups;
+
+    public DomainEventRelay(
+            DomainEventOutboxJdbcRepository domainEventOutboxJdbcRepository,
+            StringRedisTemplate redisTemplate,
+            RedisLockUtil redisLockUtil,
+            MeterRegistry meterRegistry,
+            @Value("${event.stream.key:event:stream:domain}") String streamKey,
+            @Value("${event.stream.max-length:1000000}") long maxLength,
+            @Value("${event.stream.consumer-groups:}") List<String> consumerGroups,
+            @Value("${event.relay.batch-size:500}") int batchSize) {
+        this.domainEventOutboxJdbcRepository = domainEventOutboxJdbcRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisLockUtil = redisLockUtil;
+        this.meterRegistry = meterRegistry;
+        this.streamKey = streamKey.getBytes(StandardCharsets.UTF_8);
+        this.maxLength = maxLength;
+        this.batchSize = batchSize;
+        this.consumerGroups = consumerGroups.stream().map(String::trim).filter(group -> !group.isEmpty()).toList();
+    }
+
+    /**
+     * 소비자 그룹 생성 (이미 있으면 무시). 그룹 생성 전 발행분도 읽을 수 있도록 0부터 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createConsumerGroups() {
+        for (String group : consumerGroups) {
+            try {
+                redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(streamKey, group, ReadOffset.from("0-0"), true));
+                log.info("[event] 소비자 그룹 생성: {}", group);
+            } catch (DataAccessException e) {
+                if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${event.relay.poll-interval-ms:1000}")
+    public void relay() {
+        RedisLock lock = redisLockUtil.tryLock(LOCK_KEY, LOCK_TTL);
+        if (lock == null) {
+            return;
+        }
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                List<OutboxEvent> events = domainEventOutboxJdbcRepository.findBatch(batchSize);
+                if (events.isEmpty()) {
+                    break;
+                }
+                publish(events);
+                domainEventOutboxJdbcRepository.deleteAll(events.stream().map(OutboxEvent::eventId).toList());
+                meterRegistry.counter("app.event.relay").increment(events.size());
+                if (events.size() < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            redisLockUtil.unlock(lock);
+        }
+    }
+
+    private void publish(List<OutboxEvent> events) {
+        XAddOptions options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxEvent event : events) {
+                connection.streamCommands().xAdd(
+                    StreamRecords.newRecord().in(streamKey).ofBytes(toFields(event)), options);
+            }
+            return null;
+        });
+    }
+
+    private static Map<byte[], byte[]> toFields(OutboxEvent event) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(bytes("eventId"), bytes(String.valueOf(event.eventId())));
+        fields.put(bytes("eventType"), bytes(event.eventType()));
+        fields.put(bytes("aggregateType"), bytes(event.aggregateType()));
+        fields.put(bytes("aggregateId"), bytes(String.valueOf(event.aggregateId())));
+        fields.put(bytes("occurredAt"), bytes(event.regDate().toString()));
+        fields.put(bytes("payload"), bytes(event.payload()));
+        return fields;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
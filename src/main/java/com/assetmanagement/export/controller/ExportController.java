@@ -0,0 +1,98 @@
+package com.assetmanagement.export.controller;
+
+import com.assetmanagement.export.dto.ExportFormat;
+import com.assetmanagement.export.service.ExportService;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@Tag(name = "데이터 내보내기", description = "자산/라이센스/이력 스트리밍 내보내기 API")
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    @Operation(summary = "자산 내보내기 (CSV/NDJSON)")
+    @GetMapping("/assets")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.READ)
+    public void exportAssets(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        Writer writer = open(response, "assets", format);
+        exportService.exportAssets(format, writer);
+    }
+
+    @Operation(summary = "라이센스 내보내기 (CSV/NDJSON)")
+    @GetMapping("/licenses")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.READ)
+    public void exportLicenses(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        Writer writer = open(response, "licenses", format);
+        exportService.exportLicenses(format, writer);
+    }
+
+    @Operation(summary = "자산 이력 내보내기 (CSV/NDJSON, 기간/자산 지정)")
+    @GetMapping("/asset-histories")
+    @RequiresMenuPermission(menu = MenuCode.ASSET_LIST, value = MenuPermission.READ)
+    public void exportAssetHistories(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response) throws IOException {
+        exportService.validatePeriod(from, to);
+        Writer writer = open(response, "asset-histories", format);
+        exportService.exportAssetHistories(format, assetId, from, to, writer);
+    }
+
+    @Operation(summary = "라이센스 이력 내보내기 (CSV/NDJSON, 기간/라이센스/사용자 지정)")
+    @GetMapping("/license-histories")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.READ)
+    public void exportLicenseHistories(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) Long licenseId,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response) throws IOException {
+        exportService.validatePeriod(from, to);
+        exportService.validateLicenseHistoryTarget(licenseId, memberId);
+        Writer writer = open(response, "license-histories", format);
+        exportService.exportLicenseHistories(format, licenseId, memberId, from, to, writer);
+    }
+
+    // 응답 헤더 설정 후 출력 스트림을 연다 (이후에는 에러 응답 본문을 쓸 수 없음)
+    private Writer open(HttpServletResponse response, String name, ExportFormat format) throws IOException {
+        String fileName = name + "_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+            + "." + format.getExtension();
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        return new BufferedWriter(
+            new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.assetmanagement.export.service;
+
+import java.util.function.Function;
+
+/**
+ * 내보내기 컬럼 정의 (CSV 헤더명 / NDJSON 필드명 + 값 추출)
+ */
+public record ExportColumn<T>(String name, Function<T, Object> extractor) {
+
+    public static <T> ExportColumn<T> of(String name, Function<T, Object> extractor) {
+        return new ExportColumn<>(name, extractor);
+    }
+}
@@ -0,0 +1,185 @@
+package com.assetmanagement.export.service;
+
+import com.assetmanagement.asset.entity.Asset;
+import com.assetmanagement.asset.entity.AssetHistory;
+import com.assetmanagement.asset.repository.AssetHistoryRepository;
+import com.assetmanagement.asset.repository.AssetRepository;
+import com.assetmanagement.export.dto.ExportFormat;
+import com.assetmanagement.global.exception.BusinessException;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.CursorPagination;
+import com.assetmanagement.license.entity.License;
+import com.assetmanagement.license.entity.LicenseHistory;
+import com.assetmanagement.license.repository.LicenseHistoryRepository;
+import com.assetmanagement.license.repository.LicenseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 자산/라이센스/이력 스트리밍 내보내기
+ *
+ * 결과 전체를 List로 적재하지 않고 DB 커서(fetch size 1000)로 읽은 행을 즉시 Writer로 출력한다.
+ * 출력한 엔티티는 바로 detach 하여 영속성 컨텍스트가 커지지 않게 한다.
+ * 이력은 대상(자산/라이센스/사용자)을 지정하면 해당 대상의 이력만 발생 순으로 출력한다 (감사용 전체 이력).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final List<ExportColumn<Asset>> ASSET_COLUMNS = List.of(
+        ExportColumn.of("assetId", Asset::getAssetId),
+        ExportColumn.of("categoryCode", a -> a.getCategory().getCategoryCode()),
+        ExportColumn.of("categoryName", a -> a.getCategory().getCategoryName()),
+        ExportColumn.of("assetName", Asset::getAssetName),
+        ExportColumn.of("manufacturer", Asset::getManufacturer),
+        ExportColumn.of("modelName", Asset::getModelName),
+        ExportColumn.of("serialNumber", Asset::getSerialNumber),
+        ExportColumn.of("purchaseDate", Asset::getPurchaseDate),
+        ExportColumn.of("purchasePrice", Asset::getPurchasePrice),
+        ExportColumn.of("warrantyStartDate", Asset::getWarrantyStartDate),
+        ExportColumn.of("warrantyEndDate", Asset::getWarrantyEndDate),
+        ExportColumn.of("assetStatus", Asset::getAssetStatus),
+        ExportColumn.of("memory", Asset::getMemory),
+        ExportColumn.of("storage", Asset::getStorage),
+        ExportColumn.of("specs", Asset::getSpecs),
+        ExportColumn.of("remarks", Asset::getRemarks),
+        ExportColumn.of("regDate", Asset::getRegDate)
+    );
+
+    private static final List<ExportColumn<License>> LICENSE_COLUMNS = List.of(
+        ExportColumn.of("licenseId", License::getLicenseId),
+        ExportColumn.of("softwareName", l -> l.getSoftware().getSoftwareName()),
+        ExportColumn.of("publisher", l -> l.getSoftware().getPublisher()),
+        ExportColumn.of("licenseType", License::getLicenseType),
+        ExportColumn.of("licenseVersion", License::getLicenseVersion),
+        ExportColumn.of("totalQty", License::getTotalQty),
+        ExportColumn.of("usedQty", License::getUsedQty),
+        ExportColumn.of("purchaseDate", License::getPurchaseDate),
+        ExportColumn.of("expiryDate", License::getExpiryDate),
+        ExportColumn.of("purchasePrice", License::getPurchasePrice),
+        ExportColumn.of("isActive", License::getIsActive),
+        ExportColumn.of("remarks", License::getRemarks),
+        ExportColumn.of("regDate", License::getRegDate)
+    );
+
+    private static final List<ExportColumn<AssetHistory>> ASSET_HISTORY_COLUMNS = List.of(
+        ExportColumn.of("historyId", AssetHistory::getHistoryId),
+        ExportColumn.of("assetId", AssetHistory::getAssetId),
+        ExportColumn.of("memberId", AssetHistory::getMemberId),
+        ExportColumn.of("actionType", AssetHistory::getActionType),
+        ExportColumn.of("actionDate", AssetHistory::getActionDate),
+        ExportColumn.of("remarks", AssetHistory::getRemarks)
+    );
+
+    private static final List<ExportColumn<LicenseHistory>> LICENSE_HISTORY_COLUMNS = List.of(
+        ExportColumn.of("historyId", LicenseHistory::getHistoryId),
+        ExportColumn.of("licenseId", LicenseHistory::getLicenseId),
+        ExportColumn.of("keyId", LicenseHistory::getKeyId),
+        ExportColumn.of("memberId", LicenseHistory::getMemberId),
+        ExportColumn.of("actionType", LicenseHistory::getActionType),
+        ExportColumn.of("actionDate", LicenseHistory::getActionDate),
+        ExportColumn.of("assignmentReason", LicenseHistory::getAssignmentReason),
+        ExportColumn.of("remarks", LicenseHistory::getRemarks)
+    );
+
+    private final AssetRepository assetRepository;
+    private final LicenseRepository licenseRepository;
+    private final AssetHistoryRepository assetHistoryRepository;
+    private final LicenseHistoryRepository licenseHistoryRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public void exportAssets(ExportFormat format, Writer writer) throws IOException {
+        try (Stream<Asset> stream = assetRepository.streamAllForExport()) {
+            write(format, writer, ASSET_COLUMNS, stream);
+        }
+    }
+
+    public void exportLicenses(ExportFormat format, Writer writer) throws IOException {
+        try (Stream<License> stream = licenseRepository.streamAllForExport()) {
+            write(format, writer, LICENSE_COLUMNS, stream);
+        }
+    }
+
+    public void exportAssetHistories(ExportFormat format, Long assetId, LocalDateTime from, LocalDateTime to,
+                                     Writer writer) throws IOException {
+        LocalDateTime fromDate = CursorPagination.fromOrMin(from);
+        LocalDateTime toDate = CursorPagination.toOrMax(to);
+        try (Stream<AssetHistory> stream = assetId != null
+                ? assetHistoryRepository.streamByAssetIdForExport(assetId, fromDate, toDate)
+                : assetHistoryRepository.streamForExport(fromDate, toDate)) {
+            write(format, writer, ASSET_HISTORY_COLUMNS, stream);
+        }
+    }
+
+    public void exportLicenseHistories(ExportFormat format, Long licenseId, Long memberId,
+                                       LocalDateTime from, LocalDateTime to, Writer writer) throws IOException {
+        try (Stream<LicenseHistory> stream = streamLicenseHistories(licenseId, memberId,
+                CursorPagination.fromOrMin(from), CursorPagination.toOrMax(to))) {
+            write(format, writer, LICENSE_HISTORY_COLUMNS, stream);
+        }
+    }
+
+    /**
+     * 조회 기간 검증. 응답 스트림을 열기 전에 호출해야 에러 응답을 정상적으로 반환할 수 있다.
+     */
+    public void validatePeriod(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessException(ErrorCode.COMMON_004);
+        }
+    }
+
+    /**
+     * 라이센스 이력 대상 검증 (licenseId와 memberId는 함께 지정할 수 없음)
+     */
+    public void validateLicenseHistoryTarget(Long licenseId, Long memberId) {
+        if (licenseId != null && memberId != null) {
+            throw new BusinessException(ErrorCode.COMMON_002, "licenseId, memberId 중 하나만 지정할 수 있습니다.");
+        }
+    }
+
+    // ===== private =====
+
+    private Stream<LicenseHistory> streamLicenseHistories(Long licenseId, Long memberId,
+                                                          LocalDateTime from, LocalDateTime to) {
+        if (licenseId != null) {
+            return licenseHistoryRepository.streamByLicenseIdForExport(licenseId, from, to);
+        }
+        if (memberId != null) {
+            return licenseHistoryRepository.streamByMemberIdForExport(memberId, from, to);
+        }
+        return licenseHistoryRepository.streamForExport(from, to);
+    }
+
+    private <T> void write(ExportFormat format, Writer writer, List<ExportColumn<T>> columns,
+                           Stream<T> stream) throws IOException {
+        ExportWriter<T> exportWriter = new ExportWriter<>(format, writer, columns, objectMapper);
+        exportWriter.writeHeader();
+
+        int count = 0;
+        Iterator<T> iterator = stream.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            exportWriter.writeRow(row);
+            entityManager.detach(row);
+
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,81 @@
+package com.assetmanagement.export.service;
+
+import com.assetmanagement.export.dto.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.temporal.TemporalAccessor;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 행 단위 출력기. 한 행씩 Writer로 바로 내보내며 결과를 메모리에 모으지 않는다.
+ */
+class ExportWriter<T> {
+
+    private static final char BOM = '\uFEFF';
+
+    private final ExportFormat format;
+    private final Writer writer;
+    private final List<ExportColumn<T>> columns;
+    private final ObjectMapper objectMapper;
+
+    ExportWriter(ExportFormat format, Writer writer, List<ExportColumn<T>> columns, ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = writer;
+        this.columns = columns;
+        this.objectMapper = objectMapper;
+    }
+
+    void writeHeader() throws IOException {
+        if (format != ExportFormat.CSV) {
+            return;
+        }
+        writer.write(BOM);  // Excel에서 UTF-8 한글 인식
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escapeCsv(columns.get(i).name()));
+        }
+        writer.write("\r\n");
+    }
+
+    void writeRow(T row) throws IOException {
+        if (format == ExportFormat.CSV) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) writer.write(',');
+                writer.write(escapeCsv(toCsvValue(columns.get(i).extractor().apply(row))));
+            }
+            writer.write("\r\n");
+        } else {
+            Map<String, Object> line = new LinkedHashMap<>();
+            for (ExportColumn<T> column : columns) {
+                line.put(column.name(), column.extractor().apply(row));
+            }
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.write('\n');
+        }
+    }
+
+    private String toCsvValue(Object value) throws IOException {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Map<?, ?> || value instanceof List<?>) {
+            return objectMapper.writeValueAsString(value);
+        }
+        if (value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
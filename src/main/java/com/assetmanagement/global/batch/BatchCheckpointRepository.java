@@ -0,0 +1,100 @@
+package com.assetmanagement.global.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 배치 체크포인트 (batch_checkpoint)
+ *
+ * (job_name, run_key, step_name) 단위로 마지막 처리 ID와 누적 처리 건수를 기록한다.
+ * advance()는 청크 처리와 같은 트랜잭션에서 호출하여 데이터와 체크포인트가 함께 커밋되도록 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchCheckpointRepository {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Checkpoint(String status, long lastId, long processedCount) {
+
+        public boolean isCompleted() {
+            return STATUS_COMPLETED.equals(status);
+        }
+    }
+
+    /**
+     * 체크포인트 시작. 이미 있으면 RUNNING으로 되돌리고 기존 진행 위치를 반환한다 (재시작)
+     */
+    public Checkpoint start(String jobName, String runKey, String stepName) {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO batch_checkpoint (job_name, run_key, step_name, status)
+            VALUES (?, ?, ?, 'RUNNING')
+            ON CONFLICT (job_name, run_key, step_name) DO UPDATE
+            SET status = CASE WHEN batch_checkpoint.status = 'COMPLETED' THEN 'COMPLETED' ELSE 'RUNNING' END,
+                upd_date = CURRENT_TIMESTAMP
+            RETURNING status, last_id, processed_count
+            """, (rs, rowNum) -> new Checkpoint(
+                rs.getString("status"),
+                rs.getLong("last_id"),
+                rs.getLong("processed_count")
+            ), jobName, runKey, stepName);
+    }
+
+    public void advance(String jobName, String runKey, String stepName, long lastId, long processed) {
+        jdbcTemplate.update("""
+            UPDATE batch_checkpoint
+            SET last_id = ?,
+                processed_count = processed_count + ?,
+                upd_date = CURRENT_TIMESTAMP
+            WHERE job_name = ? AND run_key = ? AND step_name = ?
+            """, lastId, processed, jobName, runKey, stepName);
+    }
+
+    public void finish(String jobName, String runKey, String stepName, String status) {
+        jdbcTemplate.update("""
+            UPDATE batch_checkpoint
+            SET status = ?,
+                upd_date = CURRENT_TIMESTAMP
+            WHERE job_name = ? AND run_key = ? AND step_name = ?
+            """, status, jobName, runKey, stepName);
+    }
+
+    public record StepTotal(long stepCount, long processedCount) {
+    }
+
+    /**
+     * 실행 내 대상별 단계("{stepKind}-{targetId}")의 단계 수와 누적 처리 건수 (재개된 실행도 전체 합계)
+     */
+    public StepTotal sumByStepKind(String jobName, String runKey, String stepKind) {
+        return jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) AS step_count, COALESCE(SUM(processed_count), 0) AS processed_count
+            FROM batch_checkpoint
+            WHERE job_name = ?
+                AND run_key = ?
+                AND step_name LIKE ?
+            """, (rs, rowNum) -> new StepTotal(
+                rs.getLong("step_count"),
+                rs.getLong("processed_count")
+            ), jobName, runKey, stepKind + "-%");
+    }
+
+    /**
+     * 완료되지 않은 실행의 run_key 목록 (기동 시 재시작 대상)
+     */
+    public List<String> findIncompleteRunKeys(String jobName) {
+        return jdbcTemplate.queryForList("""
+            SELECT DISTINCT run_key
+            FROM batch_checkpoint
+            WHERE job_name = ?
+                AND status <> 'COMPLETED'
+            ORDER BY run_key
+            """, String.class, jobName);
+    }
+}
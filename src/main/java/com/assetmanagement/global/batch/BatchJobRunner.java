@@ -0,0 +1,59 @@
+package com.assetmanagement.global.batch;
+
+import com.assetmanagement.global.util.RedisLockUtil;
+import com.assetmanagement.global.util.RedisLockUtil.RedisLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 스케줄 배치 실행기
+ *
+ * 여러 노드에서 동시에 스케줄이 동작하므로 Redis 락(batch:lock:{jobName})을 획득한 1개 노드만 실행한다.
+ * 실행 중에는 watchdog이 락 TTL을 연장하며, 노드 장애 시 TTL 경과 후 다음 주기에 다른 노드가 실행한다.
+ * 실행 시간은 app.batch.duration (태그 job, result)으로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchJobRunner {
+
+    private static final String LOCK_KEY_PREFIX = "batch:lock:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+    private final RedisLockUtil redisLockUtil;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 락 획득 시 job 실행. 다른 노드가 실행 중이면 건너뛰고 false
+     */
+    public boolean runExclusive(String jobName, Runnable job) {
+        RedisLock lock = redisLockUtil.tryLock(LOCK_KEY_PREFIX + jobName, LOCK_TTL);
+        if (lock == null) {
+            log.info("[batch] {} 다른 노드에서 실행 중이므로 건너뜀", jobName);
+            return false;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            log.info("[batch] {} 시작", jobName);
+            job.run();
+            log.info("[batch] {} 종료", jobName);
+        } catch (RuntimeException e) {
+            result = "failure";
+            log.error("[batch] {} 실패", jobName, e);
+        } finally {
+            sample.stop(Timer.builder("app.batch.duration")
+                .tag("job", jobName)
+                .tag("result", result)
+                .register(meterRegistry));
+            redisLockUtil.unlock(lock);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package com.assetmanagement.global.batch;
+
+/**
+ * 청크 1회 처리 결과
+ *
+ * @param scanned   이번 청크에서 읽은 건수 (chunkSize 미만이면 마지막 청크)
+ * @param lastId    이번 청크의 마지막 키 (다음 청크는 이 값 초과부터 조회)
+ * @param processed 실제 변경 건수
+ */
+public record ChunkResult(int scanned, long lastId, int processed) {
+}
@@ -0,0 +1,97 @@
+package com.assetmanagement.global.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BiFunction;
+
+/**
+ * 키셋 기반 청크 단계 실행기
+ *
+ * 청크마다 별도 트랜잭션으로 처리하여 행 잠금 시간을 청크 1회로 제한하고,
+ * 같은 트랜잭션에서 체크포인트를 갱신하므로 중단 후 재실행 시 마지막 커밋 지점부터 이어서 처리한다.
+ * 진행 건수(읽은 건수)는 app.batch.scanned, 처리 건수는 app.batch.items (태그 job, step)로 누적한다.
+ * 대상별 단계(라이센스별 배정/키 등)는 step 태그에 단계 종류만 쓰고 대상 ID는 체크포인트 단계명과 로그에만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkedStepExecutor {
+
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param chunk (이전 lastId, chunkSize) → 청크 처리 결과. 트랜잭션 안에서 호출된다.
+     * @return 단계 누적 처리 건수
+     */
+    public long execute(String jobName, String runKey, String stepName, int chunkSize,
+                        BiFunction<Long, Integer, ChunkResult> chunk) {
+        return execute(jobName, runKey, stepName, stepName, chunkSize, chunk);
+    }
+
+    /**
+     * 대상별 단계 실행. 체크포인트 단계명은 "{stepKind}-{targetId}", 메트릭 step 태그는 stepKind
+     */
+    public long execute(String jobName, String runKey, String stepKind, Long targetId, int chunkSize,
+                        BiFunction<Long, Integer, ChunkResult> chunk) {
+        return execute(jobName, runKey, stepKind + "-" + targetId, stepKind, chunkSize, chunk);
+    }
+
+    private long execute(String jobName, String runKey, String stepName, String stepTag, int chunkSize,
+                         BiFunction<Long, Integer, ChunkResult> chunk) {
+        BatchCheckpointRepository.Checkpoint checkpoint =
+            batchCheckpointRepository.start(jobName, runKey, stepName);
+        if (checkpoint.isCompleted()) {
+            log.info("[batch] {}:{} runKey={} 이미 완료됨", jobName, stepName, runKey);
+            return checkpoint.processedCount();
+        }
+
+        Counter scanned = Counter.builder("app.batch.scanned")
+            .tag("job", jobName)
+            .tag("step", stepTag)
+            .register(meterRegistry);
+        Counter items = Counter.builder("app.batch.items")
+            .tag("job", jobName)
+            .tag("step", stepTag)
+            .register(meterRegistry);
+
+        long lastId = checkpoint.lastId();
+        long processed = checkpoint.processedCount();
+        try {
+            while (true) {
+                long afterId = lastId;
+                ChunkResult result = transactionTemplate.execute(status -> {
+                    ChunkResult r = chunk.apply(afterId, chunkSize);
+                    if (r.scanned() > 0) {
+                        batchCheckpointRepository.advance(jobName, runKey, stepName, r.lastId(), r.processed());
+                    }
+                    return r;
+                });
+                if (result == null || result.scanned() == 0) {
+                    break;
+                }
+
+                lastId = result.lastId();
+                processed += result.processed();
+                scanned.increment(result.scanned());
+                items.increment(result.processed());
+                if (result.scanned() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            batchCheckpointRepository.finish(jobName, runKey, stepName, BatchCheckpointRepository.STATUS_FAILED);
+            throw e;
+        }
+
+        batchCheckpointRepository.finish(jobName, runKey, stepName, BatchCheckpointRepository.STATUS_COMPLETED);
+        log.info("[batch] {}:{} runKey={} 완료 processed={}", jobName, stepName, runKey, processed);
+        return processed;
+    }
+}
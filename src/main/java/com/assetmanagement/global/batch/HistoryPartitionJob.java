@@ -0,0 +1,65 @@
+package com.assetmanagement.global.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이력 테이블 월별 파티션 사전 생성 배치
+ *
+ * 현재 월부터 months-ahead 개월 뒤까지의 파티션을 미리 만들어 DEFAULT 파티션으로 행이 들어가지 않게 한다.
+ * 기동 시에도 한 번 실행하며, DEFAULT 파티션에 행이 있으면 WARN 로그를 남긴다.
+ */
+@Slf4j
+@Component
+public class HistoryPartitionJob {
+
+    private static final String JOB_NAME = "history-partition";
+    private static final List<String> TABLES = List.of("asset_history", "license_history");
+
+    private final HistoryPartitionRepository historyPartitionRepository;
+    private final BatchJobRunner batchJobRunner;
+    private final int monthsAhead;
+    private final boolean batchEnabled;
+
+    public HistoryPartitionJob(
+            HistoryPartitionRepository historyPartitionRepository,
+            BatchJobRunner batchJobRunner,
+            @Value("${batch.history-partition.months-ahead:3}") int monthsAhead,
+            @Value("${batch.enabled:true}") boolean batchEnabled) {
+        this.historyPartitionRepository = historyPartitionRepository;
+        this.batchJobRunner = batchJobRunner;
+        this.monthsAhead = monthsAhead;
+        this.batchEnabled = batchEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (batchEnabled) {
+            run();
+        }
+    }
+
+    @Scheduled(cron = "${batch.history-partition.cron:0 10 0 * * *}")
+    public void run() {
+        batchJobRunner.runExclusive(JOB_NAME, this::createPartitions);
+    }
+
+    private void createPartitions() {
+        int created = historyPartitionRepository.createPartitions(LocalDate.now(), monthsAhead);
+        if (created > 0) {
+            log.info("[batch] {} 파티션 {}개 생성 (현재 월 + {}개월)", JOB_NAME, created, monthsAhead);
+        }
+        for (String table : TABLES) {
+            if (historyPartitionRepository.hasDefaultRows(table)) {
+                log.warn("[batch] {} {}_default 파티션에 행이 있습니다. 해당 월 파티션으로 이관이 필요합니다.", JOB_NAME, table);
+            }
+        }
+    }
+}
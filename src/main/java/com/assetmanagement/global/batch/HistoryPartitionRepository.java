@@ -0,0 +1,35 @@
+package com.assetmanagement.global.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 이력 테이블(asset_history, license_history) 월별 파티션 관리
+ */
+@Repository
+@RequiredArgsConstructor
+public class HistoryPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * from이 속한 월부터 현재 월 + monthsAhead 월까지 없는 파티션 생성. 생성 수 반환
+     */
+    public int createPartitions(LocalDate from, int monthsAhead) {
+        Integer created = jdbcTemplate.queryForObject(
+            "SELECT fn_create_history_partitions(?, ?)", Integer.class, Date.valueOf(from), monthsAhead);
+        return created == null ? 0 : created;
+    }
+
+    /**
+     * DEFAULT 파티션에 들어간 행 존재 여부 (해당 월 파티션 생성이 실패하므로 수동 이관 필요)
+     */
+    public boolean hasDefaultRows(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + table + "_default)", Boolean.class));
+    }
+}
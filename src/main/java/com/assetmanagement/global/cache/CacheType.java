@@ -0,0 +1,28 @@
+package com.assetmanagement.global.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 캐시 대상 정의 (system-policy.md 섹션 8.1)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CacheType {
+
+    DEPT_TREE("dept:tree", Duration.ofMinutes(10)),
+    DEPT_REPORT("dept:report", Duration.ofMinutes(5)),
+    MENU_TREE("menu:tree", Duration.ofMinutes(30)),
+    COMMON_CODE("code", Duration.ofHours(1)),       // code:{groupCode}
+    ASSET_SUMMARY("asset:summary", Duration.ofMinutes(5)),
+    MEMBER_ASSIGNMENT("member:assignment", Duration.ofMinutes(10));  // member:assignment:{memberId}
+
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    public String key(String suffix) {
+        return suffix == null ? keyPrefix : keyPrefix + ":" + suffix;
+    }
+}
@@ -0,0 +1,260 @@
+package com.assetmanagement.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 캐시 (로컬 Caffeine + Redis)
+ *
+ * 조회 : 로컬 캐시 → Redis(JSON) → DB(loader) 순으로 조회하며, 하위 단계 결과를 상위 단계에 적재한다.
+ * 무효화 : Redis 키 삭제 후 invalidation 채널로 발행하여 모든 노드의 로컬 캐시를 제거한다.
+ *          트랜잭션 내에서 호출되면 커밋 이후에 수행한다.
+ * 노드 로컬 전용 캐시(인증 상태, 메뉴 권한)도 같은 채널로 무효화를 발행/수신한다 (subscribeLocal, publishLocal).
+ *
+ * 로컬 캐시 값은 여러 요청이 공유하므로 호출 측에서 수정하지 않는다.
+ */
+@Slf4j
+@Component
+public class TwoTierCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<CacheType, Cache<String, Object>> nearCaches = new EnumMap<>(CacheType.class);
+    private final Map<CacheType, CacheMetrics> metrics = new EnumMap<>(CacheType.class);
+    private final Map<String, Consumer<String>> localSubscribers = new ConcurrentHashMap<>();
+
+    public TwoTierCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${cache.near.maximum-size:1000}") long nearMaximumSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+
+        for (CacheType type : CacheType.values()) {
+            nearCaches.put(type, Caffeine.newBuilder()
+                .maximumSize(nearMaximumSize)
+                .expireAfterWrite(type.getTtl())
+                .build());
+            metrics.put(type, new CacheMetrics(meterRegistry, type));
+        }
+    }
+
+    public <T> T get(CacheType type, TypeReference<T> typeRef, Supplier<T> loader) {
+        return get(type, null, typeRef, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(CacheType type, String suffix, TypeReference<T> typeRef, Supplier<T> loader) {
+        String key = type.key(suffix);
+        Cache<String, Object> nearCache = nearCaches.get(type);
+        CacheMetrics metric = metrics.get(type);
+
+        Object near = nearCache.getIfPresent(key);
+        if (near != null) {
+            metric.nearHit.increment();
+            return (T) near;
+        }
+
+        T value = readRedis(key, typeRef);
+        if (value != null) {
+            metric.redisHit.increment();
+            nearCache.put(key, value);
+            return value;
+        }
+
+        metric.miss.increment();
+        value = loader.get();
+        if (value != null) {
+            writeRedis(key, value, type.getTtl());
+            nearCache.put(key, value);
+        }
+        return value;
+    }
+
+    public void evict(CacheType type) {
+        evict(type, null);
+    }
+
+    public void evict(CacheType type, String suffix) {
+        String key = type.key(suffix);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(key);
+                }
+            });
+        } else {
+            doEvict(key);
+        }
+    }
+
+    /**
+     * 여러 키 일괄 무효화 (Redis DEL 1회 + 무효화 메시지 파이프라인 발행)
+     */
+    public void evictAll(CacheType type, Collection<String> suffixes) {
+        if (suffixes.isEmpty()) {
+            return;
+        }
+        List<String> keys = suffixes.stream().map(type::key).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvictAll(keys);
+                }
+            });
+        } else {
+            doEvictAll(keys);
+        }
+    }
+
+    /**
+     * 노드 로컬 캐시 무효화 수신 등록. "{prefix}:{suffix}" 메시지를 받으면 suffix를 handler에 전달한다.
+     */
+    public void subscribeLocal(String prefix, Consumer<String> handler) {
+        localSubscribers.put(prefix, handler);
+    }
+
+    /**
+     * 노드 로컬 캐시 무효화를 모든 노드(자신 포함)에 발행. 트랜잭션 내에서 호출되면 커밋 이후에 발행한다.
+     */
+    public void publishLocal(String prefix, String suffix) {
+        String key = prefix + ":" + suffix;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doPublish(key);
+                }
+            });
+        } else {
+            doPublish(key);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        invalidateNear(key);
+        int idx = key.lastIndexOf(':');
+        Consumer<String> subscriber = idx < 0 ? null : localSubscribers.get(key.substring(0, idx));
+        if (subscriber != null) {
+            subscriber.accept(key.substring(idx + 1));
+        }
+    }
+
+    private void doPublish(String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, key);
+        } catch (Exception e) {
+            // Redis 장애 시 다른 노드는 로컬 TTL 경과 후 갱신됨
+            log.warn("Local cache invalidation publish failed: {}", key, e);
+        }
+    }
+
+    private void doEvict(String key) {
+        invalidateNear(key);
+        try {
+            redisTemplate.delete(key);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, key);
+        } catch (Exception e) {
+            // Redis 장애 시 다른 노드는 로컬 TTL 경과 후 갱신됨
+            log.warn("Cache eviction failed: {}", key, e);
+        }
+    }
+
+    private void doEvictAll(List<String> keys) {
+        keys.forEach(this::invalidateNear);
+        try {
+            redisTemplate.delete(keys);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] channel = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+                for (String key : keys) {
+                    connection.publish(channel, key.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Cache eviction failed: {} keys", keys.size(), e);
+        }
+    }
+
+    private void invalidateNear(String key) {
+        for (CacheType type : CacheType.values()) {
+            if (key.equals(type.getKeyPrefix()) || key.startsWith(type.getKeyPrefix() + ":")) {
+                nearCaches.get(type).invalidate(key);
+                return;
+            }
+        }
+    }
+
+    private <T> T readRedis(String key, TypeReference<T> typeRef) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, typeRef);
+        } catch (Exception e) {
+            // 역직렬화 실패(DTO 변경 등) 또는 Redis 장애 시 DB 조회로 대체
+            log.warn("Cache read failed: {}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, Object value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("Cache serialization failed: {}", key, e);
+        } catch (Exception e) {
+            log.warn("Cache write failed: {}", key, e);
+        }
+    }
+
+    private static class CacheMetrics {
+
+        private final Counter nearHit;
+        private final Counter redisHit;
+        private final Counter miss;
+
+        CacheMetrics(MeterRegistry registry, CacheType type) {
+            String name = type.name().toLowerCase();
+            this.nearHit = counter(registry, name, "near_hit");
+            this.redisHit = counter(registry, name, "redis_hit");
+            this.miss = counter(registry, name, "miss");
+        }
+
+        private static Counter counter(MeterRegistry registry, String cache, String result) {
+            return Counter.builder("app.cache.requests")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.assetmanagement.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Criteria/JPQL에서 사용할 PostgreSQL 전용 연산자 등록
+ * (META-INF/services/org.hibernate.boot.model.FunctionContributor 로 로딩)
+ */
+public class PostgresFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        // jsonb 포함 연산자 (@>) - GIN 인덱스 사용. 함수형 jsonb_contains()는 인덱스를 타지 않으므로 연산자로 렌더링
+        functionContributions.getFunctionRegistry().registerPattern(
+            "jsonb_containment",
+            "(?1 @> cast(?2 as jsonb))",
+            functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN)
+        );
+        // 키셋 조건 (a, b) < (x, y) - 행 값 비교여야 (a DESC, b DESC) 인덱스의 범위 조건(Index Cond)으로 사용된다.
+        // a < x OR (a = x AND b < y)로 풀어 쓰면 인덱스 앞부분부터 읽으며 필터링하므로 뒤쪽 페이지일수록 느려진다
+        functionContributions.getFunctionRegistry().registerPattern(
+            "keyset_before",
+            "((?1, ?2) < (?3, ?4))",
+            functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN)
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.assetmanagement.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 배치 활성화 (batch.enabled=false 로 노드별 비활성화 가능)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "batch.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
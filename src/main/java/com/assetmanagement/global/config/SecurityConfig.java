@@ -2,22 +2,39 @@ package com.assetmanagement.global.config;
 
 import com.assetmanagement.global.security.JwtAuthenticationFilter;
 import com.assetmanagement.global.security.JwtTokenProvider;
+import com.assetmanagement.global.security.MenuPermissionAuthorizationManager;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.function.Supplier;
+
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -47,6 +64,31 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * RequiresMenuPermission 메서드 권한 검증 인터셉터 (system-policy.md 섹션 2.3)
+     * 인프라 빈이므로 검증기는 첫 호출 시점에 조회한다.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor menuPermissionAdvisor(ObjectProvider<MenuPermissionAuthorizationManager> authorizationManager) {
+        return new AuthorizationManagerBeforeMethodInterceptor(
+            AnnotationMatchingPointcut.forMethodAnnotation(RequiresMenuPermission.class),
+            new AuthorizationManager<MethodInvocation>() {
+                @Override
+                public AuthorizationResult authorize(Supplier<Authentication> authentication,
+                                                     MethodInvocation invocation) {
+                    return authorizationManager.getObject().authorize(authentication, invocation);
+                }
+
+                @Deprecated
+                @Override
+                public AuthorizationDecision check(Supplier<Authentication> authentication,
+                                                   MethodInvocation invocation) {
+                    return (AuthorizationDecision) authorize(authentication, invocation);
+                }
+            });
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
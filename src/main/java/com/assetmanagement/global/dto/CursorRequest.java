@@ -0,0 +1,27 @@
+package com.assetmanagement.global.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 커서 페이징 요청 파라미터
+ * cursor 미지정 시 첫 페이지, withCount=true일 때만 전체 건수를 조회한다.
+ */
+@Getter
+@Setter
+public class CursorRequest {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private String cursor;
+    private Integer size;
+    private boolean withCount;
+
+    public int getSize() {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,66 @@
+package com.assetmanagement.global.dto;
+
+import com.assetmanagement.global.exception.BusinessException;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.CursorPagination;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이력 조회 요청 파라미터 (기간 + 커서)
+ * 기간은 [from, to) 이며 미지정 시 전체 기간. 정렬은 action_date DESC, history_id DESC 고정이다.
+ */
+@Getter
+@Setter
+public class HistoryCursorRequest {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private String cursor;
+    private Integer size;
+
+    public int getSize() {
+        if (size == null || size < 1) {
+            return CursorRequest.DEFAULT_SIZE;
+        }
+        return Math.min(size, CursorRequest.MAX_SIZE);
+    }
+
+    public LocalDateTime fromOrMin() {
+        return CursorPagination.fromOrMin(from);
+    }
+
+    public LocalDateTime toOrMax() {
+        return CursorPagination.toOrMax(to);
+    }
+
+    /**
+     * 키셋 조건: (action_date, history_id)가 before보다 이전인 행. 첫 페이지는 (to, 0)으로 기간 상한과 같다.
+     */
+    public CursorPagination.Key before() {
+        CursorPagination.Key key = CursorPagination.decodeKey(cursor);
+        return key != null ? key : new CursorPagination.Key(toOrMax(), 0L);
+    }
+
+    /**
+     * 1건 더 조회하여 다음 페이지 존재 여부를 판단한다
+     */
+    public Pageable limit() {
+        return PageRequest.of(0, getSize() + 1);
+    }
+
+    public void validatePeriod() {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessException(ErrorCode.COMMON_004);
+        }
+    }
+}
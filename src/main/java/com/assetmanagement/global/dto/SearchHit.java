@@ -0,0 +1,11 @@
+package com.assetmanagement.global.dto;
+
+/**
+ * 키워드 검색 결과 (ID + 유사도 점수) 네이티브 쿼리 projection
+ */
+public interface SearchHit {
+
+    Long getId();
+
+    Double getScore();
+}
@@ -23,12 +23,14 @@ public enum ErrorCode {
     DEPT_001(HttpStatus.BAD_REQUEST, "DEPT_001", "하위 부서 존재 (삭제 불가)"),
     DEPT_002(HttpStatus.BAD_REQUEST, "DEPT_002", "소속 사용자 존재 (삭제 불가)"),
     DEPT_003(HttpStatus.BAD_REQUEST, "DEPT_003", "최대 깊이 초과"),
+    DEPT_004(HttpStatus.BAD_REQUEST, "DEPT_004", "자신 또는 하위 부서로 이동 불가"),
 
     // Asset
     ASSET_001(HttpStatus.BAD_REQUEST, "ASSET_001", "잘못된 상태 전이"),
     ASSET_002(HttpStatus.CONFLICT, "ASSET_002", "이미 배정된 자산"),
     ASSET_003(HttpStatus.BAD_REQUEST, "ASSET_003", "배정 중인 자산 삭제 불가"),
     ASSET_004(HttpStatus.CONFLICT, "ASSET_004", "중복 시리얼번호"),
+    ASSET_005(HttpStatus.BAD_REQUEST, "ASSET_005", "잘못된 스펙 검색 조건"),
 
     // License
     LICENSE_001(HttpStatus.BAD_REQUEST, "LICENSE_001", "수량 초과 (잔여 수량 부족)"),
@@ -44,7 +46,9 @@ public enum ErrorCode {
     // Common
     COMMON_001(HttpStatus.CONFLICT, "COMMON_001", "분산락 획득 실패 (동시 처리 충돌)"),
     COMMON_002(HttpStatus.BAD_REQUEST, "COMMON_002", "필수 파라미터 누락"),
-    COMMON_003(HttpStatus.NOT_FOUND, "COMMON_003", "대상 데이터 없음");
+    COMMON_003(HttpStatus.NOT_FOUND, "COMMON_003", "대상 데이터 없음"),
+    COMMON_004(HttpStatus.BAD_REQUEST, "COMMON_004", "잘못된 조회 기간"),
+    COMMON_005(HttpStatus.BAD_REQUEST, "COMMON_005", "잘못된 페이지 커서");
 
     private final HttpStatus httpStatus;
     private final String code;
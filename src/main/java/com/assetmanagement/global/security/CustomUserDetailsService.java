@@ -8,7 +8,6 @@ import com.assetmanagement.role.entity.Role;
 import com.assetmanagement.role.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -39,6 +38,6 @@ public class CustomUserDetailsService implements UserDetailsService {
             .map(SimpleGrantedAuthority::new)
             .toList();
 
-        return new User(member.getLoginId(), member.getPassword(), authorities);
+        return new MemberPrincipal(member.getMemberId(), member.getLoginId(), member.getPassword(), authorities);
     }
 }
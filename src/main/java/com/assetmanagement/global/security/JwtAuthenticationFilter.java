@@ -20,9 +20,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = jwtTokenProvider.resolveToken(request); // 토큰 추출
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            VerifiedToken verifiedToken = jwtTokenProvider.verify(token);  // 요청당 서명 검증 1회
+            Authentication authentication = verifiedToken.isValid()
+                ? jwtTokenProvider.getAuthentication(verifiedToken)
+                : null;
+            // 잠금/퇴사/권한 변경된 사용자의 토큰은 인증 객체가 생성되지 않음
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -2,6 +2,8 @@ package com.assetmanagement.global.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -11,6 +13,7 @@ import org.hibernate.annotations.Comment;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
@@ -18,7 +21,11 @@ import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -33,13 +40,19 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
+    @Value("${jwt.claims-authentication:true}")
+    private boolean claimsAuthentication;
+
     private SecretKey secretKey;
+    private JwtParser jwtParser;
     private final UserDetailsService userDetailsService;
+    private final MemberAuthStateCache memberAuthStateCache;
 
-    @Comment("초기화 : application.yml에서 jwt.secret으로")
+    @Comment("초기화 : application.yml에서 jwt.secret으로. 파서는 thread-safe하므로 한 번만 생성하여 재사용")
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     @Comment("토큰 생성 : loginId(누구), memberId(DB PK, API 식별자용), roles(권한 정보) 기반이며, 1시간 유효")
@@ -70,11 +83,45 @@ public class JwtTokenProvider {
             .compact();
     }
 
-    @Comment("인증 객체 생성")
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token); // 토큰 파싱
-        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());   // DB에서 사용자 조회
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());  // 인증 객체 생성
+    @Comment("인증 객체 생성 : 검증 완료된 토큰 기준. 잠금/퇴사/권한 변경된 사용자면 null 반환")
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        Claims claims = verifiedToken.claims();
+        if (!claimsAuthentication) {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());   // DB에서 사용자 조회
+            return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());  // 인증 객체 생성
+        }
+        return getAuthenticationFromClaims(claims);
+    }
+
+    @Comment("claims 기반 인증 객체 생성 : 인증 상태 캐시로 잠금/퇴사/권한 변경 여부만 확인")
+    private Authentication getAuthenticationFromClaims(Claims claims) {
+        Long memberId = claims.get("memberId", Long.class);
+        MemberAuthState state = memberAuthStateCache.get(memberId);
+        if (state == null || !state.isUsable() || !state.loginId().equals(claims.getSubject())) {
+            return null;
+        }
+
+        // 토큰 발급 이후 권한이 변경되었으면 재로그인(또는 토큰 재발급) 필요
+        Set<String> tokenRoles = parseRoles(claims.get("roles", String.class));
+        if (!tokenRoles.equals(state.roleCodes())) {
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = tokenRoles.stream()
+            .map(SimpleGrantedAuthority::new)
+            .toList();
+        MemberPrincipal principal = new MemberPrincipal(memberId, state.loginId(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
+    private Set<String> parseRoles(String roles) {
+        if (!StringUtils.hasText(roles)) {
+            return Set.of();
+        }
+        return Arrays.stream(roles.split(","))
+            .map(String::trim)
+            .filter(StringUtils::hasText)
+            .collect(Collectors.toSet());
     }
 
     @Comment("HTTP 요청에서 토큰 추출")
@@ -86,21 +133,27 @@ public class JwtTokenProvider {
         return null;
     }
 
-    @Comment("토큰 유효성 검증")
-    public boolean validateToken(String token) {
+    @Comment("토큰 검증 : 서명 + 만료 시간을 한 번에 검증하고 결과(VALID/EXPIRED/INVALID)와 claims 반환")
+    public VerifiedToken verify(String token) {
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return VerifiedToken.valid(jwtParser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException e) {
+            return VerifiedToken.expired(e.getClaims());   // 만료되어도 claims 반환
+        } catch (JwtException | IllegalArgumentException e) {
+            return VerifiedToken.invalid();
         }
     }
 
+    @Comment("토큰 유효성 검증")
+    public boolean validateToken(String token) {
+        return verify(token).isValid();
+    }
+
     public Claims parseClaims(String token) {
-        try {
-            return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload(); // 서명 + 만료 시간 한 번에 검증. 예외 발생시 false
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();   // 만료되어도 claims 반환
+        VerifiedToken verifiedToken = verify(token);
+        if (verifiedToken.status() == VerifiedToken.Status.INVALID) {
+            throw new JwtException("Invalid token");
         }
+        return verifiedToken.claims();
     }
 }
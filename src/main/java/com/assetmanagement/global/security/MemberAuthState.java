@@ -0,0 +1,20 @@
+package com.assetmanagement.global.security;
+
+import java.util.Set;
+
+/**
+ * 토큰 검증 시 참조하는 사용자 인증 상태 (잠금/비활성화/권한)
+ */
+public record MemberAuthState(
+    Long memberId,
+    String loginId,
+    Set<String> roleCodes,
+    boolean active,
+    boolean locked,
+    boolean deleted
+) {
+
+    public boolean isUsable() {
+        return active && !locked && !deleted;
+    }
+}
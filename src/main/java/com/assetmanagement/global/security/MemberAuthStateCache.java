@@ -0,0 +1,90 @@
+package com.assetmanagement.global.security;
+
+import com.assetmanagement.global.cache.TwoTierCache;
+import com.assetmanagement.member.entity.Member;
+import com.assetmanagement.member.repository.MemberRepository;
+import com.assetmanagement.member.repository.MemberRoleRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+
+/**
+ * 사용자 인증 상태 로컬 캐시
+ *
+ * 토큰 claims 기반 인증 시 매 요청 DB 조회 대신 이 캐시로 잠금/퇴사/권한 변경 여부를 확인한다.
+ * 퇴사, 권한 변경, 계정 잠금 시 evict()로 즉시 무효화하며,
+ * 커밋 이후 캐시 무효화 채널(cache:invalidate)로 발행하여 다른 노드의 캐시도 무효화한다.
+ * Redis 장애로 발행하지 못하면 다른 노드는 TTL 경과 후 재조회된다.
+ */
+@Component
+public class MemberAuthStateCache {
+
+    private static final String INVALIDATION_PREFIX = "local:auth-state";
+
+    private final TwoTierCache twoTierCache;
+    private final MemberRepository memberRepository;
+    private final MemberRoleRepository memberRoleRepository;
+    private final LoadingCache<Long, MemberAuthState> cache;
+
+    public MemberAuthStateCache(
+            TwoTierCache twoTierCache,
+            MemberRepository memberRepository,
+            MemberRoleRepository memberRoleRepository,
+            @Value("${jwt.auth-state-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.auth-state-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.twoTierCache = twoTierCache;
+        this.memberRepository = memberRepository;
+        this.memberRoleRepository = memberRoleRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build(this::load);
+        twoTierCache.subscribeLocal(INVALIDATION_PREFIX, memberId -> cache.invalidate(Long.valueOf(memberId)));
+    }
+
+    public MemberAuthState get(Long memberId) {
+        if (memberId == null) {
+            return null;
+        }
+        return cache.get(memberId);
+    }
+
+    /**
+     * 캐시 무효화. 트랜잭션 내에서 호출되면 커밋 이후에도 한 번 더 무효화하여
+     * 커밋 전 재조회로 이전 상태가 다시 적재되는 것을 막는다. 다른 노드에는 커밋 이후 발행한다.
+     */
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(memberId);
+                }
+            });
+        }
+        twoTierCache.publishLocal(INVALIDATION_PREFIX, String.valueOf(memberId));
+    }
+
+    private MemberAuthState load(Long memberId) {
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member == null) {
+            return null;
+        }
+
+        return new MemberAuthState(
+            member.getMemberId(),
+            member.getLoginId(),
+            new HashSet<>(memberRoleRepository.findRoleCodesByMemberId(memberId)),
+            Boolean.TRUE.equals(member.getIsActive()),
+            Boolean.TRUE.equals(member.getIsLocked()),
+            Boolean.TRUE.equals(member.getIsDeleted())
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.assetmanagement.global.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 사용자 정보 (SecurityContext principal)
+ * 토큰 claims 또는 DB 조회 결과로 생성되며, memberId를 함께 보관한다.
+ */
+@Getter
+public class MemberPrincipal implements UserDetails {
+
+    private final Long memberId;
+    private final String loginId;
+    private final String password;
+    private final List<? extends GrantedAuthority> authorities;
+
+    public MemberPrincipal(Long memberId, String loginId, String password,
+                           List<? extends GrantedAuthority> authorities) {
+        this.memberId = memberId;
+        this.loginId = loginId;
+        this.password = password;
+        this.authorities = authorities;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return loginId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.assetmanagement.global.security;
+
+/**
+ * API 권한 검증 대상 메뉴 (이름 = menu.menu_code)
+ * 역할에는 화면 단위 하위 메뉴가 부여되므로, 하위 메뉴가 있는 상위 메뉴(ASSET, LICENSE) 대신 하위 메뉴 코드로 검증한다.
+ */
+public enum MenuCode {
+
+    MENU,
+    ROLE,
+    DEPT,
+    MEMBER,
+    ASSET_LIST,
+    ASSET_ASSIGNMENT,
+    LICENSE_LIST,
+    LICENSE_ASSIGNMENT,
+    SOFTWARE,
+    COMMON_CODE
+}
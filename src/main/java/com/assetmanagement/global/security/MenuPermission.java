@@ -0,0 +1,13 @@
+package com.assetmanagement.global.security;
+
+/**
+ * 메뉴별 권한 종류 (role_menu.can_read / can_create / can_update / can_delete)
+ * ordinal이 메뉴 내 비트 위치이므로 순서를 바꾸지 않는다.
+ */
+public enum MenuPermission {
+
+    READ,
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,50 @@
+package com.assetmanagement.global.security;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * RequiresMenuPermission 메서드 권한 검증
+ *
+ * 메서드별 요구 권한은 최초 호출 시 한 번만 해석하여 보관하고,
+ * 이후에는 사용자 유효 비트셋(MenuPermissionCache)에서 비트 1개를 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuPermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private final MenuPermissionCache menuPermissionCache;
+    private final Map<Method, RequiresMenuPermission> requirements = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        RequiresMenuPermission requirement = requirements.computeIfAbsent(invocation.getMethod(),
+            method -> AnnotatedElementUtils.findMergedAnnotation(method, RequiresMenuPermission.class));
+        Authentication auth = authentication.get();
+        if (auth == null || !(auth.getPrincipal() instanceof MemberPrincipal principal)) {
+            return new AuthorizationDecision(false);
+        }
+        return new AuthorizationDecision(
+            menuPermissionCache.has(principal.getMemberId(), requirement.menu(), requirement.value()));
+    }
+
+    /**
+     * Spring Security 6.4부터 authorize()로 대체됨. 인터페이스 구현 요건으로만 유지
+     */
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return (AuthorizationDecision) authorize(authentication, invocation);
+    }
+}
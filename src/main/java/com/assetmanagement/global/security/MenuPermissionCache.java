@@ -0,0 +1,156 @@
+package com.assetmanagement.global.security;
+
+import com.assetmanagement.global.cache.TwoTierCache;
+import com.assetmanagement.member.repository.MemberRoleRepository;
+import com.assetmanagement.menu.entity.Menu;
+import com.assetmanagement.menu.repository.MenuRepository;
+import com.assetmanagement.role.entity.Role;
+import com.assetmanagement.role.repository.RoleMenuRepository;
+import com.assetmanagement.role.repository.RoleRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 권한 로컬 캐시 (역할별 비트셋 + 사용자별 유효 비트셋)
+ *
+ * 역할의 role_menu 매핑을 비트셋으로 컴파일하여 캐시하고, 사용자별로 보유 역할의 비트셋을 OR 한 결과를 캐시한다.
+ * 요청마다 member_role x role_menu를 조회하지 않고 비트 연산 1회로 권한을 확인한다.
+ * 역할 메뉴 변경/역할 삭제 시 해당 역할과 전체 사용자 캐시를, 사용자 권한 변경 시 해당 사용자 캐시를 즉시 무효화하며,
+ * 커밋 이후 캐시 무효화 채널(cache:invalidate)로 발행하여 다른 노드의 캐시도 무효화한다.
+ */
+@Component
+public class MenuPermissionCache {
+
+    private static final String ADMIN_ROLE_CODE = "ROLE_ADMIN";
+    private static final String INVALIDATION_PREFIX = "local:menu-permission";
+    private static final String MEMBER_TARGET = "member-";
+    private static final String ROLE_TARGET = "role-";
+    private static final String MENUS_TARGET = "menus";
+
+    private final TwoTierCache twoTierCache;
+    private final RoleRepository roleRepository;
+    private final RoleMenuRepository roleMenuRepository;
+    private final MemberRoleRepository memberRoleRepository;
+    private final MenuRepository menuRepository;
+    private final LoadingCache<Long, MenuPermissionSet> roleCache;
+    private final LoadingCache<Long, MenuPermissionSet> memberCache;
+    private volatile Map<MenuCode, Long> menuIds;   // null이면 다음 확인 시 적재
+
+    public MenuPermissionCache(
+            TwoTierCache twoTierCache,
+            RoleRepository roleRepository,
+            RoleMenuRepository roleMenuRepository,
+            MemberRoleRepository memberRoleRepository,
+            MenuRepository menuRepository,
+            @Value("${jwt.menu-permission-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.menu-permission-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.twoTierCache = twoTierCache;
+        this.roleRepository = roleRepository;
+        this.roleMenuRepository = roleMenuRepository;
+        this.memberRoleRepository = memberRoleRepository;
+        this.menuRepository = menuRepository;
+        this.roleCache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build(this::loadRole);
+        this.memberCache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build(this::loadMember);
+        twoTierCache.subscribeLocal(INVALIDATION_PREFIX, this::invalidate);
+    }
+
+    /**
+     * 사용자의 메뉴 권한 보유 여부. 등록되지 않은 메뉴는 시스템관리자만 허용한다.
+     */
+    public boolean has(Long memberId, MenuCode menu, MenuPermission permission) {
+        MenuPermissionSet permissions = memberCache.get(memberId);
+        Long menuId = menuIds().get(menu);
+        return menuId == null ? permissions.isAll() : permissions.has(menuId, permission);
+    }
+
+    public void evictMember(Long memberId) {
+        evict(MEMBER_TARGET + memberId);
+    }
+
+    public void evictRole(Long roleId) {
+        evict(ROLE_TARGET + roleId);
+    }
+
+    public void evictMenus() {
+        evict(MENUS_TARGET);
+    }
+
+    /*
+     * 즉시 무효화하고, 트랜잭션 내에서 호출되면 커밋 이후에도 한 번 더 무효화하여
+     * 커밋 전 재조회로 이전 권한이 다시 적재되는 것을 막는다. 다른 노드에는 커밋 이후 발행한다.
+     */
+    private void evict(String target) {
+        invalidate(target);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(target);
+                }
+            });
+        }
+        twoTierCache.publishLocal(INVALIDATION_PREFIX, target);
+    }
+
+    private void invalidate(String target) {
+        if (target.startsWith(MEMBER_TARGET)) {
+            memberCache.invalidate(Long.valueOf(target.substring(MEMBER_TARGET.length())));
+        } else if (target.startsWith(ROLE_TARGET)) {
+            roleCache.invalidate(Long.valueOf(target.substring(ROLE_TARGET.length())));
+            memberCache.invalidateAll();
+        } else if (MENUS_TARGET.equals(target)) {
+            menuIds = null;
+        }
+    }
+
+    private Map<MenuCode, Long> menuIds() {
+        Map<MenuCode, Long> current = menuIds;
+        if (current == null) {
+            Map<String, Long> idsByCode = menuRepository.findByIsDeletedFalseOrderByMenuOrderAsc().stream()
+                .collect(Collectors.toMap(Menu::getMenuCode, Menu::getMenuId));
+            current = new EnumMap<>(MenuCode.class);
+            for (MenuCode code : MenuCode.values()) {
+                Long menuId = idsByCode.get(code.name());
+                if (menuId != null) {
+                    current.put(code, menuId);
+                }
+            }
+            menuIds = current;
+        }
+        return current;
+    }
+
+    private MenuPermissionSet loadMember(Long memberId) {
+        MenuPermissionSet permissions = MenuPermissionSet.EMPTY;
+        for (Long roleId : memberRoleRepository.findRoleIdsByMemberId(memberId)) {
+            permissions = permissions.union(roleCache.get(roleId));
+        }
+        return permissions;
+    }
+
+    private MenuPermissionSet loadRole(Long roleId) {
+        Role role = roleRepository.findByRoleIdAndIsDeletedFalse(roleId).orElse(null);
+        if (role == null || !Boolean.TRUE.equals(role.getIsActive())) {
+            return MenuPermissionSet.EMPTY;
+        }
+        if (ADMIN_ROLE_CODE.equals(role.getRoleCode())) {
+            return MenuPermissionSet.ALL;
+        }
+        return MenuPermissionSet.of(roleMenuRepository.findByRoleIdAndIsDeletedFalse(roleId));
+    }
+}
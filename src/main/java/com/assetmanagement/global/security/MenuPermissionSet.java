@@ -0,0 +1,85 @@
+package com.assetmanagement.global.security;
+
+import com.assetmanagement.role.entity.RoleMenu;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 메뉴 권한 비트셋 (불변)
+ *
+ * 비트 위치 = menu_id x 4 + MenuPermission.ordinal. 권한 확인은 배열 인덱스 + 비트 연산 1회이며,
+ * 사용자의 유효 권한은 보유 역할들의 비트셋을 OR 하여 만든다.
+ * 시스템관리자(ROLE_ADMIN) 역할은 메뉴 매핑과 무관하게 전체 권한(all)을 가진다.
+ */
+public final class MenuPermissionSet {
+
+    private static final int BITS_PER_MENU = MenuPermission.values().length;
+
+    public static final MenuPermissionSet EMPTY = new MenuPermissionSet(new long[0], false);
+    public static final MenuPermissionSet ALL = new MenuPermissionSet(new long[0], true);
+
+    private final long[] words;
+    private final boolean all;
+
+    private MenuPermissionSet(long[] words, boolean all) {
+        this.words = words;
+        this.all = all;
+    }
+
+    public static MenuPermissionSet of(Collection<RoleMenu> roleMenus) {
+        long maxBit = roleMenus.stream()
+            .mapToLong(rm -> bitIndex(rm.getMenuId(), MenuPermission.DELETE))
+            .max()
+            .orElse(-1);
+        if (maxBit < 0) {
+            return EMPTY;
+        }
+
+        long[] words = new long[(int) (maxBit >>> 6) + 1];
+        for (RoleMenu rm : roleMenus) {
+            set(words, rm.getMenuId(), MenuPermission.READ, rm.getCanRead());
+            set(words, rm.getMenuId(), MenuPermission.CREATE, rm.getCanCreate());
+            set(words, rm.getMenuId(), MenuPermission.UPDATE, rm.getCanUpdate());
+            set(words, rm.getMenuId(), MenuPermission.DELETE, rm.getCanDelete());
+        }
+        return new MenuPermissionSet(words, false);
+    }
+
+    public MenuPermissionSet union(MenuPermissionSet other) {
+        if (all || other.all) {
+            return ALL;
+        }
+        long[] longer = words.length >= other.words.length ? words : other.words;
+        long[] shorter = longer == words ? other.words : words;
+        long[] merged = Arrays.copyOf(longer, longer.length);
+        for (int i = 0; i < shorter.length; i++) {
+            merged[i] |= shorter[i];
+        }
+        return new MenuPermissionSet(merged, false);
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+
+    public boolean has(long menuId, MenuPermission permission) {
+        if (all) {
+            return true;
+        }
+        long bit = bitIndex(menuId, permission);
+        int word = (int) (bit >>> 6);
+        return word < words.length && (words[word] & (1L << bit)) != 0;
+    }
+
+    private static long bitIndex(long menuId, MenuPermission permission) {
+        return menuId * BITS_PER_MENU + permission.ordinal();
+    }
+
+    private static void set(long[] words, long menuId, MenuPermission permission, Boolean granted) {
+        if (Boolean.TRUE.equals(granted)) {
+            long bit = bitIndex(menuId, permission);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+}
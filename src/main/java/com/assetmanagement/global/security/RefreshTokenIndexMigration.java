@@ -0,0 +1,64 @@
+package com.assetmanagement.global.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인덱스 도입 이전에 발급된 refresh:member:{id}:{suffix} 키를 refresh:index:{id}에 등록하는 일회성 마이그레이션
+ *
+ * jwt.refresh-token-index-migration.enabled=true 로 한 번 기동하면 된다.
+ * SCAN으로 나누어 조회하므로 Redis를 블로킹하지 않으며, 모든 키가 만료(최대 24시간)된 이후에는 불필요하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token-index-migration.enabled", havingValue = "true")
+public class RefreshTokenIndexMigration implements ApplicationRunner {
+
+    private static final long SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(RefreshTokenStore.TOKEN_KEY_PREFIX + "*")
+            .count(SCAN_COUNT)
+            .build();
+
+        long migrated = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String tokenKey = cursor.next();
+                // refresh:member:{memberId}:{suffix}
+                String[] parts = tokenKey.split(":");
+                if (parts.length != 4) {
+                    continue;
+                }
+
+                Long ttlSeconds = redisTemplate.getExpire(tokenKey);
+                if (ttlSeconds == null || ttlSeconds <= 0) {
+                    continue;
+                }
+
+                String indexKey = RefreshTokenStore.INDEX_KEY_PREFIX + parts[2];
+                redisTemplate.opsForSet().add(indexKey, tokenKey);
+                Long indexTtl = redisTemplate.getExpire(indexKey);
+                if (indexTtl == null || indexTtl < ttlSeconds) {
+                    redisTemplate.expire(indexKey, Duration.ofSeconds(ttlSeconds));
+                }
+                migrated++;
+            }
+        }
+        log.info("Refresh token index migration completed: {} keys", migrated);
+    }
+}
@@ -0,0 +1,122 @@
+package com.assetmanagement.global.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Refresh Token Redis 저장소
+ *
+ * 토큰 키  : refresh:member:{memberId}:{토큰 끝 8자리}  (값 = 토큰, TTL = 토큰 유효기간)
+ * 인덱스 키 : refresh:index:{memberId}                   (SET, 해당 사용자의 토큰 키 목록)
+ *
+ * 로그아웃/퇴사 시 KEYS 패턴 검색 대신 인덱스 SET만 조회하므로
+ * 사용자 보유 토큰 수에 비례하는 비용으로 폐기된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    static final String TOKEN_KEY_PREFIX = "refresh:member:";
+    static final String INDEX_KEY_PREFIX = "refresh:index:";
+    private static final int SUFFIX_LENGTH = 8;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${jwt.refresh-token-validity}")
+    private long refreshTokenValidity;
+
+    public void save(Long memberId, String refreshToken) {
+        String tokenKey = tokenKey(memberId, refreshToken);
+        String indexKey = indexKey(memberId);
+        Duration ttl = Duration.ofMillis(refreshTokenValidity);
+
+        redisTemplate.opsForValue().set(tokenKey, refreshToken, ttl);
+        redisTemplate.opsForSet().add(indexKey, tokenKey);
+        // 인덱스는 가장 마지막에 발급된 토큰과 함께 만료
+        redisTemplate.expire(indexKey, ttl);
+    }
+
+    public boolean exists(Long memberId, String refreshToken) {
+        return refreshToken.equals(redisTemplate.opsForValue().get(tokenKey(memberId, refreshToken)));
+    }
+
+    /**
+     * 해당 사용자의 모든 refresh token 폐기
+     */
+    public void revokeAll(Long memberId) {
+        String indexKey = indexKey(memberId);
+        Set<String> tokenKeys = redisTemplate.opsForSet().members(indexKey);
+
+        List<String> keys = new ArrayList<>();
+        if (tokenKeys != null) {
+            keys.addAll(tokenKeys);
+        }
+        keys.add(indexKey);
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 여러 사용자의 refresh token 일괄 폐기 (일괄 퇴사)
+     * 인덱스 SMEMBERS를 파이프라인 1회로 조회한 뒤, 토큰/인덱스 키를 DEL 1회로 삭제한다.
+     */
+    public void revokeAll(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        List<String> indexKeys = memberIds.stream().map(RefreshTokenStore::indexKey).toList();
+        List<Object> members = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String indexKey : indexKeys) {
+                connection.setCommands().sMembers(indexKey.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<String> keys = new ArrayList<>(indexKeys);
+        for (Object tokenKeys : members) {
+            if (tokenKeys instanceof Collection<?> collection) {
+                collection.forEach(key -> keys.add(String.valueOf(key)));
+            }
+        }
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 일괄 폐기. 롤백되면 폐기하지 않으며, 트랜잭션 밖이면 즉시 폐기
+     */
+    public void revokeAllAfterCommit(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revokeAll(memberIds);
+            return;
+        }
+        List<Long> targets = List.copyOf(memberIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokeAll(targets);
+            }
+        });
+    }
+
+    static String tokenKey(Long memberId, String refreshToken) {
+        return TOKEN_KEY_PREFIX + memberId + ":" + refreshToken.substring(refreshToken.length() - SUFFIX_LENGTH);
+    }
+
+    static String indexKey(Long memberId) {
+        return INDEX_KEY_PREFIX + memberId;
+    }
+}
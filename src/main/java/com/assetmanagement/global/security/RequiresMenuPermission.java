@@ -0,0 +1,21 @@
+package com.assetmanagement.global.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메뉴 권한 검증 (role_menu 기준). 사용자의 권한 중 하나라도 해당 메뉴 권한이 있으면 허용하며,
+ * 없으면 403(AUTH_003)을 반환한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresMenuPermission {
+
+    MenuCode menu();
+
+    MenuPermission value();
+}
@@ -0,0 +1,33 @@
+package com.assetmanagement.global.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 토큰 검증 결과 (검증 상태 + claims)
+ * INVALID인 경우 claims는 null이다.
+ */
+public record VerifiedToken(
+    Status status,
+    Claims claims
+) {
+
+    public enum Status {
+        VALID, EXPIRED, INVALID
+    }
+
+    public static VerifiedToken valid(Claims claims) {
+        return new VerifiedToken(Status.VALID, claims);
+    }
+
+    public static VerifiedToken expired(Claims claims) {
+        return new VerifiedToken(Status.EXPIRED, claims);
+    }
+
+    public static VerifiedToken invalid() {
+        return new VerifiedToken(Status.INVALID, null);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
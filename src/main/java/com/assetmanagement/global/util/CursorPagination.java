@@ -0,0 +1,159 @@
+package com.assetmanagement.global.util;
+
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.entity.BaseEntity;
+import com.assetmanagement.global.exception.BusinessException;
+import com.assetmanagement.global.exception.ErrorCode;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * (reg_date, id) 기준 키셋 페이징
+ *
+ * OFFSET 대신 마지막 행의 (reg_date, id) 이후만 조회하므로 뒤쪽 페이지도 인덱스 범위 스캔으로 처리된다.
+ * 정렬은 reg_date DESC, id DESC 고정이며 (reg_date DESC, id DESC) 복합 인덱스를 사용한다.
+ * 커서는 클라이언트에 불투명한 Base64 문자열로 전달한다.
+ * 이력처럼 별도 쿼리로 키셋 조건을 적용하는 경우 decodeKey()/toPage()를 사용한다.
+ */
+public final class CursorPagination {
+
+    /** 기간 미지정 시 적용하는 하한/상한 (이력 조회·내보내기 공통) */
+    public static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    public static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private static final String REG_DATE = "regDate";
+    private static final String DELIMITER = "|";
+
+    private CursorPagination() {
+    }
+
+    public static <E extends BaseEntity, R> CursorPage<R> fetch(
+            JpaSpecificationExecutor<E> repository,
+            Specification<E> spec,
+            String idAttribute,
+            Function<E, Long> idGetter,
+            CursorRequest request,
+            Function<E, R> mapper,
+            String... fetchPaths) {
+
+        int size = request.getSize();
+        Sort sort = Sort.by(Sort.Direction.DESC, REG_DATE)
+            .and(Sort.by(Sort.Direction.DESC, idAttribute));
+        Specification<E> pageSpec = Specification.where(spec)
+            .and(after(decode(request.getCursor()), idAttribute));
+
+        // size + 1건 조회로 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        // fetchPaths: 응답 매핑에 필요한 연관 엔티티 (fetch graph로 함께 조회하여 N+1 방지)
+        List<E> rows = repository.findBy(pageSpec, q -> fetchPaths.length > 0
+            ? q.project(fetchPaths).sortBy(sort).limit(size + 1).all()
+            : q.sortBy(sort).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = rows.get(rows.size() - 1);
+            nextCursor = encode(last.getRegDate(), idGetter.apply(last));
+        }
+
+        return CursorPage.<R>builder()
+            .content(rows.stream().map(mapper).toList())
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .totalElements(request.isWithCount() ? repository.count(spec) : null)
+            .build();
+    }
+
+    /**
+     * 커서의 (시각, id). 첫 페이지(커서 없음)면 null
+     */
+    public record Key(LocalDateTime time, Long id) {
+    }
+
+    public static Key decodeKey(String cursor) {
+        return decode(cursor);
+    }
+
+    public static LocalDateTime fromOrMin(LocalDateTime from) {
+        return from != null ? from : MIN_DATE;
+    }
+
+    public static LocalDateTime toOrMax(LocalDateTime to) {
+        return to != null ? to : MAX_DATE;
+    }
+
+    /**
+     * size + 1건 조회 결과를 페이지로 변환 (마지막 행의 (시각, id)를 다음 커서로 사용)
+     */
+    public static <T, R> CursorPage<R> toPage(List<T> rows, int size,
+                                              Function<T, LocalDateTime> timeGetter,
+                                              Function<T, Long> idGetter,
+                                              Function<T, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = encode(timeGetter.apply(last), idGetter.apply(last));
+        }
+
+        return CursorPage.<R>builder()
+            .content(content.stream().map(mapper).toList())
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    // ===== private =====
+
+    private static <E> Specification<E> after(Key cursor, String idAttribute) {
+        if (cursor == null) return null;
+        // (reg_date, id) < (?, ?) 행 값 비교로 렌더링 (PostgresFunctionContributor), 커서 값은 바인드 파라미터
+        return (root, query, cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            return cb.isTrue(cb.function("keyset_before", Boolean.class,
+                root.get(REG_DATE), root.get(idAttribute), hcb.value(cursor.time()), hcb.value(cursor.id())));
+        };
+    }
+
+    private static String encode(LocalDateTime time, Long id) {
+        String raw = time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Key decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new BusinessException(ErrorCode.COMMON_005);
+            }
+            return new Key(
+                LocalDateTime.parse(raw.substring(0, idx)),
+                Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.COMMON_005);
+        }
+    }
+}
@@ -1,24 +1,163 @@
 package com.assetmanagement.global.util;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Redis 분산락 (system-policy.md 섹션 8.2)
+ *
+ * - 락 값으로 획득자 고유 토큰을 저장하고, 해제/갱신은 토큰이 일치할 때만 수행한다 (Lua).
+ * - 락을 보유하는 동안 watchdog이 TTL의 1/3 주기로 만료 시간을 연장한다.
+ *   프로세스가 죽으면 갱신이 멈추므로 TTL 경과 후 자동 해제된다.
+ * - 트랜잭션 내에서는 unlockAfterCompletion()으로 커밋/롤백 이후에 해제하여
+ *   다음 획득자가 커밋 전 데이터를 읽지 않도록 한다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class RedisLockUtil {
 
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('get', KEYS[1]) == ARGV[1] then
+            return redis.call('del', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('get', KEYS[1]) == ARGV[1] then
+            return redis.call('pexpire', KEYS[1], ARGV[2])
+        end
+        return 0
+        """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final ScheduledExecutorService watchdog;
 
-    public boolean tryLock(String key, Duration ttl) {
-        return Boolean.TRUE.equals(
-            redisTemplate.opsForValue().setIfAbsent(key, "LOCKED", ttl)
+    public RedisLockUtil(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "redis-lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 락 획득 (1회 시도). 실패 시 null
+     */
+    public RedisLock tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        boolean acquired = Boolean.TRUE.equals(
+            redisTemplate.opsForValue().setIfAbsent(key, token, ttl)
         );
+        if (!acquired) {
+            return null;
+        }
+
+        RedisLock lock = new RedisLock(key, token);
+        long period = Math.max(ttl.toMillis() / 3, 1);
+        lock.renewal = watchdog.scheduleAtFixedRate(
+            () -> renew(lock, ttl), period, period, TimeUnit.MILLISECONDS);
+        return lock;
+    }
+
+    /**
+     * 락 획득 (retryIntervalMs 간격 최대 maxRetry회 시도). 실패 시 null
+     */
+    public RedisLock tryLock(String key, Duration ttl, int maxRetry, long retryIntervalMs) {
+        for (int i = 0; i < maxRetry; i++) {
+            RedisLock lock = tryLock(key, ttl);
+            if (lock != null) {
+                return lock;
+            }
+            try {
+                Thread.sleep(retryIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 락 해제. 본인 토큰일 때만 삭제하며, 이미 만료되어 다른 획득자가 있으면 false
+     */
+    public boolean unlock(RedisLock lock) {
+        lock.renewal.cancel(false);
+        Long deleted = redisTemplate.execute(UNLOCK_SCRIPT, List.of(lock.key), lock.token);
+        if (deleted == null || deleted == 0) {
+            log.warn("Lock already released or taken over: {}", lock.key);
+            return false;
+        }
+        return true;
     }
 
-    public void unlock(String key) {
-        redisTemplate.delete(key);
+    /**
+     * 현재 트랜잭션 종료(커밋/롤백) 이후 락 해제. 트랜잭션 밖이면 즉시 해제
+     */
+    public void unlockAfterCompletion(RedisLock lock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            unlock(lock);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(lock);
+            }
+        });
+    }
+
+    private void renew(RedisLock lock, Duration ttl) {
+        try {
+            Long renewed = redisTemplate.execute(
+                RENEW_SCRIPT, List.of(lock.key), lock.token, String.valueOf(ttl.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.warn("Lock lost before release: {}", lock.key);
+                lock.renewal.cancel(false);
+            }
+        } catch (Exception e) {
+            // 일시적 Redis 장애: 다음 주기에 재시도 (TTL 내 복구되지 않으면 락은 만료됨)
+            log.warn("Lock renewal failed: {}", lock.key, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * 획득한 락 핸들 (키 + 획득자 토큰)
+     */
+    public static final class RedisLock {
+
+        private final String key;
+        private final String token;
+        private volatile ScheduledFuture<?> renewal;
+
+        private RedisLock(String key, String token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        public String getKey() {
+            return key;
+        }
     }
 }
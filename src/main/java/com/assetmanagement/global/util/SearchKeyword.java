@@ -0,0 +1,58 @@
+package com.assetmanagement.global.util;
+
+import com.assetmanagement.global.dto.SearchHit;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 키워드 검색어 정규화 (pg_trgm 인덱스 검색용)
+ * 인덱스가 lower(컬럼) 기준이므로 검색어도 소문자로 맞추고, LIKE 와일드카드는 이스케이프한다.
+ */
+public final class SearchKeyword {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private SearchKeyword() {
+    }
+
+    public static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // '%keyword%' 패턴 (PostgreSQL 기본 LIKE 이스케이프 문자 '\')
+    public static String containsPattern(String keyword) {
+        String escaped = normalize(keyword)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    public static int limit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getId).toList();
+    }
+
+    // findAllById 결과는 순서가 보장되지 않으므로 검색 점수 순서로 재정렬
+    public static <E> List<E> sortByHits(List<SearchHit> hits, List<E> entities, Function<E, Long> idGetter) {
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < hits.size(); i++) {
+            rank.put(hits.get(i).getId(), i);
+        }
+        return entities.stream()
+            .sorted(Comparator.comparing((E e) -> rank.get(idGetter.apply(e))))
+            .toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.assetmanagement.license.batch;
+
+import com.assetmanagement.global.batch.BatchCheckpointRepository;
+import com.assetmanagement.global.batch.BatchCheckpointRepository.StepTotal;
+import com.assetmanagement.global.batch.BatchJobRunner;
+import com.assetmanagement.global.batch.ChunkResult;
+import com.assetmanagement.global.batch.ChunkedStepExecutor;
+import com.assetmanagement.license.repository.LicenseExpiryJdbcRepository;
+import com.assetmanagement.license.repository.LicenseExpiryJdbcRepository.ExpiredChunk;
+import com.assetmanagement.license.repository.LicenseRepository;
+import com.assetmanagement.member.service.MemberAssignmentDetailService;
+import com.assetmanagement.notification.service.NotificationOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 구독 만료 배치 (system-policy.md 섹션 6.5)
+ *
+ * 만료일이 지난 구독 라이센스 중 만료 처리할 배정/키가 남은 라이센스별로 배정 → 키 순서로 만료 처리한다.
+ * 라이센스마다 assignment-{id}, key-{id} 단계 체크포인트를 남기며,
+ * 중단된 실행(run_key = 기준일)은 다음 기동 시 마지막 커밋 지점부터 이어서 처리한다.
+ * 만료 7일 전 안내(notice)와 만료 처리 결과 보고(report)는 각 단계 완료와 같은 트랜잭션에서 메일 발송 대기열(email_log)에 적재한다.
+ */
+@Slf4j
+@Component
+public class LicenseExpiryJob {
+
+    private static final String JOB_NAME = "license-expiry";
+    private static final String RUN_STEP = "run";
+    private static final String NOTICE_STEP = "notice";
+    private static final String REPORT_STEP = "report";
+    private static final String ASSIGNMENT_STEP = "assignment";
+    private static final String KEY_STEP = "key";
+    private static final int NOTICE_DAYS_BEFORE = 7;
+
+    private final LicenseRepository licenseRepository;
+    private final LicenseExpiryJdbcRepository licenseExpiryJdbcRepository;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final BatchJobRunner batchJobRunner;
+    private final ChunkedStepExecutor chunkedStepExecutor;
+    private final MemberAssignmentDetailService memberAssignmentDetailService;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean batchEnabled;
+
+    public LicenseExpiryJob(
+            LicenseRepository licenseRepository,
+            LicenseExpiryJdbcRepository licenseExpiryJdbcRepository,
+            BatchCheckpointRepository batchCheckpointRepository,
+            BatchJobRunner batchJobRunner,
+            ChunkedStepExecutor chunkedStepExecutor,
+            MemberAssignmentDetailService memberAssignmentDetailService,
+            NotificationOutbox notificationOutbox,
+            TransactionTemplate transactionTemplate,
+            @Value("${batch.license-expiry.chunk-size:1000}") int chunkSize,
+            @Value("${batch.enabled:true}") boolean batchEnabled) {
+        this.licenseRepository = licenseRepository;
+        this.licenseExpiryJdbcRepository = licenseExpiryJdbcRepository;
+        this.batchCheckpointRepository = batchCheckpointRepository;
+        this.batchJobRunner = batchJobRunner;
+        this.chunkedStepExecutor = chunkedStepExecutor;
+        this.memberAssignmentDetailService = memberAssignmentDetailService;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.batchEnabled = batchEnabled;
+    }
+
+    @Scheduled(cron = "${batch.license-expiry.cron:0 0 0 * * *}")
+    public void run() {
+        LocalDate baseDate = LocalDate.now();
+        batchJobRunner.runExclusive(JOB_NAME, () -> expire(baseDate));
+    }
+
+    /**
+     * 기동 시 완료되지 않은 실행 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIncomplete() {
+        if (!batchEnabled) {
+            return;
+        }
+        for (String runKey : batchCheckpointRepository.findIncompleteRunKeys(JOB_NAME)) {
+            log.info("[batch] {} 미완료 실행 재개 runKey={}", JOB_NAME, runKey);
+            batchJobRunner.runExclusive(JOB_NAME, () -> expire(LocalDate.parse(runKey)));
+        }
+    }
+
+    private void expire(LocalDate baseDate) {
+        String runKey = baseDate.toString();
+        // 실행 단위 체크포인트: 모든 라이센스 처리 후 COMPLETED (중간 중단 시 재개 대상)
+        batchCheckpointRepository.start(JOB_NAME, runKey, RUN_STEP);
+        noticeUpcoming(baseDate, runKey);
+
+        for (Long licenseId : licenseRepository.findExpiredSubscriptionIds(baseDate)) {
+            chunkedStepExecutor.execute(JOB_NAME, runKey, ASSIGNMENT_STEP, licenseId, chunkSize,
+                (afterId, size) -> expireAssignments(licenseId, afterId, size, baseDate));
+            chunkedStepExecutor.execute(JOB_NAME, runKey, KEY_STEP, licenseId, chunkSize,
+                (afterId, size) -> toResult(licenseExpiryJdbcRepository.expireKeys(licenseId, afterId, size)));
+        }
+        reportExpired(baseDate, runKey);
+        batchCheckpointRepository.finish(JOB_NAME, runKey, RUN_STEP, BatchCheckpointRepository.STATUS_COMPLETED);
+    }
+
+    /**
+     * 만료 7일 전 안내 (사용자 + 관리자). 메일 적재와 단계 완료를 한 트랜잭션으로 처리하여 재실행 시 중복 적재하지 않는다.
+     */
+    private void noticeUpcoming(LocalDate baseDate, String runKey) {
+        if (batchCheckpointRepository.start(JOB_NAME, runKey, NOTICE_STEP).isCompleted()) {
+            return;
+        }
+        LocalDate expiryDate = baseDate.plusDays(NOTICE_DAYS_BEFORE);
+        transactionTemplate.executeWithoutResult(status -> {
+            int count = notificationOutbox.licenseExpiryNotice(expiryDate,
+                licenseExpiryJdbcRepository.findExpiringSummaries(expiryDate));
+            batchCheckpointRepository.advance(JOB_NAME, runKey, NOTICE_STEP, 0, count);
+            batchCheckpointRepository.finish(JOB_NAME, runKey, NOTICE_STEP, BatchCheckpointRepository.STATUS_COMPLETED);
+        });
+    }
+
+    /**
+     * 만료 처리 결과 관리자 보고. 건수는 체크포인트 합계(중단 전 처리분 포함)로 집계하고,
+     * 메일 적재와 단계 완료를 한 트랜잭션으로 처리하여 재실행 시 중복 적재하지 않는다.
+     */
+    private void reportExpired(LocalDate baseDate, String runKey) {
+        if (batchCheckpointRepository.start(JOB_NAME, runKey, REPORT_STEP).isCompleted()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            StepTotal assignments = batchCheckpointRepository.sumByStepKind(JOB_NAME, runKey, ASSIGNMENT_STEP);
+            StepTotal keys = batchCheckpointRepository.sumByStepKind(JOB_NAME, runKey, KEY_STEP);
+            int licenseCount = (int) assignments.stepCount();
+            if (licenseCount > 0) {
+                notificationOutbox.licenseExpired(baseDate, licenseCount,
+                    assignments.processedCount(), keys.processedCount());
+            }
+            batchCheckpointRepository.advance(JOB_NAME, runKey, REPORT_STEP, 0, licenseCount);
+            batchCheckpointRepository.finish(JOB_NAME, runKey, REPORT_STEP, BatchCheckpointRepository.STATUS_COMPLETED);
+            log.info("[batch] {} baseDate={} licenses={} assignments={} keys={}",
+                JOB_NAME, baseDate, licenseCount, assignments.processedCount(), keys.processedCount());
+        });
+    }
+
+    private ChunkResult expireAssignments(Long licenseId, long afterId, int size, LocalDate baseDate) {
+        ExpiredChunk chunk = licenseExpiryJdbcRepository.expireAssignments(licenseId, afterId, size, baseDate);
+        chunk.memberIds().forEach(memberAssignmentDetailService::evict);
+        return toResult(chunk);
+    }
+
+    private ChunkResult toResult(ExpiredChunk chunk) {
+        return new ChunkResult(chunk.scanned(), chunk.lastId(), chunk.processed());
+    }
+}
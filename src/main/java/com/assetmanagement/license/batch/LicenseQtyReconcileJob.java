@@ -0,0 +1,145 @@
+package com.assetmanagement.license.batch;
+
+import com.assetmanagement.global.batch.BatchJobRunner;
+import com.assetmanagement.global.batch.ChunkResult;
+import com.assetmanagement.global.batch.ChunkedStepExecutor;
+import com.assetmanagement.license.repository.LicenseQtyReconcileJdbcRepository;
+import com.assetmanagement.license.repository.LicenseQtyReconcileJdbcRepository.Correction;
+import com.assetmanagement.license.repository.LicenseQtyReconcileJdbcRepository.Scan;
+import com.assetmanagement.notification.service.NotificationOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라이센스 수량 정합성 보정 배치 (system-policy.md 섹션 6.2)
+ *
+ * license_id 전체 범위를 parallelism개 구간으로 나누어 병렬 처리하며,
+ * 구간마다 range-{n} 단계 체크포인트를 남긴다.
+ * 불일치 건은 license_qty_correction에 기록하고 WARN 로그 및 app.batch.drift (태그 job, status)로 누적하며,
+ * 실행 종료 후 관리자 보고 메일을 발송 대기열에 적재한다.
+ */
+@Slf4j
+@Component
+public class LicenseQtyReconcileJob {
+
+    private static final String JOB_NAME = "license-qty-reconcile";
+    private static final int REPORT_MAX_LINES = 50;
+
+    private final LicenseQtyReconcileJdbcRepository licenseQtyReconcileJdbcRepository;
+    private final BatchJobRunner batchJobRunner;
+    private final ChunkedStepExecutor chunkedStepExecutor;
+    private final MeterRegistry meterRegistry;
+    private final NotificationOutbox notificationOutbox;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public LicenseQtyReconcileJob(
+            LicenseQtyReconcileJdbcRepository licenseQtyReconcileJdbcRepository,
+            BatchJobRunner batchJobRunner,
+            ChunkedStepExecutor chunkedStepExecutor,
+            MeterRegistry meterRegistry,
+            NotificationOutbox notificationOutbox,
+            @Value("${batch.license-qty-reconcile.chunk-size:1000}") int chunkSize,
+            @Value("${batch.license-qty-reconcile.parallelism:4}") int parallelism) {
+        this.licenseQtyReconcileJdbcRepository = licenseQtyReconcileJdbcRepository;
+        this.batchJobRunner = batchJobRunner;
+        this.chunkedStepExecutor = chunkedStepExecutor;
+        this.meterRegistry = meterRegistry;
+        this.notificationOutbox = notificationOutbox;
+        this.chunkSize = chunkSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Scheduled(cron = "${batch.license-qty-reconcile.cron:0 0 1 * * *}")
+    public void run() {
+        String runKey = LocalDate.now().toString();
+        batchJobRunner.runExclusive(JOB_NAME, () -> reconcile(runKey));
+    }
+
+    private void reconcile(String runKey) {
+        long[] bounds = licenseQtyReconcileJdbcRepository.findIdBounds();
+        long lower = bounds[0] - 1;
+        long upper = bounds[1];
+        if (upper <= lower) {
+            return;
+        }
+
+        int partitions = (int) Math.min(parallelism, upper - lower);
+        long width = (upper - lower + partitions - 1) / partitions;
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(partitions, r -> {
+            Thread thread = new Thread(r, "license-qty-reconcile-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<String> reportLines = Collections.synchronizedList(new ArrayList<>());
+        try {
+            List<Future<Long>> futures = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                long rangeLower = lower + width * i;
+                long rangeUpper = Math.min(rangeLower + width, upper);
+                String stepName = "range-" + i;
+                futures.add(executor.submit(() -> chunkedStepExecutor.execute(JOB_NAME, runKey, stepName, chunkSize,
+                    (afterId, size) -> reconcileChunk(Math.max(afterId, rangeLower), rangeUpper, size, runKey,
+                        reportLines))));
+            }
+
+            long drifted = 0;
+            for (Future<Long> future : futures) {
+                drifted += future.get();
+            }
+            log.info("[batch] {} runKey={} partitions={} drifted={}", JOB_NAME, runKey, partitions, drifted);
+            if (drifted > 0) {
+                notificationOutbox.licenseQtyMismatch(runKey, List.copyOf(reportLines), drifted);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("라이센스 수량 보정 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("라이센스 수량 보정 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ChunkResult reconcileChunk(long afterId, long upperId, int size, String runKey,
+                                       List<String> reportLines) {
+        Scan scan = licenseQtyReconcileJdbcRepository.scan(afterId, upperId, size);
+        if (scan.scanned() == 0) {
+            return new ChunkResult(0, afterId, 0);
+        }
+
+        List<Long> locked = licenseQtyReconcileJdbcRepository.lockDrifted(afterId, scan.lastId());
+        List<Correction> corrections = locked.isEmpty() ? List.of()
+            : licenseQtyReconcileJdbcRepository.correct(locked, runKey);
+
+        for (Correction correction : corrections) {
+            log.warn("[batch] 라이센스 수량 불일치 licenseId={}, recorded={}, actual={}, total={}, status={}",
+                correction.licenseId(), correction.recordedUsedQty(), correction.actualUsedQty(),
+                correction.totalQty(), correction.status());
+            meterRegistry.counter("app.batch.drift", "job", JOB_NAME, "status", correction.status()).increment();
+            synchronized (reportLines) {
+                if (reportLines.size() < REPORT_MAX_LINES) {
+                    reportLines.add(String.format("licenseId=%d recorded=%d actual=%d total=%d %s",
+                        correction.licenseId(), correction.recordedUsedQty(), correction.actualUsedQty(),
+                        correction.totalQty(), correction.status()));
+                }
+            }
+        }
+        return new ChunkResult(scan.scanned(), scan.lastId(), corrections.size());
+    }
+}
@@ -1,10 +1,18 @@
 package com.assetmanagement.license.controller;
 
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import com.assetmanagement.license.dto.LicenseAssignmentRequest;
 import com.assetmanagement.license.dto.LicenseAssignmentResponse;
+import com.assetmanagement.license.dto.LicenseBulkAssignmentRequest;
+import com.assetmanagement.license.dto.LicenseBulkAssignmentResponse;
 import com.assetmanagement.license.dto.LicenseReturnRequest;
 import com.assetmanagement.license.service.LicenseAssignmentService;
+import com.assetmanagement.license.service.LicenseBulkAssignmentService;
 import com.assetmanagement.member.dto.MemberAssignmentDetailResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,17 +32,28 @@ import org.springframework.web.bind.annotation.*;
 public class LicenseAssignmentController {
 
     private final LicenseAssignmentService licenseAssignmentService;
+    private final LicenseBulkAssignmentService licenseBulkAssignmentService;
 
     @Operation(summary = "배정 목록 조회 (페이징)")
     @GetMapping
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_ASSIGNMENT, value = MenuPermission.READ)
     public ApiResponse<Page<LicenseAssignmentResponse>> getAssignments(
             @PageableDefault(size = 20, sort = "regDate", direction = Sort.Direction.DESC)
             Pageable pageable) {
         return ApiResponse.ok(licenseAssignmentService.getAssignments(pageable));
     }
 
+    @Operation(summary = "배정 목록 조회 (커서 페이징)")
+    @GetMapping("/cursor")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_ASSIGNMENT, value = MenuPermission.READ)
+    public ApiResponse<CursorPage<LicenseAssignmentResponse>> getAssignmentsByCursor(
+            CursorRequest cursorRequest) {
+        return ApiResponse.ok(licenseAssignmentService.getAssignmentsByCursor(cursorRequest));
+    }
+
     @Operation(summary = "사용자별 배정 상세보기")
     @GetMapping("/members/{memberId}")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_ASSIGNMENT, value = MenuPermission.READ)
     public ApiResponse<MemberAssignmentDetailResponse> getMemberAssignmentDetail(
             @PathVariable Long memberId) {
         return ApiResponse.ok(licenseAssignmentService.getMemberAssignmentDetail(memberId));
@@ -42,6 +61,7 @@ public class LicenseAssignmentController {
 
     @Operation(summary = "라이센스 배정")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_ASSIGNMENT, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<LicenseAssignmentResponse> assignLicense(
             @Valid @RequestBody LicenseAssignmentRequest request) {
@@ -49,8 +69,18 @@ public class LicenseAssignmentController {
         return ApiResponse.ok(licenseAssignmentService.assignLicense(request, regId));
     }
 
+    @Operation(summary = "라이센스 일괄 배정")
+    @PostMapping("/bulk")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_ASSIGNMENT, value = MenuPermission.CREATE)
+    public ApiResponse<LicenseBulkAssignmentResponse> assignLicenses(
+            @Valid @RequestBody LicenseBulkAssignmentRequest request) {
+        Long regId = 1L;
+        return ApiResponse.ok(licenseBulkAssignmentService.assignLicenses(request, regId));
+    }
+
     @Operation(summary = "라이센스 회수")
     @PutMapping("/{id}/return")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_ASSIGNMENT, value = MenuPermission.UPDATE)
     public ApiResponse<Void> returnLicense(
             @PathVariable Long id,
             @RequestBody(required = false) LicenseReturnRequest request) {
@@ -61,6 +91,7 @@ public class LicenseAssignmentController {
 
     @Operation(summary = "라이센스 배정 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_ASSIGNMENT, value = MenuPermission.UPDATE)
     public ApiResponse<LicenseAssignmentResponse> updateAssignment(
             @PathVariable Long id,
             @Valid @RequestBody LicenseAssignmentRequest request) {
@@ -1,6 +1,12 @@
 package com.assetmanagement.license.controller;
 
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.dto.HistoryCursorRequest;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import com.assetmanagement.license.dto.*;
 import com.assetmanagement.license.service.LicenseService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +32,7 @@ public class LicenseController {
 
     @Operation(summary = "라이센스 목록 조회 (페이징, 검색)")
     @GetMapping
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.READ)
     public ApiResponse<Page<LicenseResponse>> getLicenses(
             LicenseSearchCondition condition,
             @PageableDefault(size = 20, sort = "regDate", direction = Sort.Direction.DESC)
@@ -33,14 +40,33 @@ public class LicenseController {
         return ApiResponse.ok(licenseService.getLicenses(condition, pageable));
     }
 
+    @Operation(summary = "라이센스 목록 조회 (커서 페이징, 검색)")
+    @GetMapping("/cursor")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.READ)
+    public ApiResponse<CursorPage<LicenseResponse>> getLicensesByCursor(
+            LicenseSearchCondition condition, CursorRequest cursorRequest) {
+        return ApiResponse.ok(licenseService.getLicensesByCursor(condition, cursorRequest));
+    }
+
+    @Operation(summary = "라이센스 키워드 검색 (소프트웨어명 유사도 순위)")
+    @GetMapping("/search")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.READ)
+    public ApiResponse<List<LicenseResponse>> searchLicenses(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer limit) {
+        return ApiResponse.ok(licenseService.searchLicenses(keyword, limit));
+    }
+
     @Operation(summary = "라이센스 상세 조회 (키 포함)")
     @GetMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.READ)
     public ApiResponse<LicenseDetailResponse> getLicense(@PathVariable Long id) {
         return ApiResponse.ok(licenseService.getLicense(id));
     }
 
     @Operation(summary = "라이센스 등록")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<LicenseResponse> createLicense(
             @Valid @RequestBody LicenseRequest request) {
@@ -50,6 +76,7 @@ public class LicenseController {
 
     @Operation(summary = "라이센스 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.UPDATE)
     public ApiResponse<LicenseResponse> updateLicense(
             @PathVariable Long id,
             @Valid @RequestBody LicenseRequest request) {
@@ -59,20 +86,31 @@ public class LicenseController {
 
     @Operation(summary = "라이센스 비활성화")
     @DeleteMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.DELETE)
     public ApiResponse<Void> deleteLicense(@PathVariable Long id) {
         Long updId = 1L;
         licenseService.deleteLicense(id, updId);
         return ApiResponse.ok(null, "라이센스가 비활성화되었습니다.");
     }
 
+    @Operation(summary = "라이센스 배정 이력 조회 (기간 + 커서 페이징)")
+    @GetMapping("/{id}/history")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.READ)
+    public ApiResponse<CursorPage<LicenseHistoryResponse>> getLicenseHistory(
+            @PathVariable Long id, HistoryCursorRequest request) {
+        return ApiResponse.ok(licenseService.getLicenseHistory(id, request));
+    }
+
     @Operation(summary = "라이센스 키 목록 조회")
     @GetMapping("/{id}/keys")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.READ)
     public ApiResponse<List<LicenseKeyResponse>> getLicenseKeys(@PathVariable Long id) {
         return ApiResponse.ok(licenseService.getLicenseKeys(id));
     }
 
     @Operation(summary = "라이센스 키 등록")
     @PostMapping("/{id}/keys")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<LicenseKeyResponse> createLicenseKey(
             @PathVariable Long id,
@@ -83,6 +121,7 @@ public class LicenseController {
 
     @Operation(summary = "라이센스 키 수정")
     @PutMapping("/keys/{keyId}")
+    @RequiresMenuPermission(menu = MenuCode.LICENSE_LIST, value = MenuPermission.UPDATE)
     public ApiResponse<LicenseKeyResponse> updateLicenseKey(
             @PathVariable Long keyId,
             @Valid @RequestBody LicenseKeyRequest request) {
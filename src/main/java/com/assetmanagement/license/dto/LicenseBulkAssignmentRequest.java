@@ -0,0 +1,43 @@
+package com.assetmanagement.license.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class LicenseBulkAssignmentRequest {
+
+    @NotEmpty(message = "배정 대상은 1건 이상이어야 합니다")
+    @Size(max = 1000, message = "일괄 배정은 최대 1000건까지 가능합니다")
+    @Valid
+    private List<Item> items;
+
+    @NotNull(message = "배정일은 필수입니다")
+    private LocalDate assignedDate;
+
+    @NotBlank(message = "배정 사유는 필수입니다")
+    private String assignmentReason;
+
+    private String remarks;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "라이센스 ID는 필수입니다")
+        private Long licenseId;
+
+        @NotNull(message = "사용자 ID는 필수입니다")
+        private Long memberId;
+
+        private Long keyId;
+    }
+}
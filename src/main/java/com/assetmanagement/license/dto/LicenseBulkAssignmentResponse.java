@@ -0,0 +1,29 @@
+package com.assetmanagement.license.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class LicenseBulkAssignmentResponse {
+
+    private int requestedCount;
+    private int successCount;
+    private int failureCount;
+    private List<ItemResult> results;
+
+    @Getter
+    @Builder
+    public static class ItemResult {
+        private int index;
+        private Long licenseId;
+        private Long memberId;
+        private Long keyId;
+        private boolean success;
+        private Long assignmentId;
+        private String errorCode;
+        private String message;
+    }
+}
@@ -0,0 +1,34 @@
+package com.assetmanagement.license.dto;
+
+import com.assetmanagement.license.entity.LicenseHistory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class LicenseHistoryResponse {
+
+    private Long historyId;
+    private Long licenseId;
+    private Long keyId;
+    private Long memberId;
+    private String actionType;
+    private LocalDateTime actionDate;
+    private String assignmentReason;
+    private String remarks;
+
+    public static LicenseHistoryResponse from(LicenseHistory history) {
+        return LicenseHistoryResponse.builder()
+            .historyId(history.getHistoryId())
+            .licenseId(history.getLicenseId())
+            .keyId(history.getKeyId())
+            .memberId(history.getMemberId())
+            .actionType(history.getActionType())
+            .actionDate(history.getActionDate())
+            .assignmentReason(history.getAssignmentReason())
+            .remarks(history.getRemarks())
+            .build();
+    }
+}
@@ -31,7 +31,8 @@ public class LicenseHistory extends BaseHistoryEntity {
     @Column(name = "action_type", nullable = false, length = 20)
     private String actionType;
 
-    @Column(name = "action_date", nullable = false)
+    // 월별 범위 파티션 키 (DB 기본 키는 history_id + action_date)
+    @Column(name = "action_date", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime actionDate = LocalDateTime.now();
 
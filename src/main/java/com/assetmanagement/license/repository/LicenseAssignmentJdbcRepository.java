@@ -0,0 +1,120 @@
+package com.assetmanagement.license.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라이센스 일괄 배정용 JDBC 배치 처리
+ * (JPA IDENTITY 전략은 INSERT 배치가 불가능하므로 시퀀스에서 ID를 미리 할당 후 batchUpdate)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LicenseAssignmentJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record AssignmentRow(Long assignmentId, Long licenseId, Long keyId, Long memberId) {
+    }
+
+    public List<Long> nextAssignmentIds(int count) {
+        return jdbcTemplate.queryForList(
+            "SELECT nextval('license_assignment_assignment_id_seq') FROM generate_series(1, ?)",
+            Long.class, count);
+    }
+
+    /**
+     * 배정 INSERT. used_qty는 increaseUsedQty()로 한 번에 반영하므로 트리거 증가를 생략한다.
+     */
+    public void insertAssignments(List<AssignmentRow> rows, LocalDate assignedDate,
+                                  String assignmentReason, String remarks, Long regId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.queryForObject("SELECT set_config('app.license_qty_managed', 'on', true)", String.class);
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO license_assignment (
+                assignment_id, license_id, key_id, member_id, assigned_date,
+                assignment_reason, assignment_status, remarks, is_deleted,
+                reg_id, reg_date, upd_id, upd_date
+            ) VALUES (?, ?, ?, ?, ?, ?, 'ASSIGNED', ?, false, ?, ?, ?, ?)
+            """, rows, rows.size(), (ps, row) -> {
+                ps.setLong(1, row.assignmentId());
+                ps.setLong(2, row.licenseId());
+                ps.setObject(3, row.keyId(), Types.BIGINT);
+                ps.setLong(4, row.memberId());
+                ps.setDate(5, Date.valueOf(assignedDate));
+                ps.setString(6, assignmentReason);
+                ps.setString(7, remarks);
+                ps.setObject(8, regId, Types.BIGINT);
+                ps.setTimestamp(9, now);
+                ps.setObject(10, regId, Types.BIGINT);
+                ps.setTimestamp(11, now);
+            });
+        jdbcTemplate.queryForObject("SELECT set_config('app.license_qty_managed', 'off', true)", String.class);
+    }
+
+    public void insertAssignHistories(List<AssignmentRow> rows, String assignmentReason,
+                                      String remarks, Long regId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO license_history (
+                license_id, key_id, member_id, action_type, action_date,
+                assignment_reason, remarks, reg_id, reg_date
+            ) VALUES (?, ?, ?, 'ASSIGN', ?, ?, ?, ?, ?)
+            """, rows, rows.size(), (ps, row) -> {
+                ps.setLong(1, row.licenseId());
+                ps.setObject(2, row.keyId(), Types.BIGINT);
+                ps.setLong(3, row.memberId());
+                ps.setTimestamp(4, now);
+                ps.setString(5, assignmentReason);
+                ps.setString(6, remarks);
+                ps.setObject(7, regId, Types.BIGINT);
+                ps.setTimestamp(8, now);
+            });
+    }
+
+    /**
+     * 사용가능(AVAILABLE) 키만 사용중으로 변경. 실제 변경된 key_id 반환 (누락된 키는 이미 사용 중/만료/삭제된 키)
+     */
+    public List<Long> markKeysInUse(List<Long> keyIds, Long updId) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                UPDATE license_key
+                SET key_status = 'IN_USE',
+                    upd_id = ?,
+                    upd_date = CURRENT_TIMESTAMP
+                WHERE key_id = ANY(?)
+                    AND key_status = 'AVAILABLE'
+                    AND is_deleted = false
+                RETURNING key_id
+                """);
+            ps.setObject(1, updId, Types.BIGINT);
+            ps.setArray(2, con.createArrayOf("bigint", keyIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /**
+     * 라이센스별 배정 건수만큼 used_qty 증가 (라이센스당 1회 UPDATE)
+     */
+    public void increaseUsedQty(Map<Long, Integer> countByLicenseId) {
+        List<Map.Entry<Long, Integer>> entries = List.copyOf(countByLicenseId.entrySet());
+        jdbcTemplate.batchUpdate("""
+            UPDATE license
+            SET used_qty = used_qty + ?,
+                upd_date = CURRENT_TIMESTAMP
+            WHERE license_id = ?
+            """, entries, entries.size(), (ps, entry) -> {
+                ps.setInt(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+            });
+    }
+}
@@ -1,15 +1,27 @@
 package com.assetmanagement.license.repository;
 
 import com.assetmanagement.license.entity.LicenseAssignment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface LicenseAssignmentRepository extends JpaRepository<LicenseAssignment, Long>,
         JpaSpecificationExecutor<LicenseAssignment> {
 
+    // 목록 응답에서 참조하는 연관 엔티티를 fetch join (페이지당 조회 + count 쿼리만 실행)
+    @Override
+    @EntityGraph(attributePaths = {"license", "license.software", "licenseKey", "member"})
+    Page<LicenseAssignment> findAll(Specification<LicenseAssignment> spec, Pageable pageable);
+
     Optional<LicenseAssignment> findByLicense_LicenseIdAndMember_MemberIdAndAssignmentStatusAndIsDeletedFalse(
             Long licenseId, Long memberId, String assignmentStatus);
 
@@ -18,4 +30,17 @@ public interface LicenseAssignmentRepository extends JpaRepository<LicenseAssign
 
     List<LicenseAssignment> findByLicense_LicenseIdAndAssignmentStatusAndIsDeletedFalse(
             Long licenseId, String assignmentStatus);
+
+    // 일괄 배정 중복 체크용: 배정 중인 (licenseId, memberId) 쌍
+    @Query("""
+        SELECT la.license.licenseId, la.member.memberId
+        FROM LicenseAssignment la
+        WHERE la.license.licenseId IN :licenseIds
+            AND la.member.memberId IN :memberIds
+            AND la.assignmentStatus = 'ASSIGNED'
+            AND la.isDeleted = false
+        """)
+    List<Object[]> findActiveLicenseMemberPairs(
+            @Param("licenseIds") Collection<Long> licenseIds,
+            @Param("memberIds") Collection<Long> memberIds);
 }
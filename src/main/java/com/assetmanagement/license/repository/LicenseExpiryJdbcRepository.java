@@ -0,0 +1,152 @@
+package com.assetmanagement.license.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 구독 만료 배치용 청크 처리 (라이센스별 키셋 조회 + 문장 단위 일괄 변경)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LicenseExpiryJdbcRepository {
+
+    /*
+     * 배정 만료 → 이력(EXPIRE) + 도메인 이벤트(LICENSE_EXPIRED) 기록 → used_qty 일괄 차감을 문장 1회로 처리한다.
+     * 행 단위 감소 트리거는 app.license_qty_managed = 'on' 으로 생략한다.
+     */
+    private static final String EXPIRE_ASSIGNMENTS_SQL = """
+        WITH target AS (
+            SELECT assignment_id
+            FROM license_assignment
+            WHERE license_id = ?
+                AND assignment_status = 'ASSIGNED'
+                AND is_deleted = false
+                AND assignment_id > ?
+            ORDER BY assignment_id
+            LIMIT ?
+            FOR UPDATE
+        ),
+        expired AS (
+            UPDATE license_assignment la
+            SET assignment_status = 'EXPIRED',
+                return_date = ?,
+                upd_date = CURRENT_TIMESTAMP
+            FROM target t
+            WHERE la.assignment_id = t.assignment_id
+            RETURNING la.license_id, la.key_id, la.member_id
+        ),
+        history AS (
+            INSERT INTO license_history (license_id, key_id, member_id, action_type, action_date, remarks, reg_date)
+            SELECT license_id, key_id, member_id, 'EXPIRE', CURRENT_TIMESTAMP, '구독 만료 자동 처리', CURRENT_TIMESTAMP
+            FROM expired
+        ),
+        events AS (
+            INSERT INTO domain_event_outbox (event_type, aggregate_type, aggregate_id, payload)
+            SELECT 'LICENSE_EXPIRED', 'LICENSE', license_id,
+                jsonb_build_object('licenseId', license_id, 'keyId', key_id, 'memberId', member_id,
+                    'actionType', 'EXPIRE', 'assignmentReason', NULL, 'remarks', '구독 만료 자동 처리', 'actorId', NULL)
+            FROM expired
+        ),
+        qty AS (
+            UPDATE license
+            SET used_qty = GREATEST(used_qty - (SELECT COUNT(*) FROM expired), 0),
+                upd_date = CURRENT_TIMESTAMP
+            WHERE license_id = ?
+                AND EXISTS (SELECT 1 FROM expired)
+        )
+        SELECT (SELECT COUNT(*) FROM target) AS scanned,
+            (SELECT COALESCE(MAX(assignment_id), 0) FROM target) AS last_id,
+            (SELECT COUNT(*) FROM expired) AS processed,
+            ARRAY(SELECT DISTINCT member_id FROM expired) AS member_ids
+        """;
+
+    private static final String EXPIRE_KEYS_SQL = """
+        WITH target AS (
+            SELECT key_id
+            FROM license_key
+            WHERE license_id = ?
+                AND key_status IN ('AVAILABLE', 'IN_USE')
+                AND is_deleted = false
+                AND key_id > ?
+            ORDER BY key_id
+            LIMIT ?
+            FOR UPDATE
+        ),
+        expired AS (
+            UPDATE license_key k
+            SET key_status = 'EXPIRED',
+                upd_date = CURRENT_TIMESTAMP
+            FROM target t
+            WHERE k.key_id = t.key_id
+            RETURNING k.key_id
+        )
+        SELECT (SELECT COUNT(*) FROM target) AS scanned,
+            (SELECT COALESCE(MAX(key_id), 0) FROM target) AS last_id,
+            (SELECT COUNT(*) FROM expired) AS processed
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * expiryDate에 만료되는 구독 라이센스 요약 (관리자 안내 메일 본문용)
+     */
+    public List<String> findExpiringSummaries(LocalDate expiryDate) {
+        return jdbcTemplate.queryForList("""
+            SELECT s.software_name || COALESCE(' ' || l.license_version, '')
+                || ' (사용 ' || l.used_qty || '/' || l.total_qty || ')'
+            FROM license l
+            JOIN software s
+                ON s.software_id = l.software_id
+            WHERE l.license_type = 'SUBSCRIPTION'
+                AND l.expiry_date = ?
+                AND l.is_active = true
+                AND l.is_deleted = false
+            ORDER BY l.license_id
+            """, String.class, Date.valueOf(expiryDate));
+    }
+
+    public record ExpiredChunk(int scanned, long lastId, int processed, List<Long> memberIds) {
+    }
+
+    /**
+     * afterId 이후 배정 최대 chunkSize건 만료 처리. 호출 측 트랜잭션 안에서 실행해야 한다.
+     */
+    public ExpiredChunk expireAssignments(Long licenseId, long afterId, int chunkSize, LocalDate baseDate) {
+        jdbcTemplate.queryForObject("SELECT set_config('app.license_qty_managed', 'on', true)", String.class);
+        ExpiredChunk chunk = jdbcTemplate.queryForObject(EXPIRE_ASSIGNMENTS_SQL, (rs, rowNum) -> new ExpiredChunk(
+            rs.getInt("scanned"),
+            rs.getLong("last_id"),
+            rs.getInt("processed"),
+            toLongList(rs.getArray("member_ids"))
+        ), licenseId, afterId, chunkSize, Date.valueOf(baseDate), licenseId);
+        jdbcTemplate.queryForObject("SELECT set_config('app.license_qty_managed', 'off', true)", String.class);
+        return chunk;
+    }
+
+    /**
+     * afterId 이후 사용가능/사용중 키 최대 chunkSize건 만료 처리
+     */
+    public ExpiredChunk expireKeys(Long licenseId, long afterId, int chunkSize) {
+        return jdbcTemplate.queryForObject(EXPIRE_KEYS_SQL, (rs, rowNum) -> new ExpiredChunk(
+            rs.getInt("scanned"),
+            rs.getLong("last_id"),
+            rs.getInt("processed"),
+            List.of()
+        ), licenseId, afterId, chunkSize);
+    }
+
+    private static List<Long> toLongList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.stream((Long[]) array.getArray()).toList();
+    }
+}
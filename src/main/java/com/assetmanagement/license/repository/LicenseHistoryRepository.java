@@ -1,13 +1,100 @@
 package com.assetmanagement.license.repository;
 
 import com.assetmanagement.license.entity.LicenseHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface LicenseHistoryRepository extends JpaRepository<LicenseHistory, Long> {
 
-    List<LicenseHistory> findByLicenseIdOrderByActionDateDesc(Long licenseId);
+    // 라이센스별/사용자별 이력 키셋 조회: [from, to) 구간에서 (beforeDate, beforeId) 이전 행을 최신순으로
+    // idx_license_history_license / idx_license_history_member (대상, action_date DESC, history_id DESC) 사용.
+    // 키셋은 행 값 비교로 써야 인덱스 범위 조건이 되어 뒤쪽 페이지에서도 최근 이력을 다시 읽지 않는다
+    @Query("""
+        SELECT h
+        FROM LicenseHistory h
+        WHERE h.licenseId = :licenseId
+            AND h.actionDate >= :from
+            AND h.actionDate < :to
+            AND (h.actionDate, h.historyId) < (:beforeDate, :beforeId)
+        ORDER BY h.actionDate DESC, h.historyId DESC
+        """)
+    List<LicenseHistory> findSliceByLicenseId(@Param("licenseId") Long licenseId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("beforeDate") LocalDateTime beforeDate,
+                                              @Param("beforeId") Long beforeId,
+                                              Pageable pageable);
 
-    List<LicenseHistory> findByMemberIdOrderByActionDateDesc(Long memberId);
+    @Query("""
+        SELECT h
+        FROM LicenseHistory h
+        WHERE h.memberId = :memberId
+            AND h.actionDate >= :from
+            AND h.actionDate < :to
+            AND (h.actionDate, h.historyId) < (:beforeDate, :beforeId)
+        ORDER BY h.actionDate DESC, h.historyId DESC
+        """)
+    List<LicenseHistory> findSliceByMemberId(@Param("memberId") Long memberId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("beforeDate") LocalDateTime beforeDate,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
+
+    // 내보내기용 스트림: 라이센스별 [from, to) 구간 이력을 발생 순으로 조회
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT h
+        FROM LicenseHistory h
+        WHERE h.licenseId = :licenseId
+            AND h.actionDate >= :from
+            AND h.actionDate < :to
+        ORDER BY h.actionDate, h.historyId
+        """)
+    Stream<LicenseHistory> streamByLicenseIdForExport(@Param("licenseId") Long licenseId,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    // 내보내기용 스트림: 사용자별 [from, to) 구간 이력을 발생 순으로 조회
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT h
+        FROM LicenseHistory h
+        WHERE h.memberId = :memberId
+            AND h.actionDate >= :from
+            AND h.actionDate < :to
+        ORDER BY h.actionDate, h.historyId
+        """)
+    Stream<LicenseHistory> streamByMemberIdForExport(@Param("memberId") Long memberId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    // 내보내기용 스트림: [from, to) 구간 이력을 history_id 순으로 조회
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT h
+        FROM LicenseHistory h
+        WHERE h.actionDate >= :from
+            AND h.actionDate < :to
+        ORDER BY h.historyId
+        """)
+    Stream<LicenseHistory> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,137 @@
+package com.assetmanagement.license.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * 라이센스 used_qty 정합성 보정 (v_license_qty_check 기준)
+ *
+ * 청크 처리 순서: 범위 조회 → 불일치 라이센스 행 잠금(license_id 순, SKIP LOCKED) → 재판정 후 보정.
+ * 잠금 이후 새 문장에서 재판정하므로 배정/회수 트리거가 커밋한 변경이 누락되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LicenseQtyReconcileJdbcRepository {
+
+    public static final String STATUS_CORRECTED = "CORRECTED";
+    public static final String STATUS_OVER_ALLOCATED = "OVER_ALLOCATED";
+
+    private static final String SCAN_SQL = """
+        SELECT COUNT(*) AS scanned, COALESCE(MAX(license_id), ?) AS last_id
+        FROM (
+            SELECT license_id
+            FROM license
+            WHERE license_id > ?
+                AND license_id <= ?
+            ORDER BY license_id
+            LIMIT ?
+        ) c
+        """;
+
+    // 불일치 판정은 v_license_qty_check를 그대로 사용하고, 배정 중인 트랜잭션이 잠근 라이센스는 건너뛴다
+    // (대기하지 않으므로 트리거와 교착이 발생하지 않음)
+    private static final String LOCK_DRIFTED_SQL = """
+        SELECT l.license_id
+        FROM license l
+        WHERE l.license_id IN (
+            SELECT v.license_id
+            FROM v_license_qty_check v
+            WHERE v.license_id > ?
+                AND v.license_id <= ?
+                AND v.status = 'MISMATCH'
+        )
+        ORDER BY l.license_id
+        FOR UPDATE OF l SKIP LOCKED
+        """;
+
+    // 실제 배정 수가 total_qty를 초과하면 CHECK 제약에 걸리므로 보정하지 않고 OVER_ALLOCATED로 기록
+    private static final String CORRECT_SQL = """
+        WITH actual AS (
+            SELECT v.license_id,
+                v.total_qty,
+                v.recorded_used_qty,
+                v.actual_used_qty
+            FROM v_license_qty_check v
+            WHERE v.license_id = ANY(?)
+                AND v.status = 'MISMATCH'
+        ),
+        corrected AS (
+            UPDATE license l
+            SET used_qty = a.actual_used_qty,
+                upd_date = CURRENT_TIMESTAMP
+            FROM actual a
+            WHERE l.license_id = a.license_id
+                AND a.actual_used_qty <= a.total_qty
+            RETURNING l.license_id
+        ),
+        report AS (
+            INSERT INTO license_qty_correction (
+                run_key, license_id, total_qty, recorded_used_qty, actual_used_qty, correction_status
+            )
+            SELECT ?, a.license_id, a.total_qty, a.recorded_used_qty, a.actual_used_qty,
+                CASE WHEN c.license_id IS NULL THEN 'OVER_ALLOCATED' ELSE 'CORRECTED' END
+            FROM actual a
+            LEFT JOIN corrected c
+                ON c.license_id = a.license_id
+            RETURNING license_id, total_qty, recorded_used_qty, actual_used_qty, correction_status
+        )
+        SELECT license_id, total_qty, recorded_used_qty, actual_used_qty, correction_status
+        FROM report
+        ORDER BY license_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Scan(int scanned, long lastId) {
+    }
+
+    public record Correction(Long licenseId, int totalQty, int recordedUsedQty, int actualUsedQty, String status) {
+    }
+
+    public long[] findIdBounds() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MIN(license_id), 0) AS min_id, COALESCE(MAX(license_id), 0) AS max_id FROM license",
+            (rs, rowNum) -> new long[]{rs.getLong("min_id"), rs.getLong("max_id")});
+    }
+
+    /**
+     * (afterId, upperId] 범위에서 최대 chunkSize건의 청크 경계 조회
+     */
+    public Scan scan(long afterId, long upperId, int chunkSize) {
+        return jdbcTemplate.queryForObject(SCAN_SQL, (rs, rowNum) -> new Scan(
+            rs.getInt("scanned"),
+            rs.getLong("last_id")
+        ), afterId, afterId, upperId, chunkSize);
+    }
+
+    /**
+     * (afterId, lastId] 범위의 불일치 라이센스 행 잠금. 호출 측 트랜잭션 안에서 실행해야 한다.
+     */
+    public List<Long> lockDrifted(long afterId, long lastId) {
+        return jdbcTemplate.queryForList(LOCK_DRIFTED_SQL, Long.class, afterId, lastId);
+    }
+
+    /**
+     * 잠금한 라이센스의 used_qty를 실제 배정 수로 보정하고 보정 이력(license_qty_correction) 기록
+     */
+    public List<Correction> correct(List<Long> licenseIds, String runKey) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(CORRECT_SQL);
+            Array ids = con.createArrayOf("bigint", licenseIds.toArray());
+            ps.setArray(1, ids);
+            ps.setString(2, runKey);
+            return ps;
+        }, (rs, rowNum) -> new Correction(
+            rs.getLong("license_id"),
+            rs.getInt("total_qty"),
+            rs.getInt("recorded_used_qty"),
+            rs.getInt("actual_used_qty"),
+            rs.getString("correction_status")
+        ));
+    }
+}
@@ -1,19 +1,61 @@
 package com.assetmanagement.license.repository;
 
+import com.assetmanagement.global.dto.SearchHit;
 import com.assetmanagement.license.entity.License;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LicenseRepository extends JpaRepository<License, Long>, JpaSpecificationExecutor<License> {
 
+    // 목록 응답에서 참조하는 연관 엔티티를 fetch join (페이지당 조회 + count 쿼리만 실행)
+    @Override
+    @EntityGraph(attributePaths = {"software"})
+    Page<License> findAll(Specification<License> spec, Pageable pageable);
+
     Optional<License> findByLicenseIdAndIsDeletedFalse(Long licenseId);
 
-    List<License> findByExpiryDateBeforeAndIsActiveTrueAndIsDeletedFalse(LocalDate date);
+    // 구독 만료 배치 대상: 만료일이 기준일 이전이면서 아직 만료 처리할 배정(ASSIGNED) 또는 키(AVAILABLE/IN_USE)가 남은 구독 라이센스
+    // (처리가 끝난 라이센스는 다음 실행부터 제외되어 매일 다시 처리/보고되지 않는다)
+    @Query("""
+        SELECT l.licenseId
+        FROM License l
+        WHERE l.licenseType = 'SUBSCRIPTION'
+            AND l.expiryDate < :baseDate
+            AND l.isActive = true
+            AND l.isDeleted = false
+            AND (EXISTS (
+                    SELECT 1
+                    FROM LicenseAssignment la
+                    WHERE la.license = l
+                        AND la.assignmentStatus = 'ASSIGNED'
+                        AND la.isDeleted = false)
+                OR EXISTS (
+                    SELECT 1
+                    FROM LicenseKey k
+                    WHERE k.license = l
+                        AND k.keyStatus IN ('AVAILABLE', 'IN_USE')
+                        AND k.isDeleted = false))
+        ORDER BY l.licenseId
+        """)
+    List<Long> findExpiredSubscriptionIds(@Param("baseDate") LocalDate baseDate);
 
     @Query("""
         SELECT l
@@ -24,4 +66,61 @@ public interface LicenseRepository extends JpaRepository<License, Long>, JpaSpec
         ORDER BY s.softwareName, l.licenseVersion
         """)
     List<License> findAllActiveLicenses();
+
+    // 일괄 배정용: license_id 순서로 행 잠금 (교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT l
+        FROM License l
+        WHERE l.licenseId IN :licenseIds
+            AND l.isDeleted = false
+        ORDER BY l.licenseId
+        """)
+    List<License> findAllForUpdate(@Param("licenseIds") Collection<Long> licenseIds);
+
+    // 잔여 수량이 있을 때만 used_qty 1 증가 (행 단위 원자적 처리). 0 반환 시 수량 초과
+    @Modifying
+    @Query(value = """
+        UPDATE license
+        SET used_qty = used_qty + 1,
+            upd_date = CURRENT_TIMESTAMP
+        WHERE license_id = :licenseId
+            AND used_qty < total_qty
+        """, nativeQuery = true)
+    int reserveSeat(@Param("licenseId") Long licenseId);
+
+    // 현재 트랜잭션에서 used_qty를 애플리케이션이 직접 관리함을 배정 트리거에 알림 ('on'이면 트리거 증가 생략)
+    @Query(value = "SELECT set_config('app.license_qty_managed', :value, true)", nativeQuery = true)
+    String setQtyManaged(@Param("value") String value);
+
+    // 내보내기용 스트림 (커서 기반 fetch, 호출 측 트랜잭션 안에서 소비 후 close 필요)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT l
+        FROM License l
+        JOIN FETCH l.software
+        WHERE l.isDeleted = false
+        ORDER BY l.licenseId
+        """)
+    Stream<License> streamAllForExport();
+
+    // 키워드 순위 검색: 소프트웨어명 pg_trgm GIN 인덱스 사용, word_similarity 점수 순 정렬
+    @Query(value = """
+        SELECT l.license_id AS id,
+            word_similarity(:keyword, lower(s.software_name)) AS score
+        FROM license l
+        JOIN software s
+            ON s.software_id = l.software_id
+        WHERE l.is_deleted = false
+            AND l.is_active = true
+            AND lower(s.software_name) LIKE :pattern
+        ORDER BY score DESC, l.license_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<SearchHit> searchRanked(@Param("keyword") String keyword,
+                                 @Param("pattern") String pattern,
+                                 @Param("limit") int limit);
 }
@@ -1,10 +1,14 @@
 package com.assetmanagement.license.service;
 
-import com.assetmanagement.asset.entity.AssetAssignment;
-import com.assetmanagement.asset.repository.AssetAssignmentRepository;
+import com.assetmanagement.event.dto.DomainEvent;
+import com.assetmanagement.event.service.DomainEventOutbox;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.CursorPagination;
 import com.assetmanagement.global.util.RedisLockUtil;
+import com.assetmanagement.global.util.RedisLockUtil.RedisLock;
 import com.assetmanagement.license.dto.LicenseAssignmentRequest;
 import com.assetmanagement.license.dto.LicenseAssignmentResponse;
 import com.assetmanagement.license.dto.LicenseReturnRequest;
@@ -19,7 +23,10 @@ import com.assetmanagement.license.repository.LicenseRepository;
 import com.assetmanagement.member.dto.MemberAssignmentDetailResponse;
 import com.assetmanagement.member.entity.Member;
 import com.assetmanagement.member.repository.MemberRepository;
+import com.assetmanagement.member.service.MemberAssignmentDetailService;
+import com.assetmanagement.notification.service.NotificationOutbox;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -27,7 +34,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -39,9 +45,12 @@ public class LicenseAssignmentService {
     private final LicenseAssignmentRepository licenseAssignmentRepository;
     private final LicenseHistoryRepository licenseHistoryRepository;
     private final MemberRepository memberRepository;
-    private final AssetAssignmentRepository assetAssignmentRepository;
     private final RedisLockUtil redisLockUtil;
+    private final MemberAssignmentDetailService memberAssignmentDetailService;
+    private final NotificationOutbox notificationOutbox;
+    private final DomainEventOutbox domainEventOutbox;
 
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
     private static final int MAX_RETRY = 3;
     private static final long RETRY_INTERVAL_MS = 100;
 
@@ -52,98 +61,113 @@ public class LicenseAssignmentService {
             .map(LicenseAssignmentResponse::from);
     }
 
+    public CursorPage<LicenseAssignmentResponse> getAssignmentsByCursor(CursorRequest request) {
+        Specification<LicenseAssignment> spec = (root, query, cb) ->
+            cb.isFalse(root.get("isDeleted"));
+        return CursorPagination.fetch(licenseAssignmentRepository, spec,
+            "assignmentId", LicenseAssignment::getAssignmentId, request, LicenseAssignmentResponse::from,
+            "license", "license.software", "licenseKey", "member");
+    }
+
     public MemberAssignmentDetailResponse getMemberAssignmentDetail(Long memberId) {
-        Member member = memberRepository.findById(memberId)
+        return memberAssignmentDetailService.getDetail(memberId);
+    }
+
+    @Transactional
+    public LicenseAssignmentResponse assignLicense(LicenseAssignmentRequest request, Long regId) {
+        License license = licenseRepository.findByLicenseIdAndIsDeletedFalse(request.getLicenseId())
             .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
 
-        List<AssetAssignment> assetAssignments =
-            assetAssignmentRepository.findByMember_MemberIdAndAssignmentStatusAndIsDeletedFalse(
-                memberId, "ASSIGNED");
+        // 수량형 배정(키 미지정): 락 없이 조건부 UPDATE로 수량 예약
+        if (!"INDIVIDUAL".equals(license.getLicenseType()) && request.getKeyId() == null) {
+            return assign(license, request, regId);
+        }
 
-        List<LicenseAssignment> licenseAssignments =
-            licenseAssignmentRepository.findByMember_MemberIdAndAssignmentStatusAndIsDeletedFalse(
-                memberId, "ASSIGNED");
+        // 키 지정 배정: 키 상태 확인/변경 구간만 키 단위 분산락으로 보호
+        if (request.getKeyId() == null) {
+            throw new BusinessException(ErrorCode.LICENSE_005);
+        }
+        String lockKey = "license:key:assign:" + request.getKeyId();
 
-        return buildMemberDetail(member, assetAssignments, licenseAssignments);
+        RedisLock lock = redisLockUtil.tryLock(lockKey, LOCK_TTL, MAX_RETRY, RETRY_INTERVAL_MS);
+        if (lock == null) {
+            throw new BusinessException(ErrorCode.COMMON_001);
+        }
+
+        // 커밋(또는 롤백) 이후 해제: 다음 획득자가 커밋 전 키 상태를 읽지 않도록
+        redisLockUtil.unlockAfterCompletion(lock);
+        return assign(license, request, regId);
     }
 
-    @Transactional
-    public LicenseAssignmentResponse assignLicense(LicenseAssignmentRequest request, Long regId) {
-        String lockKey = "license:assign:" + request.getLicenseId();
+    private LicenseAssignmentResponse assign(License license, LicenseAssignmentRequest request, Long regId) {
+        Member member = memberRepository.findById(request.getMemberId())
+            .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
 
-        if (!tryAcquireLock(lockKey)) {
-            throw new BusinessException(ErrorCode.COMMON_001);
+        // SUBSCRIPTION 유형: 만료일 확인
+        if ("SUBSCRIPTION".equals(license.getLicenseType()) && license.isExpired()) {
+            throw new BusinessException(ErrorCode.LICENSE_003);
         }
 
-        try {
-            License license = licenseRepository.findByLicenseIdAndIsDeletedFalse(request.getLicenseId())
+        // 동일 사용자 중복 배정 체크
+        licenseAssignmentRepository
+            .findByLicense_LicenseIdAndMember_MemberIdAndAssignmentStatusAndIsDeletedFalse(
+                request.getLicenseId(), request.getMemberId(), "ASSIGNED")
+            .ifPresent(a -> { throw new BusinessException(ErrorCode.LICENSE_002); });
+
+        // INDIVIDUAL 유형: keyId 필수, 키 상태 AVAILABLE 확인
+        // VOLUME/SUBSCRIPTION도 keyId가 있으면 상태 변경
+        LicenseKey licenseKey = null;
+        if (request.getKeyId() != null) {
+            licenseKey = licenseKeyRepository.findById(request.getKeyId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
+            if (!"AVAILABLE".equals(licenseKey.getKeyStatus())) {
+                throw new BusinessException(ErrorCode.LICENSE_006);
+            }
+            licenseKey.changeStatus("IN_USE");
+        }
 
-            Member member = memberRepository.findById(request.getMemberId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
+        // 수량 예약: used_qty < total_qty 조건부 증가 (0건이면 잔여 수량 없음)
+        // 해당 license 행은 커밋 시까지 잠기므로 동시 배정은 DB 행 락으로 짧게 직렬화됨
+        if (licenseRepository.reserveSeat(license.getLicenseId()) == 0) {
+            throw new BusinessException(ErrorCode.LICENSE_001);
+        }
 
-            // 수량 체크: used_qty < total_qty
-            if (license.getUsedQty() >= license.getTotalQty()) {
-                throw new BusinessException(ErrorCode.LICENSE_001);
-            }
+        // 배정 레코드 생성 (used_qty는 위에서 증가했으므로 트리거 증가 생략)
+        LicenseAssignment assignment = LicenseAssignment.builder()
+            .license(license)
+            .licenseKey(licenseKey)
+            .member(member)
+            .assignedDate(request.getAssignedDate())
+            .assignmentReason(request.getAssignmentReason())
+            .remarks(request.getRemarks())
+            .build();
+        assignment.setRegId(regId);
+        assignment.setUpdId(regId);
 
-            // SUBSCRIPTION 유형: 만료일 확인
-            if ("SUBSCRIPTION".equals(license.getLicenseType()) && license.isExpired()) {
-                throw new BusinessException(ErrorCode.LICENSE_003);
-            }
+        saveWithManagedQty(assignment);
 
-            // 동일 사용자 중복 배정 체크
-            licenseAssignmentRepository
-                .findByLicense_LicenseIdAndMember_MemberIdAndAssignmentStatusAndIsDeletedFalse(
-                    request.getLicenseId(), request.getMemberId(), "ASSIGNED")
-                .ifPresent(a -> { throw new BusinessException(ErrorCode.LICENSE_002); });
-
-            // INDIVIDUAL 유형: keyId 필수, 키 상태 AVAILABLE 확인
-            LicenseKey licenseKey = null;
-            if ("INDIVIDUAL".equals(license.getLicenseType())) {
-                if (request.getKeyId() == null) {
-                    throw new BusinessException(ErrorCode.LICENSE_005);
-                }
-                licenseKey = licenseKeyRepository.findById(request.getKeyId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
-                if (!"AVAILABLE".equals(licenseKey.getKeyStatus())) {
-                    throw new BusinessException(ErrorCode.LICENSE_006);
-                }
-                licenseKey.changeStatus("IN_USE");
-            } else if (request.getKeyId() != null) {
-                // VOLUME/SUBSCRIPTION도 keyId가 있으면 상태 변경
-                licenseKey = licenseKeyRepository.findById(request.getKeyId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
-                if (!"AVAILABLE".equals(licenseKey.getKeyStatus())) {
-                    throw new BusinessException(ErrorCode.LICENSE_006);
-                }
-                licenseKey.changeStatus("IN_USE");
-            }
+        // 이력 기록
+        saveHistory(license.getLicenseId(),
+            licenseKey != null ? licenseKey.getKeyId() : null,
+            member.getMemberId(), "ASSIGN", request.getAssignmentReason(),
+            request.getRemarks(), regId);
+
+        // 배정 안내 메일 (키 + 설치 가이드) 발송 대기열 적재
+        notificationOutbox.licenseAssigned(member, license, licenseKey);
+
+        memberAssignmentDetailService.evict(member.getMemberId());
+        return LicenseAssignmentResponse.from(assignment);
+    }
 
-            // 배정 레코드 생성 (INSERT 시 트리거가 used_qty 자동 증가)
-            LicenseAssignment assignment = LicenseAssignment.builder()
-                .license(license)
-                .licenseKey(licenseKey)
-                .member(member)
-                .assignedDate(request.getAssignedDate())
-                .assignmentReason(request.getAssignmentReason())
-                .remarks(request.getRemarks())
-                .build();
-            assignment.setRegId(regId);
-            assignment.setUpdId(regId);
-
-            licenseAssignmentRepository.save(assignment);
-
-            // 이력 기록
-            saveHistory(license.getLicenseId(),
-                licenseKey != null ? licenseKey.getKeyId() : null,
-                member.getMemberId(), "ASSIGN", request.getAssignmentReason(),
-                request.getRemarks(), regId);
-
-            return LicenseAssignmentResponse.from(assignment);
-        } finally {
-            redisLockUtil.unlock(lockKey);
+    private void saveWithManagedQty(LicenseAssignment assignment) {
+        licenseRepository.setQtyManaged("on");
+        try {
+            licenseAssignmentRepository.saveAndFlush(assignment);
+        } catch (DataIntegrityViolationException e) {
+            // uk_license_assign_active: 동시 요청으로 동일 사용자 중복 배정
+            throw new BusinessException(ErrorCode.LICENSE_002);
         }
+        licenseRepository.setQtyManaged("off");
     }
 
     @Transactional
@@ -169,6 +193,8 @@ public class LicenseAssignmentService {
             assignment.getLicenseKey() != null ? assignment.getLicenseKey().getKeyId() : null,
             assignment.getMember().getMemberId(), "RETURN", null,
             request != null ? request.getRemarks() : null, updId);
+
+        memberAssignmentDetailService.evict(assignment.getMember().getMemberId());
     }
 
     @Transactional
@@ -190,6 +216,7 @@ public class LicenseAssignmentService {
             .build();
         updated.setUpdId(updId);
 
+        memberAssignmentDetailService.evict(assignment.getMember().getMemberId());
         return LicenseAssignmentResponse.from(licenseAssignmentRepository.save(updated));
     }
 
@@ -206,66 +233,6 @@ public class LicenseAssignmentService {
             .build();
         history.setRegId(regId);
         licenseHistoryRepository.save(history);
-    }
-
-    private boolean tryAcquireLock(String lockKey) {
-        for (int i = 0; i < MAX_RETRY; i++) {
-            if (redisLockUtil.tryLock(lockKey, Duration.ofSeconds(30))) {
-                return true;
-            }
-            try {
-                Thread.sleep(RETRY_INTERVAL_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
-        }
-        return false;
-    }
-
-    private MemberAssignmentDetailResponse buildMemberDetail(
-            Member member,
-            List<AssetAssignment> assetAssignments,
-            List<LicenseAssignment> licenseAssignments) {
-
-        MemberAssignmentDetailResponse.UserInfo userInfo =
-            MemberAssignmentDetailResponse.UserInfo.builder()
-                .memberId(member.getMemberId())
-                .memberName(member.getMemberName())
-                .loginId(member.getLoginId())
-                .deptId(member.getDeptId())
-                .hireDate(member.getHireDate())
-                .resignDate(member.getResignDate())
-                .build();
-
-        List<MemberAssignmentDetailResponse.AssetAssignmentItem> assetItems =
-            assetAssignments.stream()
-                .map(a -> MemberAssignmentDetailResponse.AssetAssignmentItem.builder()
-                    .assignmentId(a.getAssignmentId())
-                    .categoryName(a.getAsset().getCategory().getCategoryName())
-                    .assetName(a.getAsset().getAssetName())
-                    .manufacturer(a.getAsset().getManufacturer())
-                    .modelName(a.getAsset().getModelName())
-                    .assignedDate(a.getAssignedDate())
-                    .build())
-                .toList();
-
-        List<MemberAssignmentDetailResponse.LicenseAssignmentItem> licenseItems =
-            licenseAssignments.stream()
-                .map(la -> MemberAssignmentDetailResponse.LicenseAssignmentItem.builder()
-                    .assignmentId(la.getAssignmentId())
-                    .softwareName(la.getLicense().getSoftware().getSoftwareName())
-                    .licenseVersion(la.getLicense().getLicenseVersion())
-                    .licenseType(la.getLicense().getLicenseType())
-                    .assignedDate(la.getAssignedDate())
-                    .assignmentReason(la.getAssignmentReason())
-                    .build())
-                .toList();
-
-        return MemberAssignmentDetailResponse.builder()
-            .userInfo(userInfo)
-            .assetAssignments(assetItems)
-            .licenseAssignments(licenseItems)
-            .build();
+        domainEventOutbox.publish(DomainEvent.of(history));
     }
 }
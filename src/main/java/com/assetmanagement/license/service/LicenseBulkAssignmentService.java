@@ -0,0 +1,246 @@
+package com.assetmanagement.license.service;
+
+import com.assetmanagement.event.dto.DomainEvent;
+import com.assetmanagement.event.service.DomainEventOutbox;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.RedisLockUtil;
+import com.assetmanagement.global.util.RedisLockUtil.RedisLock;
+import com.assetmanagement.license.dto.LicenseBulkAssignmentRequest;
+import com.assetmanagement.license.dto.LicenseBulkAssignmentResponse;
+import com.assetmanagement.license.entity.License;
+import com.assetmanagement.license.entity.LicenseKey;
+import com.assetmanagement.license.repository.LicenseAssignmentJdbcRepository;
+import com.assetmanagement.license.repository.LicenseAssignmentJdbcRepository.AssignmentRow;
+import com.assetmanagement.license.repository.LicenseAssignmentRepository;
+import com.assetmanagement.license.repository.LicenseKeyRepository;
+import com.assetmanagement.license.repository.LicenseRepository;
+import com.assetmanagement.member.entity.Member;
+import com.assetmanagement.member.repository.MemberRepository;
+import com.assetmanagement.member.service.MemberAssignmentDetailService;
+import com.assetmanagement.notification.service.NotificationOutbox;
+import com.assetmanagement.notification.service.NotificationOutbox.LicenseAssignedMail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 라이센스 일괄 배정 (입사자 온보딩 등)
+ *
+ * 1. 대상 라이센스를 license_id 순서로 행 잠금 후, 라이센스별 잔여 수량을 메모리에서 차감하며 검증
+ * 2. 지정 키는 키 단위 분산락을 먼저 획득한 뒤 조회 (락 획득 이전 상태로 검증하지 않도록)
+ * 3. 사용자/기존 배정은 IN 쿼리로 한 번에 조회
+ * 4. 지정 키를 조건부 UPDATE로 사용 처리하고, 반영되지 않은 키의 항목은 LICENSE_006 실패로 전환
+ * 5. 통과 건만 JDBC 배치로 배정/이력 INSERT, used_qty는 라이센스별 1회 UPDATE
+ *
+ * 항목별 실패는 전체를 롤백하지 않고 결과에 사유를 담아 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LicenseBulkAssignmentService {
+
+    private final LicenseRepository licenseRepository;
+    private final LicenseKeyRepository licenseKeyRepository;
+    private final LicenseAssignmentRepository licenseAssignmentRepository;
+    private final LicenseAssignmentJdbcRepository licenseAssignmentJdbcRepository;
+    private final MemberRepository memberRepository;
+    private final RedisLockUtil redisLockUtil;
+    private final MemberAssignmentDetailService memberAssignmentDetailService;
+    private final NotificationOutbox notificationOutbox;
+    private final DomainEventOutbox domainEventOutbox;
+
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+    @Transactional
+    public LicenseBulkAssignmentResponse assignLicenses(LicenseBulkAssignmentRequest request, Long regId) {
+        List<LicenseBulkAssignmentRequest.Item> items = request.getItems();
+
+        Set<Long> licenseIds = new TreeSet<>();
+        Set<Long> memberIds = new HashSet<>();
+        Set<Long> keyIds = new TreeSet<>();
+        for (LicenseBulkAssignmentRequest.Item item : items) {
+            licenseIds.add(item.getLicenseId());
+            memberIds.add(item.getMemberId());
+            if (item.getKeyId() != null) {
+                keyIds.add(item.getKeyId());
+            }
+        }
+
+        // 라이센스 행 잠금 (단건 배정의 조건부 UPDATE와 직렬화됨)
+        Map<Long, License> licenses = licenseRepository.findAllForUpdate(licenseIds).stream()
+            .collect(Collectors.toMap(License::getLicenseId, Function.identity()));
+        Map<Long, Member> members = memberRepository.findAllById(memberIds).stream()
+            .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        // 키 지정 배정은 단건 배정과 동일한 키 단위 분산락 사용 (커밋 이후 해제)
+        Set<Long> lockedKeyIds = new TreeSet<>();
+        for (Long keyId : keyIds) {
+            RedisLock lock = redisLockUtil.tryLock("license:key:assign:" + keyId, LOCK_TTL);
+            if (lock != null) {
+                redisLockUtil.unlockAfterCompletion(lock);
+                lockedKeyIds.add(keyId);
+            }
+        }
+
+        // 키 상태는 락 획득 이후에 조회 (락 획득 이전에 다른 요청이 사용 처리한 키를 AVAILABLE로 보지 않도록)
+        Map<Long, LicenseKey> keys = lockedKeyIds.isEmpty() ? new HashMap<>()
+            : licenseKeyRepository.findAllById(lockedKeyIds).stream()
+                .collect(Collectors.toMap(LicenseKey::getKeyId, Function.identity()));
+
+        Set<String> activePairs = new HashSet<>();
+        for (Object[] pair : licenseAssignmentRepository.findActiveLicenseMemberPairs(licenseIds, memberIds)) {
+            activePairs.add(pairKey((Long) pair[0], (Long) pair[1]));
+        }
+
+        Map<Long, Integer> remainByLicenseId = new HashMap<>();
+        licenses.values().forEach(l -> remainByLicenseId.put(l.getLicenseId(), l.getRemainQty()));
+
+        // 항목별 검증 (배치 내 중복/수량 차감 포함)
+        ErrorCode[] errors = new ErrorCode[items.size()];
+        Set<Long> usedKeyIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            LicenseBulkAssignmentRequest.Item item = items.get(i);
+            ErrorCode error = validate(item, licenses.get(item.getLicenseId()), members.get(item.getMemberId()),
+                keys.get(item.getKeyId()), lockedKeyIds, usedKeyIds, activePairs, remainByLicenseId);
+            errors[i] = error;
+            if (error == null) {
+                activePairs.add(pairKey(item.getLicenseId(), item.getMemberId()));
+                remainByLicenseId.merge(item.getLicenseId(), -1, Integer::sum);
+                if (item.getKeyId() != null) {
+                    usedKeyIds.add(item.getKeyId());
+                }
+            }
+        }
+
+        // 지정 키 사용 처리. 검증 이후 락 밖의 경로(키 상태 변경 등)로 먼저 변경된 키는 해당 항목만 실패 처리
+        if (!usedKeyIds.isEmpty()) {
+            Set<Long> markedKeyIds = new HashSet<>(
+                licenseAssignmentJdbcRepository.markKeysInUse(new ArrayList<>(usedKeyIds), regId));
+            for (int i = 0; i < items.size(); i++) {
+                Long keyId = items.get(i).getKeyId();
+                if (errors[i] == null && keyId != null && !markedKeyIds.contains(keyId)) {
+                    errors[i] = ErrorCode.LICENSE_006;
+                }
+            }
+        }
+
+        // 통과 건 일괄 반영
+        int successCount = 0;
+        for (ErrorCode error : errors) {
+            if (error == null) {
+                successCount++;
+            }
+        }
+        Long[] assignmentIds = new Long[items.size()];
+        if (successCount > 0) {
+            Iterator<Long> ids = licenseAssignmentJdbcRepository.nextAssignmentIds(successCount).iterator();
+            List<AssignmentRow> rows = new ArrayList<>(successCount);
+            List<LicenseAssignedMail> mails = new ArrayList<>(successCount);
+            Map<Long, Integer> countByLicenseId = new TreeMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                if (errors[i] != null) {
+                    continue;
+                }
+                LicenseBulkAssignmentRequest.Item item = items.get(i);
+                assignmentIds[i] = ids.next();
+                rows.add(new AssignmentRow(assignmentIds[i], item.getLicenseId(), item.getKeyId(), item.getMemberId()));
+                countByLicenseId.merge(item.getLicenseId(), 1, Integer::sum);
+                mails.add(new LicenseAssignedMail(members.get(item.getMemberId()),
+                    licenses.get(item.getLicenseId()), item.getKeyId() != null ? keys.get(item.getKeyId()) : null));
+            }
+
+            licenseAssignmentJdbcRepository.insertAssignments(rows, request.getAssignedDate(),
+                request.getAssignmentReason(), request.getRemarks(), regId);
+            licenseAssignmentJdbcRepository.insertAssignHistories(rows,
+                request.getAssignmentReason(), request.getRemarks(), regId);
+            domainEventOutbox.publishAll(rows.stream()
+                .map(row -> DomainEvent.license("ASSIGN", row.licenseId(), row.keyId(), row.memberId(),
+                    request.getAssignmentReason(), request.getRemarks(), regId))
+                .toList());
+            licenseAssignmentJdbcRepository.increaseUsedQty(countByLicenseId);
+            notificationOutbox.licenseAssigned(mails);
+
+            rows.stream().map(AssignmentRow::memberId).distinct()
+                .forEach(memberAssignmentDetailService::evict);
+        }
+
+        List<LicenseBulkAssignmentResponse.ItemResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            LicenseBulkAssignmentRequest.Item item = items.get(i);
+            results.add(LicenseBulkAssignmentResponse.ItemResult.builder()
+                .index(i)
+                .licenseId(item.getLicenseId())
+                .memberId(item.getMemberId())
+                .keyId(item.getKeyId())
+                .success(errors[i] == null)
+                .assignmentId(assignmentIds[i])
+                .errorCode(errors[i] != null ? errors[i].getCode() : null)
+                .message(errors[i] != null ? errors[i].getMessage() : null)
+                .build());
+        }
+
+        return LicenseBulkAssignmentResponse.builder()
+            .requestedCount(items.size())
+            .successCount(successCount)
+            .failureCount(items.size() - successCount)
+            .results(results)
+            .build();
+    }
+
+    private ErrorCode validate(LicenseBulkAssignmentRequest.Item item, License license, Member member,
+                               LicenseKey key, Set<Long> lockedKeyIds, Set<Long> usedKeyIds,
+                               Set<String> activePairs, Map<Long, Integer> remainByLicenseId) {
+        if (license == null || member == null) {
+            return ErrorCode.COMMON_003;
+        }
+
+        // SUBSCRIPTION 유형: 만료일 확인
+        if ("SUBSCRIPTION".equals(license.getLicenseType()) && license.isExpired()) {
+            return ErrorCode.LICENSE_003;
+        }
+
+        // 동일 사용자 중복 배정 (기존 배정 + 배치 내 중복)
+        if (activePairs.contains(pairKey(item.getLicenseId(), item.getMemberId()))) {
+            return ErrorCode.LICENSE_002;
+        }
+
+        // INDIVIDUAL 유형: keyId 필수, 키 상태 AVAILABLE 확인
+        if ("INDIVIDUAL".equals(license.getLicenseType()) && item.getKeyId() == null) {
+            return ErrorCode.LICENSE_005;
+        }
+        if (item.getKeyId() != null) {
+            if (!lockedKeyIds.contains(item.getKeyId())) {
+                return ErrorCode.COMMON_001;
+            }
+            if (key == null || !key.getLicense().getLicenseId().equals(license.getLicenseId())) {
+                return ErrorCode.COMMON_003;
+            }
+            if (!"AVAILABLE".equals(key.getKeyStatus()) || usedKeyIds.contains(item.getKeyId())) {
+                return ErrorCode.LICENSE_006;
+            }
+        }
+
+        // 수량 체크 (배치 내 앞선 배정분 차감 후)
+        if (remainByLicenseId.getOrDefault(item.getLicenseId(), 0) <= 0) {
+            return ErrorCode.LICENSE_001;
+        }
+        return null;
+    }
+
+    private static String pairKey(Long licenseId, Long memberId) {
+        return licenseId + ":" + memberId;
+    }
+}
@@ -1,10 +1,18 @@
 package com.assetmanagement.license.service;
 
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.dto.HistoryCursorRequest;
+import com.assetmanagement.global.dto.SearchHit;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.CursorPagination;
+import com.assetmanagement.global.util.SearchKeyword;
 import com.assetmanagement.license.dto.*;
 import com.assetmanagement.license.entity.License;
+import com.assetmanagement.license.entity.LicenseHistory;
 import com.assetmanagement.license.entity.LicenseKey;
+import com.assetmanagement.license.repository.LicenseHistoryRepository;
 import com.assetmanagement.license.repository.LicenseKeyRepository;
 import com.assetmanagement.license.repository.LicenseRepository;
 import com.assetmanagement.license.repository.LicenseSpecification;
@@ -15,6 +23,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -25,6 +34,7 @@ public class LicenseService {
 
     private final LicenseRepository licenseRepository;
     private final LicenseKeyRepository licenseKeyRepository;
+    private final LicenseHistoryRepository licenseHistoryRepository;
     private final SoftwareRepository softwareRepository;
 
     public Page<LicenseResponse> getLicenses(LicenseSearchCondition condition, Pageable pageable) {
@@ -32,6 +42,42 @@ public class LicenseService {
             .map(LicenseResponse::from);
     }
 
+    public CursorPage<LicenseResponse> getLicensesByCursor(LicenseSearchCondition condition, CursorRequest request) {
+        return CursorPagination.fetch(licenseRepository, LicenseSpecification.search(condition),
+            "licenseId", License::getLicenseId, request, LicenseResponse::from, "software");
+    }
+
+    /**
+     * 키워드 순위 검색 (pg_trgm 유사도 점수 순)
+     */
+    public List<LicenseResponse> searchLicenses(String keyword, Integer limit) {
+        if (!StringUtils.hasText(keyword)) {
+            throw new BusinessException(ErrorCode.COMMON_002);
+        }
+        List<SearchHit> hits = licenseRepository.searchRanked(
+            SearchKeyword.normalize(keyword), SearchKeyword.containsPattern(keyword), SearchKeyword.limit(limit));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<License> licenses = licenseRepository.findAllById(SearchKeyword.ids(hits));
+        return SearchKeyword.sortByHits(hits, licenses, License::getLicenseId).stream()
+            .map(LicenseResponse::from)
+            .toList();
+    }
+
+    /**
+     * 라이센스 배정 이력 (기간 + 커서, 최신순). 전체 이력은 /exports/license-histories?licenseId= 로 내보낸다.
+     */
+    public CursorPage<LicenseHistoryResponse> getLicenseHistory(Long licenseId, HistoryCursorRequest request) {
+        findLicenseOrThrow(licenseId);
+        request.validatePeriod();
+        CursorPagination.Key before = request.before();
+        List<LicenseHistory> rows = licenseHistoryRepository.findSliceByLicenseId(licenseId,
+            request.fromOrMin(), request.toOrMax(), before.time(), before.id(), request.limit());
+        return CursorPagination.toPage(rows, request.getSize(),
+            LicenseHistory::getActionDate, LicenseHistory::getHistoryId, LicenseHistoryResponse::from);
+    }
+
     public LicenseDetailResponse getLicense(Long licenseId) {
         License license = findLicenseOrThrow(licenseId);
         List<LicenseKey> keys = licenseKeyRepository
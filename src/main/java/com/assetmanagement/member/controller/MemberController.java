@@ -1,7 +1,15 @@
 package com.assetmanagement.member.controller;
 
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.dto.HistoryCursorRequest;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
+import com.assetmanagement.license.dto.LicenseHistoryResponse;
 import com.assetmanagement.member.dto.*;
+import com.assetmanagement.member.service.MemberBulkResignService;
 import com.assetmanagement.member.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,9 +31,11 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberBulkResignService memberBulkResignService;
 
     @Operation(summary = "사용자 목록 (페이징, 검색)")
     @GetMapping
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.READ)
     public ApiResponse<Page<MemberResponse>> getMembers(
             MemberSearchCondition condition,
             @PageableDefault(size = 20, sort = "regDate", direction = Sort.Direction.DESC)
@@ -33,14 +43,33 @@ public class MemberController {
         return ApiResponse.ok(memberService.getMembers(condition, pageable));
     }
 
+    @Operation(summary = "사용자 목록 (커서 페이징, 검색)")
+    @GetMapping("/cursor")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.READ)
+    public ApiResponse<CursorPage<MemberResponse>> getMembersByCursor(
+            MemberSearchCondition condition, CursorRequest cursorRequest) {
+        return ApiResponse.ok(memberService.getMembersByCursor(condition, cursorRequest));
+    }
+
+    @Operation(summary = "사용자 키워드 검색 (이름/로그인 ID 유사도 순위)")
+    @GetMapping("/search")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.READ)
+    public ApiResponse<List<MemberResponse>> searchMembers(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer limit) {
+        return ApiResponse.ok(memberService.searchMembers(keyword, limit));
+    }
+
     @Operation(summary = "사용자 상세 조회")
     @GetMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.READ)
     public ApiResponse<MemberResponse> getMember(@PathVariable Long id) {
         return ApiResponse.ok(memberService.getMember(id));
     }
 
     @Operation(summary = "사용자 등록")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<MemberResponse> createMember(@Valid @RequestBody MemberRequest request) {
         Long regId = 1L;
@@ -49,6 +78,7 @@ public class MemberController {
 
     @Operation(summary = "사용자 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.UPDATE)
     public ApiResponse<MemberResponse> updateMember(
             @PathVariable Long id,
             @Valid @RequestBody MemberRequest request) {
@@ -58,6 +88,7 @@ public class MemberController {
 
     @Operation(summary = "사용자 비활성화")
     @DeleteMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.DELETE)
     public ApiResponse<Void> deleteMember(@PathVariable Long id) {
         Long updId = 1L;
         memberService.deleteMember(id, updId);
@@ -66,6 +97,7 @@ public class MemberController {
 
     @Operation(summary = "퇴사 처리 (7단계 자동 프로세스)")
     @PutMapping("/{id}/resign")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.UPDATE)
     public ApiResponse<Void> resignMember(
             @PathVariable Long id,
             @Valid @RequestBody MemberResignRequest request) {
@@ -74,14 +106,33 @@ public class MemberController {
         return ApiResponse.ok(null, "퇴사 처리가 완료되었습니다.");
     }
 
+    @Operation(summary = "일괄 퇴사 처리 (최대 1000명, 항목별 결과 반환)")
+    @PostMapping("/resign/bulk")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.UPDATE)
+    public ApiResponse<MemberBulkResignResponse> resignMembers(
+            @Valid @RequestBody MemberBulkResignRequest request) {
+        Long updId = 1L;
+        return ApiResponse.ok(memberBulkResignService.resignMembers(request, updId));
+    }
+
+    @Operation(summary = "사용자 라이센스 배정 이력 조회 (기간 + 커서 페이징)")
+    @GetMapping("/{id}/license-history")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.READ)
+    public ApiResponse<CursorPage<LicenseHistoryResponse>> getLicenseHistory(
+            @PathVariable Long id, HistoryCursorRequest request) {
+        return ApiResponse.ok(memberService.getLicenseHistory(id, request));
+    }
+
     @Operation(summary = "사용자 권한 조회")
     @GetMapping("/{id}/roles")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.READ)
     public ApiResponse<List<MemberRoleResponse>> getMemberRoles(@PathVariable Long id) {
         return ApiResponse.ok(memberService.getMemberRoles(id));
     }
 
     @Operation(summary = "사용자 권한 설정")
     @PutMapping("/{id}/roles")
+    @RequiresMenuPermission(menu = MenuCode.MEMBER, value = MenuPermission.UPDATE)
     public ApiResponse<List<MemberRoleResponse>> updateMemberRoles(
             @PathVariable Long id,
             @Valid @RequestBody MemberRoleRequest request) {
@@ -2,12 +2,14 @@ package com.assetmanagement.member.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class MemberAssignmentDetailResponse {
 
     private UserInfo userInfo;
@@ -16,6 +18,7 @@ public class MemberAssignmentDetailResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class UserInfo {
         private Long memberId;
         private String memberName;
@@ -27,6 +30,7 @@ public class MemberAssignmentDetailResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class AssetAssignmentItem {
         private Long assignmentId;
         private String categoryName;
@@ -38,6 +42,7 @@ public class MemberAssignmentDetailResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class LicenseAssignmentItem {
         private Long assignmentId;
         private String softwareName;
@@ -0,0 +1,22 @@
+package com.assetmanagement.member.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class MemberBulkResignRequest {
+
+    @NotEmpty(message = "퇴사 대상은 1명 이상이어야 합니다")
+    @Size(max = 1000, message = "일괄 퇴사는 최대 1000명까지 가능합니다")
+    private List<@NotNull Long> memberIds;
+
+    @NotNull(message = "퇴사일은 필수입니다.")
+    private LocalDate resignDate;
+}
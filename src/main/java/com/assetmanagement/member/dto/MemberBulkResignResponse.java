@@ -0,0 +1,27 @@
+package com.assetmanagement.member.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MemberBulkResignResponse {
+
+    private int requestedCount;
+    private int successCount;
+    private int failureCount;
+    private int returnedAssetCount;
+    private int returnedLicenseCount;
+    private List<ItemResult> results;
+
+    @Getter
+    @Builder
+    public static class ItemResult {
+        private Long memberId;
+        private boolean success;
+        private String errorCode;
+        private String message;
+    }
+}
@@ -92,9 +92,13 @@ public class Member extends BaseEntity {
         "LEAVE",    Set.of("ACTIVE", "RESIGNED")
     );
 
-    public void changeEmploymentStatus(String newStatus) {
+    public boolean canChangeEmploymentStatus(String newStatus) {
         Set<String> allowed = VALID_TRANSITIONS.get(this.employmentStatus);
-        if (allowed == null || !allowed.contains(newStatus)) {
+        return allowed != null && allowed.contains(newStatus);
+    }
+
+    public void changeEmploymentStatus(String newStatus) {
+        if (!canChangeEmploymentStatus(newStatus)) {
             throw new IllegalStateException(
                 String.format("잘못된 상태 전이: %s → %s", this.employmentStatus, newStatus));
         }
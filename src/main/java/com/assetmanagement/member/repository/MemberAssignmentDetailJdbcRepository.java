@@ -0,0 +1,76 @@
+package com.assetmanagement.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 배정 상세보기 조회 전용 (읽기 모델)
+ * 사용자 정보 + 배정 중인 자산/라이센스를 JSON 집계 쿼리 1회로 조회한다.
+ * 결과 JSON 필드명은 MemberAssignmentDetailResponse 구조와 동일하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberAssignmentDetailJdbcRepository {
+
+    private static final String DETAIL_SQL = """
+        SELECT json_build_object(
+            'userInfo', json_build_object(
+                'memberId', m.member_id,
+                'memberName', m.member_name,
+                'loginId', m.login_id,
+                'deptId', m.dept_id,
+                'hireDate', m.hire_date,
+                'resignDate', m.resign_date
+            ),
+            'assetAssignments', COALESCE((
+                SELECT json_agg(json_build_object(
+                    'assignmentId', aa.assignment_id,
+                    'categoryName', ac.category_name,
+                    'assetName', a.asset_name,
+                    'manufacturer', a.manufacturer,
+                    'modelName', a.model_name,
+                    'assignedDate', aa.assigned_date
+                ) ORDER BY aa.assigned_date, aa.assignment_id)
+                FROM asset_assignment aa
+                JOIN asset a
+                    ON a.asset_id = aa.asset_id
+                JOIN asset_category ac
+                    ON ac.category_id = a.category_id
+                WHERE aa.member_id = m.member_id
+                    AND aa.assignment_status = 'ASSIGNED'
+                    AND aa.is_deleted = false
+            ), '[]'::json),
+            'licenseAssignments', COALESCE((
+                SELECT json_agg(json_build_object(
+                    'assignmentId', la.assignment_id,
+                    'softwareName', s.software_name,
+                    'licenseVersion', l.license_version,
+                    'licenseType', l.license_type,
+                    'assignedDate', la.assigned_date,
+                    'assignmentReason', la.assignment_reason
+                ) ORDER BY la.assigned_date, la.assignment_id)
+                FROM license_assignment la
+                JOIN license l
+                    ON l.license_id = la.license_id
+                JOIN software s
+                    ON s.software_id = l.software_id
+                WHERE la.member_id = m.member_id
+                    AND la.assignment_status = 'ASSIGNED'
+                    AND la.is_deleted = false
+            ), '[]'::json)
+        )::text
+        FROM member m
+        WHERE m.member_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<String> findDetailJson(Long memberId) {
+        List<String> rows = jdbcTemplate.queryForList(DETAIL_SQL, String.class, memberId);
+        return rows.stream().findFirst();
+    }
+}
@@ -1,9 +1,13 @@
 package com.assetmanagement.member.repository;
 
+import com.assetmanagement.global.dto.SearchHit;
 import com.assetmanagement.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecificationExecutor<Member> {
@@ -15,4 +19,22 @@ public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecif
     boolean existsByDeptIdAndIsDeletedFalse(Long deptId);
 
     Optional<Member> findByMemberIdAndIsDeletedFalse(Long memberId);
+
+    // 키워드 순위 검색: 이름/로그인 ID pg_trgm GIN 인덱스 사용, word_similarity 점수 순 정렬
+    @Query(value = """
+        SELECT m.member_id AS id,
+            GREATEST(
+                word_similarity(:keyword, lower(m.member_name)),
+                word_similarity(:keyword, lower(m.login_id))
+            ) AS score
+        FROM member m
+        WHERE m.is_deleted = false
+            AND (lower(m.member_name) LIKE :pattern
+                OR lower(m.login_id) LIKE :pattern)
+        ORDER BY score DESC, m.member_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<SearchHit> searchRanked(@Param("keyword") String keyword,
+                                 @Param("pattern") String pattern,
+                                 @Param("limit") int limit);
 }
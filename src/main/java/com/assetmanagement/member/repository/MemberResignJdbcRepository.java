@@ -0,0 +1,199 @@
+package com.assetmanagement.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일괄 퇴사 처리용 문장 단위 UPDATE (퇴사 → 자산 반납 → 라이센스 회수)
+ *
+ * 사용자별 엔티티 반복 대신 단계마다 UPDATE ... RETURNING 1회로 처리하고,
+ * 반환 결과로 이력과 도메인 이벤트(domain_event_outbox)를 같은 문장에서 INSERT 한다.
+ * 이벤트 payload는 DomainEvent.asset()/license()와 같은 키를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberResignJdbcRepository {
+
+    // member_id 순서로 행 잠금 후 변경 (재직/휴직 상태만 퇴사 가능, Member.VALID_TRANSITIONS와 동일)
+    private static final String RESIGN_MEMBERS_SQL = """
+        WITH target AS (
+            SELECT member_id
+            FROM member
+            WHERE member_id = ANY(?)
+                AND employment_status IN ('ACTIVE', 'LEAVE')
+                AND is_deleted = false
+            ORDER BY member_id
+            FOR UPDATE
+        )
+        UPDATE member m
+        SET employment_status = 'RESIGNED',
+            resign_date = ?,
+            is_active = false,
+            upd_id = ?,
+            upd_date = CURRENT_TIMESTAMP
+        FROM target t
+        WHERE m.member_id = t.member_id
+        RETURNING m.member_id
+        """;
+
+    private static final String RETURN_ASSETS_SQL = """
+        WITH returned AS (
+            UPDATE asset_assignment
+            SET assignment_status = 'RETURNED',
+                return_date = CURRENT_DATE,
+                upd_id = ?,
+                upd_date = CURRENT_TIMESTAMP
+            WHERE member_id = ANY(?)
+                AND assignment_status = 'ASSIGNED'
+                AND is_deleted = false
+            RETURNING asset_id, member_id
+        ),
+        released AS (
+            UPDATE asset a
+            SET asset_status = 'AVAILABLE',
+                upd_id = ?,
+                upd_date = CURRENT_TIMESTAMP
+            FROM returned r
+            WHERE a.asset_id = r.asset_id
+                AND a.asset_status = 'IN_USE'
+        ),
+        history AS (
+            INSERT INTO asset_history (asset_id, member_id, action_type, action_date, remarks, reg_id, reg_date)
+            SELECT asset_id, member_id, 'RETURN', CURRENT_TIMESTAMP, ?, ?, CURRENT_TIMESTAMP
+            FROM returned
+            RETURNING asset_id, member_id, remarks, reg_id
+        ),
+        events AS (
+            INSERT INTO domain_event_outbox (event_type, aggregate_type, aggregate_id, payload)
+            SELECT 'ASSET_RETURNED', 'ASSET', asset_id,
+                jsonb_build_object('assetId', asset_id, 'memberId', member_id, 'actionType', 'RETURN',
+                    'remarks', remarks, 'actorId', reg_id)
+            FROM history
+            ORDER BY asset_id
+        )
+        SELECT COUNT(*) FROM returned
+        """;
+
+    // 배정 트랜잭션과 같은 license_id 순서로 잠가 교착을 방지
+    private static final String LOCK_LICENSES_SQL = """
+        SELECT l.license_id
+        FROM license l
+        WHERE l.license_id IN (
+            SELECT la.license_id
+            FROM license_assignment la
+            WHERE la.member_id = ANY(?)
+                AND la.assignment_status = 'ASSIGNED'
+                AND la.is_deleted = false
+        )
+        ORDER BY l.license_id
+        FOR UPDATE
+        """;
+
+    // used_qty는 라이센스별 1회 차감 (행 단위 감소 트리거는 app.license_qty_managed = 'on'으로 생략)
+    private static final String RETURN_LICENSES_SQL = """
+        WITH returned AS (
+            UPDATE license_assignment
+            SET assignment_status = 'RETURNED',
+                return_date = CURRENT_DATE,
+                upd_id = ?,
+                upd_date = CURRENT_TIMESTAMP
+            WHERE member_id = ANY(?)
+                AND assignment_status = 'ASSIGNED'
+                AND is_deleted = false
+            RETURNING license_id, key_id, member_id
+        ),
+        released_keys AS (
+            UPDATE license_key k
+            SET key_status = 'AVAILABLE',
+                upd_id = ?,
+                upd_date = CURRENT_TIMESTAMP
+            FROM (SELECT DISTINCT key_id FROM returned WHERE key_id IS NOT NULL) r
+            WHERE k.key_id = r.key_id
+                AND k.key_status = 'IN_USE'
+        ),
+        qty AS (
+            UPDATE license l
+            SET used_qty = GREATEST(l.used_qty - r.cnt, 0),
+                upd_date = CURRENT_TIMESTAMP
+            FROM (SELECT license_id, COUNT(*) AS cnt FROM returned GROUP BY license_id) r
+            WHERE l.license_id = r.license_id
+        ),
+        history AS (
+            INSERT INTO license_history (license_id, key_id, member_id, action_type, action_date, remarks, reg_id, reg_date)
+            SELECT license_id, key_id, member_id, 'RETURN', CURRENT_TIMESTAMP, ?, ?, CURRENT_TIMESTAMP
+            FROM returned
+            RETURNING license_id, key_id, member_id, remarks, reg_id
+        ),
+        events AS (
+            INSERT INTO domain_event_outbox (event_type, aggregate_type, aggregate_id, payload)
+            SELECT 'LICENSE_RETURNED', 'LICENSE', license_id,
+                jsonb_build_object('licenseId', license_id, 'keyId', key_id, 'memberId', member_id,
+                    'actionType', 'RETURN', 'assignmentReason', NULL, 'remarks', remarks, 'actorId', reg_id)
+            FROM history
+            ORDER BY license_id, member_id
+        )
+        SELECT COUNT(*) FROM returned
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 퇴사 처리된 사용자 ID 목록 반환 (상태 전이가 불가한 사용자는 제외)
+     */
+    public List<Long> resignMembers(List<Long> memberIds, LocalDate resignDate, Long updId) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(RESIGN_MEMBERS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", memberIds.toArray()));
+            ps.setDate(2, Date.valueOf(resignDate));
+            ps.setObject(3, updId, Types.BIGINT);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("member_id"));
+    }
+
+    /**
+     * 배정 중인 자산 일괄 반납 + 이력 기록. 반납 건수 반환
+     */
+    public int returnAssets(List<Long> memberIds, String remarks, Long updId) {
+        Integer count = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(RETURN_ASSETS_SQL);
+            ps.setObject(1, updId, Types.BIGINT);
+            ps.setArray(2, con.createArrayOf("bigint", memberIds.toArray()));
+            ps.setObject(3, updId, Types.BIGINT);
+            ps.setString(4, remarks);
+            ps.setObject(5, updId, Types.BIGINT);
+            return ps;
+        }, rs -> rs.next() ? rs.getInt(1) : 0);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 배정 중인 라이센스 일괄 회수 + 이력 기록. 회수 건수 반환 (호출 측 트랜잭션 안에서 실행해야 한다)
+     */
+    public int returnLicenses(List<Long> memberIds, String remarks, Long updId) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOCK_LICENSES_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", memberIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+
+        jdbcTemplate.queryForObject("SELECT set_config('app.license_qty_managed', 'on', true)", String.class);
+        Integer count = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(RETURN_LICENSES_SQL);
+            ps.setObject(1, updId, Types.BIGINT);
+            ps.setArray(2, con.createArrayOf("bigint", memberIds.toArray()));
+            ps.setObject(3, updId, Types.BIGINT);
+            ps.setString(4, remarks);
+            ps.setObject(5, updId, Types.BIGINT);
+            return ps;
+        }, rs -> rs.next() ? rs.getInt(1) : 0);
+        jdbcTemplate.queryForObject("SELECT set_config('app.license_qty_managed', 'off', true)", String.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -2,10 +2,30 @@ package com.assetmanagement.member.repository;
 
 import com.assetmanagement.member.entity.MemberRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface MemberRoleRepository extends JpaRepository<MemberRole, Long> {
 
     List<MemberRole> findByMember_MemberIdAndIsDeletedFalse(Long memberId);
+
+    @Query("""
+        SELECT r.roleCode
+        FROM MemberRole mr, Role r
+        WHERE r.roleId = mr.roleId
+            AND mr.member.memberId = :memberId
+            AND mr.isDeleted = false
+            AND r.isDeleted = false
+        """)
+    List<String> findRoleCodesByMemberId(@Param("memberId") Long memberId);
+
+    @Query("""
+        SELECT mr.roleId
+        FROM MemberRole mr
+        WHERE mr.member.memberId = :memberId
+            AND mr.isDeleted = false
+        """)
+    List<Long> findRoleIdsByMemberId(@Param("memberId") Long memberId);
 }
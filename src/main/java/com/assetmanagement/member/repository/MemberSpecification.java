@@ -22,9 +22,10 @@ public class MemberSpecification {
 
     private static Specification<Member> keywordLike(String keyword) {
         if (!StringUtils.hasText(keyword)) return null;
+        String pattern = "%" + keyword.toLowerCase() + "%";
         return (root, query, cb) -> cb.or(
-            cb.like(root.get("memberName"), "%" + keyword + "%"),
-            cb.like(root.get("loginId"), "%" + keyword + "%")
+            cb.like(cb.lower(root.get("memberName")), pattern),
+            cb.like(cb.lower(root.get("loginId")), pattern)
         );
     }
 
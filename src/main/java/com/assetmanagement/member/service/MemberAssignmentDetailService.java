@@ -0,0 +1,76 @@
+package com.assetmanagement.member.service;
+
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
+import com.assetmanagement.global.exception.BusinessException;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.member.dto.MemberAssignmentDetailResponse;
+import com.assetmanagement.member.repository.MemberAssignmentDetailJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 사용자별 배정 상세보기 (헬프데스크 화면)
+ *
+ * 단일 JSON 집계 쿼리로 응답 전체를 조회하고, 사용자 단위로 2단계 캐시에 보관한다.
+ * 배정/반납/이관/회수/퇴사 등 배정 변경 시 evict()로 해당 사용자 캐시를 무효화한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemberAssignmentDetailService {
+
+    private static final TypeReference<MemberAssignmentDetailResponse> RESPONSE_TYPE =
+        new TypeReference<MemberAssignmentDetailResponse>() {};
+
+    private final MemberAssignmentDetailJdbcRepository memberAssignmentDetailJdbcRepository;
+    private final TwoTierCache twoTierCache;
+    private final ObjectMapper objectMapper;
+    private final boolean cacheEnabled;
+
+    public MemberAssignmentDetailService(
+            MemberAssignmentDetailJdbcRepository memberAssignmentDetailJdbcRepository,
+            TwoTierCache twoTierCache,
+            ObjectMapper objectMapper,
+            @Value("${cache.member-assignment.enabled:true}") boolean cacheEnabled) {
+        this.memberAssignmentDetailJdbcRepository = memberAssignmentDetailJdbcRepository;
+        this.twoTierCache = twoTierCache;
+        this.objectMapper = objectMapper;
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public MemberAssignmentDetailResponse getDetail(Long memberId) {
+        if (!cacheEnabled) {
+            return load(memberId);
+        }
+        return twoTierCache.get(CacheType.MEMBER_ASSIGNMENT, String.valueOf(memberId),
+            RESPONSE_TYPE, () -> load(memberId));
+    }
+
+    public void evict(Long memberId) {
+        if (cacheEnabled && memberId != null) {
+            twoTierCache.evict(CacheType.MEMBER_ASSIGNMENT, String.valueOf(memberId));
+        }
+    }
+
+    public void evictAll(Collection<Long> memberIds) {
+        if (cacheEnabled && !memberIds.isEmpty()) {
+            twoTierCache.evictAll(CacheType.MEMBER_ASSIGNMENT, memberIds.stream().map(String::valueOf).toList());
+        }
+    }
+
+    private MemberAssignmentDetailResponse load(Long memberId) {
+        String json = memberAssignmentDetailJdbcRepository.findDetailJson(memberId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_003));
+        try {
+            return objectMapper.readValue(json, MemberAssignmentDetailResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("배정 상세 조회 결과 변환 실패: memberId=" + memberId, e);
+        }
+    }
+}
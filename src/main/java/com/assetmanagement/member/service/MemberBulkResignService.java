@@ -0,0 +1,113 @@
+package com.assetmanagement.member.service;
+
+import com.assetmanagement.event.dto.DomainEvent;
+import com.assetmanagement.event.service.DomainEventOutbox;
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.security.MemberAuthStateCache;
+import com.assetmanagement.global.security.RefreshTokenStore;
+import com.assetmanagement.member.dto.MemberBulkResignRequest;
+import com.assetmanagement.member.dto.MemberBulkResignResponse;
+import com.assetmanagement.member.entity.Member;
+import com.assetmanagement.member.repository.MemberRepository;
+import com.assetmanagement.member.repository.MemberResignJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 퇴사 처리 (조직개편, 팀 단위 퇴사 등)
+ *
+ * 단건 퇴사(MemberService.resignMember)와 같은 7단계를 사용자 수와 무관하게 단계별 SQL 1~2회로 처리한다.
+ * 1. 대상 사용자 상태 검증 후 member_id 순서로 잠금 + 퇴사 처리 (UPDATE ... RETURNING)
+ * 2. 자산 반납/자산 상태 변경/이력 INSERT를 문장 1회로 처리
+ * 3. 라이센스 회수/키 상태 변경/used_qty 차감/이력 INSERT를 문장 1회로 처리
+ * 4. refresh token은 커밋 이후 Redis 파이프라인으로 일괄 폐기
+ * 반납/회수 도메인 이벤트는 2, 3단계 문장에서 함께 적재하고, 퇴사 이벤트는 사용자별로 일괄 적재한다.
+ *
+ * 항목별 실패는 전체를 롤백하지 않고 결과에 사유를 담아 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberBulkResignService {
+
+    private final MemberRepository memberRepository;
+    private final MemberResignJdbcRepository memberResignJdbcRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberAuthStateCache memberAuthStateCache;
+    private final MemberAssignmentDetailService memberAssignmentDetailService;
+    private final TwoTierCache twoTierCache;
+    private final DomainEventOutbox domainEventOutbox;
+
+    @Transactional
+    public MemberBulkResignResponse resignMembers(MemberBulkResignRequest request, Long updId) {
+        List<Long> memberIds = request.getMemberIds().stream().distinct().toList();
+        Map<Long, Member> members = memberRepository.findAllById(memberIds).stream()
+            .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        Map<Long, ErrorCode> errors = new HashMap<>();
+        List<Long> targets = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            Member member = members.get(memberId);
+            if (member == null || Boolean.TRUE.equals(member.getIsDeleted())) {
+                errors.put(memberId, ErrorCode.COMMON_003);
+            } else if (!member.canChangeEmploymentStatus("RESIGNED")) {
+                errors.put(memberId, ErrorCode.USER_002);
+            } else {
+                targets.add(memberId);
+            }
+        }
+
+        List<Long> resigned = targets.isEmpty() ? List.of()
+            : memberResignJdbcRepository.resignMembers(targets, request.getResignDate(), updId);
+        // 검증 이후 다른 요청으로 상태가 바뀐 사용자
+        Set<Long> resignedIds = new HashSet<>(resigned);
+        targets.stream()
+            .filter(id -> !resignedIds.contains(id))
+            .forEach(id -> errors.put(id, ErrorCode.USER_002));
+
+        int returnedAssetCount = 0;
+        int returnedLicenseCount = 0;
+        if (!resigned.isEmpty()) {
+            returnedAssetCount = memberResignJdbcRepository.returnAssets(resigned, MemberService.RESIGN_REMARKS, updId);
+            returnedLicenseCount = memberResignJdbcRepository.returnLicenses(resigned, MemberService.RESIGN_REMARKS, updId);
+            domainEventOutbox.publishAll(resigned.stream()
+                .map(memberId -> DomainEvent.memberResigned(memberId, request.getResignDate(), updId))
+                .toList());
+
+            // 토큰 폐기와 캐시 무효화는 커밋 이후 반영 (각 캐시 evict도 Redis 삭제/무효화 발행을 커밋 이후로 미룸)
+            refreshTokenStore.revokeAllAfterCommit(resigned);
+            resigned.forEach(memberAuthStateCache::evict);
+            memberAssignmentDetailService.evictAll(resigned);
+            if (returnedAssetCount > 0) {
+                twoTierCache.evict(CacheType.ASSET_SUMMARY);
+            }
+        }
+
+        List<MemberBulkResignResponse.ItemResult> results = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            ErrorCode error = errors.get(memberId);
+            results.add(MemberBulkResignResponse.ItemResult.builder()
+                .memberId(memberId)
+                .success(error == null)
+                .errorCode(error != null ? error.getCode() : null)
+                .message(error != null ? error.getMessage() : null)
+                .build());
+        }
+
+        return MemberBulkResignResponse.builder()
+            .requestedCount(memberIds.size())
+            .successCount(resigned.size())
+            .failureCount(memberIds.size() - resigned.size())
+            .returnedAssetCount(returnedAssetCount)
+            .returnedLicenseCount(returnedLicenseCount)
+            .results(results)
+            .build();
+    }
+}
@@ -5,8 +5,22 @@ import com.assetmanagement.asset.entity.AssetAssignment;
 import com.assetmanagement.asset.entity.AssetHistory;
 import com.assetmanagement.asset.repository.AssetAssignmentRepository;
 import com.assetmanagement.asset.repository.AssetHistoryRepository;
+import com.assetmanagement.event.dto.DomainEvent;
+import com.assetmanagement.event.service.DomainEventOutbox;
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
+import com.assetmanagement.global.dto.CursorPage;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.dto.HistoryCursorRequest;
+import com.assetmanagement.global.dto.SearchHit;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.security.MemberAuthStateCache;
+import com.assetmanagement.global.security.MenuPermissionCache;
+import com.assetmanagement.global.security.RefreshTokenStore;
+import com.assetmanagement.global.util.CursorPagination;
+import com.assetmanagement.global.util.SearchKeyword;
+import com.assetmanagement.license.dto.LicenseHistoryResponse;
 import com.assetmanagement.license.entity.LicenseAssignment;
 import com.assetmanagement.license.entity.LicenseHistory;
 import com.assetmanagement.license.repository.LicenseAssignmentRepository;
@@ -20,14 +34,13 @@ import com.assetmanagement.member.repository.MemberSpecification;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -40,16 +53,44 @@ public class MemberService {
     private final AssetHistoryRepository assetHistoryRepository;
     private final LicenseAssignmentRepository licenseAssignmentRepository;
     private final LicenseHistoryRepository licenseHistoryRepository;
-    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
     private final PasswordEncoder passwordEncoder;
+    private final MemberAuthStateCache memberAuthStateCache;
+    private final MenuPermissionCache menuPermissionCache;
+    private final TwoTierCache twoTierCache;
+    private final MemberAssignmentDetailService memberAssignmentDetailService;
+    private final DomainEventOutbox domainEventOutbox;
 
-    private static final String RESIGN_REMARKS = "퇴사로 인한 자동 회수";
+    static final String RESIGN_REMARKS = "퇴사로 인한 자동 회수";
 
     public Page<MemberResponse> getMembers(MemberSearchCondition condition, Pageable pageable) {
         return memberRepository.findAll(MemberSpecification.search(condition), pageable)
             .map(MemberResponse::from);
     }
 
+    public CursorPage<MemberResponse> getMembersByCursor(MemberSearchCondition condition, CursorRequest request) {
+        return CursorPagination.fetch(memberRepository, MemberSpecification.search(condition),
+            "memberId", Member::getMemberId, request, MemberResponse::from);
+    }
+
+    /**
+     * 키워드 순위 검색 (pg_trgm 유사도 점수 순)
+     */
+    public List<MemberResponse> searchMembers(String keyword, Integer limit) {
+        if (!StringUtils.hasText(keyword)) {
+            throw new BusinessException(ErrorCode.COMMON_002);
+        }
+        List<SearchHit> hits = memberRepository.searchRanked(
+            SearchKeyword.normalize(keyword), SearchKeyword.containsPattern(keyword), SearchKeyword.limit(limit));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Member> members = memberRepository.findAllById(SearchKeyword.ids(hits));
+        return SearchKeyword.sortByHits(hits, members, Member::getMemberId).stream()
+            .map(MemberResponse::from)
+            .toList();
+    }
+
     public MemberResponse getMember(Long memberId) {
         Member member = findMemberOrThrow(memberId);
         return MemberResponse.from(member);
@@ -95,6 +136,7 @@ public class MemberService {
             .build();
 
         updated.setUpdId(updId);
+        memberAssignmentDetailService.evict(memberId);
         return MemberResponse.from(memberRepository.save(updated));
     }
 
@@ -102,6 +144,21 @@ public class MemberService {
     public void deleteMember(Long memberId, Long updId) {
         Member member = findMemberOrThrow(memberId);
         member.softDelete(updId);
+        memberAuthStateCache.evict(memberId);
+        memberAssignmentDetailService.evict(memberId);
+    }
+
+    /**
+     * 사용자 라이센스 배정 이력 (기간 + 커서, 최신순). 전체 이력은 /exports/license-histories?memberId= 로 내보낸다.
+     */
+    public CursorPage<LicenseHistoryResponse> getLicenseHistory(Long memberId, HistoryCursorRequest request) {
+        findMemberOrThrow(memberId);
+        request.validatePeriod();
+        CursorPagination.Key before = request.before();
+        List<LicenseHistory> rows = licenseHistoryRepository.findSliceByMemberId(memberId,
+            request.fromOrMin(), request.toOrMax(), before.time(), before.id(), request.limit());
+        return CursorPagination.toPage(rows, request.getSize(),
+            LicenseHistory::getActionDate, LicenseHistory::getHistoryId, LicenseHistoryResponse::from);
     }
 
     public List<MemberRoleResponse> getMemberRoles(Long memberId) {
@@ -134,9 +191,14 @@ public class MemberService {
             })
             .toList();
 
-        return memberRoleRepository.saveAll(newRoles).stream()
+        List<MemberRoleResponse> result = memberRoleRepository.saveAll(newRoles).stream()
             .map(MemberRoleResponse::from)
             .toList();
+
+        // 권한 변경 → 기존 토큰의 roles claim과 불일치하도록 인증 상태 캐시 무효화
+        memberAuthStateCache.evict(memberId);
+        menuPermissionCache.evictMember(memberId);
+        return result;
     }
 
     private Member findMemberOrThrow(Long memberId) {
@@ -175,9 +237,12 @@ public class MemberService {
         returnAllLicenses(memberId, updId);
 
         // Step 6: is_active = false (Member.resign()에서 이미 처리됨)
+        domainEventOutbox.publish(DomainEvent.memberResigned(memberId, resignDate, updId));
 
-        // Step 7: Redis 세션 삭제 (즉시 로그아웃)
+        // Step 7: Redis 세션 삭제 (즉시 로그아웃) + 인증 상태 캐시 무효화
         deleteRedisSessions(memberId);
+        memberAuthStateCache.evict(memberId);
+        memberAssignmentDetailService.evict(memberId);
     }
 
     /**
@@ -206,6 +271,11 @@ public class MemberService {
                 .build();
             history.setRegId(updId);
             assetHistoryRepository.save(history);
+            domainEventOutbox.publish(DomainEvent.of(history));
+        }
+
+        if (!assignments.isEmpty()) {
+            twoTierCache.evict(CacheType.ASSET_SUMMARY);
         }
     }
 
@@ -238,6 +308,7 @@ public class MemberService {
                 .build();
             history.setRegId(updId);
             licenseHistoryRepository.save(history);
+            domainEventOutbox.publish(DomainEvent.of(history));
         }
     }
 
@@ -245,9 +316,6 @@ public class MemberService {
      * Redis에 저장된 해당 사용자의 세션/토큰 삭제
      */
     private void deleteRedisSessions(Long memberId) {
-        Set<String> keys = redisTemplate.keys("refresh:member:" + memberId + ":*");
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-        }
+        refreshTokenStore.revokeAll(memberId);
     }
 }
@@ -1,6 +1,9 @@
 package com.assetmanagement.menu.controller;
 
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import com.assetmanagement.menu.dto.MenuRequest;
 import com.assetmanagement.menu.dto.MenuResponse;
 import com.assetmanagement.menu.service.MenuService;
@@ -29,12 +32,14 @@ public class MenuController {
 
     @Operation(summary = "메뉴 상세 조회")
     @GetMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.MENU, value = MenuPermission.READ)
     public ApiResponse<MenuResponse> getMenu(@PathVariable Long id) {
         return ApiResponse.ok(menuService.getMenu(id));
     }
 
     @Operation(summary = "메뉴 등록")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.MENU, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<MenuResponse> createMenu(@Valid @RequestBody MenuRequest request) {
         Long regId = 1L; // TODO: SecurityContext에서 추출
@@ -43,6 +48,7 @@ public class MenuController {
 
     @Operation(summary = "메뉴 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.MENU, value = MenuPermission.UPDATE)
     public ApiResponse<MenuResponse> updateMenu(
             @PathVariable Long id,
             @Valid @RequestBody MenuRequest request) {
@@ -52,6 +58,7 @@ public class MenuController {
 
     @Operation(summary = "메뉴 삭제")
     @DeleteMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.MENU, value = MenuPermission.DELETE)
     public ApiResponse<Void> deleteMenu(@PathVariable Long id) {
         Long updId = 1L;
         menuService.deleteMenu(id, updId);
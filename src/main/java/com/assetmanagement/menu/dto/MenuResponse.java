@@ -3,12 +3,14 @@ package com.assetmanagement.menu.dto;
 import com.assetmanagement.menu.entity.Menu;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class MenuResponse {
 
     private Long menuId;
@@ -1,11 +1,15 @@
 package com.assetmanagement.menu.service;
 
+import com.assetmanagement.global.cache.CacheType;
+import com.assetmanagement.global.cache.TwoTierCache;
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.security.MenuPermissionCache;
 import com.assetmanagement.menu.dto.MenuRequest;
 import com.assetmanagement.menu.dto.MenuResponse;
 import com.assetmanagement.menu.entity.Menu;
 import com.assetmanagement.menu.repository.MenuRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,8 +25,14 @@ import java.util.Map;
 public class MenuService {
 
     private final MenuRepository menuRepository;
+    private final TwoTierCache twoTierCache;
+    private final MenuPermissionCache menuPermissionCache;
 
     public List<MenuResponse> getMenuTree() {
+        return twoTierCache.get(CacheType.MENU_TREE, new TypeReference<List<MenuResponse>>() {}, this::buildMenuTree);
+    }
+
+    private List<MenuResponse> buildMenuTree() {
         List<Menu> allMenus = menuRepository.findByIsDeletedFalseOrderByMenuOrderAsc();
 
         Map<Long, MenuResponse> map = new LinkedHashMap<>();
@@ -71,6 +81,8 @@ public class MenuService {
         menu.setRegId(regId);
         menu.setUpdId(regId);
 
+        twoTierCache.evict(CacheType.MENU_TREE);
+        menuPermissionCache.evictMenus();
         return MenuResponse.from(menuRepository.save(menu));
     }
 
@@ -98,6 +110,8 @@ public class MenuService {
             .build();
 
         updated.setUpdId(updId);
+        twoTierCache.evict(CacheType.MENU_TREE);
+        menuPermissionCache.evictMenus();
         return MenuResponse.from(menuRepository.save(updated));
     }
 
@@ -110,6 +124,8 @@ public class MenuService {
         }
 
         menu.softDelete(updId);
+        twoTierCache.evict(CacheType.MENU_TREE);
+        menuPermissionCache.evictMenus();
     }
 
     private Menu findMenuOrThrow(Long menuId) {
@@ -0,0 +1,13 @@
+package com.assetmanagement.notification.dto;
+
+/**
+ * 이메일 발송 트리거 (system-policy.md 섹션 7.1)
+ */
+public enum NotificationType {
+
+    LICENSE_ASSIGNED,
+    LICENSE_EXPIRY_NOTICE,
+    LICENSE_EXPIRED,
+    ASSET_ASSIGNED,
+    LICENSE_QTY_MISMATCH
+}
@@ -0,0 +1,15 @@
+package com.assetmanagement.notification.dto;
+
+/**
+ * 발송 대기열(email_log)에 적재할 메일
+ *
+ * @param memberId 수신 사용자 (관리자 보고 메일은 null)
+ */
+public record OutboxMessage(
+    NotificationType type,
+    Long memberId,
+    String recipient,
+    String subject,
+    String body
+) {
+}
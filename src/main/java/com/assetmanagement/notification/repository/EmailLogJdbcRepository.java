@@ -0,0 +1,152 @@
+package com.assetmanagement.notification.repository;
+
+import com.assetmanagement.notification.dto.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메일 발송 대기열/이력 (email_log)
+ *
+ * 적재는 업무 트랜잭션과 같은 트랜잭션에서 INSERT 하고(outbox),
+ * 발송기는 FOR UPDATE SKIP LOCKED로 행을 선점하므로 여러 노드가 동시에 발송해도 중복 발송하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmailLogJdbcRepository {
+
+    // 발송 대기(PENDING) 중 발송 시각이 된 건 + 선점 기한이 지난 발송 중(SENDING) 건 (노드 장애 복구)
+    private static final String CLAIM_SQL = """
+        WITH claimed AS (
+            SELECT email_id
+            FROM email_log
+            WHERE (status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP)
+                OR (status = 'SENDING' AND locked_until < CURRENT_TIMESTAMP)
+            ORDER BY next_attempt_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE email_log e
+        SET status = 'SENDING',
+            attempt_count = e.attempt_count + 1,
+            locked_until = CURRENT_TIMESTAMP + make_interval(secs => ?),
+            upd_date = CURRENT_TIMESTAMP
+        FROM claimed c
+        WHERE e.email_id = c.email_id
+        RETURNING e.email_id, e.recipient, e.subject, e.body, e.attempt_count
+        """;
+
+    // 만료 예정 구독 라이센스의 배정 사용자 안내 (사용자별 1건)
+    private static final String INSERT_EXPIRY_NOTICES_SQL = """
+        INSERT INTO email_log (notification_type, member_id, recipient, subject, body)
+        SELECT 'LICENSE_EXPIRY_NOTICE', m.member_id, m.email,
+            '[자산관리] 라이센스 만료 예정 안내 - ' || s.software_name,
+            m.member_name || '님, 사용 중인 ' || s.software_name || COALESCE(' ' || l.license_version, '')
+                || ' 라이센스가 ' || to_char(l.expiry_date, 'YYYY-MM-DD') || '에 만료될 예정입니다.'
+        FROM license l
+        JOIN software s
+            ON s.software_id = l.software_id
+        JOIN license_assignment la
+            ON la.license_id = l.license_id
+            AND la.assignment_status = 'ASSIGNED'
+            AND la.is_deleted = false
+        JOIN member m
+            ON m.member_id = la.member_id
+        WHERE l.license_type = 'SUBSCRIPTION'
+            AND l.expiry_date = ?
+            AND l.is_active = true
+            AND l.is_deleted = false
+            AND m.email IS NOT NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ClaimedMail(Long emailId, String recipient, String subject, String body, int attemptCount) {
+    }
+
+    public void insertAll(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO email_log (notification_type, member_id, recipient, subject, body)
+            VALUES (?, ?, ?, ?, ?)
+            """, messages, messages.size(), (ps, message) -> {
+                ps.setString(1, message.type().name());
+                ps.setObject(2, message.memberId(), Types.BIGINT);
+                ps.setString(3, message.recipient());
+                ps.setString(4, message.subject());
+                ps.setString(5, message.body());
+            });
+    }
+
+    /**
+     * expiryDate에 만료되는 구독 라이센스 사용자에게 안내 메일 적재. 적재 건수 반환
+     */
+    public int insertExpiryNotices(LocalDate expiryDate) {
+        return jdbcTemplate.update(INSERT_EXPIRY_NOTICES_SQL, Date.valueOf(expiryDate));
+    }
+
+    /**
+     * 발송 대상 최대 batchSize건 선점 (lease 동안 다른 노드가 가져가지 않음)
+     */
+    public List<ClaimedMail> claim(int batchSize, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ClaimedMail(
+            rs.getLong("email_id"),
+            rs.getString("recipient"),
+            rs.getString("subject"),
+            rs.getString("body"),
+            rs.getInt("attempt_count")
+        ), batchSize, lease.toSeconds());
+    }
+
+    /*
+     * 결과 기록은 선점한 시도(attempt_count)가 그대로 SENDING 상태일 때만 반영한다.
+     * 시간 초과로 반환된 뒤 늦게 끝난 발송이나, 다른 노드가 재선점한 행의 결과를 덮어쓰지 않는다.
+     */
+    public boolean markSent(Long emailId, int attemptCount) {
+        return jdbcTemplate.update("""
+            UPDATE email_log
+            SET status = 'SENT',
+                sent_at = CURRENT_TIMESTAMP,
+                locked_until = NULL,
+                last_error = NULL,
+                upd_date = CURRENT_TIMESTAMP
+            WHERE email_id = ?
+                AND status = 'SENDING'
+                AND attempt_count = ?
+            """, emailId, attemptCount) > 0;
+    }
+
+    public boolean markRetry(Long emailId, int attemptCount, LocalDateTime nextAttemptAt, String error) {
+        return jdbcTemplate.update("""
+            UPDATE email_log
+            SET status = 'PENDING',
+                next_attempt_at = ?,
+                locked_until = NULL,
+                last_error = ?,
+                upd_date = CURRENT_TIMESTAMP
+            WHERE email_id = ?
+                AND status = 'SENDING'
+                AND attempt_count = ?
+            """, Timestamp.valueOf(nextAttemptAt), error, emailId, attemptCount) > 0;
+    }
+
+    public boolean markFailed(Long emailId, int attemptCount, String error) {
+        return jdbcTemplate.update("""
+            UPDATE email_log
+            SET status = 'FAILED',
+                locked_until = NULL,
+                last_error = ?,
+                upd_date = CURRENT_TIMESTAMP
+            WHERE email_id = ?
+                AND status = 'SENDING'
+                AND attempt_count = ?
+            """, error, emailId, attemptCount) > 0;
+    }
+}
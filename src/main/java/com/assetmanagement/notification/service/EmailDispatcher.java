@@ -0,0 +1,152 @@
+package com.assetmanagement.notification.service;
+
+import com.assetmanagement.notification.repository.EmailLogJdbcRepository;
+import com.assetmanagement.notification.repository.EmailLogJdbcRepository.ClaimedMail;
+import com.assetmanagement.notification.transport.MailTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송기 (email_log outbox 소비)
+ *
+ * poll-interval-ms 주기로 발송 대상을 batch-size건씩 선점하여 workers 크기의 스레드 풀로 발송한다.
+ * 건별 발송이 끝나는 즉시 결과를 기록하고, batch-timeout(lease보다 짧음) 내 끝나지 않은 건은 중단 후 재시도 대기로 반환한다.
+ * 실패 시 retry-backoff 간격(기본 1분, 5분, 30분)으로 재시도하며, 모두 실패하면 FAILED로 남긴다.
+ * 발송 결과는 app.notification.dispatch (태그 result=sent/retry/failed)로 누적한다.
+ */
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailLogJdbcRepository emailLogJdbcRepository;
+    private final MailTransport mailTransport;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor workers;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration batchTimeout;
+    private final List<Duration> retryBackoff;
+
+    public EmailDispatcher(
+            EmailLogJdbcRepository emailLogJdbcRepository,
+            MailTransport mailTransport,
+            MeterRegistry meterRegistry,
+            @Value("${notification.dispatcher.workers:4}") int workerCount,
+            @Value("${notification.dispatcher.batch-size:100}") int batchSize,
+            @Value("${notification.dispatcher.lease:PT2M}") Duration lease,
+            @Value("${notification.dispatcher.batch-timeout:PT90S}") Duration batchTimeout,
+            @Value("${notification.dispatcher.retry-backoff:PT1M,PT5M,PT30M}") List<Duration> retryBackoff) {
+        this.emailLogJdbcRepository = emailLogJdbcRepository;
+        this.mailTransport = mailTransport;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.batchTimeout = batchTimeout;
+        this.retryBackoff = retryBackoff;
+        if (batchTimeout.compareTo(lease) >= 0) {
+            throw new IllegalArgumentException(
+                "notification.dispatcher.batch-timeout은 lease보다 짧아야 합니다: " + batchTimeout + " >= " + lease);
+        }
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(batchSize), r -> {
+                Thread thread = new Thread(r, "email-dispatcher-" + threadSeq.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.dispatcher.poll-interval-ms:5000}")
+    public void dispatch() {
+        List<ClaimedMail> mails = emailLogJdbcRepository.claim(batchSize, lease);
+        if (mails.isEmpty()) {
+            return;
+        }
+
+        // 결과는 워커가 건별 발송을 마치는 즉시 기록한다
+        CountDownLatch done = new CountDownLatch(mails.size());
+        List<Future<?>> futures = new ArrayList<>(mails.size());
+        for (ClaimedMail mail : mails) {
+            futures.add(workers.submit(() -> {
+                try {
+                    send(mail);
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+
+        try {
+            if (done.await(batchTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 선점 기한 전에 끝나지 않은 건은 중단하고 재시도 대기로 반환하여, 기한 경과 후 다른 노드가 재선점해 중복 발송하지 않게 한다
+        for (int i = 0; i < mails.size(); i++) {
+            if (!futures.get(i).isDone()) {
+                futures.get(i).cancel(true);
+                handleFailure(mails.get(i), new TimeoutException("발송 시간 초과 (" + batchTimeout + ")"));
+            }
+        }
+    }
+
+    private void send(ClaimedMail mail) {
+        try {
+            mailTransport.send(mail.recipient(), mail.subject(), mail.body());
+        } catch (Exception e) {
+            handleFailure(mail, e);
+            return;
+        }
+        if (emailLogJdbcRepository.markSent(mail.emailId(), mail.attemptCount())) {
+            meterRegistry.counter("app.notification.dispatch", "result", "sent").increment();
+        }
+    }
+
+    private void handleFailure(ClaimedMail mail, Throwable cause) {
+        String error = abbreviate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        // attemptCount는 이번 시도를 포함한 횟수 (1회차 실패 → 첫 번째 재시도 간격)
+        if (mail.attemptCount() <= retryBackoff.size()) {
+            Duration delay = retryBackoff.get(mail.attemptCount() - 1);
+            if (emailLogJdbcRepository.markRetry(mail.emailId(), mail.attemptCount(),
+                    LocalDateTime.now().plus(delay), error)) {
+                meterRegistry.counter("app.notification.dispatch", "result", "retry").increment();
+                log.warn("[mail] 발송 실패, {} 후 재시도 emailId={}, attempt={}: {}",
+                    delay, mail.emailId(), mail.attemptCount(), error);
+            }
+        } else if (emailLogJdbcRepository.markFailed(mail.emailId(), mail.attemptCount(), error)) {
+            meterRegistry.counter("app.notification.dispatch", "result", "failed").increment();
+            log.error("[mail] 발송 최종 실패 emailId={}, attempt={}: {}", mail.emailId(), mail.attemptCount(), error);
+        }
+    }
+
+    private static String abbreviate(String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
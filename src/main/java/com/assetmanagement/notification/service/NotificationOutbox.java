@@ -0,0 +1,156 @@
+package com.assetmanagement.notification.service;
+
+import com.assetmanagement.asset.entity.Asset;
+import com.assetmanagement.license.entity.License;
+import com.assetmanagement.license.entity.LicenseKey;
+import com.assetmanagement.member.entity.Member;
+import com.assetmanagement.notification.dto.NotificationType;
+import com.assetmanagement.notification.dto.OutboxMessage;
+import com.assetmanagement.notification.repository.EmailLogJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메일 발송 요청 적재 (outbox)
+ *
+ * 업무 트랜잭션 안에서 email_log에 INSERT만 하고 반환하므로 배정 API 응답 시간에 메일 발송이 포함되지 않는다.
+ * 업무 트랜잭션이 롤백되면 적재 건도 함께 롤백된다. 실제 발송은 EmailDispatcher가 처리한다.
+ */
+@Service
+public class NotificationOutbox {
+
+    private static final String SUBJECT_PREFIX = "[자산관리] ";
+
+    private final EmailLogJdbcRepository emailLogJdbcRepository;
+    private final boolean enabled;
+    private final List<String> adminRecipients;
+
+    public NotificationOutbox(
+            EmailLogJdbcRepository emailLogJdbcRepository,
+            @Value("${notification.enabled:true}") boolean enabled,
+            @Value("${notification.admin-recipients:}") List<String> adminRecipients) {
+        this.emailLogJdbcRepository = emailLogJdbcRepository;
+        this.enabled = enabled;
+        this.adminRecipients = adminRecipients.stream().filter(StringUtils::hasText).toList();
+    }
+
+    public record LicenseAssignedMail(Member member, License license, LicenseKey licenseKey) {
+    }
+
+    /**
+     * 라이센스 배정 안내 (라이센스 키 + 설치 가이드)
+     */
+    public void licenseAssigned(Member member, License license, LicenseKey licenseKey) {
+        licenseAssigned(List.of(new LicenseAssignedMail(member, license, licenseKey)));
+    }
+
+    public void licenseAssigned(List<LicenseAssignedMail> mails) {
+        List<OutboxMessage> messages = new ArrayList<>(mails.size());
+        for (LicenseAssignedMail mail : mails) {
+            Member member = mail.member();
+            if (!StringUtils.hasText(member.getEmail())) {
+                continue;
+            }
+            License license = mail.license();
+            String licenseName = licenseName(license);
+
+            StringBuilder body = new StringBuilder()
+                .append(member.getMemberName()).append("님, ")
+                .append(licenseName).append(" 라이센스가 배정되었습니다.\n");
+            if (mail.licenseKey() != null) {
+                body.append("\n라이센스 키: ").append(mail.licenseKey().getLicenseKey()).append('\n');
+            }
+            if (license.getExpiryDate() != null) {
+                body.append("만료일: ").append(license.getExpiryDate()).append('\n');
+            }
+            if (StringUtils.hasText(license.getInstallGuide())) {
+                body.append("\n[설치 가이드]\n").append(license.getInstallGuide()).append('\n');
+            }
+
+            messages.add(new OutboxMessage(NotificationType.LICENSE_ASSIGNED, member.getMemberId(),
+                member.getEmail(), SUBJECT_PREFIX + "라이센스 배정 안내 - " + licenseName, body.toString()));
+        }
+        enqueue(messages);
+    }
+
+    /**
+     * 자산 배정 안내
+     */
+    public void assetAssigned(Member member, Asset asset, LocalDate assignedDate) {
+        if (!StringUtils.hasText(member.getEmail())) {
+            return;
+        }
+        String body = member.getMemberName() + "님, 아래 자산이 배정되었습니다.\n\n"
+            + "자산명: " + asset.getAssetName() + '\n'
+            + "유형: " + asset.getCategory().getCategoryName() + '\n'
+            + "제조사/모델: " + nullToEmpty(asset.getManufacturer()) + " " + nullToEmpty(asset.getModelName()) + '\n'
+            + "시리얼번호: " + nullToEmpty(asset.getSerialNumber()) + '\n'
+            + "배정일: " + assignedDate + '\n';
+        enqueue(List.of(new OutboxMessage(NotificationType.ASSET_ASSIGNED, member.getMemberId(),
+            member.getEmail(), SUBJECT_PREFIX + "자산 배정 안내 - " + asset.getAssetName(), body)));
+    }
+
+    /**
+     * 만료 예정(expiryDate) 구독 라이센스 사용자 안내 + 관리자 보고. 사용자 안내 적재 건수 반환
+     */
+    public int licenseExpiryNotice(LocalDate expiryDate, List<String> licenseLines) {
+        if (!enabled || licenseLines.isEmpty()) {
+            return 0;
+        }
+        int count = emailLogJdbcRepository.insertExpiryNotices(expiryDate);
+        toAdmins(NotificationType.LICENSE_EXPIRY_NOTICE, "라이센스 만료 예정 안내 (" + expiryDate + ")",
+            expiryDate + "에 만료 예정인 구독 라이센스입니다.\n\n" + String.join("\n", licenseLines));
+        return count;
+    }
+
+    /**
+     * 구독 만료 처리 결과 관리자 보고
+     */
+    public void licenseExpired(LocalDate baseDate, int licenseCount, long assignmentCount, long keyCount) {
+        toAdmins(NotificationType.LICENSE_EXPIRED, "구독 라이센스 만료 처리 완료 (" + baseDate + ")",
+            "만료 라이센스: " + licenseCount + "건\n"
+                + "자동 회수된 배정: " + assignmentCount + "건\n"
+                + "만료 처리된 키: " + keyCount + "건\n");
+    }
+
+    /**
+     * 라이센스 수량 불일치 보정 결과 관리자 보고
+     */
+    public void licenseQtyMismatch(String runKey, List<String> correctionLines, long totalCount) {
+        StringBuilder body = new StringBuilder()
+            .append("used_qty 불일치 ").append(totalCount).append("건을 확인했습니다.\n")
+            .append("전체 내역은 license_qty_correction (run_key = ").append(runKey).append(")에서 확인할 수 있습니다.\n\n")
+            .append(String.join("\n", correctionLines));
+        if (totalCount > correctionLines.size()) {
+            body.append("\n... 외 ").append(totalCount - correctionLines.size()).append("건");
+        }
+        toAdmins(NotificationType.LICENSE_QTY_MISMATCH, "라이센스 수량 불일치 보정 결과 (" + runKey + ")",
+            body.toString());
+    }
+
+    private void toAdmins(NotificationType type, String subject, String body) {
+        enqueue(adminRecipients.stream()
+            .map(recipient -> new OutboxMessage(type, null, recipient, SUBJECT_PREFIX + subject, body))
+            .toList());
+    }
+
+    private void enqueue(List<OutboxMessage> messages) {
+        if (enabled && !messages.isEmpty()) {
+            emailLogJdbcRepository.insertAll(messages);
+        }
+    }
+
+    private static String licenseName(License license) {
+        String name = license.getSoftware().getSoftwareName();
+        return StringUtils.hasText(license.getLicenseVersion()) ? name + " " + license.getLicenseVersion() : name;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.assetmanagement.notification.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 출력 전송 (기본값, 메일 서버 미구성 환경)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.transport", havingValue = "log", matchIfMissing = true)
+public class LoggingMailTransport implements MailTransport {
+
+    @Override
+    public void send(String recipient, String subject, String body) {
+        log.info("[mail] to={}, subject={}\n{}", recipient, subject, body);
+    }
+}
@@ -0,0 +1,11 @@
+package com.assetmanagement.notification.transport;
+
+/**
+ * 메일 전송 수단 (notification.transport 설정으로 선택)
+ *
+ * 전송 실패 시 예외를 던지면 발송기가 재시도 일정을 잡는다.
+ */
+public interface MailTransport {
+
+    void send(String recipient, String subject, String body);
+}
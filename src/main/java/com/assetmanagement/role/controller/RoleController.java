@@ -1,6 +1,9 @@
 package com.assetmanagement.role.controller;
 
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import com.assetmanagement.role.dto.*;
 import com.assetmanagement.role.service.RoleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,18 +25,21 @@ public class RoleController {
 
     @Operation(summary = "권한 목록 조회")
     @GetMapping
+    @RequiresMenuPermission(menu = MenuCode.ROLE, value = MenuPermission.READ)
     public ApiResponse<List<RoleResponse>> getRoles() {
         return ApiResponse.ok(roleService.getRoles());
     }
 
     @Operation(summary = "권한 상세 조회")
     @GetMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.ROLE, value = MenuPermission.READ)
     public ApiResponse<RoleResponse> getRole(@PathVariable Long id) {
         return ApiResponse.ok(roleService.getRole(id));
     }
 
     @Operation(summary = "권한 등록")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.ROLE, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<RoleResponse> createRole(@Valid @RequestBody RoleRequest request) {
         Long regId = 1L;
@@ -42,6 +48,7 @@ public class RoleController {
 
     @Operation(summary = "권한 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.ROLE, value = MenuPermission.UPDATE)
     public ApiResponse<RoleResponse> updateRole(
             @PathVariable Long id,
             @Valid @RequestBody RoleRequest request) {
@@ -51,6 +58,7 @@ public class RoleController {
 
     @Operation(summary = "권한 삭제")
     @DeleteMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.ROLE, value = MenuPermission.DELETE)
     public ApiResponse<Void> deleteRole(@PathVariable Long id) {
         Long updId = 1L;
         roleService.deleteRole(id, updId);
@@ -59,12 +67,14 @@ public class RoleController {
 
     @Operation(summary = "권한별 메뉴 권한 조회")
     @GetMapping("/{id}/menus")
+    @RequiresMenuPermission(menu = MenuCode.ROLE, value = MenuPermission.READ)
     public ApiResponse<List<RoleMenuResponse>> getRoleMenus(@PathVariable Long id) {
         return ApiResponse.ok(roleService.getRoleMenus(id));
     }
 
     @Operation(summary = "권한별 메뉴 권한 설정")
     @PutMapping("/{id}/menus")
+    @RequiresMenuPermission(menu = MenuCode.ROLE, value = MenuPermission.UPDATE)
     public ApiResponse<List<RoleMenuResponse>> updateRoleMenus(
             @PathVariable Long id,
             @Valid @RequestBody RoleMenuRequest request) {
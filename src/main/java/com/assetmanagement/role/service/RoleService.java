@@ -2,6 +2,7 @@ package com.assetmanagement.role.service;
 
 import com.assetmanagement.global.exception.BusinessException;
 import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.security.MenuPermissionCache;
 import com.assetmanagement.role.dto.*;
 import com.assetmanagement.role.entity.Role;
 import com.assetmanagement.role.entity.RoleMenu;
@@ -20,6 +21,7 @@ public class RoleService {
 
     private final RoleRepository roleRepository;
     private final RoleMenuRepository roleMenuRepository;
+    private final MenuPermissionCache menuPermissionCache;
 
     public List<RoleResponse> getRoles() {
         return roleRepository.findByIsDeletedFalse().stream()
@@ -58,6 +60,7 @@ public class RoleService {
             .build();
 
         updated.setUpdId(updId);
+        menuPermissionCache.evictRole(roleId);
         return RoleResponse.from(roleRepository.save(updated));
     }
 
@@ -65,6 +68,7 @@ public class RoleService {
     public void deleteRole(Long roleId, Long updId) {
         Role role = findRoleOrThrow(roleId);
         role.softDelete(updId);
+        menuPermissionCache.evictRole(roleId);
     }
 
     public List<RoleMenuResponse> getRoleMenus(Long roleId) {
@@ -101,9 +105,13 @@ public class RoleService {
             })
             .toList();
 
-        return roleMenuRepository.saveAll(newMappings).stream()
+        List<RoleMenuResponse> result = roleMenuRepository.saveAll(newMappings).stream()
             .map(RoleMenuResponse::from)
             .toList();
+
+        // 역할 비트셋 재컴파일 + 해당 역할 보유 사용자의 유효 권한 재계산
+        menuPermissionCache.evictRole(roleId);
+        return result;
     }
 
     private Role findRoleOrThrow(Long roleId) {
@@ -1,6 +1,9 @@
 package com.assetmanagement.software.controller;
 
 import com.assetmanagement.global.dto.ApiResponse;
+import com.assetmanagement.global.security.MenuCode;
+import com.assetmanagement.global.security.MenuPermission;
+import com.assetmanagement.global.security.RequiresMenuPermission;
 import com.assetmanagement.software.dto.SoftwareRequest;
 import com.assetmanagement.software.dto.SoftwareResponse;
 import com.assetmanagement.software.service.SoftwareService;
@@ -35,6 +38,7 @@ public class SoftwareController {
 
     @Operation(summary = "소프트웨어 등록")
     @PostMapping
+    @RequiresMenuPermission(menu = MenuCode.SOFTWARE, value = MenuPermission.CREATE)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<SoftwareResponse> createSoftware(@Valid @RequestBody SoftwareRequest request) {
         Long regId = 1L;
@@ -43,6 +47,7 @@ public class SoftwareController {
 
     @Operation(summary = "소프트웨어 수정")
     @PutMapping("/{id}")
+    @RequiresMenuPermission(menu = MenuCode.SOFTWARE, value = MenuPermission.UPDATE)
     public ApiResponse<SoftwareResponse> updateSoftware(
             @PathVariable Long id,
             @Valid @RequestBody SoftwareRequest request) {
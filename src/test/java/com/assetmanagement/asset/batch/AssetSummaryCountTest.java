@@ -0,0 +1,108 @@
+package com.assetmanagement.asset.batch;
+
+import com.assetmanagement.asset.repository.AssetSummaryJdbcRepository;
+import com.assetmanagement.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자산 유형/상태별 수량 트리거(fn_asset_status_count)와 보정 배치 확인 (system-policy.md 8.1)
+ */
+class AssetSummaryCountTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AssetSummaryReconcileJob assetSummaryReconcileJob;
+
+    @Autowired
+    private AssetSummaryJdbcRepository assetSummaryJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void trigger_tracksInsertUpdateSoftDeleteAndDelete() {
+        long categoryId = createCategory("COUNT_TRG");
+
+        // 일괄 INSERT (문장 1회)
+        List<Long> assetIds = jdbcTemplate.queryForList("""
+            INSERT INTO asset (category_id, asset_name, asset_status)
+            VALUES (?, '수량 1', 'AVAILABLE'), (?, '수량 2', 'AVAILABLE'), (?, '수량 3', 'AVAILABLE'),
+                (?, '수량 4', 'REPAIR')
+            RETURNING asset_id
+            """, Long.class, categoryId, categoryId, categoryId, categoryId);
+        assertThat(counts(categoryId)).isEqualTo(Map.of("AVAILABLE", 3L, "REPAIR", 1L));
+
+        // 상태 변경 (여러 행을 한 문장으로)
+        jdbcTemplate.update("UPDATE asset SET asset_status = 'IN_USE' WHERE asset_id = ANY(?)",
+            (Object) new Long[] {assetIds.get(0), assetIds.get(1)});
+        assertThat(counts(categoryId)).isEqualTo(Map.of("AVAILABLE", 1L, "IN_USE", 2L, "REPAIR", 1L));
+
+        // 소프트 삭제
+        jdbcTemplate.update("UPDATE asset SET is_deleted = true WHERE asset_id = ?", assetIds.get(3));
+        assertThat(counts(categoryId)).isEqualTo(Map.of("AVAILABLE", 1L, "IN_USE", 2L, "REPAIR", 0L));
+
+        // 물리 삭제 (소프트 삭제된 행은 이미 차감되었으므로 다시 차감하지 않음)
+        jdbcTemplate.update("DELETE FROM asset WHERE asset_id = ANY(?)",
+            (Object) new Long[] {assetIds.get(0), assetIds.get(3)});
+        assertThat(counts(categoryId)).isEqualTo(Map.of("AVAILABLE", 1L, "IN_USE", 1L, "REPAIR", 0L));
+
+        assertThat(assetSummaryJdbcRepository.reconcile()).isEmpty();
+    }
+
+    @Test
+    void reconcileJob_repairsInjectedDrift() {
+        long categoryId = createCategory("COUNT_DRIFT");
+        jdbcTemplate.update("""
+            INSERT INTO asset (category_id, asset_name, asset_status)
+            SELECT ?, '보정 ' || g, CASE WHEN g <= 3 THEN 'AVAILABLE' ELSE 'IN_USE' END
+            FROM generate_series(1, 5) g
+            """, categoryId);
+
+        // 트리거를 거치지 않은 변경 흉내: 수량 증가, 행 누락
+        jdbcTemplate.update("""
+            UPDATE asset_category_status_count SET asset_count = asset_count + 4
+            WHERE category_id = ? AND asset_status = 'AVAILABLE'
+            """, categoryId);
+        jdbcTemplate.update("""
+            DELETE FROM asset_category_status_count WHERE category_id = ? AND asset_status = 'IN_USE'
+            """, categoryId);
+        double driftBefore = driftCount();
+
+        assetSummaryReconcileJob.run();
+
+        assertThat(counts(categoryId)).isEqualTo(Map.of("AVAILABLE", 3L, "IN_USE", 2L));
+        assertThat(driftCount() - driftBefore).isEqualTo(6.0);
+        assertThat(assetSummaryJdbcRepository.reconcile()).isEmpty();
+    }
+
+    private Map<String, Long> counts(long categoryId) {
+        Map<String, Long> counts = new TreeMap<>();
+        jdbcTemplate.query(
+            "SELECT asset_status, asset_count FROM asset_category_status_count WHERE category_id = ?",
+            rs -> {
+                counts.put(rs.getString(1), rs.getLong(2));
+            }, categoryId);
+        return counts;
+    }
+
+    private double driftCount() {
+        return meterRegistry.counter("app.batch.drift", "job", "asset-summary-reconcile").count();
+    }
+
+    private long createCategory(String code) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO asset_category (category_name, category_code) VALUES (?, ?) RETURNING category_id",
+            Long.class, "수량 " + code, code);
+    }
+}
@@ -0,0 +1,44 @@
+package com.assetmanagement.asset.entity;
+
+import com.assetmanagement.asset.repository.AssetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetTest {
+
+    private static final List<String> STATUSES = List.of("AVAILABLE", "IN_USE", "REPAIR", "DISPOSED", "LOST");
+
+    // markInUse() 조건부 UPDATE의 허용 상태가 엔티티 상태 전이 규칙과 어긋나지 않는지 확인
+    @Test
+    void markInUse_sourceStatusesMatchValidTransitions() throws Exception {
+        String sql = AssetRepository.class.getMethod("markInUse", Long.class)
+            .getAnnotation(Query.class).value();
+        Matcher matcher = Pattern.compile("asset_status IN \\(([^)]*)\\)").matcher(sql);
+        assertThat(matcher.find()).isTrue();
+        Set<String> sqlStatuses = new HashSet<>();
+        for (String literal : matcher.group(1).split(",")) {
+            sqlStatuses.add(literal.trim().replace("'", ""));
+        }
+
+        Set<String> entityStatuses = new HashSet<>();
+        for (String status : STATUSES) {
+            Asset asset = Asset.builder().assetStatus(status).build();
+            try {
+                asset.changeStatus("IN_USE");
+                entityStatuses.add(status);
+            } catch (IllegalStateException e) {
+                // 전이 불가 상태
+            }
+        }
+
+        assertThat(sqlStatuses).isEqualTo(entityStatuses);
+    }
+}
@@ -0,0 +1,123 @@
+package com.assetmanagement.asset.repository;
+
+import com.assetmanagement.asset.dto.AssetSearchCondition;
+import com.assetmanagement.global.dto.SearchHit;
+import com.assetmanagement.global.util.SearchKeyword;
+import com.assetmanagement.support.IntegrationTestSupport;
+import com.assetmanagement.support.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 부분일치 검색의 pg_trgm 인덱스 사용 확인 (system-policy.md 8.3)
+ *
+ * 리포지토리가 실행한 SQL을 그대로 EXPLAIN ANALYZE 하여, trigram 인덱스가 있을 때는 Bitmap Index Scan,
+ * 인덱스가 없던 이전 구조(같은 트랜잭션에서 인덱스 DROP 후 롤백)에서는 Seq Scan임을 비교한다.
+ * 실행 시간은 로그(keyword search plan)로 남긴다.
+ */
+class AssetKeywordSearchTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetKeywordSearchTest.class);
+
+    private static final String KEYWORD = "Carbon";
+    private static final List<String> TRGM_INDEXES =
+        List.of("idx_asset_name_trgm", "idx_asset_serial_trgm", "idx_asset_model_trgm");
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO asset_category (category_name, category_code)
+            VALUES ('키워드 검색', 'KEYWORD_IT')
+            ON CONFLICT DO NOTHING
+            """);
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM asset WHERE asset_name LIKE 'kw-it-%'", Long.class) == 0) {
+            jdbcTemplate.update("""
+                INSERT INTO asset (category_id, asset_name, serial_number, model_name)
+                SELECT (SELECT category_id FROM asset_category WHERE category_code = 'KEYWORD_IT'),
+                    'kw-it-' || CASE WHEN g % 4000 = 0 THEN 'ThinkPad X1 Carbon ' ELSE 'Latitude ' END || g,
+                    'SN-KW-' || lpad(g::text, 6, '0'),
+                    'model-' || (g % 50)
+                FROM generate_series(1, 20000) g
+                """);
+            // GIN pending list(fastupdate)를 비워야 플래너가 GIN 인덱스 비용을 정상 추정한다
+            jdbcTemplate.execute("VACUUM ANALYZE asset");
+        }
+        SqlCapture.clear();
+    }
+
+    @Test
+    void searchRanked_usesTrigramIndexInsteadOfSeqScan() {
+        List<SearchHit> hits = assetRepository.searchRanked(
+            SearchKeyword.normalize(KEYWORD), SearchKeyword.containsPattern(KEYWORD), 20);
+        assertThat(hits).hasSize(5);
+        String sql = SqlCapture.statements().get(0);
+        String keyword = "'" + SearchKeyword.normalize(KEYWORD) + "'";
+        String pattern = "'" + SearchKeyword.containsPattern(KEYWORD) + "'";
+        String[] args = {keyword, keyword, keyword, pattern, pattern, pattern, "20"};
+
+        assertIndexedVersusSeqScan("searchRanked", sql, args);
+    }
+
+    @Test
+    void keywordSpecification_usesTrigramIndexInsteadOfSeqScan() {
+        AssetSearchCondition cond = new AssetSearchCondition();
+        cond.setKeyword(KEYWORD);
+        assertThat(assetRepository.findAll(AssetSpecification.search(cond))).hasSize(5);
+        String sql = SqlCapture.statements().get(0);
+        String pattern = "'%" + KEYWORD.toLowerCase() + "%'";
+
+        assertIndexedVersusSeqScan("specification", sql, pattern, pattern, pattern);
+    }
+
+    private void assertIndexedVersusSeqScan(String name, String sql, String... args) {
+        String indexed = explainAnalyze(sql, false, args);
+        String scanned = explainAnalyze(sql, true, args);
+        log.info("keyword search plan [{}] trgm: {} / without index: {}", name, executionTime(indexed),
+            executionTime(scanned));
+
+        assertThat(indexed).contains("Bitmap Index Scan on idx_asset_name_trgm").doesNotContain("Seq Scan on asset");
+        assertThat(scanned).contains("Seq Scan on asset").doesNotContain("_trgm");
+    }
+
+    // withoutIndex: trigram 인덱스 도입 이전 구조. DROP INDEX는 트랜잭션과 함께 롤백된다
+    private String explainAnalyze(String sql, boolean withoutIndex, String... args) {
+        return transactionTemplate.execute(status -> {
+            if (withoutIndex) {
+                TRGM_INDEXES.forEach(index -> jdbcTemplate.execute("DROP INDEX " + index));
+            }
+            jdbcTemplate.execute("PREPARE keyword_search AS " + SqlCapture.numberParameters(sql));
+            try {
+                return String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN ANALYZE EXECUTE keyword_search(" + String.join(", ", args) + ")", String.class));
+            } finally {
+                jdbcTemplate.execute("DEALLOCATE keyword_search");
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private static String executionTime(String plan) {
+        return plan.lines()
+            .filter(line -> line.startsWith("Execution Time"))
+            .findFirst()
+            .orElse("-");
+    }
+}
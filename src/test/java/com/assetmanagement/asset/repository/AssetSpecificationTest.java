@@ -0,0 +1,128 @@
+package com.assetmanagement.asset.repository;
+
+import com.assetmanagement.asset.dto.AssetSearchCondition;
+import com.assetmanagement.support.IntegrationTestSupport;
+import com.assetmanagement.support.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetSpecificationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO asset_category (category_name, category_code)
+            VALUES ('스펙 검색', 'SPEC_IT')
+            ON CONFLICT DO NOTHING
+            """);
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM asset WHERE asset_name LIKE 'spec-it-%'", Long.class) == 0) {
+            jdbcTemplate.update("""
+                INSERT INTO asset (category_id, asset_name, specs)
+                SELECT (SELECT category_id FROM asset_category WHERE category_code = 'SPEC_IT'),
+                    'spec-it-' || g,
+                    jsonb_build_object('ram', (g % 64) || 'GB', 'cpu_cores', g % 16)
+                FROM generate_series(1, 2000) g
+                """);
+            // 일부 자산에만 있는 키 (포함 조건 GIN 인덱스 검증용)
+            jdbcTemplate.update("""
+                INSERT INTO asset (category_id, asset_name, specs)
+                SELECT (SELECT category_id FROM asset_category WHERE category_code = 'SPEC_IT'),
+                    'spec-it-gpu-' || g,
+                    jsonb_build_object('ram', '64GB', 'gpu', 'RTX-' || g)
+                FROM generate_series(1, 5) g
+                """);
+            // GIN pending list(fastupdate)를 비워야 플래너가 GIN 인덱스 비용을 정상 추정한다
+            jdbcTemplate.execute("VACUUM ANALYZE asset");
+        }
+        SqlCapture.clear();
+    }
+
+    @Test
+    void specRange_rendersKeyAsLiteral() {
+        List<?> assets = assetRepository.findAll(AssetSpecification.search(rangeCondition("ram", 60, null)));
+
+        Long expected = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM asset WHERE is_deleted = false AND fn_spec_numeric(specs, 'ram') >= 60", Long.class);
+        assertThat(assets).hasSize(expected.intValue());
+        assertThat(rangeQuery()).contains("fn_spec_numeric(a1_0.specs,'ram')");
+    }
+
+    // 서버 측 prepared statement가 generic plan으로 전환되어도 표현식 인덱스를 사용해야 한다
+    @Test
+    void specRange_usesExpressionIndexWithGenericPlan() {
+        assetRepository.findAll(AssetSpecification.search(rangeCondition("cpu_cores", 4, 8)));
+        String sql = rangeQuery();
+
+        String plan = explain(sql, List.of("plan_cache_mode = force_generic_plan", "enable_seqscan = off"), "4", "8");
+
+        assertThat(plan).contains("idx_asset_spec_cpu_cores");
+    }
+
+    @Test
+    void specContains_bindsJsonAndMatchesContainedObjects() {
+        List<?> assets = assetRepository.findAll(AssetSpecification.search(containsCondition("{\"gpu\": \"RTX-3\"}")));
+        List<?> ramAssets = assetRepository.findAll(AssetSpecification.search(
+            containsCondition("{\"ram\": \"5GB\", \"cpu_cores\": 5}")));
+
+        assertThat(assets).hasSize(1);
+        Long expected = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM asset
+            WHERE is_deleted = false AND specs->>'ram' = '5GB' AND (specs->>'cpu_cores')::int = 5
+            """, Long.class);
+        assertThat(expected).isPositive();
+        assertThat(ramAssets).hasSize(expected.intValue());
+        assertThat(containsQuery()).contains("@> cast(? as jsonb)").doesNotContain("RTX-3");
+    }
+
+    // 바인드 파라미터여도 generic plan에서 GIN 인덱스를 사용할 수 있어야 한다 (테스트 테이블이 작아 seq scan은 끔)
+    @Test
+    void specContains_usesGinIndexWithGenericPlan() {
+        assetRepository.findAll(AssetSpecification.search(containsCondition("{\"gpu\": \"RTX-3\"}")));
+
+        String plan = explain(containsQuery(), List.of("plan_cache_mode = force_generic_plan", "enable_seqscan = off"),
+            "'{\"gpu\": \"RTX-3\"}'");
+
+        assertThat(plan).contains("Bitmap Index Scan on idx_asset_specs");
+    }
+
+    private static AssetSearchCondition containsCondition(String json) {
+        AssetSearchCondition cond = new AssetSearchCondition();
+        cond.setSpecContains(json);
+        return cond;
+    }
+
+    private static AssetSearchCondition rangeCondition(String key, Integer min, Integer max) {
+        AssetSearchCondition cond = new AssetSearchCondition();
+        cond.setSpecRangeKey(key);
+        cond.setSpecMin(min == null ? null : BigDecimal.valueOf(min));
+        cond.setSpecMax(max == null ? null : BigDecimal.valueOf(max));
+        return cond;
+    }
+
+    private static String rangeQuery() {
+        return SqlCapture.statements().stream()
+            .filter(sql -> sql.contains("fn_spec_numeric"))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static String containsQuery() {
+        return SqlCapture.statements().stream()
+            .filter(sql -> sql.contains("@>"))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,166 @@
+package com.assetmanagement.asset.service;
+
+import com.assetmanagement.asset.entity.Asset;
+import com.assetmanagement.asset.repository.AssetRepository;
+import com.assetmanagement.global.util.RedisLockUtil;
+import com.assetmanagement.global.util.RedisLockUtil.RedisLock;
+import com.assetmanagement.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자산 배정 선점 방식 부하 비교 (system-policy.md 5.2)
+ *
+ * 같은 자산을 다투는 요청을 동시에 보내고, 조건부 UPDATE 방식과 이전 분산락 방식
+ * (자산 단위 Redis 락 100ms x 3회 재시도 후 엔티티 상태 전이)의 처리량/p99/실패 건수를 비교한다.
+ * 각 요청은 AVAILABLE → IN_USE 선점 후 같은 트랜잭션에서 AVAILABLE로 되돌려 다음 요청이 다시 선점할 수 있게 한다.
+ * 측정값은 로그(asset assign load)로 남긴다.
+ */
+class AssetAssignmentLoadTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetAssignmentLoadTest.class);
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 400;
+    private static final int ASSETS = 4;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private RedisLockUtil redisLockUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void conditionalUpdate_outperformsRedisLockUnderContention() throws Exception {
+        List<Long> assetIds = createAssets();
+
+        LongPredicate conditionalUpdate = assetId -> Boolean.TRUE.equals(
+            transactionTemplate.execute(status -> {
+                if (assetRepository.markInUse(assetId) == 0) {
+                    return false;
+                }
+                jdbcTemplate.update("UPDATE asset SET asset_status = 'AVAILABLE' WHERE asset_id = ?", assetId);
+                return true;
+            }));
+
+        LongPredicate redisLock = assetId -> {
+            RedisLock lock = redisLockUtil.tryLock("asset:assign:" + assetId, Duration.ofSeconds(30), 3, 100);
+            if (lock == null) {
+                return false;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Asset asset = assetRepository.findByAssetIdAndIsDeletedFalse(assetId).orElseThrow();
+                    asset.changeStatus("IN_USE");
+                    assetRepository.flush();
+                    asset.changeStatus("AVAILABLE");
+                });
+                return true;
+            } finally {
+                redisLockUtil.unlock(lock);
+            }
+        };
+
+        // 워밍업 (JIT, 커넥션 풀) 후 측정
+        run("warmup", conditionalUpdate, assetIds);
+        run("warmup", redisLock, assetIds);
+        Result conditional = run("conditional-update", conditionalUpdate, assetIds);
+        Result locked = run("redis-lock", redisLock, assetIds);
+
+        log.info("asset assign load: {}", conditional);
+        log.info("asset assign load: {}", locked);
+
+        // 조건부 UPDATE는 행 잠금 대기 후 재평가하므로 경합으로 실패하지 않는다.
+        // 분산락 방식은 재시도 소진 시 실패(COMMON_001)로 지연 상한을 두므로 p99는 비교 기록만 남긴다.
+        assertThat(conditional.failures()).isZero();
+        assertThat(conditional.throughput()).isGreaterThan(locked.throughput());
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM asset WHERE asset_id = ANY(?) AND asset_status = 'AVAILABLE'",
+            Long.class, (Object) assetIds.toArray(Long[]::new))).isEqualTo(ASSETS);
+    }
+
+    private Result run(String name, LongPredicate reserve, List<Long> assetIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] latencies = new long[REQUESTS];
+        boolean[] succeeded = new boolean[REQUESTS];
+        long startedAt;
+        long finishedAt;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                long assetId = assetIds.get(i % ASSETS);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    succeeded[index] = reserve.test(assetId);
+                    latencies[index] = System.nanoTime() - begin;
+                    return null;
+                }));
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+            finishedAt = System.nanoTime();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int failures = 0;
+        for (boolean success : succeeded) {
+            if (!success) {
+                failures++;
+            }
+        }
+        Arrays.sort(latencies);
+        double p99Millis = latencies[(int) Math.ceil(REQUESTS * 0.99) - 1] / 1_000_000.0;
+        double throughput = (REQUESTS - failures) / ((finishedAt - startedAt) / 1_000_000_000.0);
+        return new Result(name, throughput, p99Millis, failures);
+    }
+
+    private List<Long> createAssets() {
+        Long categoryId = jdbcTemplate.queryForObject(
+            "INSERT INTO asset_category (category_name, category_code) VALUES ('부하 비교', 'LOAD_CMP') RETURNING category_id",
+            Long.class);
+        return jdbcTemplate.queryForList("""
+            INSERT INTO asset (category_id, asset_name, asset_status)
+            SELECT ?, '부하 비교 ' || g, 'AVAILABLE' FROM generate_series(1, ?) g
+            RETURNING asset_id
+            """, Long.class, categoryId, ASSETS);
+    }
+
+    private record Result(String name, double throughput, double p99Millis, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format("%s throughput=%.1f ops/s p99=%.1f ms failures=%d/%d",
+                name, throughput, p99Millis, failures, REQUESTS);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.assetmanagement.dept.repository;
+
+import com.assetmanagement.dept.repository.DeptReportJdbcRepository.Metric;
+import com.assetmanagement.dept.repository.DeptReportJdbcRepository.RollupRow;
+import com.assetmanagement.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부서 롤업 하위 트리 합계 확인 (system-policy.md 8.1)
+ *
+ * 부서 ID가 다른 부서 ID의 접두어가 되도록(510 / 5101) 구성하여 경로 분해가 ID 단위로 이루어지는지 검증한다.
+ *
+ * 510 ── 5105
+ * 5101 ─┬─ 5102 ── 5104
+ *       └─ 5103
+ */
+class DeptReportJdbcRepositoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DeptReportJdbcRepository deptReportJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findRollup_subtreeTotalsMatchPerDepartmentSums() {
+        insertDept(510, null, "/510/", 0);
+        insertDept(5105, 510L, "/510/5105/", 1);
+        insertDept(5101, null, "/5101/", 0);
+        insertDept(5102, 5101L, "/5101/5102/", 1);
+        insertDept(5103, 5101L, "/5101/5103/", 1);
+        insertDept(5104, 5102L, "/5101/5102/5104/", 2);
+
+        long softwareId = jdbcTemplate.queryForObject(
+            "INSERT INTO software (software_name) VALUES ('롤업') RETURNING software_id", Long.class);
+        long licenseId = jdbcTemplate.queryForObject("""
+            INSERT INTO license (software_id, license_type, total_qty, used_qty, purchase_price)
+            VALUES (?, 'VOLUME', 10, 0, 1000.00)
+            RETURNING license_id
+            """, Long.class, softwareId);
+        long categoryId = jdbcTemplate.queryForObject(
+            "INSERT INTO asset_category (category_name, category_code) VALUES ('롤업', 'ROLLUP') RETURNING category_id",
+            Long.class);
+
+        // 5101: 인원 1 (퇴사자 제외), 자산 1
+        long m5101 = createMember(5101, "ACTIVE");
+        createMember(5101, "RESIGNED");
+        assignAsset(categoryId, m5101, "300.00");
+        // 5102: 인원 2, 자산 1, 좌석 1
+        long m5102 = createMember(5102, "ACTIVE");
+        createMember(5102, "LEAVE");
+        assignAsset(categoryId, m5102, "500.00");
+        assignSeat(licenseId, m5102);
+        // 5104: 인원 2, 자산 2, 좌석 2 (반납된 자산은 제외)
+        long m5104 = createMember(5104, "ACTIVE");
+        assignAsset(categoryId, m5104, "200.00");
+        assignAsset(categoryId, m5104, "100.00");
+        long returned = assignAsset(categoryId, m5104, "900.00");
+        jdbcTemplate.update("UPDATE asset_assignment SET assignment_status = 'RETURNED' WHERE asset_id = ?", returned);
+        assignSeat(licenseId, m5104);
+        assignSeat(licenseId, createMember(5104, "ACTIVE"));
+        // 5103: 없음, 5105: 인원 1
+        createMember(5105, "ACTIVE");
+
+        List<RollupRow> rows = deptReportJdbcRepository.findRollup();
+        Map<Long, RollupRow> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(row.deptId(), row));
+
+        assertMetric(byId.get(5104L).own(), 2, 2, "300.00", 2, "200.00");
+        assertMetric(byId.get(5104L).total(), 2, 2, "300.00", 2, "200.00");
+        assertMetric(byId.get(5102L).own(), 2, 1, "500.00", 1, "100.00");
+        assertMetric(byId.get(5102L).total(), 4, 3, "800.00", 3, "300.00");
+        assertMetric(byId.get(5103L).total(), 0, 0, "0", 0, "0");
+        assertMetric(byId.get(5101L).own(), 1, 1, "300.00", 0, "0");
+        assertMetric(byId.get(5101L).total(), 5, 4, "1100.00", 3, "300.00");
+        // 510은 5101 하위 트리를 포함하지 않음
+        assertMetric(byId.get(510L).total(), 1, 0, "0", 0, "0");
+
+        // 전체 부서: 하위 트리 합계 = 경로에 해당 부서가 포함된 부서들의 직속 집계 합
+        for (RollupRow row : rows) {
+            String segment = "/" + row.deptId() + "/";
+            List<Metric> subtree = rows.stream()
+                .filter(other -> other.deptPath().contains(segment))
+                .map(RollupRow::own)
+                .toList();
+            Metric total = row.total();
+            assertThat(total.memberCount()).isEqualTo(subtree.stream().mapToLong(Metric::memberCount).sum());
+            assertThat(total.assetCount()).isEqualTo(subtree.stream().mapToLong(Metric::assetCount).sum());
+            assertThat(total.seatCount()).isEqualTo(subtree.stream().mapToLong(Metric::seatCount).sum());
+            assertThat(total.assetAmount()).isEqualByComparingTo(
+                subtree.stream().map(Metric::assetAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
+            assertThat(total.seatAmount()).isEqualByComparingTo(
+                subtree.stream().map(Metric::seatAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
+        }
+    }
+
+    private void assertMetric(Metric metric, long members, long assets, String assetAmount,
+                              long seats, String seatAmount) {
+        assertThat(metric.memberCount()).isEqualTo(members);
+        assertThat(metric.assetCount()).isEqualTo(assets);
+        assertThat(metric.assetAmount()).isEqualByComparingTo(assetAmount);
+        assertThat(metric.seatCount()).isEqualTo(seats);
+        assertThat(metric.seatAmount()).isEqualByComparingTo(seatAmount);
+    }
+
+    private void insertDept(long deptId, Long parentDeptId, String path, int depth) {
+        jdbcTemplate.update("""
+            INSERT INTO dept (dept_id, parent_dept_id, dept_name, dept_code, dept_depth, dept_path)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, deptId, parentDeptId, "롤업 " + deptId, "ROLLUP-" + deptId, depth, path);
+    }
+
+    private long createMember(long deptId, String employmentStatus) {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO member (login_id, password, member_name, hire_date, dept_id, employment_status)
+            VALUES ('rollup-' || gen_random_uuid(), 'x', '롤업', CURRENT_DATE, ?, ?)
+            RETURNING member_id
+            """, Long.class, deptId, employmentStatus);
+    }
+
+    private long assignAsset(long categoryId, long memberId, String purchasePrice) {
+        Long assetId = jdbcTemplate.queryForObject("""
+            INSERT INTO asset (category_id, asset_name, asset_status, purchase_price)
+            VALUES (?, '롤업 자산', 'IN_USE', ?)
+            RETURNING asset_id
+            """, Long.class, categoryId, new BigDecimal(purchasePrice));
+        jdbcTemplate.update(
+            "INSERT INTO asset_assignment (asset_id, member_id, assigned_date) VALUES (?, ?, CURRENT_DATE)",
+            assetId, memberId);
+        return assetId;
+    }
+
+    private void assignSeat(long licenseId, long memberId) {
+        jdbcTemplate.update("""
+            INSERT INTO license_assignment (license_id, member_id, assigned_date, assignment_reason)
+            VALUES (?, ?, CURRENT_DATE, '롤업 테스트')
+            """, licenseId, memberId);
+    }
+}
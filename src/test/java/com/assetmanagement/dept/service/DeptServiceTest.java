@@ -0,0 +1,146 @@
+package com.assetmanagement.dept.service;
+
+import com.assetmanagement.dept.dto.DeptMoveRequest;
+import com.assetmanagement.dept.dto.DeptReorgRequest;
+import com.assetmanagement.global.exception.BusinessException;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 부서 하위 트리 이동 확인 (system-policy.md 3.3)
+ *
+ * 부서 ID가 서로의 접두어가 되도록(7001, 70011, 700110, 700111) 구성하여
+ * 경로 문자열 안에 같은 숫자열이 여러 번 나타나는 경우를 검증한다.
+ */
+class DeptServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DeptService deptService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void moveDept_rewritesOnlyTheSubtreePrefix() {
+        Tree tree = createTree(7001);
+
+        // 70011 이동: 경로가 "/7001/70011"로 시작하는 형제 700110은 대상이 아님
+        deptService.moveDept(tree.child(), DeptMoveRequest.builder().newParentDeptId(tree.target()).build(), 1L);
+
+        assertThat(path(tree.root())).isEqualTo("/7001/");
+        assertThat(path(tree.child())).isEqualTo("/7002/70011/");
+        assertThat(path(tree.grandchild())).isEqualTo("/7002/70011/700111/");
+        assertThat(path(tree.sibling())).isEqualTo("/7001/700110/");
+        assertThat(depth(tree.grandchild())).isEqualTo(2);
+        assertThat(parent(tree.child())).isEqualTo(tree.target());
+
+        // 7001 이동: "7001"이 경로에 여러 번 나타나도 접두어만 교체
+        deptService.moveDept(tree.root(), DeptMoveRequest.builder().newParentDeptId(tree.target()).build(), 1L);
+
+        assertThat(path(tree.root())).isEqualTo("/7002/7001/");
+        assertThat(path(tree.sibling())).isEqualTo("/7002/7001/700110/");
+        assertThat(depth(tree.sibling())).isEqualTo(2);
+        assertThat(path(tree.grandchild())).isEqualTo("/7002/70011/700111/");
+    }
+
+    @Test
+    void reorgDepts_rejectsCycleAndRollsBackEarlierMoves() {
+        Tree tree = createTree(8001);
+
+        // 두 번째 이동(8001 → 하위 부서 800110)이 순환이므로 첫 번째 이동도 롤백
+        DeptReorgRequest request = reorgRequest(
+            Map.of("deptId", tree.child(), "newParentDeptId", tree.target()),
+            Map.of("deptId", tree.root(), "newParentDeptId", tree.sibling()));
+
+        assertThatThrownBy(() -> deptService.reorgDepts(request, 1L))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.DEPT_004);
+        assertThat(path(tree.child())).isEqualTo("/8001/80011/");
+        assertThat(path(tree.root())).isEqualTo("/8001/");
+    }
+
+    @Test
+    void reorgDepts_rejectsMoveBeyondMaxDepth() {
+        Tree tree = createTree(9001);
+        // 깊이 0~4 체인: 90020(0) → 90021(1) → ... → 90024(4)
+        long parent = 0;
+        for (int depth = 0; depth <= 4; depth++) {
+            long deptId = 90020 + depth;
+            String path = depth == 0 ? "/" + deptId + "/" : path(parent) + deptId + "/";
+            insertDept(deptId, depth == 0 ? null : parent, path, depth);
+            parent = deptId;
+        }
+
+        // 90011 하위 트리(깊이 1~2)를 깊이 4 아래로 옮기면 최대 깊이 6 → DEPT_003
+        DeptReorgRequest request = reorgRequest(
+            Map.of("deptId", tree.sibling(), "newParentDeptId", tree.target()),
+            Map.of("deptId", tree.child(), "newParentDeptId", 90024L));
+
+        assertThatThrownBy(() -> deptService.reorgDepts(request, 1L))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.DEPT_003);
+        assertThat(path(tree.sibling())).isEqualTo("/9001/900110/");
+        assertThat(path(tree.child())).isEqualTo("/9001/90011/");
+
+        // 깊이 3 아래(최대 깊이 5)는 허용
+        deptService.moveDept(tree.child(), DeptMoveRequest.builder().newParentDeptId(90023L).build(), 1L);
+        assertThat(depth(tree.grandchild())).isEqualTo(5);
+    }
+
+    /*
+     * root(a) ─┬─ child(a*10+1) ── grandchild(a*100+11)
+     *          └─ sibling(a*100+10)
+     * target(a+1)
+     */
+    private Tree createTree(long a) {
+        Tree tree = new Tree(a, a * 10 + 1, a * 100 + 11, a * 100 + 10, a + 1);
+        insertDept(tree.root(), null, "/" + tree.root() + "/", 0);
+        insertDept(tree.child(), tree.root(), "/" + tree.root() + "/" + tree.child() + "/", 1);
+        insertDept(tree.grandchild(), tree.child(),
+            "/" + tree.root() + "/" + tree.child() + "/" + tree.grandchild() + "/", 2);
+        insertDept(tree.sibling(), tree.root(), "/" + tree.root() + "/" + tree.sibling() + "/", 1);
+        insertDept(tree.target(), null, "/" + tree.target() + "/", 0);
+        return tree;
+    }
+
+    private void insertDept(long deptId, Long parentDeptId, String path, int depth) {
+        jdbcTemplate.update("""
+            INSERT INTO dept (dept_id, parent_dept_id, dept_name, dept_code, dept_depth, dept_path)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, deptId, parentDeptId, "부서 " + deptId, "DEPT-" + deptId, depth, path);
+    }
+
+    private DeptReorgRequest reorgRequest(Map<?, ?>... moves) {
+        return objectMapper.convertValue(Map.of("moves", List.of(moves)), DeptReorgRequest.class);
+    }
+
+    private String path(long deptId) {
+        return jdbcTemplate.queryForObject("SELECT dept_path FROM dept WHERE dept_id = ?", String.class, deptId);
+    }
+
+    private int depth(long deptId) {
+        return jdbcTemplate.queryForObject("SELECT dept_depth FROM dept WHERE dept_id = ?", Integer.class, deptId);
+    }
+
+    private Long parent(long deptId) {
+        return jdbcTemplate.queryForObject("SELECT parent_dept_id FROM dept WHERE dept_id = ?", Long.class, deptId);
+    }
+
+    private record Tree(long root, long child, long grandchild, long sibling, long target) {
+    }
+}
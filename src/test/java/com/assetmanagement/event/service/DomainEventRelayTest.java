@@ -0,0 +1,166 @@
+package com.assetmanagement.event.service;
+
+import com.assetmanagement.event.dto.DomainEvent;
+import com.assetmanagement.event.repository.DomainEventOutboxJdbcRepository;
+import com.assetmanagement.global.util.RedisLockUtil;
+import com.assetmanagement.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 도메인 이벤트 릴레이 확인 (system-policy.md 8.6)
+ *
+ * 테스트마다 별도 스트림 키를 쓰고, 다른 테스트가 남긴 outbox 행은 시작 전에 비워
+ * 스트림에 이 테스트가 적재한 이벤트만 남도록 한다.
+ */
+class DomainEventRelayTest extends IntegrationTestSupport {
+
+    private static final String GROUP = "relay-test";
+
+    @Autowired
+    private DomainEventOutbox domainEventOutbox;
+
+    @Autowired
+    private DomainEventOutboxJdbcRepository domainEventOutboxJdbcRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisLockUtil redisLockUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String streamKey;
+
+    @BeforeEach
+    void setUp() {
+        streamKey = "event:stream:test:" + UUID.randomUUID();
+        jdbcTemplate.update("DELETE FROM domain_event_outbox");
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(streamKey);
+    }
+
+    // 여러 배치에 걸쳐도 event_id 순서로 발행하고, 발행한 행은 outbox에서 삭제
+    @Test
+    void relay_publishesInEventIdOrderAndRemovesPublishedRows() {
+        List<Long> eventIds = publish(9_200_001L, 7);
+
+        relay(domainEventOutboxJdbcRepository, 3).relay();
+
+        List<MapRecord<String, Object, Object>> records = range();
+        assertThat(records).extracting(record -> Long.valueOf((String) record.getValue().get("eventId")))
+            .containsExactlyElementsOf(eventIds);
+        MapRecord<String, Object, Object> first = records.get(0);
+        assertThat(first.getValue())
+            .containsEntry("eventType", "MEMBER_RESIGNED")
+            .containsEntry("aggregateType", "MEMBER")
+            .containsEntry("aggregateId", "9200001");
+        assertThat((String) first.getValue().get("payload")).contains("\"memberId\": 9200001");
+        assertThat(outboxCount(eventIds)).isZero();
+    }
+
+    // XADD 이후 삭제 전 장애: 다음 주기에 같은 eventId로 다시 발행(at-least-once)하고, 소비자는 eventId로 중복 제거
+    @Test
+    void relay_redeliversWhenDeleteFailsAfterXadd() {
+        List<Long> eventIds = publish(9_300_001L, 5);
+        FailingDeleteRepository repository = new FailingDeleteRepository(jdbcTemplate);
+        DomainEventRelay relay = relay(repository, 500);
+
+        assertThatThrownBy(relay::relay).isInstanceOf(IllegalStateException.class);
+        assertThat(range()).hasSize(eventIds.size());
+        assertThat(outboxCount(eventIds)).isEqualTo(eventIds.size());
+
+        relay.relay();
+        assertThat(range()).hasSize(eventIds.size() * 2);
+        assertThat(outboxCount(eventIds)).isZero();
+
+        // 발행 이후 생성한 소비자 그룹도 스트림 처음부터 읽음
+        relay.createConsumerGroups();
+        List<MapRecord<String, Object, Object>> consumed = redisTemplate.opsForStream().read(
+            Consumer.from(GROUP, "consumer-1"),
+            StreamReadOptions.empty().count(100),
+            StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+        Set<Long> delivered = new LinkedHashSet<>();
+        for (MapRecord<String, Object, Object> record : consumed) {
+            delivered.add(Long.valueOf((String) record.getValue().get("eventId")));
+        }
+        assertThat(consumed).hasSize(eventIds.size() * 2);
+        assertThat(delivered).containsExactlyElementsOf(eventIds);
+    }
+
+    private DomainEventRelay relay(DomainEventOutboxJdbcRepository repository, int batchSize) {
+        return new DomainEventRelay(repository, redisTemplate, redisLockUtil, new SimpleMeterRegistry(),
+            streamKey, 10_000, List.of(GROUP), batchSize);
+    }
+
+    private List<Long> publish(long firstMemberId, int count) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(DomainEvent.memberResigned(firstMemberId + i, LocalDate.of(2026, 6, 30), 1L));
+        }
+        transactionTemplate.executeWithoutResult(status -> domainEventOutbox.publishAll(events));
+        return jdbcTemplate.queryForList(
+            "SELECT event_id FROM domain_event_outbox WHERE aggregate_id >= ? ORDER BY event_id",
+            Long.class, firstMemberId);
+    }
+
+    private List<MapRecord<String, Object, Object>> range() {
+        return redisTemplate.opsForStream().range(streamKey, Range.unbounded());
+    }
+
+    private long outboxCount(List<Long> eventIds) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM domain_event_outbox WHERE event_id = ANY(?)",
+            Long.class, (Object) eventIds.toArray(Long[]::new));
+    }
+
+    /**
+     * 첫 삭제만 실패시키는 저장소 (발행 후 삭제 전 장애 흉내)
+     */
+    private static class FailingDeleteRepository extends DomainEventOutboxJdbcRepository {
+
+        private boolean failed;
+
+        FailingDeleteRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public void deleteAll(List<Long> eventIds) {
+            if (!failed) {
+                failed = true;
+                throw new IllegalStateException("delete failure");
+            }
+            super.deleteAll(eventIds);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.assetmanagement.global;
+
+import com.assetmanagement.asset.dto.AssetSearchCondition;
+import com.assetmanagement.asset.service.AssetAssignmentService;
+import com.assetmanagement.asset.service.AssetService;
+import com.assetmanagement.global.dto.CursorRequest;
+import com.assetmanagement.global.util.CursorPagination;
+import com.assetmanagement.license.dto.LicenseSearchCondition;
+import com.assetmanagement.license.service.LicenseAssignmentService;
+import com.assetmanagement.license.service.LicenseService;
+import com.assetmanagement.support.IntegrationTestSupport;
+import com.assetmanagement.support.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 SQL 실행 수 (system-policy.md 8.4)
+ *
+ * 페이지의 행마다 연관 엔티티(유형/사용자/자산/소프트웨어/키)가 서로 다르게 데이터를 구성하여
+ * 연관 조회가 지연 로딩되면 실행 수가 늘어 실패한다.
+ * 페이지 조회는 목록 + count 2회, 커서 조회는 목록 1회여야 하며,
+ * 커서 다음 페이지는 키셋 조건이 인덱스 범위 조건(Index Cond)으로 사용되어야 한다.
+ */
+class ListStatementCountTest extends IntegrationTestSupport {
+
+    private static final int ROWS = 30;
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetAssignmentService assetAssignmentService;
+
+    @Autowired
+    private LicenseService licenseService;
+
+    @Autowired
+    private LicenseAssignmentService licenseAssignmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member WHERE login_id LIKE 'list-%'", Long.class) == 0) {
+            seed();
+        }
+        SqlCapture.clear();
+    }
+
+    @Test
+    void assets() {
+        assertThat(assetService.getAssets(new AssetSearchCondition(), PAGE).getContent()).hasSize(20);
+        assertStatements(2);
+
+        assertThat(assetService.getAssetsByCursor(new AssetSearchCondition(), cursor()).getContent()).hasSize(20);
+        assertStatements(1);
+    }
+
+    @Test
+    void assetAssignments() {
+        assertThat(assetAssignmentService.getAssignments(PAGE).getContent()).hasSize(20);
+        assertStatements(2);
+
+        assertThat(assetAssignmentService.getAssignmentsByCursor(cursor()).getContent()).hasSize(20);
+        assertStatements(1);
+    }
+
+    @Test
+    void licenses() {
+        assertThat(licenseService.getLicenses(new LicenseSearchCondition(), PAGE).getContent()).hasSize(20);
+        assertStatements(2);
+
+        assertThat(licenseService.getLicensesByCursor(new LicenseSearchCondition(), cursor()).getContent()).hasSize(20);
+        assertStatements(1);
+    }
+
+    @Test
+    void licenseAssignments() {
+        assertThat(licenseAssignmentService.getAssignments(PAGE).getContent()).hasSize(20);
+        assertStatements(2);
+
+        assertThat(licenseAssignmentService.getAssignmentsByCursor(cursor()).getContent()).hasSize(20);
+        assertStatements(1);
+    }
+
+    // 다음 페이지는 (reg_date, id) < (?, ?) 가 (reg_date DESC, id DESC) 인덱스의 범위 조건이어야 한다 (앞 페이지 행을 읽지 않음)
+    @Test
+    void assetCursor_nextPageUsesIndexCondition() {
+        String nextCursor = assetService.getAssetsByCursor(new AssetSearchCondition(), cursor()).getNextCursor();
+        SqlCapture.clear();
+        assetService.getAssetsByCursor(new AssetSearchCondition(), cursor(nextCursor));
+
+        assertKeysetIndexCondition(nextCursor, "idx_asset_reg_date_id");
+    }
+
+    @Test
+    void licenseAssignmentCursor_nextPageUsesIndexCondition() {
+        String nextCursor = licenseAssignmentService.getAssignmentsByCursor(cursor()).getNextCursor();
+        SqlCapture.clear();
+        licenseAssignmentService.getAssignmentsByCursor(cursor(nextCursor));
+
+        assertKeysetIndexCondition(nextCursor, "idx_license_assign_reg_date_id");
+    }
+
+    private void assertKeysetIndexCondition(String nextCursor, String index) {
+        CursorPagination.Key key = CursorPagination.decodeKey(nextCursor);
+        String plan = explain(SqlCapture.statements().get(0), List.of("enable_seqscan = off"),
+            "'" + key.time() + "'", String.valueOf(key.id()), "21");
+
+        assertThat(plan).contains("Index Scan using " + index);
+        assertThat(plan.lines().filter(line -> line.contains("Index Cond")))
+            .anyMatch(line -> line.contains("reg_date") && line.contains("ROW("));
+    }
+
+    private static CursorRequest cursor() {
+        return cursor(null);
+    }
+
+    private static CursorRequest cursor(String cursor) {
+        CursorRequest request = new CursorRequest();
+        request.setCursor(cursor);
+        request.setSize(20);
+        return request;
+    }
+
+    private static void assertStatements(int expected) {
+        assertThat(SqlCapture.statements()).hasSize(expected);
+        SqlCapture.clear();
+    }
+
+    private void seed() {
+        jdbcTemplate.update("""
+            INSERT INTO member (login_id, password, member_name, hire_date)
+            SELECT 'list-' || g, 'x', '목록 ' || g, CURRENT_DATE FROM generate_series(1, ?) g
+            """, ROWS);
+        jdbcTemplate.update("""
+            INSERT INTO asset_category (category_name, category_code)
+            SELECT '목록 유형 ' || g, 'LIST_' || g FROM generate_series(1, ?) g
+            """, ROWS);
+        jdbcTemplate.update("""
+            INSERT INTO asset (category_id, asset_name)
+            SELECT category_id, 'list-asset-' || category_id FROM asset_category WHERE category_code LIKE 'LIST\\_%'
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO asset_assignment (asset_id, member_id, assigned_date)
+            SELECT a.asset_id, m.member_id, CURRENT_DATE
+            FROM (SELECT asset_id, ROW_NUMBER() OVER (ORDER BY asset_id) AS rn
+                  FROM asset WHERE asset_name LIKE 'list-asset-%') a
+            JOIN (SELECT member_id, ROW_NUMBER() OVER (ORDER BY member_id) AS rn
+                  FROM member WHERE login_id LIKE 'list-%') m ON m.rn = a.rn
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO software (software_name) SELECT 'list-software-' || g FROM generate_series(1, ?) g
+            """, ROWS);
+        jdbcTemplate.update("""
+            INSERT INTO license (software_id, license_type, total_qty, used_qty)
+            SELECT software_id, 'INDIVIDUAL', 1, 0 FROM software WHERE software_name LIKE 'list-software-%'
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO license_key (license_id, license_key)
+            SELECT l.license_id, 'LIST-KEY-' || l.license_id
+            FROM license l JOIN software s ON s.software_id = l.software_id
+            WHERE s.software_name LIKE 'list-software-%'
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO license_assignment (license_id, key_id, member_id, assigned_date, assignment_reason)
+            SELECT k.license_id, k.key_id, m.member_id, CURRENT_DATE, '목록 조회'
+            FROM (SELECT license_id, key_id, ROW_NUMBER() OVER (ORDER BY key_id) AS rn
+                  FROM license_key WHERE license_key LIKE 'LIST-KEY-%') k
+            JOIN (SELECT member_id, ROW_NUMBER() OVER (ORDER BY member_id) AS rn
+                  FROM member WHERE login_id LIKE 'list-%') m ON m.rn = k.rn
+            """);
+    }
+}
@@ -0,0 +1,119 @@
+package com.assetmanagement.global.batch;
+
+import com.assetmanagement.asset.repository.AssetHistoryRepository;
+import com.assetmanagement.global.util.CursorPagination;
+import com.assetmanagement.license.repository.LicenseHistoryRepository;
+import com.assetmanagement.support.IntegrationTestSupport;
+import com.assetmanagement.support.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력 조회의 파티션 프루닝 및 키셋 인덱스 조건 확인 (system-policy.md 10.2)
+ *
+ * 리포지토리가 실행한 SQL을 그대로 PREPARE 하여 EXPLAIN 한다.
+ * custom plan은 계획 시점에, generic plan은 실행 시작 시점(Subplans Removed)에 기간 밖 파티션이 제외되어야 하며,
+ * 키셋 조건은 파티션별 (대상, action_date DESC, history_id DESC) 인덱스의 범위 조건이어야 한다.
+ */
+class HistoryPartitionPruningTest extends IntegrationTestSupport {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private HistoryPartitionRepository historyPartitionRepository;
+
+    @Autowired
+    private AssetHistoryRepository assetHistoryRepository;
+
+    @Autowired
+    private LicenseHistoryRepository licenseHistoryRepository;
+
+    private final YearMonth target = YearMonth.now().minusMonths(2);
+
+    @BeforeEach
+    void setUp() {
+        historyPartitionRepository.createPartitions(LocalDate.now().minusMonths(4), 3);
+        SqlCapture.clear();
+    }
+
+    @Test
+    void assetHistory_scansOnlyPartitionsInPeriod() {
+        assetHistoryRepository.findSliceByAssetId(1L, from(), to(),
+            CursorPagination.MAX_DATE, Long.MAX_VALUE, PageRequest.of(0, 21));
+        String sql = SqlCapture.statements().get(0);
+
+        assertPruned("asset_history", explain(sql, "force_custom_plan"), false);
+        assertPruned("asset_history", explain(sql, "force_generic_plan"), true);
+    }
+
+    @Test
+    void licenseHistory_scansOnlyPartitionsInPeriod() {
+        licenseHistoryRepository.findSliceByLicenseId(1L, from(), to(),
+            CursorPagination.MAX_DATE, Long.MAX_VALUE, PageRequest.of(0, 21));
+        String sql = SqlCapture.statements().get(0);
+
+        assertPruned("license_history", explain(sql, "force_custom_plan"), false);
+        assertPruned("license_history", explain(sql, "force_generic_plan"), true);
+    }
+
+    // 키셋 (action_date, history_id) < (?, ?) 가 (대상, action_date DESC, history_id DESC) 인덱스의 범위 조건이어야 한다
+    @Test
+    void historySlices_boundKeysetInIndexCondition() {
+        assetHistoryRepository.findSliceByAssetId(1L, from(), to(),
+            CursorPagination.MAX_DATE, Long.MAX_VALUE, PageRequest.of(0, 21));
+        licenseHistoryRepository.findSliceByLicenseId(1L, from(), to(),
+            CursorPagination.MAX_DATE, Long.MAX_VALUE, PageRequest.of(0, 21));
+        licenseHistoryRepository.findSliceByMemberId(1L, from(), to(),
+            CursorPagination.MAX_DATE, Long.MAX_VALUE, PageRequest.of(0, 21));
+
+        for (String sql : SqlCapture.statements()) {
+            String plan = explain(sql, List.of("enable_seqscan = off", "enable_bitmapscan = off"), parameters());
+            assertThat(plan.lines().filter(line -> line.contains("Index Cond")))
+                .isNotEmpty()
+                .allMatch(line -> line.contains("ROW(") && line.contains("action_date"));
+        }
+    }
+
+    private void assertPruned(String table, String plan, boolean runtime) {
+        String partition = table + "_p" + target.format(PARTITION_SUFFIX);
+        assertThat(plan).contains(partition);
+        assertThat(plan).doesNotContain(table + "_default");
+        assertThat(plan).doesNotContain(table + "_p" + target.minusMonths(1).format(PARTITION_SUFFIX));
+        assertThat(plan).doesNotContain(table + "_p" + target.plusMonths(1).format(PARTITION_SUFFIX));
+        if (runtime) {
+            assertThat(plan).contains("Subplans Removed");
+        }
+    }
+
+    // 파라미터 순서: id, from, to, beforeDate, beforeId, limit
+    private String explain(String sql, String planCacheMode) {
+        return explain(sql, List.of("plan_cache_mode = " + planCacheMode), parameters());
+    }
+
+    // 다음 페이지 커서 위치 (기간 중간)
+    private String[] parameters() {
+        return new String[]{"1", literal(from()), literal(to()), literal(from().plusDays(10)), "1000", "21"};
+    }
+
+    private static String literal(LocalDateTime time) {
+        return "'" + time + "'";
+    }
+
+    private LocalDateTime from() {
+        return target.atDay(1).atStartOfDay();
+    }
+
+    private LocalDateTime to() {
+        return target.plusMonths(1).atDay(1).atStartOfDay();
+    }
+}
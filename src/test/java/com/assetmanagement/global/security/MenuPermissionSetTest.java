@@ -0,0 +1,62 @@
+package com.assetmanagement.global.security;
+
+import com.assetmanagement.role.entity.RoleMenu;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuPermissionSetTest {
+
+    @Test
+    void of_setsOnlyGrantedPermissions() {
+        MenuPermissionSet permissions = MenuPermissionSet.of(List.of(
+            roleMenu(3L, true, false, true, false),
+            roleMenu(70L, false, false, false, true)));
+
+        assertThat(permissions.has(3L, MenuPermission.READ)).isTrue();
+        assertThat(permissions.has(3L, MenuPermission.CREATE)).isFalse();
+        assertThat(permissions.has(3L, MenuPermission.UPDATE)).isTrue();
+        assertThat(permissions.has(3L, MenuPermission.DELETE)).isFalse();
+        assertThat(permissions.has(70L, MenuPermission.DELETE)).isTrue();
+        assertThat(permissions.has(70L, MenuPermission.READ)).isFalse();
+        assertThat(permissions.has(4L, MenuPermission.READ)).isFalse();
+        assertThat(permissions.has(1_000L, MenuPermission.READ)).isFalse();   // 비트셋 범위 밖
+    }
+
+    @Test
+    void union_mergesRolePermissions() {
+        MenuPermissionSet reader = MenuPermissionSet.of(List.of(roleMenu(5L, true, false, false, false)));
+        MenuPermissionSet editor = MenuPermissionSet.of(List.of(roleMenu(200L, false, true, true, false)));
+
+        MenuPermissionSet merged = reader.union(editor);
+
+        assertThat(merged.has(5L, MenuPermission.READ)).isTrue();
+        assertThat(merged.has(200L, MenuPermission.CREATE)).isTrue();
+        assertThat(merged.has(200L, MenuPermission.UPDATE)).isTrue();
+        assertThat(merged.has(200L, MenuPermission.DELETE)).isFalse();
+        assertThat(reader.has(200L, MenuPermission.CREATE)).isFalse();   // 원본은 변경되지 않음
+    }
+
+    @Test
+    void all_grantsEveryMenu() {
+        MenuPermissionSet merged = MenuPermissionSet.EMPTY.union(MenuPermissionSet.ALL);
+
+        assertThat(merged.isAll()).isTrue();
+        assertThat(merged.has(999L, MenuPermission.DELETE)).isTrue();
+        assertThat(MenuPermissionSet.EMPTY.has(1L, MenuPermission.READ)).isFalse();
+        assertThat(MenuPermissionSet.of(List.of())).isSameAs(MenuPermissionSet.EMPTY);
+    }
+
+    private static RoleMenu roleMenu(Long menuId, boolean read, boolean create, boolean update, boolean delete) {
+        return RoleMenu.builder()
+            .roleId(1L)
+            .menuId(menuId)
+            .canRead(read)
+            .canCreate(create)
+            .canUpdate(update)
+            .canDelete(delete)
+            .build();
+    }
+}
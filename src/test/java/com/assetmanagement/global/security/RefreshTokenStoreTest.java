@@ -0,0 +1,103 @@
+package com.assetmanagement.global.security;
+
+import com.assetmanagement.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * refresh token 폐기가 KEYS/SCAN 없이 인덱스 SET만으로 처리되는지 확인 (INFO commandstats 호출 수 비교)
+ */
+class RefreshTokenStoreTest extends IntegrationTestSupport {
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void revokeAll_deletesIndexedTokensWithoutKeyspaceScan() {
+        Long memberId = 910_001L;
+        Long otherMemberId = 910_002L;
+        List<String> tokens = List.of(newToken(), newToken(), newToken());
+        String otherToken = newToken();
+        tokens.forEach(token -> refreshTokenStore.save(memberId, token));
+        refreshTokenStore.save(otherMemberId, otherToken);
+
+        long keysBefore = calls("keys");
+        long scanBefore = calls("scan");
+        refreshTokenStore.revokeAll(memberId);
+
+        assertThat(tokens).noneMatch(token -> refreshTokenStore.exists(memberId, token));
+        assertThat(redisTemplate.hasKey(RefreshTokenStore.indexKey(memberId))).isFalse();
+        assertThat(refreshTokenStore.exists(otherMemberId, otherToken)).isTrue();
+        assertThat(calls("keys")).isEqualTo(keysBefore);
+        assertThat(calls("scan")).isEqualTo(scanBefore);
+    }
+
+    @Test
+    void revokeAllMembers_deletesIndexedTokensWithoutKeyspaceScan() {
+        List<Long> memberIds = List.of(920_001L, 920_002L, 920_003L);
+        List<String> tokens = memberIds.stream().map(memberId -> {
+            String token = newToken();
+            refreshTokenStore.save(memberId, token);
+            return token;
+        }).toList();
+
+        long keysBefore = calls("keys");
+        long scanBefore = calls("scan");
+        refreshTokenStore.revokeAll(memberIds);
+
+        for (int i = 0; i < memberIds.size(); i++) {
+            assertThat(refreshTokenStore.exists(memberIds.get(i), tokens.get(i))).isFalse();
+            assertThat(redisTemplate.hasKey(RefreshTokenStore.indexKey(memberIds.get(i)))).isFalse();
+        }
+        assertThat(calls("keys")).isEqualTo(keysBefore);
+        assertThat(calls("scan")).isEqualTo(scanBefore);
+    }
+
+    // 인덱스 도입 이전 키는 마이그레이션(SCAN) 이후 인덱스로 폐기된다
+    @Test
+    void revokeAll_deletesLegacyTokensAfterIndexMigration() {
+        Long memberId = 930_001L;
+        String legacyToken = newToken();
+        String legacyKey = RefreshTokenStore.tokenKey(memberId, legacyToken);
+        redisTemplate.opsForValue().set(legacyKey, legacyToken, Duration.ofHours(1));
+
+        new RefreshTokenIndexMigration(redisTemplate).run(null);
+        assertThat(redisTemplate.opsForSet().isMember(RefreshTokenStore.indexKey(memberId), legacyKey)).isTrue();
+
+        long keysBefore = calls("keys");
+        long scanBefore = calls("scan");
+        refreshTokenStore.revokeAll(memberId);
+
+        assertThat(redisTemplate.hasKey(legacyKey)).isFalse();
+        assertThat(calls("keys")).isEqualTo(keysBefore);
+        assertThat(calls("scan")).isEqualTo(scanBefore);
+    }
+
+    private static String newToken() {
+        return "token-" + UUID.randomUUID();
+    }
+
+    // cmdstat_{command}:calls=N,usec=... (한 번도 호출되지 않은 명령은 항목이 없음)
+    private long calls(String command) {
+        Properties stats = redisTemplate.execute(
+            (RedisCallback<Properties>) connection -> connection.serverCommands().info("commandstats"));
+        String stat = stats == null ? null : stats.getProperty("cmdstat_" + command);
+        if (stat == null) {
+            return 0;
+        }
+        String calls = stat.substring(stat.indexOf("calls=") + "calls=".length());
+        return Long.parseLong(calls.substring(0, calls.indexOf(',')));
+    }
+}
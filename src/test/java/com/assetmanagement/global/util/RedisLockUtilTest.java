@@ -0,0 +1,63 @@
+package com.assetmanagement.global.util;
+
+import com.assetmanagement.global.util.RedisLockUtil.RedisLock;
+import com.assetmanagement.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisLockUtilTest extends IntegrationTestSupport {
+
+    private static final Duration TTL = Duration.ofMillis(600);
+
+    @Autowired
+    private RedisLockUtil redisLockUtil;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void tryLock_failsWhileHeld() {
+        String key = newKey();
+        RedisLock lock = redisLockUtil.tryLock(key, TTL);
+
+        assertThat(lock).isNotNull();
+        assertThat(redisLockUtil.tryLock(key, TTL)).isNull();
+        assertThat(redisLockUtil.unlock(lock)).isTrue();
+        assertThat(redisTemplate.hasKey(key)).isFalse();
+    }
+
+    // 보유 중에는 watchdog이 TTL을 연장하므로 TTL이 지나도 다른 획득자가 들어오지 못한다
+    @Test
+    void watchdog_keepsLockBeyondTtl() throws InterruptedException {
+        String key = newKey();
+        RedisLock lock = redisLockUtil.tryLock(key, TTL);
+
+        Thread.sleep(TTL.toMillis() * 3);
+
+        assertThat(redisLockUtil.tryLock(key, TTL)).isNull();
+        assertThat(redisLockUtil.unlock(lock)).isTrue();
+    }
+
+    // 만료 후 다른 획득자가 잡은 락은 이전 보유자가 해제하지 못한다
+    @Test
+    void unlock_doesNotReleaseAnotherOwnersLock() {
+        String key = newKey();
+        RedisLock stale = redisLockUtil.tryLock(key, TTL);
+        redisTemplate.delete(key);
+        RedisLock current = redisLockUtil.tryLock(key, TTL);
+
+        assertThat(redisLockUtil.unlock(stale)).isFalse();
+        assertThat(redisTemplate.hasKey(key)).isTrue();
+        assertThat(redisLockUtil.unlock(current)).isTrue();
+    }
+
+    private static String newKey() {
+        return "lock:test:" + UUID.randomUUID();
+    }
+}
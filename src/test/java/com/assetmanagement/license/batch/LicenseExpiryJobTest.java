@@ -0,0 +1,179 @@
+package com.assetmanagement.license.batch;
+
+import com.assetmanagement.global.batch.BatchCheckpointRepository;
+import com.assetmanagement.global.batch.BatchJobRunner;
+import com.assetmanagement.global.batch.ChunkedStepExecutor;
+import com.assetmanagement.license.repository.LicenseExpiryJdbcRepository;
+import com.assetmanagement.license.repository.LicenseRepository;
+import com.assetmanagement.member.service.MemberAssignmentDetailService;
+import com.assetmanagement.notification.service.NotificationOutbox;
+import com.assetmanagement.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구독 만료 배치 청크 실패 후 재실행 확인 (system-policy.md 6.5)
+ *
+ * 청크 크기 2로 배정 5건을 만료하면서 두 번째 청크를 SQL 실행 후 실패시키고,
+ * 기동 시 재개(resumeIncomplete)로 이어서 처리했을 때 used_qty가 중복 차감되지 않고
+ * EXPIRE 이력과 LICENSE_EXPIRED 이벤트가 배정당 1건씩만 남는지 검증한다.
+ */
+class LicenseExpiryJobTest extends IntegrationTestSupport {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int ASSIGNMENTS = 5;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Autowired
+    private BatchCheckpointRepository batchCheckpointRepository;
+
+    @Autowired
+    private BatchJobRunner batchJobRunner;
+
+    @Autowired
+    private ChunkedStepExecutor chunkedStepExecutor;
+
+    @Autowired
+    private MemberAssignmentDetailService memberAssignmentDetailService;
+
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void expire_resumesFailedChunkWithoutDoubleCounting() {
+        long licenseId = createExpiredLicense();
+        List<Long> assignmentIds = assign(licenseId);
+        assertThat(usedQty(licenseId)).isEqualTo(ASSIGNMENTS);
+
+        FailingExpiryRepository repository = new FailingExpiryRepository(jdbcTemplate, licenseId);
+        LicenseExpiryJob job = new LicenseExpiryJob(licenseRepository, repository, batchCheckpointRepository,
+            batchJobRunner, chunkedStepExecutor, memberAssignmentDetailService, notificationOutbox,
+            transactionTemplate, CHUNK_SIZE, true);
+
+        // 두 번째 청크 실패: 첫 청크(2건)만 커밋, 실패 청크는 이력/이벤트/차감 모두 롤백
+        job.run();
+
+        assertThat(repository.failed).isTrue();
+        assertThat(expiredCount(licenseId)).isEqualTo(2);
+        assertThat(usedQty(licenseId)).isEqualTo(ASSIGNMENTS - 2);
+        assertThat(historyCount(licenseId)).isEqualTo(2);
+        assertThat(eventCount(licenseId)).isEqualTo(2);
+        Map<String, Object> checkpoint = checkpoint(licenseId);
+        assertThat(checkpoint.get("status")).isEqualTo(BatchCheckpointRepository.STATUS_FAILED);
+        assertThat(checkpoint.get("last_id")).isEqualTo(assignmentIds.get(1));
+
+        // 재개: 마지막 커밋 지점 이후 3건만 처리
+        job.resumeIncomplete();
+
+        assertThat(expiredCount(licenseId)).isEqualTo(ASSIGNMENTS);
+        assertThat(usedQty(licenseId)).isZero();
+        assertThat(historyCount(licenseId)).isEqualTo(ASSIGNMENTS);
+        assertThat(eventCount(licenseId)).isEqualTo(ASSIGNMENTS);
+        assertThat(jdbcTemplate.queryForList("""
+            SELECT (payload ->> 'memberId')::bigint FROM domain_event_outbox
+            WHERE event_type = 'LICENSE_EXPIRED' AND aggregate_id = ?
+            """, Long.class, licenseId)).doesNotHaveDuplicates();
+        checkpoint = checkpoint(licenseId);
+        assertThat(checkpoint.get("status")).isEqualTo(BatchCheckpointRepository.STATUS_COMPLETED);
+        assertThat(checkpoint.get("processed_count")).isEqualTo((long) ASSIGNMENTS);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status FROM v_license_qty_check WHERE license_id = ?", String.class, licenseId))
+            .isEqualTo("OK");
+    }
+
+    private long createExpiredLicense() {
+        Long softwareId = jdbcTemplate.queryForObject(
+            "INSERT INTO software (software_name) VALUES ('만료 재실행') RETURNING software_id", Long.class);
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO license (software_id, license_type, total_qty, used_qty, expiry_date)
+            VALUES (?, 'SUBSCRIPTION', 10, 0, CURRENT_DATE - 1)
+            RETURNING license_id
+            """, Long.class, softwareId);
+    }
+
+    // 배정 등록 트리거(fn_license_assign_increment)로 used_qty 증가
+    private List<Long> assign(long licenseId) {
+        List<Long> memberIds = jdbcTemplate.queryForList("""
+            INSERT INTO member (login_id, password, member_name, hire_date)
+            SELECT 'expiry-' || ? || '-' || g, 'x', '만료 ' || g, CURRENT_DATE
+            FROM generate_series(1, ?) g
+            RETURNING member_id
+            """, Long.class, licenseId, ASSIGNMENTS);
+        return jdbcTemplate.queryForList("""
+            INSERT INTO license_assignment (license_id, member_id, assigned_date, assignment_reason)
+            SELECT ?, m, CURRENT_DATE - 30, '만료 재실행' FROM unnest(?::bigint[]) m
+            ORDER BY m
+            RETURNING assignment_id
+            """, Long.class, licenseId, memberIds.toArray(Long[]::new)).stream().sorted().toList();
+    }
+
+    private int usedQty(long licenseId) {
+        return jdbcTemplate.queryForObject("SELECT used_qty FROM license WHERE license_id = ?", Integer.class, licenseId);
+    }
+
+    private long expiredCount(long licenseId) {
+        return jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM license_assignment WHERE license_id = ? AND assignment_status = 'EXPIRED'
+            """, Long.class, licenseId);
+    }
+
+    private long historyCount(long licenseId) {
+        return jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM license_history WHERE license_id = ? AND action_type = 'EXPIRE'
+            """, Long.class, licenseId);
+    }
+
+    private long eventCount(long licenseId) {
+        return jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM domain_event_outbox
+            WHERE event_type = 'LICENSE_EXPIRED' AND aggregate_id = ?
+            """, Long.class, licenseId);
+    }
+
+    private Map<String, Object> checkpoint(long licenseId) {
+        return jdbcTemplate.queryForMap("""
+            SELECT status, last_id, processed_count FROM batch_checkpoint
+            WHERE job_name = 'license-expiry' AND run_key = ? AND step_name = ?
+            """, LocalDate.now().toString(), "assignment-" + licenseId);
+    }
+
+    /**
+     * 대상 라이센스의 두 번째 청크를 SQL 실행 후 한 번 실패시키는 저장소 (청크 트랜잭션 롤백 확인용)
+     */
+    private static class FailingExpiryRepository extends LicenseExpiryJdbcRepository {
+
+        private final long failLicenseId;
+        private boolean failed;
+
+        FailingExpiryRepository(JdbcTemplate jdbcTemplate, long failLicenseId) {
+            super(jdbcTemplate);
+            this.failLicenseId = failLicenseId;
+        }
+
+        @Override
+        public ExpiredChunk expireAssignments(Long licenseId, long afterId, int chunkSize, LocalDate baseDate) {
+            ExpiredChunk chunk = super.expireAssignments(licenseId, afterId, chunkSize, baseDate);
+            if (licenseId == failLicenseId && afterId > 0 && !failed) {
+                failed = true;
+                throw new IllegalStateException("chunk failure");
+            }
+            return chunk;
+        }
+    }
+}
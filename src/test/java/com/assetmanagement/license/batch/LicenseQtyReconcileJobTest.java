@@ -0,0 +1,132 @@
+package com.assetmanagement.license.batch;
+
+import com.assetmanagement.license.repository.LicenseQtyReconcileJdbcRepository;
+import com.assetmanagement.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 라이센스 수량 보정 배치 확인 (system-policy.md 6.2)
+ *
+ * v_license_qty_check 기준 불일치 라이센스를 보정하고 license_qty_correction에 기록하는지 검증한다.
+ */
+class LicenseQtyReconcileJobTest extends IntegrationTestSupport {
+
+    private static final String JOB_NAME = "license-qty-reconcile";
+
+    @Autowired
+    private LicenseQtyReconcileJob licenseQtyReconcileJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void run_correctsDriftAndRecordsCorrections() {
+        // 트리거를 거치지 않은 변경 흉내: used_qty 과다 기록 / 실제 배정 수가 total_qty 초과 / 정상
+        long drifted = createLicense("보정 과다", 10);
+        assign(drifted, 3);
+        jdbcTemplate.update("UPDATE license SET used_qty = 7 WHERE license_id = ?", drifted);
+
+        long overAllocated = createLicense("보정 초과", 2);
+        assign(overAllocated, 2);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT set_config('app.license_qty_managed', 'on', true)", String.class);
+            assign(overAllocated, 1);
+        });
+
+        long consistent = createLicense("보정 정상", 5);
+        assign(consistent, 2);
+
+        assertThat(qtyStatus(drifted)).isEqualTo("MISMATCH");
+        assertThat(qtyStatus(overAllocated)).isEqualTo("MISMATCH");
+        assertThat(qtyStatus(consistent)).isEqualTo("OK");
+        double correctedBefore = driftCount(LicenseQtyReconcileJdbcRepository.STATUS_CORRECTED);
+        double overAllocatedBefore = driftCount(LicenseQtyReconcileJdbcRepository.STATUS_OVER_ALLOCATED);
+        String runKey = LocalDate.now().toString();
+        // 같은 날 이미 완료된 실행이 있으면 구간 단계를 건너뛰므로 이 테스트의 실행 체크포인트를 비움
+        jdbcTemplate.update("DELETE FROM batch_checkpoint WHERE job_name = ? AND run_key = ?", JOB_NAME, runKey);
+
+        licenseQtyReconcileJob.run();
+
+        assertThat(usedQty(drifted)).isEqualTo(3);
+        assertThat(qtyStatus(drifted)).isEqualTo("OK");
+        assertThat(usedQty(overAllocated)).isEqualTo(2);   // CHECK (used_qty <= total_qty) 때문에 보정하지 않음
+        assertThat(usedQty(consistent)).isEqualTo(2);
+
+        assertThat(corrections(runKey, drifted)).containsExactly(Map.of(
+            "total_qty", 10, "recorded_used_qty", 7, "actual_used_qty", 3,
+            "correction_status", LicenseQtyReconcileJdbcRepository.STATUS_CORRECTED));
+        assertThat(corrections(runKey, overAllocated)).containsExactly(Map.of(
+            "total_qty", 2, "recorded_used_qty", 2, "actual_used_qty", 3,
+            "correction_status", LicenseQtyReconcileJdbcRepository.STATUS_OVER_ALLOCATED));
+        assertThat(corrections(runKey, consistent)).isEmpty();
+
+        assertThat(driftCount(LicenseQtyReconcileJdbcRepository.STATUS_CORRECTED) - correctedBefore)
+            .isGreaterThanOrEqualTo(1.0);
+        assertThat(driftCount(LicenseQtyReconcileJdbcRepository.STATUS_OVER_ALLOCATED) - overAllocatedBefore)
+            .isGreaterThanOrEqualTo(1.0);
+        assertThat(jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM batch_checkpoint
+            WHERE job_name = ? AND run_key = ? AND status <> 'COMPLETED'
+            """, Long.class, JOB_NAME, runKey)).isZero();
+    }
+
+    private long createLicense(String name, int totalQty) {
+        Long softwareId = jdbcTemplate.queryForObject(
+            "INSERT INTO software (software_name) VALUES (?) RETURNING software_id", Long.class, name);
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO license (software_id, license_type, total_qty, used_qty)
+            VALUES (?, 'VOLUME', ?, 0)
+            RETURNING license_id
+            """, Long.class, softwareId, totalQty);
+    }
+
+    private void assign(long licenseId, int count) {
+        List<Long> memberIds = jdbcTemplate.queryForList("""
+            INSERT INTO member (login_id, password, member_name, hire_date)
+            SELECT 'reconcile-' || ? || '-' || gen_random_uuid(), 'x', '보정 ' || g, CURRENT_DATE
+            FROM generate_series(1, ?) g
+            RETURNING member_id
+            """, Long.class, licenseId, count);
+        jdbcTemplate.update("""
+            INSERT INTO license_assignment (license_id, member_id, assigned_date, assignment_reason)
+            SELECT ?, m, CURRENT_DATE, '보정 테스트' FROM unnest(?::bigint[]) m
+            """, licenseId, memberIds.toArray(Long[]::new));
+    }
+
+    private int usedQty(long licenseId) {
+        return jdbcTemplate.queryForObject("SELECT used_qty FROM license WHERE license_id = ?", Integer.class, licenseId);
+    }
+
+    private String qtyStatus(long licenseId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT status FROM v_license_qty_check WHERE license_id = ?", String.class, licenseId);
+    }
+
+    private List<Map<String, Object>> corrections(String runKey, long licenseId) {
+        return jdbcTemplate.queryForList("""
+            SELECT total_qty, recorded_used_qty, actual_used_qty, correction_status
+            FROM license_qty_correction
+            WHERE run_key = ? AND license_id = ?
+            """, runKey, licenseId);
+    }
+
+    private double driftCount(String status) {
+        return meterRegistry.counter("app.batch.drift", "job", JOB_NAME, "status", status).count();
+    }
+}
@@ -0,0 +1,236 @@
+package com.assetmanagement.license.service;
+
+import com.assetmanagement.global.exception.BusinessException;
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.license.dto.LicenseAssignmentRequest;
+import com.assetmanagement.license.dto.LicenseBulkAssignmentRequest;
+import com.assetmanagement.license.dto.LicenseBulkAssignmentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.assetmanagement.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 배정 시 초과 배정이 발생하지 않는지 확인 (system-policy.md 6.2)
+ */
+class LicenseAssignmentConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 48;
+
+    @Autowired
+    private LicenseAssignmentService licenseAssignmentService;
+
+    @Autowired
+    private LicenseBulkAssignmentService licenseBulkAssignmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 수량형: 조건부 UPDATE로 예약하므로 total_qty 건만 성공
+    @Test
+    void assignVolume_neverExceedsTotalQty() throws Exception {
+        long licenseId = createLicense("VOLUME", 5);
+        List<Long> memberIds = createMembers("vol", REQUESTS);
+
+        Outcome outcome = assignConcurrently(i -> request(licenseId, null, memberIds.get(i)));
+
+        assertThat(outcome.successes()).isEqualTo(5);
+        assertThat(outcome.errors()).containsOnlyKeys(ErrorCode.LICENSE_001);
+        assertQtyConsistent(licenseId, 5);
+    }
+
+    // 키 지정: 키 단위 락 + 커밋 이후 해제로 키당 1건만 배정
+    @Test
+    void assignKeys_assignsEachKeyOnce() throws Exception {
+        long licenseId = createLicense("INDIVIDUAL", 3);
+        List<Long> keyIds = createKeys(licenseId, 3);
+        List<Long> memberIds = createMembers("key", REQUESTS);
+
+        Outcome outcome = assignConcurrently(i -> request(licenseId, keyIds.get(i % keyIds.size()), memberIds.get(i)));
+
+        assertThat(outcome.successes()).isEqualTo(3);
+        assertThat(outcome.errors()).containsOnlyKeys(ErrorCode.LICENSE_006, ErrorCode.COMMON_001);
+        assertQtyConsistent(licenseId, 3);
+        assertThat(jdbcTemplate.queryForList("""
+            SELECT COUNT(*)
+            FROM license_assignment
+            WHERE license_id = ? AND assignment_status = 'ASSIGNED' AND is_deleted = false
+            GROUP BY key_id
+            """, Long.class, licenseId)).containsExactly(1L, 1L, 1L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM license_key WHERE license_id = ? AND key_status = 'IN_USE'", Long.class, licenseId))
+            .isEqualTo(3L);
+    }
+
+    // 단건/일괄 배정이 같은 키를 다투는 경우: 일괄 배정은 409로 중단되지 않고 진 항목만 실패로 반환
+    @Test
+    void bulkAssignKeys_reportsLostKeysAsItemFailures() throws Exception {
+        long keyLicenseId = createLicense("INDIVIDUAL", 3);
+        List<Long> keyIds = createKeys(keyLicenseId, 3);
+        long volumeLicenseId = createLicense("VOLUME", REQUESTS);
+        List<Long> memberIds = createMembers("bulk", REQUESTS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<LicenseBulkAssignmentResponse>> bulkFutures = new ArrayList<>();
+        List<Future<?>> singleFutures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                Long memberId = memberIds.get(i);
+                Long keyId = keyIds.get(i % keyIds.size());
+                if (i % 2 == 0) {
+                    LicenseBulkAssignmentRequest request = bulkRequest(List.of(
+                        Map.of("licenseId", volumeLicenseId, "memberId", memberId),
+                        Map.of("licenseId", keyLicenseId, "memberId", memberId, "keyId", keyId)));
+                    bulkFutures.add(executor.submit(() -> {
+                        start.await();
+                        return licenseBulkAssignmentService.assignLicenses(request, 1L);
+                    }));
+                } else {
+                    LicenseAssignmentRequest request = request(keyLicenseId, keyId, memberId);
+                    singleFutures.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            licenseAssignmentService.assignLicense(request, 1L);
+                        } catch (BusinessException e) {
+                            // 단건 배정 실패는 키 경합 결과로 허용
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> future : singleFutures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            for (Future<LicenseBulkAssignmentResponse> future : bulkFutures) {
+                LicenseBulkAssignmentResponse response = future.get(60, TimeUnit.SECONDS);
+                LicenseBulkAssignmentResponse.ItemResult volumeItem = response.getResults().get(0);
+                LicenseBulkAssignmentResponse.ItemResult keyItem = response.getResults().get(1);
+                assertThat(volumeItem.isSuccess()).isTrue();
+                if (!keyItem.isSuccess()) {
+                    assertThat(keyItem.getErrorCode())
+                        .isIn(ErrorCode.LICENSE_006.getCode(), ErrorCode.COMMON_001.getCode());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertQtyConsistent(keyLicenseId, 3);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT used_qty FROM license WHERE license_id = ?", Integer.class, volumeLicenseId))
+            .isEqualTo(bulkFutures.size());
+        assertThat(jdbcTemplate.queryForList("""
+            SELECT COUNT(*)
+            FROM license_assignment
+            WHERE license_id = ? AND assignment_status = 'ASSIGNED' AND is_deleted = false
+            GROUP BY key_id
+            """, Long.class, keyLicenseId)).containsExactly(1L, 1L, 1L);
+    }
+
+    private LicenseBulkAssignmentRequest bulkRequest(List<Map<String, Long>> items) {
+        return objectMapper.convertValue(Map.of(
+            "items", items,
+            "assignedDate", LocalDate.now().toString(),
+            "assignmentReason", "동시 일괄 배정 테스트"), LicenseBulkAssignmentRequest.class);
+    }
+
+    private Outcome assignConcurrently(IntFunction<LicenseAssignmentRequest> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        ConcurrentHashMap<ErrorCode, AtomicInteger> errors = new ConcurrentHashMap<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                LicenseAssignmentRequest request = requests.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        licenseAssignmentService.assignLicense(request, 1L);
+                        successes.incrementAndGet();
+                    } catch (BusinessException e) {
+                        errors.computeIfAbsent(e.getErrorCode(), code -> new AtomicInteger()).incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Outcome(successes.get(), errors);
+    }
+
+    private void assertQtyConsistent(long licenseId, int totalQty) {
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT used_qty FROM license WHERE license_id = ?", Integer.class, licenseId)).isEqualTo(totalQty);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status FROM v_license_qty_check WHERE license_id = ?", String.class, licenseId)).isEqualTo("OK");
+    }
+
+    private long createLicense(String licenseType, int totalQty) {
+        Long softwareId = jdbcTemplate.queryForObject(
+            "INSERT INTO software (software_name) VALUES ('동시 배정 " + licenseType + "') RETURNING software_id",
+            Long.class);
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO license (software_id, license_type, total_qty, used_qty)
+            VALUES (?, ?, ?, 0)
+            RETURNING license_id
+            """, Long.class, softwareId, licenseType, totalQty);
+    }
+
+    private List<Long> createKeys(long licenseId, int count) {
+        return jdbcTemplate.queryForList("""
+            INSERT INTO license_key (license_id, license_key)
+            SELECT ?, 'KEY-' || ? || '-' || g FROM generate_series(1, ?) g
+            RETURNING key_id
+            """, Long.class, licenseId, licenseId, count);
+    }
+
+    private List<Long> createMembers(String prefix, int count) {
+        return jdbcTemplate.queryForList("""
+            INSERT INTO member (login_id, password, member_name, hire_date)
+            SELECT 'concurrent-' || ? || '-' || g, 'x', '동시 배정 ' || g, CURRENT_DATE
+            FROM generate_series(1, ?) g
+            RETURNING member_id
+            """, Long.class, prefix, count);
+    }
+
+    private static LicenseAssignmentRequest request(long licenseId, Long keyId, Long memberId) {
+        return LicenseAssignmentRequest.builder()
+            .licenseId(licenseId)
+            .keyId(keyId)
+            .memberId(memberId)
+            .assignedDate(LocalDate.now())
+            .assignmentReason("동시 배정 테스트")
+            .build();
+    }
+
+    private record Outcome(int successes, ConcurrentHashMap<ErrorCode, AtomicInteger> errors) {
+    }
+}
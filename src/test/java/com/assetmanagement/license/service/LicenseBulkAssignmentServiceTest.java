@@ -0,0 +1,105 @@
+package com.assetmanagement.license.service;
+
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.util.RedisLockUtil;
+import com.assetmanagement.license.dto.LicenseBulkAssignmentRequest;
+import com.assetmanagement.license.dto.LicenseBulkAssignmentResponse;
+import com.assetmanagement.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 일괄 배정 중 지정 키를 다른 경로가 먼저 사용 처리한 경우 항목 단위 실패로 반환되는지 확인
+ */
+class LicenseBulkAssignmentServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private LicenseBulkAssignmentService licenseBulkAssignmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private RedisLockUtil redisLockUtil;
+
+    // 키 락을 잡는 시점에 다른 요청이 키를 사용 처리했다면 락 이후 조회로 이를 보고, 해당 항목만 실패
+    @Test
+    void assignLicenses_keyTakenBeforeLock_failsOnlyThatItem() {
+        long keyLicenseId = createLicense("INDIVIDUAL", 2);
+        List<Long> keyIds = createKeys(keyLicenseId, 2);
+        long volumeLicenseId = createLicense("VOLUME", 10);
+        List<Long> memberIds = createMembers(3);
+
+        Long takenKeyId = keyIds.get(0);
+        doAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE license_key SET key_status = 'IN_USE' WHERE key_id = ?", takenKeyId);
+            return invocation.callRealMethod();
+        }).when(redisLockUtil).tryLock(eq("license:key:assign:" + takenKeyId), any(Duration.class));
+
+        LicenseBulkAssignmentResponse response = licenseBulkAssignmentService.assignLicenses(bulkRequest(List.of(
+            Map.of("licenseId", keyLicenseId, "memberId", memberIds.get(0), "keyId", takenKeyId),
+            Map.of("licenseId", keyLicenseId, "memberId", memberIds.get(1), "keyId", keyIds.get(1)),
+            Map.of("licenseId", volumeLicenseId, "memberId", memberIds.get(2)))), 1L);
+
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getResults())
+            .extracting(LicenseBulkAssignmentResponse.ItemResult::getErrorCode)
+            .containsExactly(ErrorCode.LICENSE_006.getCode(), null, null);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT used_qty FROM license WHERE license_id = ?", Integer.class, keyLicenseId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT key_id FROM license_assignment WHERE license_id = ?", Long.class, keyLicenseId))
+            .containsExactly(keyIds.get(1));
+    }
+
+    private LicenseBulkAssignmentRequest bulkRequest(List<Map<String, Long>> items) {
+        return objectMapper.convertValue(Map.of(
+            "items", items,
+            "assignedDate", LocalDate.now().toString(),
+            "assignmentReason", "일괄 배정 테스트"), LicenseBulkAssignmentRequest.class);
+    }
+
+    private long createLicense(String licenseType, int totalQty) {
+        Long softwareId = jdbcTemplate.queryForObject(
+            "INSERT INTO software (software_name) VALUES ('일괄 배정 " + licenseType + "') RETURNING software_id",
+            Long.class);
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO license (software_id, license_type, total_qty, used_qty)
+            VALUES (?, ?, ?, 0)
+            RETURNING license_id
+            """, Long.class, softwareId, licenseType, totalQty);
+    }
+
+    private List<Long> createKeys(long licenseId, int count) {
+        return jdbcTemplate.queryForList("""
+            INSERT INTO license_key (license_id, license_key)
+            SELECT ?, 'BULK-KEY-' || ? || '-' || g FROM generate_series(1, ?) g
+            RETURNING key_id
+            """, Long.class, licenseId, licenseId, count);
+    }
+
+    private List<Long> createMembers(int count) {
+        return jdbcTemplate.queryForList("""
+            INSERT INTO member (login_id, password, member_name, hire_date)
+            SELECT 'bulk-assign-' || g, 'x', '일괄 배정 ' || g, CURRENT_DATE
+            FROM generate_series(1, ?) g
+            RETURNING member_id
+            """, Long.class, count);
+    }
+}
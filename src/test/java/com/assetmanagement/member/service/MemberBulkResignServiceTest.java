@@ -0,0 +1,203 @@
+package com.assetmanagement.member.service;
+
+import com.assetmanagement.global.exception.ErrorCode;
+import com.assetmanagement.global.security.RefreshTokenStore;
+import com.assetmanagement.member.dto.MemberBulkResignRequest;
+import com.assetmanagement.member.dto.MemberBulkResignResponse;
+import com.assetmanagement.member.dto.MemberBulkResignResponse.ItemResult;
+import com.assetmanagement.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 일괄 퇴사 항목별 결과와 반납/회수 반영 확인 (system-policy.md 4.3)
+ */
+class MemberBulkResignServiceTest extends IntegrationTestSupport {
+
+    private static final LocalDate RESIGN_DATE = LocalDate.of(2026, 6, 30);
+    private static final long MISSING_MEMBER_ID = 999_999_001L;
+
+    @Autowired
+    private MemberBulkResignService memberBulkResignService;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void resignMembers_reportsPerItemResultsAndReturnsAssignments() {
+        long active = createMember("bulk-resign-active", "ACTIVE");
+        long onLeave = createMember("bulk-resign-leave", "LEAVE");
+        long resigned = createMember("bulk-resign-resigned", "RESIGNED");
+        long assetId = assignAsset(active);
+        long licenseId = createLicense();
+        long keyId = assignLicense(licenseId, active, true);
+        assignLicense(licenseId, onLeave, false);
+        assertThat(usedQty(licenseId)).isEqualTo(2);
+
+        String activeToken = saveToken(active);
+        String onLeaveToken = saveToken(onLeave);
+        String resignedToken = saveToken(resigned);
+
+        // 중복 ID는 1건으로 처리
+        MemberBulkResignResponse response = memberBulkResignService.resignMembers(
+            request(active, resigned, MISSING_MEMBER_ID, onLeave, active), 1L);
+
+        assertThat(response.getRequestedCount()).isEqualTo(4);
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isEqualTo(2);
+        assertThat(response.getReturnedAssetCount()).isEqualTo(1);
+        assertThat(response.getReturnedLicenseCount()).isEqualTo(2);
+        assertThat(response.getResults())
+            .extracting(ItemResult::getMemberId, ItemResult::isSuccess, ItemResult::getErrorCode)
+            .containsExactly(
+                tuple(active, true, null),
+                tuple(resigned, false, ErrorCode.USER_002.getCode()),
+                tuple(MISSING_MEMBER_ID, false, ErrorCode.COMMON_003.getCode()),
+                tuple(onLeave, true, null));
+
+        for (long memberId : List.of(active, onLeave)) {
+            Map<String, Object> member = member(memberId);
+            assertThat(member.get("employment_status")).isEqualTo("RESIGNED");
+            assertThat(member.get("is_active")).isEqualTo(false);
+            assertThat(member.get("resign_date")).isEqualTo(Date.valueOf(RESIGN_DATE));
+        }
+
+        // 자산 반납, 키 반환, used_qty 차감 + 이력
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT asset_status FROM asset WHERE asset_id = ?", String.class, assetId)).isEqualTo("AVAILABLE");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT assignment_status FROM asset_assignment WHERE asset_id = ?", String.class, assetId))
+            .isEqualTo("RETURNED");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT key_status FROM license_key WHERE key_id = ?", String.class, keyId)).isEqualTo("AVAILABLE");
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT assignment_status FROM license_assignment WHERE license_id = ?", String.class, licenseId))
+            .containsOnly("RETURNED");
+        assertThat(usedQty(licenseId)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status FROM v_license_qty_check WHERE license_id = ?", String.class, licenseId))
+            .isEqualTo("OK");
+        assertThat(jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM license_history
+            WHERE license_id = ? AND action_type = 'RETURN' AND remarks = ?
+            """, Long.class, licenseId, MemberService.RESIGN_REMARKS)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM asset_history WHERE asset_id = ? AND action_type = 'RETURN'
+            """, Long.class, assetId)).isEqualTo(1L);
+
+        // 퇴사 처리된 사용자만 토큰 폐기
+        assertThat(refreshTokenStore.exists(active, activeToken)).isFalse();
+        assertThat(refreshTokenStore.exists(onLeave, onLeaveToken)).isFalse();
+        assertThat(refreshTokenStore.exists(resigned, resignedToken)).isTrue();
+    }
+
+    // 바깥 트랜잭션이 롤백되면 퇴사 처리와 함께 토큰 폐기도 반영되지 않음
+    @Test
+    void resignMembers_keepsTokensWhenTransactionRollsBack() {
+        long memberId = createMember("bulk-resign-rollback", "ACTIVE");
+        String token = saveToken(memberId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            MemberBulkResignResponse response = memberBulkResignService.resignMembers(request(memberId), 1L);
+            assertThat(response.getSuccessCount()).isEqualTo(1);
+            assertThat(refreshTokenStore.exists(memberId, token)).isTrue();
+            status.setRollbackOnly();
+        });
+
+        assertThat(member(memberId).get("employment_status")).isEqualTo("ACTIVE");
+        assertThat(refreshTokenStore.exists(memberId, token)).isTrue();
+    }
+
+    private MemberBulkResignRequest request(Long... memberIds) {
+        return objectMapper.convertValue(
+            Map.of("memberIds", List.of(memberIds), "resignDate", RESIGN_DATE.toString()),
+            MemberBulkResignRequest.class);
+    }
+
+    private long createMember(String loginId, String employmentStatus) {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO member (login_id, password, member_name, hire_date, employment_status)
+            VALUES (?, 'x', ?, CURRENT_DATE, ?)
+            RETURNING member_id
+            """, Long.class, loginId, loginId, employmentStatus);
+    }
+
+    private long assignAsset(long memberId) {
+        Long categoryId = jdbcTemplate.queryForObject(
+            "INSERT INTO asset_category (category_name, category_code) VALUES ('일괄 퇴사', 'BULK_RESIGN') RETURNING category_id",
+            Long.class);
+        Long assetId = jdbcTemplate.queryForObject("""
+            INSERT INTO asset (category_id, asset_name, asset_status)
+            VALUES (?, '일괄 퇴사 노트북', 'IN_USE')
+            RETURNING asset_id
+            """, Long.class, categoryId);
+        jdbcTemplate.update("""
+            INSERT INTO asset_assignment (asset_id, member_id, assigned_date)
+            VALUES (?, ?, CURRENT_DATE)
+            """, assetId, memberId);
+        return assetId;
+    }
+
+    private long createLicense() {
+        Long softwareId = jdbcTemplate.queryForObject(
+            "INSERT INTO software (software_name) VALUES ('일괄 퇴사') RETURNING software_id", Long.class);
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO license (software_id, license_type, total_qty, used_qty)
+            VALUES (?, 'VOLUME', 5, 0)
+            RETURNING license_id
+            """, Long.class, softwareId);
+    }
+
+    // 배정 등록 트리거로 used_qty 증가. 키 배정이면 키를 IN_USE로 두고 키 ID 반환
+    private Long assignLicense(long licenseId, long memberId, boolean withKey) {
+        Long keyId = null;
+        if (withKey) {
+            keyId = jdbcTemplate.queryForObject("""
+                INSERT INTO license_key (license_id, license_key, key_status)
+                VALUES (?, ?, 'IN_USE')
+                RETURNING key_id
+                """, Long.class, licenseId, "KEY-BULK-RESIGN-" + memberId);
+        }
+        jdbcTemplate.update("""
+            INSERT INTO license_assignment (license_id, key_id, member_id, assigned_date, assignment_reason)
+            VALUES (?, ?, ?, CURRENT_DATE, '일괄 퇴사 테스트')
+            """, licenseId, keyId, memberId);
+        return keyId;
+    }
+
+    private String saveToken(long memberId) {
+        String token = UUID.randomUUID().toString();
+        refreshTokenStore.save(memberId, token);
+        return token;
+    }
+
+    private int usedQty(long licenseId) {
+        return jdbcTemplate.queryForObject("SELECT used_qty FROM license WHERE license_id = ?", Integer.class, licenseId);
+    }
+
+    private Map<String, Object> member(long memberId) {
+        return jdbcTemplate.queryForMap(
+            "SELECT employment_status, is_active, resign_date FROM member WHERE member_id = ?", memberId);
+    }
+}
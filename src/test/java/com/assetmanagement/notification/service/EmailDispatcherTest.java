@@ -0,0 +1,214 @@
+package com.assetmanagement.notification.service;
+
+import com.assetmanagement.notification.repository.EmailLogJdbcRepository;
+import com.assetmanagement.notification.transport.MailTransport;
+import com.assetmanagement.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 메일 발송기 재시도/선점 반환 확인 (system-policy.md 7.2)
+ *
+ * 다른 테스트가 적재한 메일도 함께 선점될 수 있으므로, 스텁 전송은 수신자별로 동작을 정하고
+ * 검증은 테스트가 적재한 행만 대상으로 한다.
+ */
+class EmailDispatcherTest extends IntegrationTestSupport {
+
+    private static final List<Duration> BACKOFF = List.of(Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+    @Autowired
+    private EmailLogJdbcRepository emailLogJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final StubTransport transport = new StubTransport();
+
+    // 실패 2회 후 성공: 1분, 5분 간격으로 재시도 일정이 잡히고 3회차에 SENT
+    @Test
+    void dispatch_retriesWithBackoffThenSends() {
+        EmailDispatcher dispatcher = dispatcher(Duration.ofSeconds(30), Duration.ofSeconds(10));
+        transport.failTimes("retry@test.local", 2);
+        long emailId = insertMail("retry@test.local");
+
+        dispatcher.dispatch();
+        assertRetryScheduled(emailId, 1, BACKOFF.get(0));
+
+        dispatcher.dispatch();   // 재시도 시각 전에는 선점하지 않음
+        assertThat(transport.attempts("retry@test.local")).isEqualTo(1);
+
+        makeDue(emailId);
+        dispatcher.dispatch();
+        assertRetryScheduled(emailId, 2, BACKOFF.get(1));
+
+        makeDue(emailId);
+        dispatcher.dispatch();
+        Map<String, Object> row = row(emailId);
+        assertThat(row.get("status")).isEqualTo("SENT");
+        assertThat(row.get("attempt_count")).isEqualTo(3);
+        assertThat(row.get("sent_at")).isNotNull();
+        assertThat(row.get("last_error")).isNull();
+        assertThat(row.get("locked_until")).isNull();
+        assertThat(transport.attempts("retry@test.local")).isEqualTo(3);
+    }
+
+    // 재시도 간격을 모두 소진하면 FAILED
+    @Test
+    void dispatch_marksFailedAfterBackoffExhausted() {
+        EmailDispatcher dispatcher = dispatcher(Duration.ofSeconds(30), Duration.ofSeconds(10));
+        transport.failTimes("fail@test.local", Integer.MAX_VALUE);
+        long emailId = insertMail("fail@test.local");
+
+        for (int i = 0; i <= BACKOFF.size(); i++) {
+            makeDue(emailId);
+            dispatcher.dispatch();
+        }
+
+        Map<String, Object> row = row(emailId);
+        assertThat(row.get("status")).isEqualTo("FAILED");
+        assertThat(row.get("attempt_count")).isEqualTo(BACKOFF.size() + 1);
+        assertThat((String) row.get("last_error")).contains("stub failure");
+        assertThat(row.get("locked_until")).isNull();
+    }
+
+    // batch-timeout 초과 건은 선점을 반환(PENDING)하고, 늦게 끝난 발송 결과는 반영하지 않음
+    @Test
+    void dispatch_releasesLeaseOnTimeoutAndIgnoresLateResult() throws InterruptedException {
+        EmailDispatcher dispatcher = dispatcher(Duration.ofSeconds(5), Duration.ofMillis(300));
+        CountDownLatch release = transport.block("slow@test.local");
+        long emailId = insertMail("slow@test.local");
+
+        dispatcher.dispatch();
+        assertRetryScheduled(emailId, 1, BACKOFF.get(0));
+        assertThat((String) row(emailId).get("last_error")).contains("TimeoutException");
+
+        // 중단 신호를 무시하고 뒤늦게 성공한 발송: attempt_count가 같은 SENDING 상태가 아니므로 무시
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!transport.completed("slow@test.local") && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(transport.completed("slow@test.local")).isTrue();
+        Thread.sleep(200);   // 완료 후 결과 기록(markSent) 대기
+        assertThat(row(emailId).get("status")).isEqualTo("PENDING");
+    }
+
+    // 선점 기한이 지난 SENDING 건(노드 장애)은 다른 발송기가 재선점하여 발송
+    @Test
+    void dispatch_reclaimsExpiredLease() {
+        EmailDispatcher dispatcher = dispatcher(Duration.ofSeconds(30), Duration.ofSeconds(10));
+        long emailId = insertMail("stale@test.local");
+        jdbcTemplate.update("""
+            UPDATE email_log
+            SET status = 'SENDING', attempt_count = 1, locked_until = CURRENT_TIMESTAMP - INTERVAL '1 minute'
+            WHERE email_id = ?
+            """, emailId);
+
+        dispatcher.dispatch();
+
+        Map<String, Object> row = row(emailId);
+        assertThat(row.get("status")).isEqualTo("SENT");
+        assertThat(row.get("attempt_count")).isEqualTo(2);
+        assertThat(transport.attempts("stale@test.local")).isEqualTo(1);
+    }
+
+    private EmailDispatcher dispatcher(Duration lease, Duration batchTimeout) {
+        return new EmailDispatcher(emailLogJdbcRepository, transport, new SimpleMeterRegistry(),
+            2, 100, lease, batchTimeout, BACKOFF);
+    }
+
+    private void assertRetryScheduled(long emailId, int attemptCount, Duration backoff) {
+        Map<String, Object> row = row(emailId);
+        assertThat(row.get("status")).isEqualTo("PENDING");
+        assertThat(row.get("attempt_count")).isEqualTo(attemptCount);
+        assertThat(row.get("locked_until")).isNull();
+        LocalDateTime nextAttemptAt = ((Timestamp) row.get("next_attempt_at")).toLocalDateTime();
+        assertThat(nextAttemptAt).isCloseTo(LocalDateTime.now().plus(backoff), within(10, ChronoUnit.SECONDS));
+    }
+
+    private long insertMail(String recipient) {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO email_log (notification_type, recipient, subject, body)
+            VALUES ('ASSET_ASSIGNED', ?, '발송 테스트', '본문')
+            RETURNING email_id
+            """, Long.class, recipient);
+    }
+
+    private void makeDue(long emailId) {
+        jdbcTemplate.update(
+            "UPDATE email_log SET next_attempt_at = CURRENT_TIMESTAMP - INTERVAL '1 second' WHERE email_id = ?",
+            emailId);
+    }
+
+    private Map<String, Object> row(long emailId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM email_log WHERE email_id = ?", emailId);
+    }
+
+    /**
+     * 수신자별로 N회 실패 또는 대기 후 성공하는 전송 스텁. 지정하지 않은 수신자는 바로 성공
+     */
+    private static class StubTransport implements MailTransport {
+
+        private final Map<String, Integer> failuresLeft = new ConcurrentHashMap<>();
+        private final Map<String, CountDownLatch> blockers = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> completed = new ConcurrentHashMap<>();
+
+        void failTimes(String recipient, int times) {
+            failuresLeft.put(recipient, times);
+        }
+
+        CountDownLatch block(String recipient) {
+            CountDownLatch latch = new CountDownLatch(1);
+            blockers.put(recipient, latch);
+            return latch;
+        }
+
+        int attempts(String recipient) {
+            AtomicInteger count = attempts.get(recipient);
+            return count == null ? 0 : count.get();
+        }
+
+        boolean completed(String recipient) {
+            return completed.getOrDefault(recipient, false);
+        }
+
+        @Override
+        public void send(String recipient, String subject, String body) {
+            attempts.computeIfAbsent(recipient, r -> new AtomicInteger()).incrementAndGet();
+            if (failuresLeft.getOrDefault(recipient, 0) > 0) {
+                failuresLeft.merge(recipient, -1, Integer::sum);
+                throw new IllegalStateException("stub failure");
+            }
+            CountDownLatch blocker = blockers.get(recipient);
+            if (blocker != null) {
+                // 중단(interrupt)을 무시하고 해제될 때까지 대기 (응답이 늦게 오는 SMTP 서버 흉내)
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = blocker.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // 무시
+                    }
+                }
+            }
+            completed.put(recipient, true);
+        }
+    }
+}
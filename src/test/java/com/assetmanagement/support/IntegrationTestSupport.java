@@ -0,0 +1,132 @@
+package com.assetmanagement.support;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * PostgreSQL + Redis 통합 테스트 기반 클래스
+ *
+ * Docker가 있으면 docker-compose.yml과 같은 이미지(postgres:15-alpine, redis:7-alpine)를 Testcontainers로 기동하고,
+ * IT_DATASOURCE_URL(+ IT_REDIS_HOST, IT_REDIS_PORT)이 지정되면 해당 DB/Redis를 사용한다. 둘 다 없으면 건너뛴다.
+ * 기동 시 public 스키마를 비우고 docs/ddl_v1.3.sql을 적용한다 (지정 DB는 테스트 전용이어야 함).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(IntegrationTestSupport.Availability.class)
+public abstract class IntegrationTestSupport {
+
+    private static final Path DDL = Path.of("docs/ddl_v1.3.sql");
+
+    private static final String DATASOURCE_URL;
+    private static final String REDIS_HOST;
+    private static final int REDIS_PORT;
+
+    static {
+        String externalUrl = System.getenv("IT_DATASOURCE_URL");
+        if (externalUrl != null) {
+            DATASOURCE_URL = externalUrl;
+            REDIS_HOST = System.getenv().getOrDefault("IT_REDIS_HOST", "localhost");
+            REDIS_PORT = Integer.parseInt(System.getenv().getOrDefault("IT_REDIS_PORT", "6379"));
+        } else if (DockerClientFactory.instance().isDockerAvailable()) {
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+            GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+            postgres.start();
+            redis.start();
+            DATASOURCE_URL = postgres.getJdbcUrl() + "&user=" + postgres.getUsername()
+                + "&password=" + postgres.getPassword();
+            REDIS_HOST = redis.getHost();
+            REDIS_PORT = redis.getMappedPort(6379);
+        } else {
+            DATASOURCE_URL = null;
+            REDIS_HOST = null;
+            REDIS_PORT = 0;
+        }
+        if (DATASOURCE_URL != null) {
+            applySchema();
+        }
+    }
+
+    // 하위 클래스에 상속되도록 @EnabledIf 대신 확장으로 판정
+    static class Availability implements ExecutionCondition {
+
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            return DATASOURCE_URL != null
+                ? ConditionEvaluationResult.enabled("통합 테스트 DB 사용 가능")
+                : ConditionEvaluationResult.disabled("Docker 또는 IT_DATASOURCE_URL 필요");
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate explainJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate explainTransactionTemplate;
+
+    /**
+     * SqlCapture로 수집한 SQL을 PREPARE 하여 EXPLAIN EXECUTE 결과 반환
+     *
+     * @param settings SET LOCAL 설정 (예: "plan_cache_mode = force_generic_plan")
+     * @param args     파라미터 값. EXPLAIN EXECUTE는 바인드 파라미터를 받지 않으므로 SQL 리터럴로 전달한다 (예: "'ram'", "21")
+     */
+    protected String explain(String sql, List<String> settings, String... args) {
+        return explainTransactionTemplate.execute(status -> {
+            settings.forEach(setting -> explainJdbcTemplate.execute("SET LOCAL " + setting));
+            explainJdbcTemplate.execute("PREPARE explained AS " + SqlCapture.numberParameters(sql));
+            try {
+                return String.join("\n", explainJdbcTemplate.queryForList(
+                    "EXPLAIN EXECUTE explained(" + String.join(", ", args) + ")", String.class));
+            } finally {
+                explainJdbcTemplate.execute("DEALLOCATE explained");
+            }
+        });
+    }
+
+    public static String redisHost() {
+        return REDIS_HOST;
+    }
+
+    public static int redisPort() {
+        return REDIS_PORT;
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> DATASOURCE_URL);
+        registry.add("spring.data.redis.host", () -> REDIS_HOST);
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    // DDL에 $$ 함수 본문이 있어 문장 단위로 나누지 않고 한 번에 실행
+    private static void applySchema() {
+        try (Connection con = DriverManager.getConnection(DATASOURCE_URL);
+             Statement st = con.createStatement()) {
+            st.execute("DROP SCHEMA public CASCADE; CREATE SCHEMA public");
+            st.execute(Files.readString(DDL, StandardCharsets.UTF_8));
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("테스트 스키마 적용 실패", e);
+        }
+    }
+}